@@ -0,0 +1,81 @@
+package com.example.banking.benefit.benchmark;
+
+import com.example.banking.benefit.domain.model.common.CustomerAttribute;
+import com.example.banking.benefit.domain.model.common.CustomerData;
+import com.example.banking.benefit.domain.model.common.ExecutionContext;
+import com.example.banking.benefit.domain.model.common.VariableLayout;
+import com.example.banking.benefit.domain.service.common.SpelExpressionExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 執行變數存取的基準測試
+ *
+ * 比較原本每次讀取都複製 HashMap 的作法與槽位索引變數儲存，
+ * 以 ./gradlew jmh 執行，gc profiler 的 gc.alloc.rate.norm 即每個節點的配置量。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VariableAccessBenchmark {
+
+    @Param({"4", "32"})
+    private int variableCount;
+
+    private ExecutionContext context;
+    private Map<String, Object> legacyVariables;
+    private SpelExpressionExecutor spelExecutor;
+    private String expression;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < variableCount; i++) {
+            names.add("var" + i);
+        }
+        CustomerData customerData = CustomerData.create("C001", Map.of("age", CustomerAttribute.forInteger(30)));
+        context = ExecutionContext.create("FLOW_001", "C001", customerData, VariableLayout.of(names));
+        legacyVariables = new HashMap<>();
+        for (int i = 0; i < variableCount; i++) {
+            context.addVariable("var" + i, i);
+            legacyVariables.put("var" + i, i);
+        }
+        spelExecutor = new SpelExpressionExecutor();
+        expression = "#var0 >= 0";
+    }
+
+    @Benchmark
+    public Object legacyCopyOnRead() {
+        // 原本 getVariables() 每次回傳複本
+        return new HashMap<>(legacyVariables).get("var0");
+    }
+
+    @Benchmark
+    public Object slotIndexedRead() {
+        return context.getVariableStore().get(0);
+    }
+
+    @Benchmark
+    public void readOnlyViewIteration(Blackhole blackhole) {
+        context.getVariables().forEach((name, value) -> blackhole.consume(value));
+    }
+
+    @Benchmark
+    public boolean decisionEvaluation() {
+        return spelExecutor.evaluateAsBoolean(expression, context);
+    }
+}
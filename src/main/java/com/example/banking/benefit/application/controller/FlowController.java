@@ -8,6 +8,7 @@ import com.example.banking.benefit.domain.model.flow.Flow;
 import com.example.banking.benefit.domain.model.flow.FlowId;
 import com.example.banking.benefit.domain.model.flow.Version;
 import com.example.banking.benefit.domain.service.FlowManagementService;
+import com.example.banking.benefit.domain.service.execution.ExecutionResultCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -27,6 +28,7 @@ import java.util.List;
 public class FlowController extends BaseController {
 
     private final FlowManagementService flowManagementService;
+    private final ExecutionResultCache executionResultCache;
 
     @PostMapping
     @Operation(summary = "建立新流程", description = "建立一個新的流程定義")
@@ -100,6 +102,8 @@ public class FlowController extends BaseController {
             );
             
             Flow savedFlow = flowManagementService.updateFlow(updatedFlow);
+            // 重新發布後舊版本的快取結果不再有效
+            executionResultCache.invalidate(id);
             FlowResponse response = mapToFlowResponse(savedFlow);
             return success(response);
         } catch (Exception e) {
@@ -115,6 +119,7 @@ public class FlowController extends BaseController {
         try {
             FlowId flowId = FlowId.of(id);
             flowManagementService.deleteFlow(flowId);
+            executionResultCache.invalidate(id);
             return success();
         } catch (Exception e) {
             return error("404", "刪除流程失敗：" + e.getMessage());
@@ -2,11 +2,14 @@ package com.example.banking.benefit.application.controller;
 
 import com.example.banking.benefit.application.dto.common.ApiResponse;
 import com.example.banking.benefit.application.dto.flow.ExecuteFlowRequest;
+import com.example.banking.benefit.domain.exception.DuplicateExecutionException;
 import com.example.banking.benefit.domain.model.common.BaseExecutionContext;
 import com.example.banking.benefit.domain.model.common.DefaultExecutionContext;
+import com.example.banking.benefit.domain.model.common.ExecutionDeadline;
 import com.example.banking.benefit.domain.model.flow.Flow;
 import com.example.banking.benefit.domain.model.flow.FlowId;
 import com.example.banking.benefit.domain.model.result.ExecutionResult;
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
 import com.example.banking.benefit.domain.service.FlowExecutionServiceExtended;
 import com.example.banking.benefit.domain.service.FlowManagementService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,7 +20,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @RestController
 @RequestMapping("/api/v1/flow-executions")
@@ -25,13 +30,34 @@ import java.util.UUID;
 @Tag(name = "Flow Execution", description = "流程執行相關 API")
 public class FlowExecutionController {
 
+    /** 呼叫端指定的執行ID格式 */
+    private static final Pattern EXECUTION_ID_PATTERN = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
     private final FlowExecutionServiceExtended flowExecutionService;
     private final FlowManagementService flowManagementService;
 
     @PostMapping
-    @Operation(summary = "執行流程", description = "執行指定的流程並返回結果")
+    @Operation(summary = "執行流程",
+               description = "執行指定的流程並返回結果。可於 X-Execution-Id 指定執行ID，執行期間即可以該ID取消；"
+                   + "逾時回應 504，被取消回應 409")
     public ResponseEntity<ApiResponse<ExecutionResult>> executeFlow(
-            @Valid @RequestBody ExecuteFlowRequest request) {
+            @Valid @RequestBody ExecuteFlowRequest request,
+            @Parameter(description = "執行逾時（毫秒），須為正數且不超過流程配置的逾時，未指定時使用流程配置",
+                       example = "5000")
+            @RequestHeader(value = "X-Execution-Timeout", required = false) Long timeoutMillis,
+            @Parameter(description = "執行ID，未指定時由伺服器產生", example = "e123-456-789")
+            @RequestHeader(value = "X-Execution-Id", required = false) String requestedExecutionId) {
+        if (requestedExecutionId != null && !EXECUTION_ID_PATTERN.matcher(requestedExecutionId).matches()) {
+            return ResponseEntity.status(400)
+                .headers(headers -> headers.add("X-Error-Code", "400"))
+                .body(ApiResponse.error("400", "執行ID格式不正確，限 64 個英數字、點、底線或連字號"));
+        }
+        if (timeoutMillis != null && timeoutMillis <= 0) {
+            return ResponseEntity.status(400)
+                .headers(headers -> headers.add("X-Error-Code", "400"))
+                .body(ApiResponse.error("400", "執行逾時須為正數（毫秒）"));
+        }
+        String executionId = requestedExecutionId != null ? requestedExecutionId : UUID.randomUUID().toString();
         try {
             FlowId flowId = FlowId.of(request.getFlowId());
             Flow flow = flowManagementService.getFlow(flowId, request.getVersion())
@@ -39,13 +65,47 @@ public class FlowExecutionController {
 
             BaseExecutionContext context = DefaultExecutionContext.builder()
                     .flowId(flowId.getValue())
-                    .executionId(UUID.randomUUID().toString())
+                    .executionId(executionId)
                     .customerId(request.getCustomerData().getId())
                     .customerData(request.getCustomerData())
+                    .variableLayout(flow.getVariableLayout())
+                    .simulation(Boolean.TRUE.equals(request.getSimulation()))
+                    .deadline(timeoutMillis != null
+                            ? ExecutionDeadline.after(Duration.ofMillis(timeoutMillis))
+                            : null)
                     .build();
 
             ExecutionResult result = flowExecutionService.execute(flow, context);
-            return ResponseEntity.ok(ApiResponse.success(result));
+            if (result != null && result.getStatus() == ExecutionStatus.REJECTED) {
+                return ResponseEntity.status(429)
+                    .headers(headers -> headers.add("X-Error-Code", "429"))
+                    .body(ApiResponse.error("429", result.getMessage()));
+            }
+            if (result != null && result.getStatus() == ExecutionStatus.TIMED_OUT) {
+                return ResponseEntity.status(504)
+                    .headers(headers -> {
+                        headers.add("X-Error-Code", "504");
+                        headers.add("X-Execution-Id", executionId);
+                    })
+                    .body(ApiResponse.error("504", result.getMessage()));
+            }
+            if (result != null && result.getStatus() == ExecutionStatus.CANCELLED) {
+                return ResponseEntity.status(409)
+                    .headers(headers -> {
+                        headers.add("X-Error-Code", "409");
+                        headers.add("X-Execution-Id", executionId);
+                    })
+                    .body(ApiResponse.error("409", result.getMessage()));
+            }
+            return ResponseEntity.ok()
+                .header("X-Execution-Id", result != null && result.getExecutionId() != null
+                        ? result.getExecutionId() : executionId)
+                .header("X-Cache", result != null && result.isFromCache() ? "HIT" : "MISS")
+                .body(ApiResponse.success(result));
+        } catch (DuplicateExecutionException e) {
+            return ResponseEntity.status(409)
+                .headers(headers -> headers.add("X-Error-Code", "409"))
+                .body(ApiResponse.error("409", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(500)
                 .body(ApiResponse.error("500", "流程執行失敗：" + e.getMessage()));
@@ -1,18 +1,50 @@
 package com.example.banking.benefit.application.controller;
 
+import com.example.banking.benefit.application.converter.ExecutionEventSseWriter;
+import com.example.banking.benefit.application.converter.ExecutionLogExportWriter;
 import com.example.banking.benefit.application.converter.MonitoringConverter;
 import com.example.banking.benefit.application.dto.common.ApiResponse;
+import com.example.banking.benefit.application.dto.monitor.BulkheadStatistics;
 import com.example.banking.benefit.application.dto.monitor.ExecutionDetails;
+import com.example.banking.benefit.application.dto.monitor.ExecutionStateStoreStatistics;
 import com.example.banking.benefit.application.dto.monitor.FlowStatistics;
+import com.example.banking.benefit.application.dto.monitor.ExecutionLogWriterStatistics;
+import com.example.banking.benefit.application.dto.monitor.LogSamplingStatistics;
+import com.example.banking.benefit.application.dto.monitor.NodeProfile;
+import com.example.banking.benefit.application.dto.monitor.ResultCacheStatistics;
+import com.example.banking.benefit.application.dto.monitor.RetryStatistics;
+import com.example.banking.benefit.application.dto.monitor.SlowExecution;
+import com.example.banking.benefit.application.dto.monitor.TimingStatistics;
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
+import com.example.banking.benefit.domain.port.output.DiagnosticRecordingPort;
+import com.example.banking.benefit.domain.port.output.ExecutionLogExportPort;
+import com.example.banking.benefit.domain.port.output.ExecutionLogWriter;
+import com.example.banking.benefit.domain.port.output.ExecutionStatePort;
 import com.example.banking.benefit.domain.service.FlowExecutionService;
+import com.example.banking.benefit.domain.service.execution.ExecutionEventBroadcaster;
+import com.example.banking.benefit.domain.service.execution.ExecutionResultCache;
+import com.example.banking.benefit.domain.service.execution.ExecutionTimingRecorder;
+import com.example.banking.benefit.domain.service.execution.FlightRecorder;
+import com.example.banking.benefit.domain.service.execution.FlowBulkheadRegistry;
+import com.example.banking.benefit.domain.service.execution.NodeProfileRecorder;
+import com.example.banking.benefit.domain.service.execution.RetryExecutor;
+import com.example.banking.benefit.domain.service.log.ExecutionLogSampler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 @RestController
@@ -20,12 +52,47 @@ import java.util.List;
 @Tag(name = "Flow Monitor", description = "流程監控相關 API")
 public class FlowMonitorController {
 
+    private static final Logger logger = LoggerFactory.getLogger(FlowMonitorController.class);
+
+    /** 事件串流連線的最長時間，到期後由用戶端以 Last-Event-ID 重新連線 */
+    private static final Duration EVENT_STREAM_TIMEOUT = Duration.ofMinutes(30);
+
     private final FlowExecutionService flowExecutionService;
     private final MonitoringConverter monitoringConverter;
+    private final FlowBulkheadRegistry bulkheadRegistry;
+    private final RetryExecutor retryExecutor;
+    private final ExecutionResultCache resultCache;
+    private final ExecutionLogWriter executionLogWriter;
+    private final ExecutionTimingRecorder timingRecorder;
+    private final ExecutionLogSampler logSampler;
+    private final ExecutionLogExportPort executionLogExport;
+    private final NodeProfileRecorder profileRecorder;
+    private final ExecutionEventBroadcaster eventBroadcaster;
+    private final FlightRecorder flightRecorder;
+    private final DiagnosticRecordingPort diagnosticRecorder;
+    private final ExecutionStatePort executionStateStore;
 
-    public FlowMonitorController(FlowExecutionService flowExecutionService, MonitoringConverter monitoringConverter) {
+    public FlowMonitorController(FlowExecutionService flowExecutionService, MonitoringConverter monitoringConverter,
+                                 FlowBulkheadRegistry bulkheadRegistry, RetryExecutor retryExecutor,
+                                 ExecutionResultCache resultCache, ExecutionLogWriter executionLogWriter,
+                                 ExecutionTimingRecorder timingRecorder, ExecutionLogSampler logSampler,
+                                 ExecutionLogExportPort executionLogExport, NodeProfileRecorder profileRecorder,
+                                 ExecutionEventBroadcaster eventBroadcaster, FlightRecorder flightRecorder,
+                                 DiagnosticRecordingPort diagnosticRecorder, ExecutionStatePort executionStateStore) {
         this.flowExecutionService = flowExecutionService;
         this.monitoringConverter = monitoringConverter;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.retryExecutor = retryExecutor;
+        this.resultCache = resultCache;
+        this.executionLogWriter = executionLogWriter;
+        this.timingRecorder = timingRecorder;
+        this.logSampler = logSampler;
+        this.executionLogExport = executionLogExport;
+        this.profileRecorder = profileRecorder;
+        this.eventBroadcaster = eventBroadcaster;
+        this.flightRecorder = flightRecorder;
+        this.diagnosticRecorder = diagnosticRecorder;
+        this.executionStateStore = executionStateStore;
     }
 
     @GetMapping("/statistics/{flowId}")
@@ -51,7 +118,9 @@ public class FlowMonitorController {
     }
 
     @GetMapping("/executions/{flowId}")
-    @Operation(summary = "取得流程執行列表", description = "取得指定流程的執行記錄列表")
+    @Operation(summary = "取得流程執行列表",
+        description = "取得指定流程的執行記錄列表，依執行時間遞增排序。未指定 pageNumber 時以游標分頁，"
+            + "下一頁的游標由 X-Next-Cursor 回應標頭提供")
     public ResponseEntity<ApiResponse<List<ExecutionDetails>>> getFlowExecutions(
             @Parameter(description = "流程ID", example = "f123-456-789")
             @PathVariable String flowId,
@@ -63,14 +132,27 @@ public class FlowMonitorController {
             @RequestParam(required = false) String status,
             @Parameter(description = "分頁大小", example = "10")
             @RequestParam(defaultValue = "10") int pageSize,
-            @Parameter(description = "頁碼", example = "0")
-            @RequestParam(defaultValue = "0") int pageNumber) {
+            @Parameter(description = "頁碼（以位移分頁，深分頁較慢，建議改用 cursor）", example = "0")
+            @RequestParam(required = false) Integer pageNumber,
+            @Parameter(description = "上一頁回應的 X-Next-Cursor")
+            @RequestParam(required = false) String cursor) {
         try {
-            var domainExecutions = flowExecutionService.getFlowExecutions(
-                flowId, startTime, endTime, status, pageSize, pageNumber);
-            var executions = monitoringConverter.toDtoList(domainExecutions);
+            if (pageNumber != null && cursor == null) {
+                var domainExecutions = flowExecutionService.getFlowExecutions(
+                    flowId, startTime, endTime, status, pageSize, pageNumber);
+                var executions = monitoringConverter.toDtoList(domainExecutions);
+                return ResponseEntity.ok(ApiResponse.<List<ExecutionDetails>>success(executions));
+            }
+            var page = flowExecutionService.getFlowExecutionPage(flowId, startTime, endTime, status, cursor, pageSize);
+            var executions = monitoringConverter.toDtoList(page.getExecutions());
             var response = ApiResponse.<List<ExecutionDetails>>success(executions);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok()
+                .headers(headers -> {
+                    if (page.hasMore()) {
+                        headers.add("X-Next-Cursor", page.getNextCursor());
+                    }
+                })
+                .body(response);
         } catch (Exception e) {
             var response = ApiResponse.<List<ExecutionDetails>>error("400", "獲取執行列表失敗：" + e.getMessage());
             return ResponseEntity.status(400)
@@ -79,6 +161,36 @@ public class FlowMonitorController {
         }
     }
 
+    @GetMapping("/executions/{flowId}/export")
+    @Operation(summary = "匯出流程執行日誌",
+        description = "以 gzip 壓縮的 NDJSON 或 CSV 串流匯出指定流程在時間範圍內的執行日誌，記憶體用量與範圍大小無關")
+    public ResponseEntity<?> exportFlowExecutions(
+            @Parameter(description = "流程ID", example = "f123-456-789")
+            @PathVariable String flowId,
+            @Parameter(description = "開始時間", example = "2025-10-04T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @Parameter(description = "結束時間", example = "2025-10-04T23:59:59")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime,
+            @Parameter(description = "匯出格式", example = "NDJSON")
+            @RequestParam(defaultValue = "NDJSON") ExecutionLogExportWriter.Format format) {
+        if (startTime.isAfter(endTime)) {
+            return ResponseEntity.status(400)
+                .headers(headers -> headers.add("X-Error-Code", "400"))
+                .body(ApiResponse.<Void>error("400", "開始時間不可晚於結束時間"));
+        }
+        StreamingResponseBody body = output -> {
+            try (ExecutionLogExportWriter writer = new ExecutionLogExportWriter(output, format)) {
+                long rows = executionLogExport.stream(flowId, startTime, endTime, writer);
+                logger.info("匯出執行日誌完成: {}, 筆數: {}", flowId, rows);
+            }
+        };
+        String fileName = flowId + "-executions." + format.getExtension() + ".gz";
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_TYPE, "application/gzip")
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+            .body(body);
+    }
+
     @GetMapping("/execution/{executionId}")
     @Operation(summary = "取得執行詳細資訊", description = "根據執行ID取得詳細的執行資訊")
     public ResponseEntity<ApiResponse<ExecutionDetails>> getExecutionDetails(
@@ -116,4 +228,168 @@ public class FlowMonitorController {
                 .body(response);
         }
     }
-}
\ No newline at end of file
+
+    @GetMapping("/bulkheads")
+    @Operation(summary = "取得流程隔艙統計資訊", description = "取得各流程的同時執行數、佇列深度、等待時間與拒絕次數")
+    public ResponseEntity<ApiResponse<List<BulkheadStatistics>>> getBulkheadStatistics() {
+        var statistics = monitoringConverter.toBulkheadDtoList(bulkheadRegistry.getAllStatistics());
+        return ResponseEntity.ok(ApiResponse.success(statistics));
+    }
+
+    @GetMapping("/bulkheads/{flowId}")
+    @Operation(summary = "取得單一流程隔艙統計資訊", description = "取得指定流程的隔艙統計資訊")
+    public ResponseEntity<ApiResponse<BulkheadStatistics>> getBulkheadStatistics(
+            @Parameter(description = "流程ID", example = "f123-456-789")
+            @PathVariable String flowId) {
+        return bulkheadRegistry.getStatistics(flowId)
+            .map(monitoringConverter::toDto)
+            .map(statistics -> ResponseEntity.ok(ApiResponse.success(statistics)))
+            .orElseGet(() -> ResponseEntity.status(404)
+                .headers(headers -> headers.add("X-Error-Code", "404"))
+                .body(ApiResponse.<BulkheadStatistics>error("404", "找不到流程隔艙：" + flowId)));
+    }
+
+    @GetMapping("/retries")
+    @Operation(summary = "取得節點重試統計資訊", description = "取得處理節點的嘗試、重試、恢復與用盡次數")
+    public ResponseEntity<ApiResponse<RetryStatistics>> getRetryStatistics() {
+        var statistics = monitoringConverter.toDto(retryExecutor.getStatistics());
+        return ResponseEntity.ok(ApiResponse.success(statistics));
+    }
+
+    @GetMapping("/result-cache")
+    @Operation(summary = "取得執行結果快取統計資訊", description = "取得執行結果快取的命中、未命中、寫入與清除次數")
+    public ResponseEntity<ApiResponse<ResultCacheStatistics>> getResultCacheStatistics() {
+        var statistics = monitoringConverter.toDto(resultCache.getStatistics());
+        return ResponseEntity.ok(ApiResponse.success(statistics));
+    }
+
+    @GetMapping("/state-store")
+    @Operation(summary = "取得執行狀態儲存統計資訊", description = "取得執行層與暫停層的項目數、淘汰次數與估計記憶體用量")
+    public ResponseEntity<ApiResponse<ExecutionStateStoreStatistics>> getExecutionStateStoreStatistics() {
+        var statistics = monitoringConverter.toDto(executionStateStore.getStatistics());
+        return ResponseEntity.ok(ApiResponse.success(statistics));
+    }
+
+    @GetMapping("/execution-log-writer")
+    @Operation(summary = "取得執行日誌寫入統計資訊", description = "取得執行日誌緩衝區深度、批次寫入、捨棄與失敗次數")
+    public ResponseEntity<ApiResponse<ExecutionLogWriterStatistics>> getExecutionLogWriterStatistics() {
+        var statistics = monitoringConverter.toDto(executionLogWriter.getStatistics());
+        return ResponseEntity.ok(ApiResponse.success(statistics));
+    }
+
+    @GetMapping("/log-sampling")
+    @Operation(summary = "取得執行日誌取樣統計資訊", description = "取得保留與未保留日誌的執行數及節點日誌數")
+    public ResponseEntity<ApiResponse<LogSamplingStatistics>> getLogSamplingStatistics() {
+        var statistics = monitoringConverter.toDto(logSampler.getStatistics());
+        return ResponseEntity.ok(ApiResponse.success(statistics));
+    }
+
+    @GetMapping("/timings")
+    @Operation(summary = "取得流程執行時間統計", description = "取得各流程自啟動以來的執行次數、平均與百分位數執行時間")
+    public ResponseEntity<ApiResponse<List<TimingStatistics>>> getFlowTimings() {
+        var statistics = monitoringConverter.toTimingDtoList(timingRecorder.getAllFlowTimings());
+        return ResponseEntity.ok(ApiResponse.success(statistics));
+    }
+
+    @GetMapping("/timings/{flowId}/nodes")
+    @Operation(summary = "取得節點執行時間統計", description = "取得指定流程各節點的執行時間，依平均時間由長到短排序")
+    public ResponseEntity<ApiResponse<List<TimingStatistics>>> getNodeTimings(
+            @Parameter(description = "流程ID", example = "f123-456-789")
+            @PathVariable String flowId) {
+        var statistics = monitoringConverter.toTimingDtoList(timingRecorder.getNodeTimings(flowId));
+        return ResponseEntity.ok(ApiResponse.success(statistics));
+    }
+
+    @GetMapping("/profile/{flowId}")
+    @Operation(summary = "取得流程節點剖析資訊", description = "取得指定流程各節點自啟動以來的執行次數、分支比例、錯誤次數與累計耗時，依累計耗時由高到低排序")
+    public ResponseEntity<ApiResponse<List<NodeProfile>>> getFlowProfile(
+            @Parameter(description = "流程ID", example = "f123-456-789")
+            @PathVariable String flowId) {
+        var profile = monitoringConverter.toProfileDtoList(profileRecorder.getProfile(flowId));
+        return ResponseEntity.ok(ApiResponse.success(profile));
+    }
+
+    @GetMapping("/slow-executions")
+    @Operation(summary = "取得慢速執行紀錄",
+        description = "取得最近超過流程慢速門檻的執行，包含各節點時間、評估方式、表達式快取命中與讀取的客戶屬性，由新到舊排序")
+    public ResponseEntity<ApiResponse<List<SlowExecution>>> getSlowExecutions(
+            @Parameter(description = "流程ID，未指定時包含所有流程", example = "f123-456-789")
+            @RequestParam(required = false) String flowId,
+            @Parameter(description = "最多回傳的筆數", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
+        var traces = monitoringConverter.toSlowExecutionDtoList(flightRecorder.getTraces(flowId, limit));
+        return ResponseEntity.ok(ApiResponse.success(traces));
+    }
+
+    @GetMapping("/slow-executions/{executionId}")
+    @Operation(summary = "取得單次慢速執行紀錄", description = "根據執行ID取得仍保留在記憶體中的慢速執行紀錄")
+    public ResponseEntity<ApiResponse<SlowExecution>> getSlowExecution(
+            @Parameter(description = "執行ID", example = "e123-456-789")
+            @PathVariable String executionId) {
+        return flightRecorder.find(executionId)
+            .map(trace -> ResponseEntity.ok(ApiResponse.success(monitoringConverter.toDto(trace))))
+            .orElseGet(() -> ResponseEntity.status(404)
+                .headers(headers -> headers.add("X-Error-Code", "404"))
+                .body(ApiResponse.<SlowExecution>error("404", "找不到慢速執行紀錄：" + executionId)));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "訂閱流程執行完成事件",
+        description = "以 Server-Sent Events 即時推送執行完成事件，可依流程與執行狀態過濾；"
+            + "重新連線時帶入 Last-Event-ID 可補送仍在緩衝區內的事件，處理過慢的連線會被中斷")
+    public ResponseEntity<?> streamExecutionEvents(
+            @Parameter(description = "流程ID，可指定多個，未指定時接收全部流程", example = "f123-456-789")
+            @RequestParam(required = false) List<String> flowId,
+            @Parameter(description = "執行狀態，可指定多個，未指定時接收全部狀態", example = "FAILURE")
+            @RequestParam(required = false) List<ExecutionStatus> status,
+            @Parameter(description = "最後收到的事件ID", hidden = true)
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        var subscription = eventBroadcaster.subscribe(
+            flowId != null ? flowId : List.of(), status != null ? status : List.of(), lastEventId);
+        if (subscription.isEmpty()) {
+            return ResponseEntity.status(503)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.<Void>error("503", "事件串流訂閱數已達上限"));
+        }
+        SseEmitter emitter = new SseEmitter(EVENT_STREAM_TIMEOUT.toMillis());
+        Thread.ofVirtual().name("execution-event-stream")
+            .start(new ExecutionEventSseWriter(subscription.get(), emitter, monitoringConverter));
+        return ResponseEntity.ok(emitter);
+    }
+
+    @PostMapping("/jfr-recordings")
+    @Operation(summary = "錄製 JFR 診斷檔",
+        description = "以 JDK Flight Recorder 錄製指定秒數的流程執行、節點評估、表達式解析、快取查詢與日誌寫入事件，"
+            + "連同 GC、鎖與執行緒等 JVM 事件，結束後回傳 .jfr 檔；同一時間只允許一個錄製")
+    public ResponseEntity<?> recordJfr(
+            @Parameter(description = "錄製秒數", example = "60")
+            @RequestParam(defaultValue = "60") long durationSeconds) {
+        Duration duration = Duration.ofSeconds(durationSeconds);
+        DiagnosticRecordingPort.Session session;
+        try {
+            var started = diagnosticRecorder.start(duration);
+            if (started.isEmpty()) {
+                return ResponseEntity.status(409)
+                    .headers(headers -> headers.add("X-Error-Code", "409"))
+                    .body(ApiResponse.<Void>error("409", "已有 JFR 錄製進行中"));
+            }
+            session = started.get();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400)
+                .headers(headers -> headers.add("X-Error-Code", "400"))
+                .body(ApiResponse.<Void>error("400", e.getMessage()));
+        }
+        StreamingResponseBody body = output -> {
+            try (session) {
+                session.finishTo(output);
+                logger.info("JFR 錄製完成，時間: {}", duration);
+            }
+        };
+        String fileName = "benefit-engine-"
+            + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".jfr";
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+            .body(body);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.banking.benefit.application.converter;
+
+import com.example.banking.benefit.domain.service.execution.ExecutionEventBroadcaster;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 將訂閱到的執行完成事件寫成 Server-Sent Events
+ *
+ * 每個連線在自己的虛擬執行緒上執行，寫入阻塞時只會讓此訂閱落後，
+ * 落後超過廣播緩衝區容量後送出 lagged 事件並結束連線，由用戶端以 Last-Event-ID 重新連線。
+ * 一段時間沒有事件時送出註解作為心跳，以便及早發現已中斷的連線。
+ */
+public class ExecutionEventSseWriter implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionEventSseWriter.class);
+
+    /** 事件名稱 */
+    public static final String EVENT_NAME = "execution-completed";
+
+    /** 落後過多而結束連線時的事件名稱 */
+    public static final String LAGGED_EVENT_NAME = "lagged";
+
+    static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+    private static final int BATCH_SIZE = 256;
+
+    private final ExecutionEventBroadcaster.Subscription subscription;
+    private final SseEmitter emitter;
+    private final MonitoringConverter converter;
+
+    public ExecutionEventSseWriter(ExecutionEventBroadcaster.Subscription subscription, SseEmitter emitter,
+                                   MonitoringConverter converter) {
+        this.subscription = subscription;
+        this.emitter = emitter;
+        this.converter = converter;
+        // 連線結束、逾時或錯誤時取消訂閱，喚醒等待中的讀取
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!subscription.isClosed()) {
+                List<ExecutionEventBroadcaster.Entry> batch = subscription.poll(BATCH_SIZE, HEARTBEAT_INTERVAL);
+                for (ExecutionEventBroadcaster.Entry entry : batch) {
+                    emitter.send(SseEmitter.event()
+                        .id(String.valueOf(entry.getSequence()))
+                        .name(EVENT_NAME)
+                        .data(converter.toDto(entry.getEvent()), MediaType.APPLICATION_JSON));
+                }
+                if (subscription.isLagged()) {
+                    emitter.send(SseEmitter.event().name(LAGGED_EVENT_NAME).data("subscriber lagged behind"));
+                    emitter.complete();
+                    return;
+                }
+                if (batch.isEmpty() && !subscription.isClosed()) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 用戶端已中斷或連線已結束
+            logger.debug("執行事件串流已中斷: {}", e.getMessage());
+        } finally {
+            subscription.close();
+        }
+    }
+}
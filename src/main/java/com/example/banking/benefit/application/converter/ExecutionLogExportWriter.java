@@ -0,0 +1,160 @@
+package com.example.banking.benefit.application.converter;
+
+import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 將執行日誌逐筆寫成 gzip 壓縮的 NDJSON 或 CSV
+ *
+ * 每筆日誌寫入後即可被回收，記憶體用量只有緩衝區大小。
+ */
+public class ExecutionLogExportWriter implements Consumer<ExecutionLog>, Closeable {
+
+    /**
+     * 匯出格式
+     */
+    public enum Format {
+        NDJSON("ndjson"),
+        CSV("csv");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] COLUMNS = {
+        "logId", "executionId", "flowId", "customerId", "executionTime", "nodeId", "nodeType",
+        "executionResult", "resultData", "errorMessage", "executionDurationMs", "executionDurationMicros",
+        "attemptCount"
+    };
+
+    private final Format format;
+    private final GZIPOutputStream gzip;
+    private final Writer writer;
+    private final JsonGenerator generator;
+
+    public ExecutionLogExportWriter(OutputStream output, Format format) throws IOException {
+        this.format = format;
+        this.gzip = new GZIPOutputStream(output, BUFFER_SIZE);
+        this.writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE);
+        if (format == Format.NDJSON) {
+            this.generator = JSON_FACTORY.createGenerator(writer);
+            // 每筆一行，行尾由 writeNdjson 補上
+            this.generator.setRootValueSeparator(null);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        } else {
+            this.generator = null;
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+    }
+
+    @Override
+    public void accept(ExecutionLog log) {
+        try {
+            if (format == Format.NDJSON) {
+                writeNdjson(log);
+            } else {
+                writeCsv(log);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("寫入匯出資料失敗", e);
+        }
+    }
+
+    /**
+     * 寫完剩餘資料與 gzip 結尾，不關閉底層輸出
+     */
+    @Override
+    public void close() throws IOException {
+        if (generator != null) {
+            generator.close();
+        }
+        writer.flush();
+        gzip.finish();
+    }
+
+    private void writeNdjson(ExecutionLog log) throws IOException {
+        Object[] values = values(log);
+        generator.writeStartObject();
+        for (int i = 0; i < COLUMNS.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof Number) {
+                generator.writeNumberField(COLUMNS[i], ((Number) value).longValue());
+            } else {
+                generator.writeStringField(COLUMNS[i], value.toString());
+            }
+        }
+        generator.writeEndObject();
+        generator.flush();
+        writer.write('\n');
+    }
+
+    private void writeCsv(ExecutionLog log) throws IOException {
+        Object[] values = values(log);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeCsvField(values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvField(String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static Object[] values(ExecutionLog log) {
+        return new Object[] {
+            log.getLogId(),
+            log.getExecutionId(),
+            log.getFlowId(),
+            log.getCustomerId(),
+            log.getExecutionTime(),
+            log.getNodeId(),
+            log.getNodeType(),
+            log.getExecutionResult(),
+            log.getResultData(),
+            log.getErrorMessage(),
+            log.getExecutionDurationMs(),
+            log.getExecutionDurationMicros(),
+            log.getAttemptCount()
+        };
+    }
+}
@@ -1,10 +1,24 @@
 package com.example.banking.benefit.application.converter;
 
+import com.example.banking.benefit.application.dto.monitor.BulkheadStatistics;
 import com.example.banking.benefit.application.dto.monitor.ExecutionDetails;
+import com.example.banking.benefit.application.dto.monitor.ExecutionEvent;
 import com.example.banking.benefit.application.dto.monitor.FlowStatistics;
+import com.example.banking.benefit.application.dto.monitor.ExecutionLogWriterStatistics;
+import com.example.banking.benefit.application.dto.monitor.ResultCacheStatistics;
+import com.example.banking.benefit.application.dto.monitor.ExecutionStateStoreStatistics;
+import com.example.banking.benefit.application.dto.monitor.LogSamplingStatistics;
+import com.example.banking.benefit.application.dto.monitor.NodeProfile;
+import com.example.banking.benefit.application.dto.monitor.RetryStatistics;
+import com.example.banking.benefit.application.dto.monitor.SlowExecution;
+import com.example.banking.benefit.application.dto.monitor.SlowExecutionNode;
+import com.example.banking.benefit.application.dto.monitor.TimingStatistics;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
@@ -15,12 +29,20 @@ public class MonitoringConverter {
             return null;
         }
         return FlowStatistics.builder()
+            .flowId(domain.getFlowId())
+            .flowName(domain.getFlowName())
             .totalExecutions(domain.getTotalExecutions())
             .successfulExecutions(domain.getSuccessfulExecutions())
             .failedExecutions(domain.getFailedExecutions())
             .averageExecutionTime(domain.getAverageExecutionTime().toMillis())
             .maxExecutionTime(domain.getMaxExecutionTime().toMillis())
             .minExecutionTime(domain.getMinExecutionTime().toMillis())
+            .p50ExecutionTime(domain.getPercentiles().getP50().toMillis())
+            .p90ExecutionTime(domain.getPercentiles().getP90().toMillis())
+            .p95ExecutionTime(domain.getPercentiles().getP95().toMillis())
+            .p99ExecutionTime(domain.getPercentiles().getP99().toMillis())
+            .p999ExecutionTime(domain.getPercentiles().getP999().toMillis())
+            .successRate(domain.getSuccessRate())
             .build();
     }
     
@@ -44,6 +66,10 @@ public class MonitoringConverter {
             .executionTime(domain.getExecutionTime().toMillis())
             .status(domain.getStatus())
             .errorMessage(domain.getErrorMessage())
+            .version(domain.getVersion())
+            .endTime(domain.getEndTime() != null ? domain.getEndTime().toString() : null)
+            .executionPath(domain.getExecutionPath())
+            .nodeExecutionTimes(toMillis(domain.getNodeExecutionTimes()))
             .build();
     }
     
@@ -55,4 +81,226 @@ public class MonitoringConverter {
             .map(this::toDto)
             .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+    
+    public BulkheadStatistics toDto(com.example.banking.benefit.domain.model.statistics.BulkheadStatistics domain) {
+        if (domain == null) {
+            return null;
+        }
+        return BulkheadStatistics.builder()
+            .flowId(domain.getFlowId())
+            .maxConcurrentExecutions(domain.getMaxConcurrentExecutions())
+            .maxQueuedExecutions(domain.getMaxQueuedExecutions())
+            .activeExecutions(domain.getActiveExecutions())
+            .queueDepth(domain.getQueueDepth())
+            .admittedExecutions(domain.getAdmittedExecutions())
+            .rejectedExecutions(domain.getRejectedExecutions())
+            .averageWaitTime(domain.getAverageWaitTime().toMillis())
+            .maxWaitTime(domain.getMaxWaitTime().toMillis())
+            .build();
+    }
+    
+    public List<BulkheadStatistics> toBulkheadDtoList(List<com.example.banking.benefit.domain.model.statistics.BulkheadStatistics> domains) {
+        if (domains == null) {
+            return null;
+        }
+        return domains.stream()
+            .map(this::toDto)
+            .collect(Collectors.toList());
+    }
+    
+    public RetryStatistics toDto(com.example.banking.benefit.domain.model.statistics.RetryStatistics domain) {
+        if (domain == null) {
+            return null;
+        }
+        return RetryStatistics.builder()
+            .totalAttempts(domain.getTotalAttempts())
+            .retries(domain.getRetries())
+            .recoveredCalls(domain.getRecoveredCalls())
+            .exhaustedCalls(domain.getExhaustedCalls())
+            .build();
+    }
+
+    public ResultCacheStatistics toDto(com.example.banking.benefit.domain.model.statistics.ResultCacheStatistics domain) {
+        if (domain == null) {
+            return null;
+        }
+        return ResultCacheStatistics.builder()
+            .hits(domain.getHits())
+            .misses(domain.getMisses())
+            .stores(domain.getStores())
+            .invalidations(domain.getInvalidations())
+            .hitRate(domain.getHitRate())
+            .build();
+    }
+
+    public ExecutionStateStoreStatistics toDto(
+            com.example.banking.benefit.domain.model.statistics.ExecutionStateStatistics domain) {
+        if (domain == null) {
+            return null;
+        }
+        return ExecutionStateStoreStatistics.builder()
+            .activeEntries(domain.getActiveEntries())
+            .pausedEntries(domain.getPausedEntries())
+            .totalEntries(domain.getTotalEntries())
+            .evictions(domain.getEvictions())
+            .estimatedMemoryBytes(domain.getEstimatedMemoryBytes())
+            .build();
+    }
+
+    public ExecutionLogWriterStatistics toDto(
+            com.example.banking.benefit.domain.model.statistics.ExecutionLogWriterStatistics domain) {
+        if (domain == null) {
+            return null;
+        }
+        return ExecutionLogWriterStatistics.builder()
+            .enqueued(domain.getEnqueued())
+            .written(domain.getWritten())
+            .dropped(domain.getDropped())
+            .callerRuns(domain.getCallerRuns())
+            .failed(domain.getFailed())
+            .batches(domain.getBatches())
+            .averageBatchSize(domain.getAverageBatchSize())
+            .pending(domain.getPending())
+            .capacity(domain.getCapacity())
+            .build();
+    }
+
+    public LogSamplingStatistics toDto(com.example.banking.benefit.domain.model.statistics.LogSamplingStatistics domain) {
+        if (domain == null) {
+            return null;
+        }
+        return LogSamplingStatistics.builder()
+            .keptExecutions(domain.getKeptExecutions())
+            .droppedExecutions(domain.getDroppedExecutions())
+            .keptRatio(domain.getKeptRatio())
+            .writtenRows(domain.getWrittenRows())
+            .droppedRows(domain.getDroppedRows())
+            .build();
+    }
+
+    public TimingStatistics toDto(com.example.banking.benefit.domain.model.statistics.TimingStatistics domain) {
+        if (domain == null) {
+            return null;
+        }
+        return TimingStatistics.builder()
+            .flowId(domain.getFlowId())
+            .nodeId(domain.getNodeId())
+            .count(domain.getCount())
+            .meanMicros(domain.getMeanMicros())
+            .p50Micros(domain.getP50Micros())
+            .p90Micros(domain.getP90Micros())
+            .p99Micros(domain.getP99Micros())
+            .maxMicros(domain.getMaxMicros())
+            .build();
+    }
+
+    public List<TimingStatistics> toTimingDtoList(
+            List<com.example.banking.benefit.domain.model.statistics.TimingStatistics> domainList) {
+        if (domainList == null) {
+            return null;
+        }
+        return domainList.stream()
+            .map(this::toDto)
+            .collect(Collectors.toList());
+    }
+
+    public NodeProfile toDto(com.example.banking.benefit.domain.model.statistics.NodeProfile domain) {
+        if (domain == null) {
+            return null;
+        }
+        return NodeProfile.builder()
+            .flowId(domain.getFlowId())
+            .nodeId(domain.getNodeId())
+            .nodeType(domain.getNodeType() != null ? domain.getNodeType().name() : null)
+            .evaluations(domain.getEvaluations())
+            .trueCount(domain.getTrueCount())
+            .falseCount(domain.getFalseCount())
+            .errorCount(domain.getErrorCount())
+            .trueRatio(domain.getTrueRatio())
+            .meanMicros(domain.getMeanMicros())
+            .totalMillis(Duration.ofNanos(domain.getTotalNanos()).toMillis())
+            .costShare(domain.getCostShare())
+            .build();
+    }
+
+    public List<NodeProfile> toProfileDtoList(
+            List<com.example.banking.benefit.domain.model.statistics.NodeProfile> domainList) {
+        if (domainList == null) {
+            return null;
+        }
+        return domainList.stream()
+            .map(this::toDto)
+            .collect(Collectors.toList());
+    }
+
+    public ExecutionEvent toDto(com.example.banking.benefit.domain.model.result.ExecutionCompletedEvent domain) {
+        if (domain == null) {
+            return null;
+        }
+        return ExecutionEvent.builder()
+            .flowId(domain.getFlowId())
+            .version(domain.getVersion())
+            .executionId(domain.getExecutionId())
+            .status(domain.getStatus() != null ? domain.getStatus().name() : null)
+            .durationMicros(domain.getDurationNanos() / 1_000)
+            .pathLength(domain.getPathLength())
+            .completedAt(domain.getCompletedAt())
+            .build();
+    }
+
+    public SlowExecution toDto(com.example.banking.benefit.domain.model.log.SlowExecutionTrace domain) {
+        if (domain == null) {
+            return null;
+        }
+        return SlowExecution.builder()
+            .executionId(domain.getExecutionId())
+            .flowId(domain.getFlowId())
+            .version(domain.getVersion())
+            .customerId(domain.getCustomerId())
+            .startTime(domain.getStartTime())
+            .durationMicros(domain.getDurationNanos() / 1_000)
+            .thresholdMillis(Duration.ofNanos(domain.getThresholdNanos()).toMillis())
+            .status(domain.getStatus())
+            .errorMessage(domain.getErrorMessage())
+            .nodes(domain.getNodes().stream().map(this::toDto).collect(Collectors.toList()))
+            .inputs(domain.getInputs())
+            .build();
+    }
+
+    public SlowExecutionNode toDto(com.example.banking.benefit.domain.model.log.SlowNodeTrace domain) {
+        if (domain == null) {
+            return null;
+        }
+        return SlowExecutionNode.builder()
+            .nodeId(domain.getNodeId())
+            .nodeType(domain.getNodeType() != null ? domain.getNodeType().name() : null)
+            .evaluator(domain.getEvaluator())
+            .outcome(domain.getOutcome() != null ? domain.getOutcome().name() : null)
+            .attemptCount(domain.getAttemptCount())
+            .startOffsetMicros(domain.getStartOffsetNanos() / 1_000)
+            .durationMicros(domain.getDurationNanos() / 1_000)
+            .expressionCacheHits(domain.getExpressionCacheHits())
+            .expressionCacheMisses(domain.getExpressionCacheMisses())
+            .attributesRead(domain.getAttributesRead())
+            .build();
+    }
+
+    public List<SlowExecution> toSlowExecutionDtoList(
+            List<com.example.banking.benefit.domain.model.log.SlowExecutionTrace> domainList) {
+        if (domainList == null) {
+            return null;
+        }
+        return domainList.stream()
+            .map(this::toDto)
+            .collect(Collectors.toList());
+    }
+
+    private Map<String, Long> toMillis(Map<String, Duration> durations) {
+        if (durations == null) {
+            return null;
+        }
+        Map<String, Long> result = new LinkedHashMap<>();
+        durations.forEach((nodeId, duration) -> result.put(nodeId, duration.toMillis()));
+        return result;
+    }
+}
@@ -32,4 +32,7 @@ public class ExecuteFlowRequest {
     @Valid
     @Schema(description = "客戶資料")
     private CustomerData customerData;
+    
+    @Schema(description = "是否為模擬執行，只評估結果與路徑，不寫入日誌也不發送通知", example = "false")
+    private Boolean simulation;
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.example.banking.benefit.application.dto.monitor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "流程隔艙統計資訊")
+public class BulkheadStatistics {
+
+    @Schema(description = "流程ID", example = "f123-456-789")
+    private String flowId;
+
+    @Schema(description = "同時執行數上限", example = "32")
+    private Integer maxConcurrentExecutions;
+
+    @Schema(description = "等待佇列長度上限", example = "64")
+    private Integer maxQueuedExecutions;
+
+    @Schema(description = "執行中的數量", example = "12")
+    private Integer activeExecutions;
+
+    @Schema(description = "目前佇列深度", example = "3")
+    private Integer queueDepth;
+
+    @Schema(description = "已允許執行次數", example = "1000")
+    private Long admittedExecutions;
+
+    @Schema(description = "已拒絕執行次數", example = "5")
+    private Long rejectedExecutions;
+
+    @Schema(description = "平均等待時間（毫秒）", example = "20")
+    private Long averageWaitTime;
+
+    @Schema(description = "最長等待時間（毫秒）", example = "800")
+    private Long maxWaitTime;
+}
@@ -0,0 +1,38 @@
+package com.example.banking.benefit.application.dto.monitor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "流程執行完成事件")
+public class ExecutionEvent {
+
+    @Schema(description = "流程ID", example = "f123-456-789")
+    private String flowId;
+
+    @Schema(description = "流程版本", example = "1.2.0")
+    private String version;
+
+    @Schema(description = "執行ID", example = "e123-456-789")
+    private String executionId;
+
+    @Schema(description = "執行狀態", example = "SUCCESS")
+    private String status;
+
+    @Schema(description = "執行時間（微秒）", example = "1520")
+    private Long durationMicros;
+
+    @Schema(description = "經過的節點數", example = "5")
+    private Integer pathLength;
+
+    @Schema(description = "完成時間", example = "2025-10-04T12:00:00")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,42 @@
+package com.example.banking.benefit.application.dto.monitor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "執行日誌寫入統計資訊")
+public class ExecutionLogWriterStatistics {
+
+    @Schema(description = "已排入的日誌數", example = "52000")
+    private Long enqueued;
+
+    @Schema(description = "已寫入的日誌數", example = "51980")
+    private Long written;
+
+    @Schema(description = "因緩衝區已滿而捨棄的日誌數", example = "0")
+    private Long dropped;
+
+    @Schema(description = "緩衝區已滿時由呼叫端直接寫入的日誌數", example = "12")
+    private Long callerRuns;
+
+    @Schema(description = "寫入失敗的日誌數", example = "0")
+    private Long failed;
+
+    @Schema(description = "批次寫入次數", example = "410")
+    private Long batches;
+
+    @Schema(description = "平均每批筆數", example = "126.8")
+    private Double averageBatchSize;
+
+    @Schema(description = "緩衝區中尚未寫入的日誌數", example = "20")
+    private Long pending;
+
+    @Schema(description = "緩衝區容量", example = "8192")
+    private Long capacity;
+}
@@ -0,0 +1,30 @@
+package com.example.banking.benefit.application.dto.monitor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "執行狀態儲存統計資訊")
+public class ExecutionStateStoreStatistics {
+
+    @Schema(description = "執行層項目數", example = "120")
+    private Long activeEntries;
+
+    @Schema(description = "暫停層項目數", example = "15")
+    private Long pausedEntries;
+
+    @Schema(description = "總項目數", example = "135")
+    private Long totalEntries;
+
+    @Schema(description = "因容量或存活時間被淘汰的項目數", example = "42")
+    private Long evictions;
+
+    @Schema(description = "估計記憶體用量（位元組）", example = "65536")
+    private Long estimatedMemoryBytes;
+}
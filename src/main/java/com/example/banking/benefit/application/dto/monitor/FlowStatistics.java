@@ -28,6 +28,9 @@ public class FlowStatistics {
     @Schema(description = "失敗執行次數", example = "50")
     private Long failedExecutions;
     
+    @Schema(description = "成功率（%）", example = "95.0")
+    private Double successRate;
+    
     @Schema(description = "平均執行時間（毫秒）", example = "150")
     private Long averageExecutionTime;
     
@@ -36,4 +39,19 @@ public class FlowStatistics {
     
     @Schema(description = "最短執行時間（毫秒）", example = "50")
     private Long minExecutionTime;
+    
+    @Schema(description = "執行時間第 50 百分位數（毫秒）", example = "120")
+    private Long p50ExecutionTime;
+    
+    @Schema(description = "執行時間第 90 百分位數（毫秒）", example = "250")
+    private Long p90ExecutionTime;
+    
+    @Schema(description = "執行時間第 95 百分位數（毫秒）", example = "320")
+    private Long p95ExecutionTime;
+    
+    @Schema(description = "執行時間第 99 百分位數（毫秒）", example = "450")
+    private Long p99ExecutionTime;
+    
+    @Schema(description = "執行時間第 99.9 百分位數（毫秒）", example = "490")
+    private Long p999ExecutionTime;
 }
\ No newline at end of file
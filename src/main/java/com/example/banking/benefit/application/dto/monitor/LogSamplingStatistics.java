@@ -0,0 +1,30 @@
+package com.example.banking.benefit.application.dto.monitor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "執行日誌取樣統計資訊")
+public class LogSamplingStatistics {
+
+    @Schema(description = "保留日誌的執行數", example = "1200")
+    private Long keptExecutions;
+
+    @Schema(description = "未保留日誌的執行數", example = "10800")
+    private Long droppedExecutions;
+
+    @Schema(description = "保留日誌的執行比例", example = "0.1")
+    private Double keptRatio;
+
+    @Schema(description = "已寫出的節點日誌數", example = "7200")
+    private Long writtenRows;
+
+    @Schema(description = "未寫出的節點日誌數", example = "64800")
+    private Long droppedRows;
+}
@@ -0,0 +1,48 @@
+package com.example.banking.benefit.application.dto.monitor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "節點執行剖析資訊")
+public class NodeProfile {
+
+    @Schema(description = "流程ID", example = "f123-456-789")
+    private String flowId;
+
+    @Schema(description = "節點ID", example = "N001")
+    private String nodeId;
+
+    @Schema(description = "節點類型", example = "DECISION")
+    private String nodeType;
+
+    @Schema(description = "執行次數", example = "15000")
+    private Long evaluations;
+
+    @Schema(description = "走成立（成功）分支次數", example = "12000")
+    private Long trueCount;
+
+    @Schema(description = "走不成立（失敗）分支次數", example = "2990")
+    private Long falseCount;
+
+    @Schema(description = "錯誤次數", example = "10")
+    private Long errorCount;
+
+    @Schema(description = "成立（成功）分支比例（百分比），不含錯誤", example = "80.05")
+    private Double trueRatio;
+
+    @Schema(description = "平均執行時間（微秒）", example = "42.7")
+    private Double meanMicros;
+
+    @Schema(description = "累計執行時間（毫秒）", example = "640")
+    private Long totalMillis;
+
+    @Schema(description = "占流程所有節點累計執行時間的比例（百分比）", example = "35.2")
+    private Double costShare;
+}
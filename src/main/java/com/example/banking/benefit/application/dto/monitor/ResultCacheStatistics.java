@@ -0,0 +1,30 @@
+package com.example.banking.benefit.application.dto.monitor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "執行結果快取統計資訊")
+public class ResultCacheStatistics {
+
+    @Schema(description = "命中次數", example = "800")
+    private Long hits;
+
+    @Schema(description = "未命中次數", example = "200")
+    private Long misses;
+
+    @Schema(description = "寫入次數", example = "190")
+    private Long stores;
+
+    @Schema(description = "流程重新發布造成的清除次數", example = "3")
+    private Long invalidations;
+
+    @Schema(description = "命中率（百分比）", example = "80.0")
+    private Double hitRate;
+}
@@ -0,0 +1,27 @@
+package com.example.banking.benefit.application.dto.monitor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "節點重試統計資訊")
+public class RetryStatistics {
+
+    @Schema(description = "總嘗試次數", example = "1200")
+    private Long totalAttempts;
+
+    @Schema(description = "重試次數", example = "200")
+    private Long retries;
+
+    @Schema(description = "重試後成功的呼叫數", example = "180")
+    private Long recoveredCalls;
+
+    @Schema(description = "用盡重試仍失敗的呼叫數", example = "20")
+    private Long exhaustedCalls;
+}
@@ -0,0 +1,52 @@
+package com.example.banking.benefit.application.dto.monitor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "超過慢速門檻的執行紀錄")
+public class SlowExecution {
+
+    @Schema(description = "執行ID", example = "e123-456-789")
+    private String executionId;
+
+    @Schema(description = "流程ID", example = "f123-456-789")
+    private String flowId;
+
+    @Schema(description = "流程版本", example = "1.2.0")
+    private String version;
+
+    @Schema(description = "客戶ID", example = "C001")
+    private String customerId;
+
+    @Schema(description = "開始時間", example = "2025-10-04T12:00:00")
+    private LocalDateTime startTime;
+
+    @Schema(description = "執行時間（微秒）", example = "1250000")
+    private Long durationMicros;
+
+    @Schema(description = "記錄時的慢速門檻（毫秒）", example = "1000")
+    private Long thresholdMillis;
+
+    @Schema(description = "執行狀態", example = "SUCCESS")
+    private String status;
+
+    @Schema(description = "錯誤訊息")
+    private String errorMessage;
+
+    @Schema(description = "各節點紀錄，依執行順序排列")
+    private List<SlowExecutionNode> nodes;
+
+    @Schema(description = "已執行的表達式節點讀取的客戶屬性與其值")
+    private Map<String, String> inputs;
+}
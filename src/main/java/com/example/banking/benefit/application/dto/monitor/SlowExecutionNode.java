@@ -0,0 +1,47 @@
+package com.example.banking.benefit.application.dto.monitor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "慢速執行中的節點紀錄")
+public class SlowExecutionNode {
+
+    @Schema(description = "節點ID", example = "N001")
+    private String nodeId;
+
+    @Schema(description = "節點類型", example = "DECISION")
+    private String nodeType;
+
+    @Schema(description = "評估方式（spel 或 java）", example = "spel")
+    private String evaluator;
+
+    @Schema(description = "節點結果（TRUE、FALSE、SUCCESS、FAILURE 或 ERROR）", example = "TRUE")
+    private String outcome;
+
+    @Schema(description = "嘗試次數", example = "1")
+    private Integer attemptCount;
+
+    @Schema(description = "節點開始時距流程開始的時間（微秒）", example = "350")
+    private Long startOffsetMicros;
+
+    @Schema(description = "節點執行時間（微秒）", example = "1200")
+    private Long durationMicros;
+
+    @Schema(description = "表達式快取命中次數", example = "1")
+    private Integer expressionCacheHits;
+
+    @Schema(description = "表達式快取未命中次數", example = "0")
+    private Integer expressionCacheMisses;
+
+    @Schema(description = "表達式讀取的客戶屬性，Java 類別節點或無法確定時為空", example = "[\"age\", \"income\"]")
+    private List<String> attributesRead;
+}
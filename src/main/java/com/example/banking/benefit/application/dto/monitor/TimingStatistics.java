@@ -0,0 +1,39 @@
+package com.example.banking.benefit.application.dto.monitor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "執行時間統計資訊")
+public class TimingStatistics {
+
+    @Schema(description = "流程ID", example = "f123-456-789")
+    private String flowId;
+
+    @Schema(description = "節點ID，為空時表示整個流程", example = "N001")
+    private String nodeId;
+
+    @Schema(description = "執行次數", example = "1500")
+    private Long count;
+
+    @Schema(description = "平均執行時間（微秒）", example = "820.5")
+    private Double meanMicros;
+
+    @Schema(description = "第 50 百分位數（微秒）", example = "511")
+    private Long p50Micros;
+
+    @Schema(description = "第 90 百分位數（微秒）", example = "2047")
+    private Long p90Micros;
+
+    @Schema(description = "第 99 百分位數（微秒）", example = "8191")
+    private Long p99Micros;
+
+    @Schema(description = "最長執行時間（微秒）", example = "12040")
+    private Long maxMicros;
+}
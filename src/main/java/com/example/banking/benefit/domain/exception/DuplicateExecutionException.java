@@ -0,0 +1,11 @@
+package com.example.banking.benefit.domain.exception;
+
+/**
+ * 指定的執行ID已有執行中的流程時拋出的例外
+ */
+public class DuplicateExecutionException extends FlowExecutionException {
+
+    public DuplicateExecutionException(String message) {
+        super(message);
+    }
+}
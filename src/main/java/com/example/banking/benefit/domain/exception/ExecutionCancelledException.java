@@ -0,0 +1,15 @@
+package com.example.banking.benefit.domain.exception;
+
+/**
+ * 流程執行被取消時拋出的例外
+ */
+public class ExecutionCancelledException extends FlowExecutionException {
+
+    public ExecutionCancelledException(String message) {
+        super(message);
+    }
+
+    public ExecutionCancelledException(String message, String nodeId) {
+        super(message, null, nodeId);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.banking.benefit.domain.exception;
+
+/**
+ * 流程執行超過期限時拋出的例外
+ */
+public class ExecutionTimeoutException extends FlowExecutionException {
+
+    public ExecutionTimeoutException(String message) {
+        super(message);
+    }
+
+    public ExecutionTimeoutException(String message, String nodeId) {
+        super(message, null, nodeId);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.banking.benefit.domain.exception;
+
+/**
+ * 暫時性執行失敗
+ * 節點實作拋出此例外表示可以重試，例如下游服務暫時無法連線
+ */
+public class TransientExecutionException extends FlowExecutionException {
+
+    public TransientExecutionException(String message) {
+        super(message);
+    }
+
+    public TransientExecutionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
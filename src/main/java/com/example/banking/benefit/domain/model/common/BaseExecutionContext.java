@@ -46,4 +46,20 @@ public interface BaseExecutionContext {
      * 取得指定的客戶資料
      */
     Object getCustomerData(String key);
+
+    /**
+     * 是否為模擬執行
+     * 模擬執行只評估決策與沒有副作用的處理節點，不寫入日誌、稽核與通知
+     */
+    boolean isSimulation();
+
+    /**
+     * 取得執行期限，未設定時為不限時間
+     */
+    ExecutionDeadline getDeadline();
+
+    /**
+     * 設定執行期限
+     */
+    void setDeadline(ExecutionDeadline deadline);
 }
\ No newline at end of file
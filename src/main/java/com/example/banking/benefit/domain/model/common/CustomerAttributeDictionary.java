@@ -0,0 +1,176 @@
+package com.example.banking.benefit.domain.model.common;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 客戶屬性字典
+ *
+ * 將屬性名稱與型別對應到固定的槽位，由所有客戶資料共用，每筆客戶資料只需保存值本身。
+ * Integer、Long、Double 存放在 long 陣列，Boolean 存放在位元集合，其餘型別存放在參考陣列。
+ * 屬性只能由配置的白名單以 {@link #register} 登記，建立客戶資料時只查詢、不登記，
+ * 未登記的名稱或型別不符的值由各筆客戶資料以 Map 另外保存，請求內容因此無法改變字典。
+ */
+public final class CustomerAttributeDictionary {
+
+    /** 預設可登記的屬性數 */
+    static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+    private static final CustomerAttributeDictionary SHARED = new CustomerAttributeDictionary(DEFAULT_MAXIMUM_SIZE);
+
+    /**
+     * 屬性值的儲存方式
+     */
+    public enum Kind {
+        INT, LONG, DOUBLE, BOOLEAN, REFERENCE;
+
+        static Kind of(Class<?> type) {
+            if (type == Integer.class) {
+                return INT;
+            }
+            if (type == Long.class) {
+                return LONG;
+            }
+            if (type == Double.class) {
+                return DOUBLE;
+            }
+            if (type == Boolean.class) {
+                return BOOLEAN;
+            }
+            return REFERENCE;
+        }
+
+        boolean isNumeric() {
+            return this == INT || this == LONG || this == DOUBLE;
+        }
+    }
+
+    private final int maximumSize;
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+    /** 依登記順序排列，登記時以新陣列取代，讀取不需加鎖 */
+    private volatile Slot[] byOrdinal = new Slot[0];
+    private int numericCount;
+    private int booleanCount;
+    private int referenceCount;
+
+    public CustomerAttributeDictionary(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * 取得所有客戶資料預設共用的字典
+     */
+    public static CustomerAttributeDictionary shared() {
+        return SHARED;
+    }
+
+    /**
+     * 取得屬性的槽位
+     *
+     * @return 尚未登記時為 null
+     */
+    public Slot slotOf(String name) {
+        return slots.get(name);
+    }
+
+    /**
+     * 取得以指定型別登記的槽位
+     *
+     * @return 尚未登記或已登記為其他型別時為 null
+     */
+    public Slot lookup(String name, Class<?> type) {
+        Slot slot = slots.get(name);
+        return slot != null && slot.type == type ? slot : null;
+    }
+
+    /**
+     * 登記屬性的名稱與型別，已登記時回傳原本的槽位，供啟動時依白名單登記
+     *
+     * @return 已登記為其他型別或字典已滿時為 null
+     */
+    public Slot register(String name, Class<?> type) {
+        Slot slot = slots.get(name);
+        if (slot == null) {
+            slot = registerIfAbsent(name, type);
+        }
+        return slot != null && slot.type == type ? slot : null;
+    }
+
+    private synchronized Slot registerIfAbsent(String name, Class<?> type) {
+        Slot slot = slots.get(name);
+        Slot[] current = byOrdinal;
+        if (slot != null || current.length >= maximumSize) {
+            return slot;
+        }
+        Kind kind = Kind.of(type);
+        int index = kind.isNumeric() ? numericCount++ : kind == Kind.BOOLEAN ? booleanCount++ : referenceCount++;
+        slot = new Slot(name, type, kind, current.length, index);
+        Slot[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = slot;
+        byOrdinal = next;
+        slots.put(name, slot);
+        return slot;
+    }
+
+    /**
+     * 依序數取得槽位
+     */
+    Slot slotAt(int ordinal) {
+        return byOrdinal[ordinal];
+    }
+
+    public int size() {
+        return byOrdinal.length;
+    }
+
+    public List<Slot> getSlots() {
+        return List.of(byOrdinal);
+    }
+
+    /**
+     * 屬性槽位，建立後不可變更
+     */
+    public static final class Slot {
+        private final String name;
+        private final Class<?> type;
+        private final Kind kind;
+        private final int ordinal;
+        private final int index;
+
+        private Slot(String name, Class<?> type, Kind kind, int ordinal, int index) {
+            this.name = name;
+            this.type = type;
+            this.kind = kind;
+            this.ordinal = ordinal;
+            this.index = index;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * 登記順序，用於客戶資料的存在位元
+         */
+        public int getOrdinal() {
+            return ordinal;
+        }
+
+        /**
+         * 在對應儲存陣列中的索引
+         */
+        public int getIndex() {
+            return index;
+        }
+    }
+}
@@ -1,49 +1,114 @@
 package com.example.banking.benefit.domain.model.common;
 
+import com.example.banking.benefit.domain.model.common.CustomerAttributeDictionary.Kind;
+import com.example.banking.benefit.domain.model.common.CustomerAttributeDictionary.Slot;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 /**
  * 客戶資料值物件
  * 包含客戶相關的所有資訊
+ *
+ * 屬性依 {@link CustomerAttributeDictionary} 的槽位保存：Integer、Long、Double 存放在 long 陣列，
+ * Boolean 存放在位元集合，其餘型別存放在參考陣列，不需為每個屬性建立包裝物件。
+ * 字典未登記的屬性或型別與字典不同的值才放入 Map。
+ * {@link #getAttribute(String)} 與 {@link #getAllAttributes()} 在呼叫時才建立 {@link CustomerAttribute}，
+ * 熱路徑應使用 {@link #getInt(String, int)} 等不需裝箱的存取方法。
  */
 public class CustomerData {
+
+    private static final long[] NO_LONGS = new long[0];
+    private static final Object[] NO_REFERENCES = new Object[0];
+
     private final String id;
-    private final Map<String, CustomerAttribute<?>> attributes;
+    private final CustomerAttributeDictionary dictionary;
+    /** 依槽位序數標示已設定的屬性 */
+    private final long[] present;
+    private final long[] numbers;
+    private final long[] booleans;
+    private final Object[] references;
+    private final Map<String, CustomerAttribute<?>> overflow;
+    private final int size;
+
+    private CustomerData(Builder builder) {
+        this.id = builder.id;
+        this.dictionary = builder.dictionary;
+        this.present = trim(builder.present);
+        this.numbers = trim(builder.numbers, builder.maxNumber);
+        this.booleans = trim(builder.booleans);
+        this.references = builder.maxReference < 0 ? NO_REFERENCES
+            : Arrays.copyOf(builder.references, builder.maxReference + 1);
+        this.overflow = builder.overflow;
+        this.size = builder.size;
+    }
 
     @JsonCreator
-    private CustomerData(@JsonProperty("id") String id, 
-                        @JsonProperty("allAttributes") Map<String, CustomerAttribute<?>> attributes) {
-        this.id = id;
-        this.attributes = new HashMap<>(attributes);
+    private static CustomerData fromJson(@JsonProperty("id") String id,
+                                         @JsonProperty("allAttributes") Map<String, CustomerAttribute<?>> attributes) {
+        Builder builder = new Builder(id, CustomerAttributeDictionary.shared());
+        if (attributes != null) {
+            attributes.forEach(builder::put);
+        }
+        return builder.build();
     }
 
     public static CustomerData create(String id, Map<String, CustomerAttribute<?>> attributes) {
-        if (id == null || id.trim().isEmpty()) {
-            throw new IllegalArgumentException("id must not be null or empty");
-        }
+        return create(id, attributes, CustomerAttributeDictionary.shared());
+    }
+
+    public static CustomerData create(String id, Map<String, CustomerAttribute<?>> attributes,
+                                      CustomerAttributeDictionary dictionary) {
         if (attributes == null) {
             throw new IllegalArgumentException("attributes must not be null");
         }
-        return new CustomerData(id, attributes);
+        Builder builder = builder(id, dictionary);
+        attributes.forEach(builder::put);
+        return builder.build();
     }
-    
+
+    /**
+     * 建立使用共用字典的客戶資料，批次載入時可直接寫入基本型別值
+     */
+    public static Builder builder(String id) {
+        return builder(id, CustomerAttributeDictionary.shared());
+    }
+
+    public static Builder builder(String id, CustomerAttributeDictionary dictionary) {
+        if (id == null || id.trim().isEmpty()) {
+            throw new IllegalArgumentException("id must not be null or empty");
+        }
+        return new Builder(id, dictionary);
+    }
+
     @JsonProperty("id")
     public String getId() {
         return id;
     }
 
-    @JsonProperty("allAttributes") 
+    @JsonProperty("allAttributes")
     public Map<String, CustomerAttribute<?>> getAllAttributes() {
+        Map<String, CustomerAttribute<?>> attributes = new LinkedHashMap<>(size * 2);
+        forEachSlot((slot, value) -> attributes.put(slot.getName(), toAttribute(slot, value)));
+        if (overflow != null) {
+            attributes.putAll(overflow);
+        }
         return Collections.unmodifiableMap(attributes);
     }
 
     public Optional<CustomerAttribute<?>> getAttribute(String key) {
-        return Optional.ofNullable(attributes.get(key));
+        Slot slot = dictionary.slotOf(key);
+        if (slot != null && isPresent(slot)) {
+            return Optional.of(toAttribute(slot, valueOf(slot)));
+        }
+        return overflow != null ? Optional.ofNullable(overflow.get(key)) : Optional.empty();
     }
 
     /**
@@ -51,9 +116,12 @@ public class CustomerData {
      * 支援 #customerData.get('key') 或 #customerData['key'] 語法
      */
     public Object get(String key) {
-        return getAttribute(key)
-                .map(CustomerAttribute::getValue)
-                .orElse(null);
+        Slot slot = dictionary.slotOf(key);
+        if (slot != null && isPresent(slot)) {
+            return valueOf(slot);
+        }
+        CustomerAttribute<?> attribute = overflow != null ? overflow.get(key) : null;
+        return attribute != null ? attribute.getValue() : null;
     }
 
     public <T> Optional<T> getValue(String key, Class<T> type) {
@@ -62,7 +130,288 @@ public class CustomerData {
                 .map(attr -> type.cast(attr.getValue()));
     }
 
+    /**
+     * 取得 Integer 屬性，不裝箱
+     *
+     * @return 屬性不存在或不是 Integer 時為 defaultValue
+     */
+    public int getInt(String key, int defaultValue) {
+        Slot slot = dictionary.slotOf(key);
+        if (slot != null && slot.getKind() == Kind.INT && isPresent(slot)) {
+            return (int) numbers[slot.getIndex()];
+        }
+        return getValue(key, Integer.class).orElse(defaultValue);
+    }
+
+    /**
+     * 取得 Long 或 Integer 屬性，不裝箱
+     *
+     * @return 屬性不存在或不是整數時為 defaultValue
+     */
+    public long getLong(String key, long defaultValue) {
+        Slot slot = dictionary.slotOf(key);
+        if (slot != null && (slot.getKind() == Kind.LONG || slot.getKind() == Kind.INT) && isPresent(slot)) {
+            return numbers[slot.getIndex()];
+        }
+        Object value = overflowValue(key);
+        return value instanceof Long || value instanceof Integer ? ((Number) value).longValue() : defaultValue;
+    }
+
+    /**
+     * 取得 Double、Long 或 Integer 屬性，不裝箱
+     *
+     * @return 屬性不存在或不是數值時為 defaultValue
+     */
+    public double getDouble(String key, double defaultValue) {
+        Slot slot = dictionary.slotOf(key);
+        if (slot != null && slot.getKind().isNumeric() && isPresent(slot)) {
+            long bits = numbers[slot.getIndex()];
+            return slot.getKind() == Kind.DOUBLE ? Double.longBitsToDouble(bits) : bits;
+        }
+        Object value = overflowValue(key);
+        return value instanceof Double || value instanceof Long || value instanceof Integer
+            ? ((Number) value).doubleValue() : defaultValue;
+    }
+
+    /**
+     * 取得 Boolean 屬性，不裝箱
+     *
+     * @return 屬性不存在或不是 Boolean 時為 defaultValue
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        Slot slot = dictionary.slotOf(key);
+        if (slot != null && slot.getKind() == Kind.BOOLEAN && isPresent(slot)) {
+            return testBit(booleans, slot.getIndex());
+        }
+        return getValue(key, Boolean.class).orElse(defaultValue);
+    }
+
     public boolean hasKey(String key) {
-        return attributes.containsKey(key);
+        Slot slot = dictionary.slotOf(key);
+        if (slot != null && isPresent(slot)) {
+            return true;
+        }
+        return overflow != null && overflow.containsKey(key);
+    }
+
+    /**
+     * 取得屬性數
+     */
+    public int size() {
+        return size;
+    }
+
+    private boolean isPresent(Slot slot) {
+        return testBit(present, slot.getOrdinal());
+    }
+
+    private Object valueOf(Slot slot) {
+        switch (slot.getKind()) {
+            case INT:
+                return (int) numbers[slot.getIndex()];
+            case LONG:
+                return numbers[slot.getIndex()];
+            case DOUBLE:
+                return Double.longBitsToDouble(numbers[slot.getIndex()]);
+            case BOOLEAN:
+                return testBit(booleans, slot.getIndex());
+            default:
+                return references[slot.getIndex()];
+        }
+    }
+
+    private Object overflowValue(String key) {
+        CustomerAttribute<?> attribute = overflow != null ? overflow.get(key) : null;
+        return attribute != null ? attribute.getValue() : null;
+    }
+
+    /**
+     * 依槽位序數走訪已設定的屬性
+     */
+    private void forEachSlot(BiConsumer<Slot, Object> action) {
+        for (int word = 0; word < present.length; word++) {
+            long bits = present[word];
+            while (bits != 0) {
+                int ordinal = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                Slot slot = dictionary.slotAt(ordinal);
+                action.accept(slot, valueOf(slot));
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static CustomerAttribute<?> toAttribute(Slot slot, Object value) {
+        return CustomerAttribute.of(value, (Class) slot.getType());
+    }
+
+    private static boolean testBit(long[] bits, int index) {
+        int word = index >>> 6;
+        return word < bits.length && (bits[word] & (1L << index)) != 0;
+    }
+
+    private static long[] trim(long[] bits) {
+        int length = bits.length;
+        while (length > 0 && bits[length - 1] == 0) {
+            length--;
+        }
+        return length == 0 ? NO_LONGS : Arrays.copyOf(bits, length);
+    }
+
+    private static long[] trim(long[] values, int maxIndex) {
+        return maxIndex < 0 ? NO_LONGS : Arrays.copyOf(values, maxIndex + 1);
+    }
+
+    /**
+     * 客戶資料建構器
+     *
+     * 直接寫入基本型別值，批次載入大量客戶時不需先建立 {@link CustomerAttribute} 的 Map。
+     * 同一屬性重複寫入時以最後一次為準。
+     */
+    public static final class Builder {
+        private static final int INITIAL_BUILDER_SLOTS = 64;
+
+        private final String id;
+        private final CustomerAttributeDictionary dictionary;
+        private long[] present;
+        private long[] numbers;
+        private long[] booleans;
+        private Object[] references;
+        private int maxNumber = -1;
+        private int maxReference = -1;
+        private Map<String, CustomerAttribute<?>> overflow;
+        private int size;
+
+        private Builder(String id, CustomerAttributeDictionary dictionary) {
+            this.id = id;
+            this.dictionary = dictionary;
+            // 依字典目前大小預留空間，超過時再擴充
+            int slots = Math.min(dictionary.size(), INITIAL_BUILDER_SLOTS);
+            this.present = new long[(dictionary.size() >>> 6) + 1];
+            this.numbers = new long[Math.max(4, slots)];
+            this.booleans = new long[1];
+            this.references = new Object[Math.max(4, slots)];
+        }
+
+        public Builder putInt(String key, int value) {
+            Slot slot = dictionary.lookup(key, Integer.class);
+            if (slot == null) {
+                return putOverflow(key, CustomerAttribute.forInteger(value));
+            }
+            setNumber(slot, value);
+            return this;
+        }
+
+        public Builder putLong(String key, long value) {
+            Slot slot = dictionary.lookup(key, Long.class);
+            if (slot == null) {
+                return putOverflow(key, CustomerAttribute.forLong(value));
+            }
+            setNumber(slot, value);
+            return this;
+        }
+
+        public Builder putDouble(String key, double value) {
+            Slot slot = dictionary.lookup(key, Double.class);
+            if (slot == null) {
+                return putOverflow(key, CustomerAttribute.forDouble(value));
+            }
+            setNumber(slot, Double.doubleToRawLongBits(value));
+            return this;
+        }
+
+        public Builder putBoolean(String key, boolean value) {
+            Slot slot = dictionary.lookup(key, Boolean.class);
+            if (slot == null) {
+                return putOverflow(key, CustomerAttribute.forBoolean(value));
+            }
+            markPresent(slot);
+            booleans = ensureBits(booleans, slot.getIndex());
+            if (value) {
+                booleans[slot.getIndex() >>> 6] |= 1L << slot.getIndex();
+            } else {
+                booleans[slot.getIndex() >>> 6] &= ~(1L << slot.getIndex());
+            }
+            return this;
+        }
+
+        /**
+         * 寫入屬性，依屬性型別選擇儲存方式
+         */
+        public Builder put(String key, CustomerAttribute<?> attribute) {
+            Objects.requireNonNull(attribute, "attribute must not be null");
+            Object value = attribute.getValue();
+            Class<?> type = attribute.getType();
+            if (type == Integer.class) {
+                return putInt(key, (Integer) value);
+            }
+            if (type == Long.class) {
+                return putLong(key, (Long) value);
+            }
+            if (type == Double.class) {
+                return putDouble(key, (Double) value);
+            }
+            if (type == Boolean.class) {
+                return putBoolean(key, (Boolean) value);
+            }
+            Slot slot = dictionary.lookup(key, type);
+            if (slot == null) {
+                return putOverflow(key, attribute);
+            }
+            markPresent(slot);
+            if (slot.getIndex() >= references.length) {
+                references = Arrays.copyOf(references, Math.max(references.length * 2, slot.getIndex() + 1));
+            }
+            references[slot.getIndex()] = value;
+            maxReference = Math.max(maxReference, slot.getIndex());
+            return this;
+        }
+
+        public CustomerData build() {
+            return new CustomerData(this);
+        }
+
+        private void setNumber(Slot slot, long value) {
+            markPresent(slot);
+            if (slot.getIndex() >= numbers.length) {
+                numbers = Arrays.copyOf(numbers, Math.max(numbers.length * 2, slot.getIndex() + 1));
+            }
+            numbers[slot.getIndex()] = value;
+            maxNumber = Math.max(maxNumber, slot.getIndex());
+        }
+
+        private void markPresent(Slot slot) {
+            int ordinal = slot.getOrdinal();
+            present = ensureBits(present, ordinal);
+            long mask = 1L << ordinal;
+            if ((present[ordinal >>> 6] & mask) == 0) {
+                present[ordinal >>> 6] |= mask;
+                size++;
+            }
+            if (overflow != null && overflow.remove(slot.getName()) != null) {
+                size--;
+            }
+        }
+
+        private Builder putOverflow(String key, CustomerAttribute<?> attribute) {
+            // 先前以其他型別寫入槽位的值由此值取代
+            Slot slot = dictionary.slotOf(key);
+            if (slot != null && testBit(present, slot.getOrdinal())) {
+                present[slot.getOrdinal() >>> 6] &= ~(1L << slot.getOrdinal());
+                size--;
+            }
+            if (overflow == null) {
+                overflow = new HashMap<>();
+            }
+            if (overflow.put(key, attribute) == null) {
+                size++;
+            }
+            return this;
+        }
+
+        private static long[] ensureBits(long[] bits, int index) {
+            int word = index >>> 6;
+            return word < bits.length ? bits : Arrays.copyOf(bits, Math.max(bits.length * 2, word + 1));
+        }
     }
-}
\ No newline at end of file
+}
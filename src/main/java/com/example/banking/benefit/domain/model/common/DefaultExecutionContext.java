@@ -1,9 +1,11 @@
 package com.example.banking.benefit.domain.model.common;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 
-import java.util.HashMap;
 import java.util.Map;
 
 @Data
@@ -13,29 +15,53 @@ public class DefaultExecutionContext implements BaseExecutionContext {
     private String flowId;
     private String executionId;
     private String customerId;
-    private Map<String, Object> variables;
+    /** 流程的變數配置，未指定時所有變數都放在配置外的 Map */
+    private VariableLayout variableLayout;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private VariableStore variableStore;
     private CustomerData customerData;
+    private ExecutionDeadline deadline;
+    private boolean simulation;
 
+    /**
+     * 取得以流程變數配置建立的變數儲存，第一次存取時建立
+     */
+    public VariableStore getVariableStore() {
+        if (variableStore == null) {
+            variableStore = new VariableStore(variableLayout);
+        }
+        return variableStore;
+    }
+
+    /**
+     * 取得變數的唯讀視圖，不複製內容
+     */
     @Override
     public Map<String, Object> getVariables() {
-        if(variables == null) {
-            variables = new HashMap<>();
-        }
-        return variables;
+        return getVariableStore().asMap();
     }
 
     @Override
     public void addVariable(String key, Object value) {
-        getVariables().put(key, value);
+        getVariableStore().put(key, value);
     }
 
     @Override
     public Object getVariable(String key) {
-        return getVariables().get(key);
+        return getVariableStore().get(key);
+    }
+
+    @Override
+    public ExecutionDeadline getDeadline() {
+        if (deadline == null) {
+            deadline = ExecutionDeadline.none();
+        }
+        return deadline;
     }
 
     @Override
     public Object getCustomerData(String key) {
         return customerData != null ? customerData.getAttribute(key) : null;
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,5 @@
 package com.example.banking.benefit.domain.model.common;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -14,18 +13,29 @@ public class ExecutionContext implements BaseExecutionContext {
     private final CustomerData customerData;
     private final String executionId;
     private final ExecutionMetadata metadata;
-    private final Map<String, Object> variables;
+    private final VariableStore variables;
+    private volatile ExecutionDeadline deadline;
+    private boolean simulation;
 
-    private ExecutionContext(String flowId, String customerId, CustomerData customerData) {
+    private ExecutionContext(String flowId, String customerId, CustomerData customerData, VariableLayout layout) {
         this.flowId = flowId;
         this.customerId = customerId;
         this.customerData = customerData;
         this.executionId = generateExecutionId();
         this.metadata = new ExecutionMetadata();
-        this.variables = new HashMap<>();
+        this.variables = new VariableStore(layout);
+        this.deadline = ExecutionDeadline.none();
     }
 
     public static ExecutionContext create(String flowId, String customerId, CustomerData customerData) {
+        return create(flowId, customerId, customerData, VariableLayout.empty());
+    }
+
+    /**
+     * 建立使用流程變數配置的運算內容，配置中的變數以槽位索引存取
+     */
+    public static ExecutionContext create(String flowId, String customerId, CustomerData customerData,
+                                          VariableLayout layout) {
         if (flowId == null || flowId.trim().isEmpty()) {
             throw new IllegalArgumentException("flowId must not be null or empty");
         }
@@ -35,7 +45,7 @@ public class ExecutionContext implements BaseExecutionContext {
         if (customerData == null) {
             throw new IllegalArgumentException("customerData must not be null");
         }
-        return new ExecutionContext(flowId, customerId, customerData);
+        return new ExecutionContext(flowId, customerId, customerData, layout);
     }
 
     public String getFlowId() {
@@ -52,9 +62,7 @@ public class ExecutionContext implements BaseExecutionContext {
 
     @Override
     public Object getCustomerData(String key) {
-        return customerData.getAttribute(key)
-                .map(CustomerAttribute::getValue)
-                .orElse(null);
+        return customerData.get(key);
     }
 
     public String getExecutionId() {
@@ -76,8 +84,34 @@ public class ExecutionContext implements BaseExecutionContext {
         return variables.get(key);
     }
 
+    /**
+     * 取得變數的唯讀視圖，不複製內容
+     */
     public Map<String, Object> getVariables() {
-        return new HashMap<>(variables);
+        return variables.asMap();
+    }
+
+    public VariableStore getVariableStore() {
+        return variables;
+    }
+
+    @Override
+    public boolean isSimulation() {
+        return simulation;
+    }
+
+    public void setSimulation(boolean simulation) {
+        this.simulation = simulation;
+    }
+
+    @Override
+    public ExecutionDeadline getDeadline() {
+        return deadline;
+    }
+
+    @Override
+    public void setDeadline(ExecutionDeadline deadline) {
+        this.deadline = deadline != null ? deadline : ExecutionDeadline.none();
     }
 
     private String generateExecutionId() {
@@ -0,0 +1,100 @@
+package com.example.banking.benefit.domain.model.common;
+
+import com.example.banking.benefit.domain.exception.ExecutionCancelledException;
+import com.example.banking.benefit.domain.exception.ExecutionTimeoutException;
+
+import java.time.Duration;
+
+/**
+ * 執行期限值物件
+ *
+ * 記錄單次執行的截止時間與取消狀態。執行引擎在節點之間檢查，
+ * Java 類別節點也可透過執行上下文取得，在長時間的工作中自行檢查。
+ */
+public final class ExecutionDeadline {
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final long deadlineNanos;
+    private final Duration timeout;
+    private volatile boolean cancelled;
+
+    private ExecutionDeadline(long deadlineNanos, Duration timeout) {
+        this.deadlineNanos = deadlineNanos;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 建立從現在起經過指定時間到期的期限
+     */
+    public static ExecutionDeadline after(Duration timeout) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+        return new ExecutionDeadline(System.nanoTime() + timeout.toNanos(), timeout);
+    }
+
+    /**
+     * 建立沒有截止時間、只能被取消的期限
+     */
+    public static ExecutionDeadline none() {
+        return new ExecutionDeadline(NO_DEADLINE, null);
+    }
+
+    public boolean hasDeadline() {
+        return deadlineNanos != NO_DEADLINE;
+    }
+
+    /**
+     * 取得設定的逾時時間，沒有截止時間時為 null
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * 取得剩餘時間，已到期時為零
+     */
+    public Duration remaining() {
+        if (!hasDeadline()) {
+            return Duration.ofNanos(Long.MAX_VALUE);
+        }
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return hasDeadline() && System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 標記為已取消
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * 是否應停止執行
+     */
+    public boolean shouldStop() {
+        return cancelled || isExpired() || Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * 檢查點：已取消或已到期時拋出例外
+     *
+     * @param nodeId 目前節點ID，用於錯誤訊息
+     */
+    public void checkpoint(String nodeId) {
+        if (cancelled || Thread.currentThread().isInterrupted()) {
+            throw new ExecutionCancelledException("流程執行已取消", nodeId);
+        }
+        if (isExpired()) {
+            throw new ExecutionTimeoutException("流程執行逾時：" + timeout.toMillis() + "ms", nodeId);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.banking.benefit.domain.model.common;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 變數配置
+ *
+ * 流程編譯時將表達式引用的變數名稱對應到固定的槽位索引，
+ * 執行期間的讀寫即可直接以索引存取陣列，不需雜湊查找或複製整個 Map。
+ * 配置建立後不可變更，可由同一流程的所有執行共用。
+ */
+public final class VariableLayout {
+
+    /** 表達式中的變數引用，例如 #creditScore */
+    private static final Pattern VARIABLE_REFERENCE = Pattern.compile("#([A-Za-z_][A-Za-z0-9_]*)");
+
+    /** 由執行引擎提供、不佔用槽位的內建變數 */
+    private static final Set<String> BUILT_IN_VARIABLES = Set.of(
+        "context", "customer", "customerData", "customerId", "flowId", "executionId",
+        "variables", "root", "this");
+
+    private static final VariableLayout EMPTY = new VariableLayout(List.of());
+
+    private final String[] names;
+    private final Map<String, Integer> slots;
+
+    private VariableLayout(Collection<String> names) {
+        this.names = names.toArray(new String[0]);
+        Map<String, Integer> slots = new HashMap<>(names.size() * 2);
+        for (int i = 0; i < this.names.length; i++) {
+            slots.put(this.names[i], i);
+        }
+        this.slots = slots;
+    }
+
+    /**
+     * 依變數名稱建立配置，重複的名稱只佔用一個槽位
+     */
+    public static VariableLayout of(Collection<String> names) {
+        return new VariableLayout(new LinkedHashSet<>(names));
+    }
+
+    /**
+     * 掃描表達式中引用的變數建立配置
+     */
+    public static VariableLayout compile(Collection<String> expressions) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String expression : expressions) {
+            if (expression == null) {
+                continue;
+            }
+            Matcher matcher = VARIABLE_REFERENCE.matcher(expression);
+            while (matcher.find()) {
+                if (!BUILT_IN_VARIABLES.contains(matcher.group(1))) {
+                    names.add(matcher.group(1));
+                }
+            }
+        }
+        return new VariableLayout(names);
+    }
+
+    public static VariableLayout empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 取得變數的槽位索引
+     *
+     * @return 槽位索引，不在配置中時為 -1
+     */
+    public int slotOf(String name) {
+        Integer slot = slots.get(name);
+        return slot != null ? slot : -1;
+    }
+
+    public String nameOf(int slot) {
+        return names[slot];
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public List<String> getNames() {
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.banking.benefit.domain.model.common;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * 以槽位索引保存的執行變數
+ *
+ * 配置中的變數存放在陣列中，讀寫皆為陣列存取；配置外的變數（例如 Java 節點動態寫入的值）
+ * 才會放入延遲建立的 Map。{@link #asMap()} 回傳唯讀的即時視圖，不會複製內容。
+ * 與原本的 HashMap 相同，不保證多執行緒同時寫入的安全。
+ */
+public final class VariableStore {
+
+    /** 尚未寫入的槽位，用以區分值為 null 的變數 */
+    private static final Object UNSET = new Object();
+
+    private final VariableLayout layout;
+    private final Object[] values;
+    private Map<String, Object> overflow;
+    private int size;
+    private final Map<String, Object> view = new ReadOnlyView();
+
+    public VariableStore(VariableLayout layout) {
+        this.layout = layout != null ? layout : VariableLayout.empty();
+        this.values = new Object[this.layout.size()];
+        Arrays.fill(values, UNSET);
+    }
+
+    public VariableLayout getLayout() {
+        return layout;
+    }
+
+    public Object get(String name) {
+        int slot = layout.slotOf(name);
+        if (slot >= 0) {
+            return get(slot);
+        }
+        return overflow != null ? overflow.get(name) : null;
+    }
+
+    /**
+     * 以編譯時取得的槽位索引讀取
+     */
+    public Object get(int slot) {
+        Object value = values[slot];
+        return value == UNSET ? null : value;
+    }
+
+    public void put(String name, Object value) {
+        int slot = layout.slotOf(name);
+        if (slot >= 0) {
+            put(slot, value);
+            return;
+        }
+        if (overflow == null) {
+            overflow = new HashMap<>();
+        }
+        if (!overflow.containsKey(name)) {
+            size++;
+        }
+        overflow.put(name, value);
+    }
+
+    /**
+     * 以編譯時取得的槽位索引寫入
+     */
+    public void put(int slot, Object value) {
+        if (values[slot] == UNSET) {
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    public boolean contains(String name) {
+        int slot = layout.slotOf(name);
+        if (slot >= 0) {
+            return values[slot] != UNSET;
+        }
+        return overflow != null && overflow.containsKey(name);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 依序走訪所有已寫入的變數，不建立中間集合
+     */
+    public void forEach(BiConsumer<String, Object> action) {
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != UNSET) {
+                action.accept(layout.nameOf(slot), values[slot]);
+            }
+        }
+        if (overflow != null) {
+            overflow.forEach(action);
+        }
+    }
+
+    /**
+     * 取得唯讀的即時視圖
+     */
+    public Map<String, Object> asMap() {
+        return view;
+    }
+
+    /**
+     * 唯讀視圖，查詢直接委派給槽位陣列
+     */
+    private final class ReadOnlyView extends AbstractMap<String, Object> {
+
+        @Override
+        public Object get(Object key) {
+            return key instanceof String ? VariableStore.this.get((String) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && contains((String) key);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super String, ? super Object> action) {
+            VariableStore.this.forEach(action::accept);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+        private int slot = nextSlot(0);
+        private final Iterator<Map.Entry<String, Object>> overflowIterator = overflow != null
+            ? Collections.unmodifiableMap(overflow).entrySet().iterator()
+            : Collections.emptyIterator();
+
+        @Override
+        public boolean hasNext() {
+            return slot < values.length || overflowIterator.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (slot < values.length) {
+                Map.Entry<String, Object> entry = new AbstractMap.SimpleImmutableEntry<>(layout.nameOf(slot), values[slot]);
+                slot = nextSlot(slot + 1);
+                return entry;
+            }
+            if (overflowIterator.hasNext()) {
+                return overflowIterator.next();
+            }
+            throw new NoSuchElementException();
+        }
+
+        private int nextSlot(int from) {
+            int next = from;
+            while (next < values.length && values[next] == UNSET) {
+                next++;
+            }
+            return next;
+        }
+    }
+}
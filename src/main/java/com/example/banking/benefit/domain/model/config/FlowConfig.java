@@ -11,6 +11,10 @@ public class FlowConfig {
     private int maxRetries;
     private long timeoutMillis;
     private boolean logEnabled;
+    private int maxConcurrentExecutions;
+    private int maxQueuedExecutions;
+    private long queueTimeoutMillis;
+    private long resultCacheTtlMillis;
     private Map<String, String> properties;
     
     public FlowConfig(
@@ -23,6 +27,7 @@ public class FlowConfig {
         this.maxRetries = maxRetries;
         this.timeoutMillis = timeoutMillis;
         this.logEnabled = logEnabled;
+        this.maxQueuedExecutions = -1;
         this.properties = new HashMap<>();
     }
     
@@ -50,6 +55,9 @@ public class FlowConfig {
         this.timeoutMillis = timeoutMillis;
     }
     
+    /**
+     * 是否寫入執行日誌，啟用時的取樣方式由 log.policy 等屬性決定
+     */
     public boolean isLogEnabled() {
         return logEnabled;
     }
@@ -58,6 +66,50 @@ public class FlowConfig {
         this.logEnabled = logEnabled;
     }
     
+    /**
+     * 同時執行數上限，0 表示使用引擎預設值
+     */
+    public int getMaxConcurrentExecutions() {
+        return maxConcurrentExecutions;
+    }
+    
+    public void setMaxConcurrentExecutions(int maxConcurrentExecutions) {
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+    }
+    
+    /**
+     * 等待佇列長度上限，0 表示不等待、許可用完時立即拒絕，負值（預設）表示使用引擎預設值
+     */
+    public int getMaxQueuedExecutions() {
+        return maxQueuedExecutions;
+    }
+    
+    public void setMaxQueuedExecutions(int maxQueuedExecutions) {
+        this.maxQueuedExecutions = maxQueuedExecutions;
+    }
+    
+    /**
+     * 佇列最長等待時間（毫秒），0 表示使用引擎預設值
+     */
+    public long getQueueTimeoutMillis() {
+        return queueTimeoutMillis;
+    }
+    
+    public void setQueueTimeoutMillis(long queueTimeoutMillis) {
+        this.queueTimeoutMillis = queueTimeoutMillis;
+    }
+    
+    /**
+     * 執行結果快取存活時間（毫秒），0 表示不快取
+     */
+    public long getResultCacheTtlMillis() {
+        return resultCacheTtlMillis;
+    }
+    
+    public void setResultCacheTtlMillis(long resultCacheTtlMillis) {
+        this.resultCacheTtlMillis = resultCacheTtlMillis;
+    }
+    
     public Map<String, String> getProperties() {
         return new HashMap<>(properties);
     }
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import com.example.banking.benefit.domain.model.common.VariableLayout;
 import com.example.banking.benefit.domain.model.node.DecisionNode;
 import com.example.banking.benefit.domain.model.node.FlowStructure;
 import com.example.banking.benefit.domain.model.node.Node;
@@ -19,6 +20,7 @@ public class Flow {
     private List<ProcessNode> processNodes = new ArrayList<>();
     private List<NodeRelation> relations = new ArrayList<>();
     private FlowStructure flowStructure;
+    private VariableLayout variableLayout = VariableLayout.empty();
     private FlowId flowId;
     private String flowName;
     private String description;
@@ -102,6 +104,16 @@ public class Flow {
         this.updatedTime = LocalDateTime.now();
     }
     
+    /**
+     * 取得流程中所有節點ID，決策節點在前、處理節點在後，順序即執行軌跡使用的節點索引
+     */
+    public List<String> getNodeIds() {
+        List<String> nodeIds = new ArrayList<>(decisionNodes.size() + processNodes.size());
+        decisionNodes.forEach(node -> nodeIds.add(node.getNodeId()));
+        processNodes.forEach(node -> nodeIds.add(node.getNodeId()));
+        return nodeIds;
+    }
+    
     // Process nodes management
     public List<ProcessNode> getProcessNodes() {
         return new ArrayList<>(processNodes);
@@ -130,6 +142,21 @@ public class Flow {
 
     public void buildStructure() {
         this.flowStructure = new FlowStructure(decisionNodes, processNodes, relations);
+        this.variableLayout = compileVariableLayout();
+    }
+
+    /**
+     * 取得流程的變數配置，於 {@link #buildStructure()} 時由節點表達式編譯
+     */
+    public VariableLayout getVariableLayout() {
+        return variableLayout;
+    }
+
+    private VariableLayout compileVariableLayout() {
+        List<String> expressions = new ArrayList<>();
+        decisionNodes.forEach(node -> expressions.add(node.getSpelExpression()));
+        processNodes.forEach(node -> expressions.add(node.getSpelExpression()));
+        return VariableLayout.compile(expressions);
     }
     
     // Get start node
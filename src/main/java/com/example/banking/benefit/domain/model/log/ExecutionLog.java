@@ -1,6 +1,7 @@
 package com.example.banking.benefit.domain.model.log;
 
 import com.example.banking.benefit.domain.model.node.NodeType;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -10,6 +11,7 @@ import java.util.UUID;
  */
 public class ExecutionLog {
     private String logId;
+    private String executionId;
     private String flowId;
     private String customerId;
     private LocalDateTime executionTime;
@@ -19,6 +21,8 @@ public class ExecutionLog {
     private String resultData;
     private String errorMessage;
     private Integer executionDurationMs;
+    private Long executionDurationMicros;
+    private int attemptCount = 1;
 
     private ExecutionLog(
             String flowId,
@@ -27,13 +31,25 @@ public class ExecutionLog {
             NodeType nodeType,
             ExecutionResult executionResult
     ) {
-        this.logId = UUID.randomUUID().toString();
+        this(UUID.randomUUID().toString(), flowId, customerId, nodeId, nodeType, executionResult, LocalDateTime.now());
+    }
+
+    private ExecutionLog(
+            String logId,
+            String flowId,
+            String customerId,
+            String nodeId,
+            NodeType nodeType,
+            ExecutionResult executionResult,
+            LocalDateTime executionTime
+    ) {
+        this.logId = logId;
         this.flowId = flowId;
         this.customerId = customerId;
         this.nodeId = nodeId;
         this.nodeType = nodeType;
         this.executionResult = executionResult;
-        this.executionTime = LocalDateTime.now();
+        this.executionTime = executionTime;
     }
 
     public static ExecutionLog create(
@@ -61,6 +77,41 @@ public class ExecutionLog {
         return new ExecutionLog(flowId, customerId, nodeId, nodeType, executionResult);
     }
 
+    /**
+     * 由儲存的資料還原執行日誌，保留原本的日誌ID與執行時間
+     */
+    public static ExecutionLog restore(
+            String logId,
+            String executionId,
+            String flowId,
+            String customerId,
+            LocalDateTime executionTime,
+            String nodeId,
+            NodeType nodeType,
+            ExecutionResult executionResult,
+            String resultData,
+            String errorMessage,
+            Integer executionDurationMs,
+            Long executionDurationMicros,
+            int attemptCount
+    ) {
+        ExecutionLog log = new ExecutionLog(logId, flowId, customerId, nodeId, nodeType, executionResult, executionTime);
+        log.executionId = executionId;
+        log.resultData = resultData;
+        log.errorMessage = errorMessage;
+        log.executionDurationMs = executionDurationMs;
+        log.executionDurationMicros = executionDurationMicros;
+        log.attemptCount = attemptCount;
+        return log;
+    }
+
+    /**
+     * 設定所屬的流程執行ID，同一次執行的各節點日誌共用
+     */
+    public void setExecutionId(String executionId) {
+        this.executionId = executionId;
+    }
+
     public void setResultData(String resultData) {
         this.resultData = resultData;
     }
@@ -76,8 +127,27 @@ public class ExecutionLog {
         this.executionDurationMs = durationMs;
     }
 
+    /**
+     * 以 System.nanoTime 量測的經過時間設定執行時間，同時保存微秒與毫秒
+     */
+    public void setExecutionDurationNanos(long durationNanos) {
+        if (durationNanos < 0) {
+            throw new IllegalArgumentException("Duration must not be negative");
+        }
+        this.executionDurationMicros = durationNanos / 1_000;
+        this.executionDurationMs = (int) Math.min(Integer.MAX_VALUE, durationNanos / 1_000_000);
+    }
+
+    public void setAttemptCount(int attemptCount) {
+        if (attemptCount < 1) {
+            throw new IllegalArgumentException("Attempt count must be at least 1");
+        }
+        this.attemptCount = attemptCount;
+    }
+
     // Getters
     public String getLogId() { return logId; }
+    public String getExecutionId() { return executionId; }
     public String getFlowId() { return flowId; }
     public String getCustomerId() { return customerId; }
     public LocalDateTime getExecutionTime() { return executionTime; }
@@ -87,4 +157,23 @@ public class ExecutionLog {
     public String getResultData() { return resultData; }
     public String getErrorMessage() { return errorMessage; }
     public Integer getExecutionDurationMs() { return executionDurationMs; }
+    public Long getExecutionDurationMicros() { return executionDurationMicros; }
+
+    /**
+     * 是否有記錄執行時間，流程開始的日誌不帶執行時間
+     */
+    public boolean hasDuration() {
+        return executionDurationMicros != null || executionDurationMs != null;
+    }
+
+    /**
+     * 取得執行時間，優先使用微秒欄位
+     */
+    public Duration getDuration() {
+        if (executionDurationMicros != null) {
+            return Duration.ofNanos(executionDurationMicros * 1_000);
+        }
+        return executionDurationMs != null ? Duration.ofMillis(executionDurationMs) : Duration.ZERO;
+    }
+    public int getAttemptCount() { return attemptCount; }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.example.banking.benefit.domain.model.log;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * 執行日誌分頁游標
+ *
+ * 以上一頁最後一筆的 (execution_time, log_id) 定位下一頁，查詢只需從索引位置往後讀取，
+ * 不受頁數深度影響。對外以 URL 安全的 Base64 字串傳遞。
+ */
+public final class ExecutionLogCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime executionTime;
+    private final String logId;
+
+    private ExecutionLogCursor(LocalDateTime executionTime, String logId) {
+        this.executionTime = executionTime;
+        this.logId = logId;
+    }
+
+    public static ExecutionLogCursor of(LocalDateTime executionTime, String logId) {
+        if (executionTime == null) {
+            throw new IllegalArgumentException("executionTime must not be null");
+        }
+        if (logId == null || logId.isEmpty()) {
+            throw new IllegalArgumentException("logId must not be null or empty");
+        }
+        return new ExecutionLogCursor(executionTime, logId);
+    }
+
+    /**
+     * 以日誌的位置建立游標，下一頁從此筆之後開始
+     */
+    public static ExecutionLogCursor after(ExecutionLog log) {
+        return of(log.getExecutionTime(), log.getLogId());
+    }
+
+    /**
+     * 解析游標字串
+     *
+     * @throws IllegalArgumentException 游標格式不正確
+     */
+    public static ExecutionLogCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new IllegalArgumentException("分頁游標格式不正確: " + cursor);
+            }
+            return of(LocalDateTime.parse(value.substring(0, separator)), value.substring(separator + 1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("分頁游標格式不正確: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        String value = executionTime.toString() + SEPARATOR + logId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getExecutionTime() {
+        return executionTime;
+    }
+
+    public String getLogId() {
+        return logId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ExecutionLogCursor that = (ExecutionLogCursor) o;
+        return executionTime.equals(that.executionTime) && logId.equals(that.logId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(executionTime, logId);
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.banking.benefit.domain.model.log;
+
+import java.time.LocalDateTime;
+
+/**
+ * 精簡執行軌跡
+ *
+ * 一次流程執行只保存一筆：執行路徑以節點索引、結果旗標與執行時間編碼為
+ * varint 位元組（見 ExecutionTraceCodec），取代每個節點一筆的 execution_log。
+ */
+public class ExecutionTrace {
+    private final String executionId;
+    private final String flowId;
+    private final String flowVersion;
+    private final String customerId;
+    private final LocalDateTime startTime;
+    private final long durationMicros;
+    private final String status;
+    private final String errorMessage;
+    private final byte[] pathData;
+
+    public ExecutionTrace(
+            String executionId,
+            String flowId,
+            String flowVersion,
+            String customerId,
+            LocalDateTime startTime,
+            long durationMicros,
+            String status,
+            String errorMessage,
+            byte[] pathData
+    ) {
+        this.executionId = executionId;
+        this.flowId = flowId;
+        this.flowVersion = flowVersion;
+        this.customerId = customerId;
+        this.startTime = startTime;
+        this.durationMicros = durationMicros;
+        this.status = status;
+        this.errorMessage = errorMessage;
+        this.pathData = pathData;
+    }
+
+    public String getExecutionId() {
+        return executionId;
+    }
+
+    public String getFlowId() {
+        return flowId;
+    }
+
+    public String getFlowVersion() {
+        return flowVersion;
+    }
+
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public byte[] getPathData() {
+        return pathData;
+    }
+}
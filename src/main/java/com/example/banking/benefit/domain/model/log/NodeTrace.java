@@ -0,0 +1,55 @@
+package com.example.banking.benefit.domain.model.log;
+
+import com.example.banking.benefit.domain.model.node.NodeType;
+
+/**
+ * 單一節點的執行紀錄，由執行軌跡解碼而來
+ */
+public class NodeTrace {
+    private final String nodeId;
+    private final NodeType nodeType;
+    private final boolean result;
+    private final boolean skipped;
+    private final int attemptCount;
+    private final long durationMicros;
+
+    public NodeTrace(String nodeId, NodeType nodeType, boolean result, boolean skipped,
+                     int attemptCount, long durationMicros) {
+        this.nodeId = nodeId;
+        this.nodeType = nodeType;
+        this.result = result;
+        this.skipped = skipped;
+        this.attemptCount = attemptCount;
+        this.durationMicros = durationMicros;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public NodeType getNodeType() {
+        return nodeType;
+    }
+
+    /**
+     * 決策節點的判斷結果，或處理節點是否成功
+     */
+    public boolean getResult() {
+        return result;
+    }
+
+    /**
+     * 是否因模擬執行而略過
+     */
+    public boolean isSkipped() {
+        return skipped;
+    }
+
+    public int getAttemptCount() {
+        return attemptCount;
+    }
+
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+}
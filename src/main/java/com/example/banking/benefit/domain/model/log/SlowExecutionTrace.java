@@ -0,0 +1,103 @@
+package com.example.banking.benefit.domain.model.log;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 超過慢速門檻的執行紀錄
+ *
+ * 保留各節點的開始時間與耗時、評估方式、表達式快取命中情形，以及實際讀取的客戶屬性值，
+ * 用於追查高百分位數的個別執行。
+ */
+public class SlowExecutionTrace {
+    private final String executionId;
+    private final String flowId;
+    private final String version;
+    private final String customerId;
+    private final LocalDateTime startTime;
+    private final long durationNanos;
+    private final long thresholdNanos;
+    private final String status;
+    private final String errorMessage;
+    private final List<SlowNodeTrace> nodes;
+    private final Map<String, String> inputs;
+
+    public SlowExecutionTrace(
+            String executionId,
+            String flowId,
+            String version,
+            String customerId,
+            LocalDateTime startTime,
+            long durationNanos,
+            long thresholdNanos,
+            String status,
+            String errorMessage,
+            List<SlowNodeTrace> nodes,
+            Map<String, String> inputs
+    ) {
+        this.executionId = executionId;
+        this.flowId = flowId;
+        this.version = version;
+        this.customerId = customerId;
+        this.startTime = startTime;
+        this.durationNanos = durationNanos;
+        this.thresholdNanos = thresholdNanos;
+        this.status = status;
+        this.errorMessage = errorMessage;
+        this.nodes = List.copyOf(nodes);
+        this.inputs = Collections.unmodifiableMap(new LinkedHashMap<>(inputs));
+    }
+
+    public String getExecutionId() {
+        return executionId;
+    }
+
+    public String getFlowId() {
+        return flowId;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * 記錄時適用的慢速門檻
+     */
+    public long getThresholdNanos() {
+        return thresholdNanos;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public List<SlowNodeTrace> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * 已執行的表達式節點讀取的客戶屬性與其值
+     */
+    public Map<String, String> getInputs() {
+        return inputs;
+    }
+}
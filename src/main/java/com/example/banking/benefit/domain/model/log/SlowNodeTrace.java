@@ -0,0 +1,95 @@
+package com.example.banking.benefit.domain.model.log;
+
+import com.example.banking.benefit.domain.model.node.NodeOutcome;
+import com.example.banking.benefit.domain.model.node.NodeType;
+
+import java.util.List;
+
+/**
+ * 慢速執行中單一節點的詳細紀錄
+ */
+public class SlowNodeTrace {
+    private final String nodeId;
+    private final NodeType nodeType;
+    private final String evaluator;
+    private final NodeOutcome outcome;
+    private final int attemptCount;
+    private final long startOffsetNanos;
+    private final long durationNanos;
+    private final int expressionCacheHits;
+    private final int expressionCacheMisses;
+    private final List<String> attributesRead;
+
+    public SlowNodeTrace(
+            String nodeId,
+            NodeType nodeType,
+            String evaluator,
+            NodeOutcome outcome,
+            int attemptCount,
+            long startOffsetNanos,
+            long durationNanos,
+            int expressionCacheHits,
+            int expressionCacheMisses,
+            List<String> attributesRead
+    ) {
+        this.nodeId = nodeId;
+        this.nodeType = nodeType;
+        this.evaluator = evaluator;
+        this.outcome = outcome;
+        this.attemptCount = attemptCount;
+        this.startOffsetNanos = startOffsetNanos;
+        this.durationNanos = durationNanos;
+        this.expressionCacheHits = expressionCacheHits;
+        this.expressionCacheMisses = expressionCacheMisses;
+        this.attributesRead = attributesRead != null ? List.copyOf(attributesRead) : null;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public NodeType getNodeType() {
+        return nodeType;
+    }
+
+    /**
+     * 評估方式，spel 或 java
+     */
+    public String getEvaluator() {
+        return evaluator;
+    }
+
+    public NodeOutcome getOutcome() {
+        return outcome;
+    }
+
+    public int getAttemptCount() {
+        return attemptCount;
+    }
+
+    /**
+     * 節點開始時距流程開始的奈秒數
+     */
+    public long getStartOffsetNanos() {
+        return startOffsetNanos;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public int getExpressionCacheHits() {
+        return expressionCacheHits;
+    }
+
+    public int getExpressionCacheMisses() {
+        return expressionCacheMisses;
+    }
+
+    /**
+     * 表達式讀取的客戶屬性，Java 類別節點或無法確定時為 null
+     */
+    public List<String> getAttributesRead() {
+        return attributesRead;
+    }
+}
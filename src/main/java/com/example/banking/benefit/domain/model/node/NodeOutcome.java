@@ -0,0 +1,45 @@
+package com.example.banking.benefit.domain.model.node;
+
+/**
+ * 節點執行結果列舉
+ *
+ * 決策節點為 TRUE/FALSE，處理節點為 SUCCESS/FAILURE，評估拋出例外時為 ERROR。
+ */
+public enum NodeOutcome {
+    TRUE("條件成立"),
+    FALSE("條件不成立"),
+    SUCCESS("處理成功"),
+    FAILURE("處理失敗"),
+    ERROR("執行錯誤");
+
+    private final String description;
+
+    NodeOutcome(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 是否走成立（成功）分支
+     */
+    public boolean isTrueBranch() {
+        return this == TRUE || this == SUCCESS;
+    }
+
+    /**
+     * 取得決策節點的結果
+     */
+    public static NodeOutcome ofDecision(boolean result) {
+        return result ? TRUE : FALSE;
+    }
+
+    /**
+     * 取得處理節點的結果
+     */
+    public static NodeOutcome ofProcess(boolean success) {
+        return success ? SUCCESS : FAILURE;
+    }
+}
@@ -17,6 +17,7 @@ public abstract class BaseProcessNode implements Node {
     protected String spelExpression;
     protected String state;
     protected Integer nodeOrder;
+    protected boolean sideEffectFree;
 
     // 預設建構子
     public BaseProcessNode() {}
@@ -66,6 +67,13 @@ public abstract class BaseProcessNode implements Node {
         return state;
     }
 
+    /**
+     * 是否沒有副作用，模擬執行時只會執行沒有副作用的處理節點
+     */
+    public boolean isSideEffectFree() {
+        return sideEffectFree;
+    }
+
     // Setter 方法
     public void setId(String id) {
         this.id = id;
@@ -98,4 +106,8 @@ public abstract class BaseProcessNode implements Node {
     public void setNodeOrder(Integer nodeOrder) {
         this.nodeOrder = nodeOrder;
     }
+
+    public void setSideEffectFree(boolean sideEffectFree) {
+        this.sideEffectFree = sideEffectFree;
+    }
 }
\ No newline at end of file
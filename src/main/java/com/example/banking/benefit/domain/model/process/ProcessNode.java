@@ -45,6 +45,35 @@ public class ProcessNode extends BaseProcessNode {
         return node;
     }
 
+    /**
+     * 由儲存的資料還原處理節點，不檢查實作方式與類型是否相符
+     */
+    public static ProcessNode restore(
+            String nodeId,
+            String flowId,
+            String nodeName,
+            String nodeDescription,
+            ProcessType processType,
+            String implementationClassName,
+            String spelExpression,
+            String stateName,
+            Integer nodeOrder,
+            boolean sideEffectFree,
+            LocalDateTime createdTime,
+            LocalDateTime updatedTime
+    ) {
+        ProcessNode node = new ProcessNode(flowId, nodeName, nodeDescription, processType);
+        node.id = nodeId;
+        node.implementationClass = implementationClassName;
+        node.spelExpression = spelExpression;
+        node.state = stateName;
+        node.nodeOrder = nodeOrder;
+        node.sideEffectFree = sideEffectFree;
+        node.createdTime = createdTime != null ? createdTime : node.createdTime;
+        node.updatedTime = updatedTime != null ? updatedTime : node.updatedTime;
+        return node;
+    }
+
     public void setImplementationClass(String implementationClassName) {
         if (this.processType != ProcessType.JAVA_CLASS) {
             throw new IllegalStateException("Cannot set implementation class for non-Java class process");
@@ -0,0 +1,67 @@
+package com.example.banking.benefit.domain.model.result;
+
+import java.time.LocalDateTime;
+
+/**
+ * 流程執行完成事件
+ *
+ * 每次實際執行（不含模擬、快取命中與隔艙拒絕）結束後發布一次，只帶摘要，不含客戶資料與變數。
+ */
+public class ExecutionCompletedEvent {
+    private final String flowId;
+    private final String version;
+    private final String executionId;
+    private final ExecutionStatus status;
+    private final long durationNanos;
+    private final int pathLength;
+    private final LocalDateTime completedAt;
+
+    public ExecutionCompletedEvent(
+            String flowId,
+            String version,
+            String executionId,
+            ExecutionStatus status,
+            long durationNanos,
+            int pathLength,
+            LocalDateTime completedAt
+    ) {
+        this.flowId = flowId;
+        this.version = version;
+        this.executionId = executionId;
+        this.status = status;
+        this.durationNanos = durationNanos;
+        this.pathLength = pathLength;
+        this.completedAt = completedAt;
+    }
+
+    public String getFlowId() {
+        return flowId;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getExecutionId() {
+        return executionId;
+    }
+
+    public ExecutionStatus getStatus() {
+        return status;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * 取得執行經過的節點數
+     */
+    public int getPathLength() {
+        return pathLength;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.banking.benefit.domain.model.result;
 
 import com.example.banking.benefit.domain.model.flow.FlowId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -13,13 +16,25 @@ public class ExecutionResult {
     private final ExecutionStatus status;
     private final String message;
     private final Map<String, Object> variables;
+    private final List<String> path;
+    private final boolean simulation;
+    private final boolean fromCache;
     
     private ExecutionResult(FlowId flowId, String executionId, ExecutionStatus status, String message, Map<String, Object> variables) {
+        this(flowId, executionId, status, message, variables, Collections.emptyList(), false, false);
+    }
+    
+    private ExecutionResult(FlowId flowId, String executionId, ExecutionStatus status, String message,
+                            Map<String, Object> variables, List<String> path, boolean simulation,
+                            boolean fromCache) {
         this.flowId = flowId;
         this.executionId = executionId;
         this.status = status;
         this.message = message;
         this.variables = variables != null ? new HashMap<>(variables) : new HashMap<>();
+        this.path = path != null ? Collections.unmodifiableList(new ArrayList<>(path)) : Collections.emptyList();
+        this.simulation = simulation;
+        this.fromCache = fromCache;
     }
     
     public static ExecutionResult success(FlowId flowId, String executionId, Map<String, Object> variables) {
@@ -38,6 +53,39 @@ public class ExecutionResult {
         return new ExecutionResult(flowId, executionId, ExecutionStatus.TERMINATED, message, null);
     }
     
+    public static ExecutionResult rejected(FlowId flowId, String executionId, String message) {
+        return new ExecutionResult(flowId, executionId, ExecutionStatus.REJECTED, message, null);
+    }
+    
+    public static ExecutionResult timedOut(FlowId flowId, String executionId, String message) {
+        return new ExecutionResult(flowId, executionId, ExecutionStatus.TIMED_OUT, message, null);
+    }
+    
+    public static ExecutionResult cancelled(FlowId flowId, String executionId, String message) {
+        return new ExecutionResult(flowId, executionId, ExecutionStatus.CANCELLED, message, null);
+    }
+    
+    /**
+     * 附加執行經過的節點路徑
+     */
+    public ExecutionResult withPath(List<String> path) {
+        return new ExecutionResult(flowId, executionId, status, message, variables, path, simulation, fromCache);
+    }
+    
+    /**
+     * 標記為模擬執行的結果
+     */
+    public ExecutionResult asSimulation() {
+        return new ExecutionResult(flowId, executionId, status, message, variables, path, true, fromCache);
+    }
+    
+    /**
+     * 以快取的結果回應本次執行，沿用原結果並換上本次的執行ID
+     */
+    public ExecutionResult asCached(String executionId) {
+        return new ExecutionResult(flowId, executionId, status, message, variables, path, simulation, true);
+    }
+    
     public FlowId getFlowId() {
         return flowId;
     }
@@ -57,5 +105,22 @@ public class ExecutionResult {
     public Map<String, Object> getVariables() {
         return new HashMap<>(variables);
     }
+    
+    /**
+     * 取得執行經過的節點ID，依執行順序排列
+     */
+    public List<String> getPath() {
+        return path;
+    }
+    
+    public boolean isSimulation() {
+        return simulation;
+    }
+    
+    /**
+     * 是否由執行結果快取直接回應，未實際執行流程
+     */
+    public boolean isFromCache() {
+        return fromCache;
+    }
 }
-
@@ -8,7 +8,10 @@ public enum ExecutionStatus {
     FAILURE,
     PAUSED,
     TERMINATED,
-    IN_PROGRESS;
+    IN_PROGRESS,
+    REJECTED,
+    TIMED_OUT,
+    CANCELLED;
 
     public boolean isSuccess() {
         return this == SUCCESS;
@@ -1,6 +1,7 @@
 package com.example.banking.benefit.domain.model.result;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,7 +19,7 @@ public class ProcessResult {
     private ProcessResult(boolean success, String message, Map<String, Object> data) {
         this.success = success;
         this.message = message;
-        this.data = new HashMap<>(data);
+        this.data = data;
         this.timestamp = LocalDateTime.now();
     }
     
@@ -47,8 +48,11 @@ public class ProcessResult {
         return message;
     }
     
+    /**
+     * 取得處理資料的唯讀視圖
+     */
     public Map<String, Object> getData() {
-        return new HashMap<>(data);
+        return Collections.unmodifiableMap(data);
     }
     
     public Object getData(String key) {
@@ -0,0 +1,42 @@
+package com.example.banking.benefit.domain.model.statistics;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 統計彙總的時間區間粒度
+ */
+public enum BucketGranularity {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    BucketGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * 取得時間所屬區間的起始時間
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * 時間是否剛好位於區間起點
+     */
+    public boolean isAligned(LocalDateTime time) {
+        return truncate(time).equals(time);
+    }
+
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+
+    public Duration getLength() {
+        return unit.getDuration();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.banking.benefit.domain.model.statistics;
+
+import java.time.Duration;
+
+/**
+ * 流程隔艙統計資訊
+ */
+public class BulkheadStatistics {
+    private final String flowId;
+    private final int maxConcurrentExecutions;
+    private final int maxQueuedExecutions;
+    private final int activeExecutions;
+    private final int queueDepth;
+    private final long admittedExecutions;
+    private final long rejectedExecutions;
+    private final Duration averageWaitTime;
+    private final Duration maxWaitTime;
+
+    public BulkheadStatistics(
+            String flowId,
+            int maxConcurrentExecutions,
+            int maxQueuedExecutions,
+            int activeExecutions,
+            int queueDepth,
+            long admittedExecutions,
+            long rejectedExecutions,
+            Duration averageWaitTime,
+            Duration maxWaitTime
+    ) {
+        this.flowId = flowId;
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+        this.maxQueuedExecutions = maxQueuedExecutions;
+        this.activeExecutions = activeExecutions;
+        this.queueDepth = queueDepth;
+        this.admittedExecutions = admittedExecutions;
+        this.rejectedExecutions = rejectedExecutions;
+        this.averageWaitTime = averageWaitTime;
+        this.maxWaitTime = maxWaitTime;
+    }
+
+    public String getFlowId() {
+        return flowId;
+    }
+
+    public int getMaxConcurrentExecutions() {
+        return maxConcurrentExecutions;
+    }
+
+    public int getMaxQueuedExecutions() {
+        return maxQueuedExecutions;
+    }
+
+    public int getActiveExecutions() {
+        return activeExecutions;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public long getAdmittedExecutions() {
+        return admittedExecutions;
+    }
+
+    public long getRejectedExecutions() {
+        return rejectedExecutions;
+    }
+
+    public Duration getAverageWaitTime() {
+        return averageWaitTime;
+    }
+
+    public Duration getMaxWaitTime() {
+        return maxWaitTime;
+    }
+}
@@ -6,6 +6,8 @@ import lombok.Data;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -20,4 +22,6 @@ public class ExecutionDetails {
     private String status;
     private String errorMessage;
     private ExecutionResult result;
+    private List<String> executionPath;
+    private Map<String, Duration> nodeExecutionTimes;
 }
\ No newline at end of file
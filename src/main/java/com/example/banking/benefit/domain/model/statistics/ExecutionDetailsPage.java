@@ -0,0 +1,31 @@
+package com.example.banking.benefit.domain.model.statistics;
+
+import java.util.List;
+
+/**
+ * 以游標分頁的執行列表
+ */
+public class ExecutionDetailsPage {
+    private final List<ExecutionDetails> executions;
+    private final String nextCursor;
+
+    public ExecutionDetailsPage(List<ExecutionDetails> executions, String nextCursor) {
+        this.executions = List.copyOf(executions);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ExecutionDetails> getExecutions() {
+        return executions;
+    }
+
+    /**
+     * 下一頁的游標，已無下一頁時為 null
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
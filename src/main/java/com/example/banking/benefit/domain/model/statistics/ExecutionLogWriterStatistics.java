@@ -0,0 +1,74 @@
+package com.example.banking.benefit.domain.model.statistics;
+
+/**
+ * 執行日誌寫入統計資訊
+ */
+public class ExecutionLogWriterStatistics {
+    private final long enqueued;
+    private final long written;
+    private final long dropped;
+    private final long callerRuns;
+    private final long failed;
+    private final long batches;
+    private final long pending;
+    private final long capacity;
+
+    public ExecutionLogWriterStatistics(
+            long enqueued,
+            long written,
+            long dropped,
+            long callerRuns,
+            long failed,
+            long batches,
+            long pending,
+            long capacity
+    ) {
+        this.enqueued = enqueued;
+        this.written = written;
+        this.dropped = dropped;
+        this.callerRuns = callerRuns;
+        this.failed = failed;
+        this.batches = batches;
+        this.pending = pending;
+        this.capacity = capacity;
+    }
+
+    public long getEnqueued() {
+        return enqueued;
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    public long getCallerRuns() {
+        return callerRuns;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getBatches() {
+        return batches;
+    }
+
+    public long getPending() {
+        return pending;
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 平均每批寫入筆數
+     */
+    public double getAverageBatchSize() {
+        return batches > 0 ? (double) written / batches : 0.0;
+    }
+}
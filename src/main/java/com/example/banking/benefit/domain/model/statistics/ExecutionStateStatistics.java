@@ -0,0 +1,43 @@
+package com.example.banking.benefit.domain.model.statistics;
+
+/**
+ * 執行狀態儲存統計資訊
+ */
+public class ExecutionStateStatistics {
+    private final long activeEntries;
+    private final long pausedEntries;
+    private final long evictions;
+    private final long estimatedMemoryBytes;
+
+    public ExecutionStateStatistics(
+            long activeEntries,
+            long pausedEntries,
+            long evictions,
+            long estimatedMemoryBytes
+    ) {
+        this.activeEntries = activeEntries;
+        this.pausedEntries = pausedEntries;
+        this.evictions = evictions;
+        this.estimatedMemoryBytes = estimatedMemoryBytes;
+    }
+
+    public long getActiveEntries() {
+        return activeEntries;
+    }
+
+    public long getPausedEntries() {
+        return pausedEntries;
+    }
+
+    public long getTotalEntries() {
+        return activeEntries + pausedEntries;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getEstimatedMemoryBytes() {
+        return estimatedMemoryBytes;
+    }
+}
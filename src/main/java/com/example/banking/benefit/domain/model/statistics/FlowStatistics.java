@@ -6,6 +6,8 @@ import java.time.Duration;
  * 流程統計資訊
  */
 public class FlowStatistics {
+    private String flowId;
+    private String flowName;
     private long totalExecutions;
     private long successfulExecutions;
     private long failedExecutions;
@@ -13,6 +15,7 @@ public class FlowStatistics {
     private Duration maxExecutionTime;
     private Duration minExecutionTime;
     private double successRate;
+    private LatencyPercentiles percentiles;
     
     public FlowStatistics(
             long totalExecutions,
@@ -22,6 +25,34 @@ public class FlowStatistics {
             Duration maxExecutionTime,
             Duration minExecutionTime
     ) {
+        this(null, totalExecutions, successfulExecutions, failedExecutions,
+             averageExecutionTime, maxExecutionTime, minExecutionTime);
+    }
+
+    public FlowStatistics(
+            String flowId,
+            long totalExecutions,
+            long successfulExecutions,
+            long failedExecutions,
+            Duration averageExecutionTime,
+            Duration maxExecutionTime,
+            Duration minExecutionTime
+    ) {
+        this(flowId, totalExecutions, successfulExecutions, failedExecutions,
+             averageExecutionTime, maxExecutionTime, minExecutionTime, LatencyPercentiles.EMPTY);
+    }
+
+    public FlowStatistics(
+            String flowId,
+            long totalExecutions,
+            long successfulExecutions,
+            long failedExecutions,
+            Duration averageExecutionTime,
+            Duration maxExecutionTime,
+            Duration minExecutionTime,
+            LatencyPercentiles percentiles
+    ) {
+        this.flowId = flowId;
         this.totalExecutions = totalExecutions;
         this.successfulExecutions = successfulExecutions;
         this.failedExecutions = failedExecutions;
@@ -31,8 +62,28 @@ public class FlowStatistics {
         this.successRate = totalExecutions > 0 
             ? (double) successfulExecutions / totalExecutions * 100 
             : 0.0;
+        this.percentiles = percentiles;
     }
     
+    /**
+     * 沒有任何執行的流程統計
+     */
+    public static FlowStatistics empty(String flowId) {
+        return new FlowStatistics(flowId, 0, 0, 0, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+    }
+
+    public String getFlowId() {
+        return flowId;
+    }
+
+    public String getFlowName() {
+        return flowName;
+    }
+
+    public void setFlowName(String flowName) {
+        this.flowName = flowName;
+    }
+
     public long getTotalExecutions() {
         return totalExecutions;
     }
@@ -60,4 +111,11 @@ public class FlowStatistics {
     public double getSuccessRate() {
         return successRate;
     }
+
+    /**
+     * 執行時間百分位數，沒有直方圖資料時各值為零
+     */
+    public LatencyPercentiles getPercentiles() {
+        return percentiles;
+    }
 }
\ No newline at end of file
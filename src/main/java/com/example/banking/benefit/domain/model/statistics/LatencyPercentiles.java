@@ -0,0 +1,48 @@
+package com.example.banking.benefit.domain.model.statistics;
+
+import java.time.Duration;
+
+/**
+ * 執行時間百分位數
+ *
+ * 由統計服務以直方圖計算，誤差依直方圖的有效位數而定。
+ */
+public class LatencyPercentiles {
+
+    public static final LatencyPercentiles EMPTY =
+        new LatencyPercentiles(Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+
+    private final Duration p50;
+    private final Duration p90;
+    private final Duration p95;
+    private final Duration p99;
+    private final Duration p999;
+
+    public LatencyPercentiles(Duration p50, Duration p90, Duration p95, Duration p99, Duration p999) {
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p95 = p95;
+        this.p99 = p99;
+        this.p999 = p999;
+    }
+
+    public Duration getP50() {
+        return p50;
+    }
+
+    public Duration getP90() {
+        return p90;
+    }
+
+    public Duration getP95() {
+        return p95;
+    }
+
+    public Duration getP99() {
+        return p99;
+    }
+
+    public Duration getP999() {
+        return p999;
+    }
+}
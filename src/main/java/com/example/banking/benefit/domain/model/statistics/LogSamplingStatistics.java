@@ -0,0 +1,48 @@
+package com.example.banking.benefit.domain.model.statistics;
+
+/**
+ * 執行日誌取樣統計資訊
+ */
+public class LogSamplingStatistics {
+    private final long keptExecutions;
+    private final long droppedExecutions;
+    private final long writtenRows;
+    private final long droppedRows;
+
+    public LogSamplingStatistics(long keptExecutions, long droppedExecutions, long writtenRows, long droppedRows) {
+        this.keptExecutions = keptExecutions;
+        this.droppedExecutions = droppedExecutions;
+        this.writtenRows = writtenRows;
+        this.droppedRows = droppedRows;
+    }
+
+    /**
+     * 保留日誌的執行數
+     */
+    public long getKeptExecutions() {
+        return keptExecutions;
+    }
+
+    /**
+     * 未保留日誌的執行數
+     */
+    public long getDroppedExecutions() {
+        return droppedExecutions;
+    }
+
+    public long getWrittenRows() {
+        return writtenRows;
+    }
+
+    public long getDroppedRows() {
+        return droppedRows;
+    }
+
+    /**
+     * 保留日誌的執行比例，尚無執行時為 0
+     */
+    public double getKeptRatio() {
+        long total = keptExecutions + droppedExecutions;
+        return total > 0 ? (double) keptExecutions / total : 0.0;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.banking.benefit.domain.model.statistics;
+
+import com.example.banking.benefit.domain.model.node.NodeType;
+
+/**
+ * 節點執行剖析資訊
+ *
+ * 自啟動以來的累計次數與耗時，用於找出流程中最常執行、最耗時的節點及分支比例。
+ */
+public class NodeProfile {
+    private final String flowId;
+    private final String nodeId;
+    private final NodeType nodeType;
+    private final long evaluations;
+    private final long trueCount;
+    private final long falseCount;
+    private final long errorCount;
+    private final long totalNanos;
+    private final double costShare;
+
+    public NodeProfile(
+            String flowId,
+            String nodeId,
+            NodeType nodeType,
+            long evaluations,
+            long trueCount,
+            long falseCount,
+            long errorCount,
+            long totalNanos,
+            double costShare
+    ) {
+        this.flowId = flowId;
+        this.nodeId = nodeId;
+        this.nodeType = nodeType;
+        this.evaluations = evaluations;
+        this.trueCount = trueCount;
+        this.falseCount = falseCount;
+        this.errorCount = errorCount;
+        this.totalNanos = totalNanos;
+        this.costShare = costShare;
+    }
+
+    public String getFlowId() {
+        return flowId;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public NodeType getNodeType() {
+        return nodeType;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public long getTrueCount() {
+        return trueCount;
+    }
+
+    public long getFalseCount() {
+        return falseCount;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * 取得此節點耗時占流程所有節點耗時的百分比
+     */
+    public double getCostShare() {
+        return costShare;
+    }
+
+    /**
+     * 取得走成立（成功）分支的百分比，不含錯誤
+     */
+    public double getTrueRatio() {
+        long branched = trueCount + falseCount;
+        return branched > 0 ? (double) trueCount / branched * 100 : 0.0;
+    }
+
+    /**
+     * 取得平均執行時間（微秒）
+     */
+    public double getMeanMicros() {
+        return evaluations > 0 ? (double) totalNanos / evaluations / 1_000 : 0.0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.banking.benefit.domain.model.statistics;
+
+/**
+ * 執行結果快取統計資訊
+ */
+public class ResultCacheStatistics {
+    private final long hits;
+    private final long misses;
+    private final long stores;
+    private final long invalidations;
+
+    public ResultCacheStatistics(long hits, long misses, long stores, long invalidations) {
+        this.hits = hits;
+        this.misses = misses;
+        this.stores = stores;
+        this.invalidations = invalidations;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getStores() {
+        return stores;
+    }
+
+    public long getInvalidations() {
+        return invalidations;
+    }
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return total > 0 ? (double) hits / total * 100 : 0.0;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.banking.benefit.domain.model.statistics;
+
+/**
+ * 節點重試統計資訊
+ */
+public class RetryStatistics {
+    private final long totalAttempts;
+    private final long retries;
+    private final long recoveredCalls;
+    private final long exhaustedCalls;
+
+    public RetryStatistics(long totalAttempts, long retries, long recoveredCalls, long exhaustedCalls) {
+        this.totalAttempts = totalAttempts;
+        this.retries = retries;
+        this.recoveredCalls = recoveredCalls;
+        this.exhaustedCalls = exhaustedCalls;
+    }
+
+    public long getTotalAttempts() {
+        return totalAttempts;
+    }
+
+    public long getRetries() {
+        return retries;
+    }
+
+    /**
+     * 重試後成功的呼叫數
+     */
+    public long getRecoveredCalls() {
+        return recoveredCalls;
+    }
+
+    /**
+     * 用盡重試次數仍失敗的呼叫數
+     */
+    public long getExhaustedCalls() {
+        return exhaustedCalls;
+    }
+}
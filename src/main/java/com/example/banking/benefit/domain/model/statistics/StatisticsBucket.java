@@ -0,0 +1,108 @@
+package com.example.banking.benefit.domain.model.statistics;
+
+import java.time.LocalDateTime;
+
+/**
+ * 單一流程在一個時間區間內的執行彙總
+ *
+ * 只保存可相加的計數與時間總和、極值，任意個區間合併後仍可算出平均值。
+ * 執行時間分佈以壓縮的直方圖位元組保存，由統計服務解碼、相加並計算百分位數，
+ * 模型本身不依賴直方圖的實作。
+ */
+public class StatisticsBucket {
+    private final String flowId;
+    private final BucketGranularity granularity;
+    private final LocalDateTime bucketStart;
+    private final long executionCount;
+    private final long successCount;
+    private final long durationSumMicros;
+    private final long minDurationMicros;
+    private final long maxDurationMicros;
+    private final byte[] durationHistogram;
+
+    public StatisticsBucket(
+            String flowId,
+            BucketGranularity granularity,
+            LocalDateTime bucketStart,
+            long executionCount,
+            long successCount,
+            long durationSumMicros,
+            long minDurationMicros,
+            long maxDurationMicros
+    ) {
+        this(flowId, granularity, bucketStart, executionCount, successCount, durationSumMicros,
+             minDurationMicros, maxDurationMicros, null);
+    }
+
+    /**
+     * @param durationHistogram 以微秒記錄的執行時間直方圖（壓縮格式），建立後不得再修改；
+     *                          加入百分位數前寫入的區間沒有直方圖，為 null
+     */
+    public StatisticsBucket(
+            String flowId,
+            BucketGranularity granularity,
+            LocalDateTime bucketStart,
+            long executionCount,
+            long successCount,
+            long durationSumMicros,
+            long minDurationMicros,
+            long maxDurationMicros,
+            byte[] durationHistogram
+    ) {
+        this.flowId = flowId;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.executionCount = executionCount;
+        this.successCount = successCount;
+        this.durationSumMicros = durationSumMicros;
+        this.minDurationMicros = minDurationMicros;
+        this.maxDurationMicros = maxDurationMicros;
+        this.durationHistogram = durationHistogram;
+    }
+
+    public String getFlowId() {
+        return flowId;
+    }
+
+    public BucketGranularity getGranularity() {
+        return granularity;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public long getExecutionCount() {
+        return executionCount;
+    }
+
+    public long getSuccessCount() {
+        return successCount;
+    }
+
+    public long getFailureCount() {
+        return executionCount - successCount;
+    }
+
+    public long getDurationSumMicros() {
+        return durationSumMicros;
+    }
+
+    /**
+     * 最短執行時間（微秒），沒有執行時為 Long.MAX_VALUE
+     */
+    public long getMinDurationMicros() {
+        return minDurationMicros;
+    }
+
+    public long getMaxDurationMicros() {
+        return maxDurationMicros;
+    }
+
+    /**
+     * 執行時間直方圖（微秒，壓縮格式），沒有直方圖的舊區間為 null；呼叫端不得修改
+     */
+    public byte[] getDurationHistogram() {
+        return durationHistogram;
+    }
+}
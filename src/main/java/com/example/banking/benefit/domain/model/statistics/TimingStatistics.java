@@ -0,0 +1,69 @@
+package com.example.banking.benefit.domain.model.statistics;
+
+/**
+ * 執行時間統計資訊
+ *
+ * nodeId 為 null 時表示整個流程的執行時間。
+ */
+public class TimingStatistics {
+    private final String flowId;
+    private final String nodeId;
+    private final long count;
+    private final double meanMicros;
+    private final long p50Micros;
+    private final long p90Micros;
+    private final long p99Micros;
+    private final long maxMicros;
+
+    public TimingStatistics(
+            String flowId,
+            String nodeId,
+            long count,
+            double meanMicros,
+            long p50Micros,
+            long p90Micros,
+            long p99Micros,
+            long maxMicros
+    ) {
+        this.flowId = flowId;
+        this.nodeId = nodeId;
+        this.count = count;
+        this.meanMicros = meanMicros;
+        this.p50Micros = p50Micros;
+        this.p90Micros = p90Micros;
+        this.p99Micros = p99Micros;
+        this.maxMicros = maxMicros;
+    }
+
+    public String getFlowId() {
+        return flowId;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMeanMicros() {
+        return meanMicros;
+    }
+
+    public long getP50Micros() {
+        return p50Micros;
+    }
+
+    public long getP90Micros() {
+        return p90Micros;
+    }
+
+    public long getP99Micros() {
+        return p99Micros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+}
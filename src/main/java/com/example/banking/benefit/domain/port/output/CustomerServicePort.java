@@ -2,6 +2,8 @@ package com.example.banking.benefit.domain.port.output;
 
 import com.example.banking.benefit.domain.model.customer.CustomerContext;
 import com.example.banking.benefit.domain.model.customer.CustomerProfile;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Optional;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +11,8 @@ import java.util.Map;
 /**
  * 客戶服務介面
  * Secondary Port - 輸出埠
+ *
+ * 批次方法預設逐筆呼叫單筆方法，支援批次查詢的實作應覆寫以減少往返次數。
  */
 public interface CustomerServicePort {
     
@@ -19,6 +23,20 @@ public interface CustomerServicePort {
      * @return 客戶資料
      */
     Optional<CustomerProfile> getCustomerProfile(String customerId);
+
+    /**
+     * 批次取得客戶資料
+     *
+     * @param customerIds 客戶ID
+     * @return 以客戶ID為鍵的客戶資料，查無資料的客戶不在結果中
+     */
+    default Map<String, CustomerProfile> getCustomerProfiles(Collection<String> customerIds) {
+        Map<String, CustomerProfile> profiles = new LinkedHashMap<>();
+        for (String customerId : customerIds) {
+            getCustomerProfile(customerId).ifPresent(profile -> profiles.put(customerId, profile));
+        }
+        return profiles;
+    }
     
     /**
      * 取得客戶執行上下文
@@ -27,6 +45,23 @@ public interface CustomerServicePort {
      * @return 客戶上下文
      */
     CustomerContext getCustomerContext(String customerId);
+
+    /**
+     * 批次取得客戶執行上下文
+     *
+     * @param customerIds 客戶ID
+     * @return 以客戶ID為鍵的客戶上下文，查無資料的客戶不在結果中
+     */
+    default Map<String, CustomerContext> getCustomerContexts(Collection<String> customerIds) {
+        Map<String, CustomerContext> contexts = new LinkedHashMap<>();
+        for (String customerId : customerIds) {
+            CustomerContext context = getCustomerContext(customerId);
+            if (context != null) {
+                contexts.put(customerId, context);
+            }
+        }
+        return contexts;
+    }
     
     /**
      * 驗證客戶資格
@@ -62,6 +97,23 @@ public interface CustomerServicePort {
      * @return 客戶狀態
      */
     String getCustomerStatus(String customerId);
+
+    /**
+     * 批次檢查客戶狀態
+     *
+     * @param customerIds 客戶ID
+     * @return 以客戶ID為鍵的客戶狀態，查無資料的客戶不在結果中
+     */
+    default Map<String, String> getCustomerStatuses(Collection<String> customerIds) {
+        Map<String, String> statuses = new LinkedHashMap<>();
+        for (String customerId : customerIds) {
+            String status = getCustomerStatus(customerId);
+            if (status != null) {
+                statuses.put(customerId, status);
+            }
+        }
+        return statuses;
+    }
     
     /**
      * 檢查客戶是否活躍
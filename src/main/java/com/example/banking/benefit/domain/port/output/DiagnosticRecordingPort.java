@@ -0,0 +1,47 @@
+package com.example.banking.benefit.domain.port.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 診斷錄製介面
+ * Secondary Port - 輸出埠
+ *
+ * 在限定時間內錄製引擎事件與 JVM 事件（GC、鎖競爭、執行緒等），結束後以單一檔案交給呼叫端。
+ * 同一時間只允許一個錄製。
+ */
+public interface DiagnosticRecordingPort {
+
+    /**
+     * 取得允許的最長錄製時間
+     */
+    Duration getMaxDuration();
+
+    /**
+     * 開始錄製
+     *
+     * @param duration 錄製時間，必須大於 0 且不超過 {@link #getMaxDuration()}
+     * @return 已有錄製進行中時為空
+     * @throws IllegalArgumentException 錄製時間不在允許範圍內
+     */
+    Optional<Session> start(Duration duration);
+
+    /**
+     * 進行中的錄製
+     */
+    interface Session extends AutoCloseable {
+
+        /**
+         * 等待錄製時間結束，停止錄製並將錄製檔寫入 output；執行緒被中斷時提早結束
+         */
+        void finishTo(OutputStream output) throws IOException;
+
+        /**
+         * 釋放錄製資源，之後才能開始下一個錄製
+         */
+        @Override
+        void close();
+    }
+}
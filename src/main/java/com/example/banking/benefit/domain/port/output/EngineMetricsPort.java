@@ -0,0 +1,108 @@
+package com.example.banking.benefit.domain.port.output;
+
+import com.example.banking.benefit.domain.model.node.NodeOutcome;
+import com.example.banking.benefit.domain.model.node.NodeType;
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
+
+/**
+ * 引擎執行指標介面
+ * Secondary Port - 輸出埠
+ *
+ * 由執行服務於每次流程、節點與運算式評估後呼叫，實作負責轉為監控系統的計時器、計數器與量測值。
+ * 標籤只能使用流程ID、節點ID、節點類型與結果等有限集合，不得帶入客戶ID等隨請求變動的值。
+ * 呼叫位於執行熱路徑上，實作必須非阻塞且不得拋出例外。
+ */
+public interface EngineMetricsPort {
+
+    /**
+     * 流程開始執行（已取得隔艙許可）
+     *
+     * @param flowId 流程ID
+     */
+    void executionStarted(String flowId);
+
+    /**
+     * 流程執行結束，不論結果為何都必須與 {@link #executionStarted(String)} 成對呼叫
+     *
+     * @param flowId 流程ID
+     */
+    void executionEnded(String flowId);
+
+    /**
+     * 記錄流程執行結果與時間
+     *
+     * @param flowId 流程ID
+     * @param status 執行狀態
+     * @param durationNanos 執行時間（奈秒）
+     */
+    void recordFlow(String flowId, ExecutionStatus status, long durationNanos);
+
+    /**
+     * 記錄因隔艙已滿而被拒絕的執行
+     *
+     * @param flowId 流程ID
+     */
+    void recordRejected(String flowId);
+
+    /**
+     * 記錄節點執行結果與時間
+     *
+     * @param flowId 流程ID
+     * @param nodeId 節點ID
+     * @param nodeType 節點類型
+     * @param outcome 節點結果
+     * @param durationNanos 執行時間（奈秒），處理節點包含重試
+     */
+    void recordNode(String flowId, String nodeId, NodeType nodeType, NodeOutcome outcome, long durationNanos);
+
+    /**
+     * 記錄單次運算式或 Java 類別評估
+     *
+     * @param flowId 流程ID
+     * @param evaluator 評估方式，spel 或 java
+     * @param success 是否未拋出例外
+     * @param durationNanos 評估時間（奈秒）
+     */
+    void recordEvaluation(String flowId, String evaluator, boolean success, long durationNanos);
+
+    /**
+     * 不記錄任何指標的實作，供未配置監控系統時使用
+     */
+    static EngineMetricsPort noop() {
+        return NoopEngineMetrics.INSTANCE;
+    }
+
+    /**
+     * 不記錄任何指標
+     */
+    final class NoopEngineMetrics implements EngineMetricsPort {
+        private static final NoopEngineMetrics INSTANCE = new NoopEngineMetrics();
+
+        private NoopEngineMetrics() {
+        }
+
+        @Override
+        public void executionStarted(String flowId) {
+        }
+
+        @Override
+        public void executionEnded(String flowId) {
+        }
+
+        @Override
+        public void recordFlow(String flowId, ExecutionStatus status, long durationNanos) {
+        }
+
+        @Override
+        public void recordRejected(String flowId) {
+        }
+
+        @Override
+        public void recordNode(String flowId, String nodeId, NodeType nodeType, NodeOutcome outcome, long durationNanos) {
+        }
+
+        @Override
+        public void recordEvaluation(String flowId, String evaluator, boolean success, long durationNanos) {
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.banking.benefit.domain.port.output;
+
+import com.example.banking.benefit.domain.model.result.ExecutionCompletedEvent;
+
+/**
+ * 執行事件發布介面
+ * Secondary Port - 輸出埠
+ *
+ * 執行服務於每次流程執行完成後呼叫。呼叫位於執行熱路徑上，
+ * 實作必須立即返回，不得等待訂閱者或拋出例外。
+ */
+public interface ExecutionEventPublisher {
+
+    /**
+     * 發布執行完成事件
+     *
+     * @param event 執行完成事件
+     */
+    void publish(ExecutionCompletedEvent event);
+
+    /**
+     * 不發布任何事件的實作，供未配置事件串流時使用
+     */
+    static ExecutionEventPublisher noop() {
+        return event -> {
+        };
+    }
+}
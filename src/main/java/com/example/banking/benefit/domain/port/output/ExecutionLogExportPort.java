@@ -0,0 +1,27 @@
+package com.example.banking.benefit.domain.port.output;
+
+import com.example.banking.benefit.domain.model.log.ExecutionLog;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 執行日誌匯出介面
+ * Secondary Port - 輸出埠
+ *
+ * 逐筆讀出時間範圍內的執行日誌並交給呼叫端處理，實作不得一次載入整個範圍，
+ * 記憶體用量須與範圍大小無關。讀出順序依實作而定，資料庫實作依 (execution_time, log_id) 排序。
+ */
+public interface ExecutionLogExportPort {
+
+    /**
+     * 逐筆讀出流程在時間範圍內的執行日誌
+     *
+     * @param flowId 流程ID
+     * @param startTime 開始時間（含）
+     * @param endTime 結束時間（含）
+     * @param consumer 處理每一筆日誌，於讀取的執行緒上呼叫
+     * @return 讀出的筆數
+     */
+    long stream(String flowId, LocalDateTime startTime, LocalDateTime endTime, Consumer<ExecutionLog> consumer);
+}
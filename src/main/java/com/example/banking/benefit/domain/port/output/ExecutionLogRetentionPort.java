@@ -0,0 +1,31 @@
+package com.example.banking.benefit.domain.port.output;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 執行日誌保留期限介面
+ * Secondary Port - 輸出埠
+ *
+ * 移除超過保留期限的執行日誌。支援分區的資料庫以整個分區卸離或刪除，
+ * 避免逐列刪除造成索引膨脹與長時間鎖定；不支援分區時以小批次刪除。
+ */
+public interface ExecutionLogRetentionPort {
+
+    /**
+     * 預先建立涵蓋指定日期區間的分區，不支援分區的實作不做任何事
+     *
+     * @param from 起始日期（含）
+     * @param to 結束日期（含）
+     * @return 新建立的分區數量
+     */
+    int preparePartitions(LocalDate from, LocalDate to);
+
+    /**
+     * 移除執行時間早於截止時間的日誌
+     *
+     * @param cutoff 截止時間
+     * @return 移除的分區數量或刪除的列數，依實作而定
+     */
+    long purgeBefore(LocalDateTime cutoff);
+}
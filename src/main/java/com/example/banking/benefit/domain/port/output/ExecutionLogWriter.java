@@ -0,0 +1,37 @@
+package com.example.banking.benefit.domain.port.output;
+
+import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import com.example.banking.benefit.domain.model.statistics.ExecutionLogWriterStatistics;
+
+import java.time.Duration;
+
+/**
+ * 執行日誌寫入介面
+ * Secondary Port - 輸出埠
+ *
+ * 流程執行期間的節點日誌經由此介面寫出，實作可選擇同步寫入或排入佇列後批次寫入。
+ */
+public interface ExecutionLogWriter {
+
+    /**
+     * 寫入執行日誌
+     *
+     * @param log 執行日誌
+     */
+    void write(ExecutionLog log);
+
+    /**
+     * 等待目前已排入的日誌寫出
+     *
+     * @param timeout 最長等待時間
+     * @return 是否已全部寫出
+     */
+    boolean flush(Duration timeout);
+
+    /**
+     * 取得寫入統計資訊
+     *
+     * @return 統計資訊
+     */
+    ExecutionLogWriterStatistics getStatistics();
+}
@@ -0,0 +1,79 @@
+package com.example.banking.benefit.domain.port.output;
+
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
+import com.example.banking.benefit.domain.model.statistics.ExecutionStateStatistics;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 執行狀態儲存介面
+ * Secondary Port - 輸出埠
+ *
+ * 保存執行中與暫停中流程的狀態及節點上下文，供暫停/繼續使用。
+ * 實作必須自行限制容量並淘汰過期項目，執行結束後的上下文會立即釋放。
+ */
+public interface ExecutionStatePort {
+
+    /**
+     * 建立新的執行狀態
+     *
+     * @param executionId 執行ID
+     * @return 節點執行上下文
+     */
+    Map<String, Object> begin(String executionId);
+
+    /**
+     * 取得執行狀態
+     *
+     * @param executionId 執行ID
+     * @return 執行狀態，已淘汰或不存在時為空
+     */
+    Optional<ExecutionStatus> getStatus(String executionId);
+
+    /**
+     * 更新執行狀態
+     *
+     * @param executionId 執行ID
+     * @param status 執行狀態
+     */
+    void updateStatus(String executionId, ExecutionStatus status);
+
+    /**
+     * 取得節點執行上下文
+     *
+     * @param executionId 執行ID
+     * @return 節點執行上下文，已淘汰或不存在時為空
+     */
+    Optional<Map<String, Object>> getContext(String executionId);
+
+    /**
+     * 暫停執行，將狀態移至暫停層保存
+     *
+     * @param executionId 執行ID
+     */
+    void pause(String executionId);
+
+    /**
+     * 繼續執行，將狀態自暫停層移回執行層
+     *
+     * @param executionId 執行ID
+     * @return 節點執行上下文，找不到暫停中的執行時為空
+     */
+    Optional<Map<String, Object>> resume(String executionId);
+
+    /**
+     * 結束執行，釋放上下文並保留最終狀態直到過期
+     *
+     * @param executionId 執行ID
+     * @param finalStatus 最終狀態
+     */
+    void complete(String executionId, ExecutionStatus finalStatus);
+
+    /**
+     * 取得儲存統計資訊
+     *
+     * @return 統計資訊
+     */
+    ExecutionStateStatistics getStatistics();
+}
@@ -1,6 +1,7 @@
 package com.example.banking.benefit.domain.repository;
 
 import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import com.example.banking.benefit.domain.model.log.ExecutionLogCursor;
 import com.example.banking.benefit.domain.model.flow.FlowId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -65,6 +66,8 @@ public interface ExecutionLogRepository extends BaseRepository<ExecutionLog, Str
     /**
      * 刪除指定時間之前的執行日誌
      *
+     * 會逐列刪除，定期清除大量日誌請改用 ExecutionLogRetentionPort
+     *
      * @param dateTime 時間點
      */
     void deleteByExecutionTimeBefore(LocalDateTime dateTime);
@@ -91,4 +94,21 @@ public interface ExecutionLogRepository extends BaseRepository<ExecutionLog, Str
      */
     Page<ExecutionLog> findByFlowIdAndExecutionResultAndExecutionTimeBetween(
             String flowId, String status, LocalDateTime startTime, LocalDateTime endTime, Pageable pageable);
+
+    /**
+     * 以游標分頁查詢流程的執行日誌，依 (execution_time, log_id) 遞增排序
+     *
+     * 實作應以 {@code (execution_time, log_id) > (?, ?)} 條件搭配
+     * idx_log_flow_result_time 或 idx_log_flow_time 索引查詢，不使用 OFFSET。
+     *
+     * @param flowId 流程ID
+     * @param status 執行結果，null 表示不限
+     * @param startTime 開始時間
+     * @param endTime 結束時間
+     * @param after 上一頁最後一筆的位置，null 表示第一頁
+     * @param limit 最多筆數
+     * @return 執行日誌列表
+     */
+    List<ExecutionLog> findPageAfter(String flowId, String status, LocalDateTime startTime, LocalDateTime endTime,
+                                     ExecutionLogCursor after, int limit);
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.example.banking.benefit.domain.repository;
+
+import com.example.banking.benefit.domain.model.log.ExecutionTrace;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 精簡執行軌跡儲存庫介面
+ */
+public interface ExecutionTraceRepository {
+
+    /**
+     * 儲存執行軌跡
+     *
+     * @param trace 執行軌跡
+     */
+    void save(ExecutionTrace trace);
+
+    /**
+     * 根據執行ID查詢執行軌跡
+     *
+     * @param executionId 執行ID
+     * @return 執行軌跡
+     */
+    Optional<ExecutionTrace> findById(String executionId);
+
+    /**
+     * 刪除開始時間早於截止時間的執行軌跡
+     *
+     * @param cutoff 截止時間
+     * @return 刪除的筆數
+     */
+    long deleteStartedBefore(LocalDateTime cutoff);
+}
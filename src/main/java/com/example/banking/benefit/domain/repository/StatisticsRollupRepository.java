@@ -0,0 +1,51 @@
+package com.example.banking.benefit.domain.repository;
+
+import com.example.banking.benefit.domain.model.statistics.BucketGranularity;
+import com.example.banking.benefit.domain.model.statistics.StatisticsBucket;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 流程統計彙總儲存庫介面
+ */
+public interface StatisticsRollupRepository {
+
+    /**
+     * 將增量累加到既有的區間，區間不存在時新增
+     * 所有增量須整批寫入，失敗時不得留下部分區間已累加的結果
+     *
+     * @param deltas 各區間自上次寫入後的增量
+     */
+    void merge(List<StatisticsBucket> deltas);
+
+    /**
+     * 查詢單一流程在時間範圍內的區間
+     *
+     * @param flowId 流程ID
+     * @param granularity 區間粒度
+     * @param from 起始時間（含）
+     * @param to 結束時間（不含）
+     * @return 區間列表
+     */
+    List<StatisticsBucket> findBuckets(String flowId, BucketGranularity granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 查詢所有流程在時間範圍內的區間
+     *
+     * @param granularity 區間粒度
+     * @param from 起始時間（含）
+     * @param to 結束時間（不含）
+     * @return 區間列表
+     */
+    List<StatisticsBucket> findBuckets(BucketGranularity granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 刪除早於指定時間的區間
+     *
+     * @param granularity 區間粒度
+     * @param before 截止時間
+     * @return 刪除的區間數量
+     */
+    int deleteBefore(BucketGranularity granularity, LocalDateTime before);
+}
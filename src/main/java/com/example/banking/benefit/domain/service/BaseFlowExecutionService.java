@@ -46,7 +46,11 @@ public abstract class BaseFlowExecutionService implements FlowExecutionService {
         logContext.put("flowId", flow.getFlowId());
         logContext.put("customerId", context.getCustomerId());
         
-        loggingPort.log(LogLevel.INFO, "開始執行流程: " + flow.getFlowId() + ", 客戶: " + context.getCustomerId(), logContext);
+        // 模擬執行只回傳結果，不產生日誌、稽核與通知
+        boolean simulation = context.isSimulation();
+        if (!simulation) {
+            loggingPort.log(LogLevel.INFO, "開始執行流程: " + flow.getFlowId() + ", 客戶: " + context.getCustomerId(), logContext);
+        }
         
         try {
             validateFlow(flow);
@@ -54,8 +58,10 @@ public abstract class BaseFlowExecutionService implements FlowExecutionService {
             
             ExecutionResult result = doExecute(flow, context, executionId);
             
-            logExecution(flow, context, result);
-            handleNotification(flow, context, result);
+            if (!simulation) {
+                logExecution(flow, context, result);
+                handleNotification(flow, context, result);
+            }
             
             return result;
             
@@ -4,6 +4,7 @@ import com.example.banking.benefit.domain.model.flow.Flow;
 import com.example.banking.benefit.domain.model.common.BaseExecutionContext;
 import com.example.banking.benefit.domain.model.result.ExecutionResult;
 import com.example.banking.benefit.domain.model.statistics.ExecutionDetails;
+import com.example.banking.benefit.domain.model.statistics.ExecutionDetailsPage;
 import com.example.banking.benefit.domain.model.statistics.FlowStatistics;
 
 import java.time.LocalDateTime;
@@ -81,6 +82,19 @@ public interface FlowExecutionService {
      */
     List<ExecutionDetails> getFlowExecutions(String flowId, LocalDateTime startTime, LocalDateTime endTime, String status, int pageSize, int pageNumber);
 
+    /**
+     * 以游標分頁取得流程執行列表，依執行時間遞增排序，深分頁不需掃描前面的資料
+     *
+     * @param flowId 流程ID
+     * @param startTime 開始時間
+     * @param endTime 結束時間
+     * @param status 執行狀態
+     * @param cursor 上一頁回傳的游標，null 表示第一頁
+     * @param pageSize 分頁大小
+     * @return 執行列表與下一頁的游標
+     */
+    ExecutionDetailsPage getFlowExecutionPage(String flowId, LocalDateTime startTime, LocalDateTime endTime, String status, String cursor, int pageSize);
+
     /**
      * 取得執行詳細資訊
      *
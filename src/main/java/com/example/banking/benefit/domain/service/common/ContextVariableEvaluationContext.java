@@ -0,0 +1,28 @@
+package com.example.banking.benefit.domain.service.common;
+
+import com.example.banking.benefit.domain.model.common.BaseExecutionContext;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * 直接讀取執行變數的 SpEL 評估上下文
+ *
+ * 不再於每次評估前把所有執行變數複製到評估上下文，
+ * 表達式引用 #name 時才向執行上下文查詢，未引用的變數不產生任何成本。
+ */
+public class ContextVariableEvaluationContext extends StandardEvaluationContext {
+
+    private final BaseExecutionContext executionContext;
+
+    public ContextVariableEvaluationContext(BaseExecutionContext executionContext) {
+        this.executionContext = executionContext;
+    }
+
+    @Override
+    public Object lookupVariable(String name) {
+        Object value = super.lookupVariable(name);
+        if (value != null) {
+            return value;
+        }
+        return executionContext.getVariable(name);
+    }
+}
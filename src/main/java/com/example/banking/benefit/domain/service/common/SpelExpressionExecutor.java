@@ -97,15 +97,12 @@ public class SpelExpressionExecutor {
      * 建立評估上下文
      */
     private EvaluationContext createEvaluationContext(BaseExecutionContext context) {
-        StandardEvaluationContext evalContext = new StandardEvaluationContext();
+        StandardEvaluationContext evalContext = new ContextVariableEvaluationContext(context);
         
-        // 設置基本變數
+        // 設置基本變數，上下文變數於表達式引用時才查詢
         evalContext.setVariable("context", context);
         evalContext.setVariable("customer", context.getCustomerData());
         
-        // 設置所有上下文變數
-        context.getVariables().forEach(evalContext::setVariable);
-        
         // 設置一些常用的函數
         // TODO: 加入更多自定義函數
         
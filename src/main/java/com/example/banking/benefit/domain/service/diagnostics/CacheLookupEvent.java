@@ -0,0 +1,38 @@
+package com.example.banking.benefit.domain.service.diagnostics;
+
+import com.example.banking.benefit.domain.model.flow.Flow;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 一次引擎快取查詢
+ */
+@Name("com.example.banking.benefit.CacheLookup")
+@Label("Cache Lookup")
+@Description("一次表達式或執行結果快取查詢，結果為 HIT 或 MISS")
+public class CacheLookupEvent extends EngineEvent {
+
+    /** 已解析的表達式快取 */
+    public static final String EXPRESSION_CACHE = "expression";
+
+    /** 流程執行結果快取 */
+    public static final String RESULT_CACHE = "result";
+
+    @Label("Cache")
+    String cache;
+
+    /**
+     * 結束並提交事件
+     *
+     * @param nodeId 節點ID，流程層級的快取為 null
+     */
+    public void complete(String cache, Flow flow, String nodeId, boolean hit) {
+        end();
+        if (shouldCommit()) {
+            set(flowIdOf(flow), versionOf(flow), nodeId, hit ? "HIT" : "MISS");
+            this.cache = cache;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.banking.benefit.domain.service.diagnostics;
+
+import com.example.banking.benefit.domain.model.flow.Flow;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import java.util.List;
+
+/**
+ * 引擎 JFR 事件的共同欄位
+ *
+ * 事件物件在區段開始時建立並呼叫 {@link #begin()}，結束時由子類別的 complete 方法
+ * 在 {@link #shouldCommit()} 成立後才填入欄位並提交，未錄製時幾乎沒有成本。
+ * 不記錄堆疊，避免錄製時的額外負擔。
+ */
+@Category({"Banking Benefit", "Engine"})
+@StackTrace(false)
+public abstract class EngineEvent extends Event {
+
+    /** 所有引擎事件類型，供錄製時啟用 */
+    public static final List<Class<? extends EngineEvent>> TYPES = List.of(
+        FlowExecutionEvent.class, NodeEvaluationEvent.class, ExpressionCompileEvent.class,
+        CacheLookupEvent.class, LogFlushEvent.class);
+
+    @Label("Flow ID")
+    String flowId;
+
+    @Label("Node ID")
+    String nodeId;
+
+    @Label("Version")
+    String version;
+
+    @Label("Outcome")
+    String outcome;
+
+    void set(String flowId, String version, String nodeId, String outcome) {
+        this.flowId = flowId;
+        this.version = version;
+        this.nodeId = nodeId;
+        this.outcome = outcome;
+    }
+
+    static String flowIdOf(Flow flow) {
+        return flow.getFlowId() != null ? flow.getFlowId().getValue() : null;
+    }
+
+    static String versionOf(Flow flow) {
+        return flow.getVersion() != null ? flow.getVersion().getValue() : null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.banking.benefit.domain.service.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 一次 SpEL 表達式解析
+ */
+@Name("com.example.banking.benefit.ExpressionCompile")
+@Label("Expression Compile")
+@Description("一次 SpEL 表達式解析，結果為 SUCCESS 或 FAILURE")
+public class ExpressionCompileEvent extends EngineEvent {
+
+    @Label("Expression Length")
+    int expressionLength;
+
+    /**
+     * 結束並提交事件
+     *
+     * @param version 流程版本，呼叫端無法取得時為 null
+     */
+    public void complete(String flowId, String version, String nodeId, String expression, boolean success) {
+        end();
+        if (shouldCommit()) {
+            set(flowId, version, nodeId, success ? "SUCCESS" : "FAILURE");
+            this.expressionLength = expression != null ? expression.length() : 0;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.banking.benefit.domain.service.diagnostics;
+
+import com.example.banking.benefit.domain.model.flow.Flow;
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 一次流程執行，涵蓋結果快取查詢、隔艙等待與節點執行
+ */
+@Name("com.example.banking.benefit.FlowExecution")
+@Label("Flow Execution")
+@Description("一次流程執行，結果為最終執行狀態")
+public class FlowExecutionEvent extends EngineEvent {
+
+    @Label("Execution ID")
+    String executionId;
+
+    @Label("Simulation")
+    boolean simulation;
+
+    /**
+     * 結束並提交事件
+     */
+    public void complete(Flow flow, String executionId, ExecutionStatus status, boolean simulation) {
+        end();
+        if (shouldCommit()) {
+            set(flowIdOf(flow), versionOf(flow), null, status != null ? status.name() : null);
+            this.executionId = executionId;
+            this.simulation = simulation;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.banking.benefit.domain.service.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 一批執行日誌寫入
+ *
+ * 一批日誌可能來自多個流程，只有全部屬於同一流程時才填入流程ID；節點ID與版本不適用。
+ */
+@Name("com.example.banking.benefit.LogFlush")
+@Label("Execution Log Flush")
+@Description("一批執行日誌寫入，結果為 SUCCESS 或 FAILURE")
+public class LogFlushEvent extends EngineEvent {
+
+    @Label("Records")
+    int records;
+
+    /**
+     * 結束並提交事件
+     *
+     * @param flowId 批次內所有日誌共同的流程ID，混合多個流程時為 null
+     */
+    public void complete(String flowId, int records, boolean success) {
+        end();
+        if (shouldCommit()) {
+            set(flowId, null, null, success ? "SUCCESS" : "FAILURE");
+            this.records = records;
+            commit();
+        }
+    }
+}
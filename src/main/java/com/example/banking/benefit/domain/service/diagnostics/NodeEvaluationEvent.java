@@ -0,0 +1,40 @@
+package com.example.banking.benefit.domain.service.diagnostics;
+
+import com.example.banking.benefit.domain.model.flow.Flow;
+import com.example.banking.benefit.domain.model.node.Node;
+import com.example.banking.benefit.domain.model.node.NodeOutcome;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 一個節點的評估，包含處理節點的所有重試
+ */
+@Name("com.example.banking.benefit.NodeEvaluation")
+@Label("Node Evaluation")
+@Description("一個決策或處理節點的評估，結果為節點結果")
+public class NodeEvaluationEvent extends EngineEvent {
+
+    @Label("Node Type")
+    String nodeType;
+
+    @Label("Attempt Count")
+    int attemptCount;
+
+    @Label("Simulation")
+    boolean simulation;
+
+    /**
+     * 結束並提交事件
+     */
+    public void complete(Flow flow, Node node, NodeOutcome outcome, int attemptCount, boolean simulation) {
+        end();
+        if (shouldCommit()) {
+            set(flowIdOf(flow), versionOf(flow), node.getNodeId(), outcome.name());
+            this.nodeType = node.getNodeType() != null ? node.getNodeType().name() : null;
+            this.attemptCount = attemptCount;
+            this.simulation = simulation;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.model.result.ExecutionCompletedEvent;
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
+import com.example.banking.benefit.domain.port.output.ExecutionEventPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 執行完成事件的廣播緩衝區
+ *
+ * 以固定大小的環形陣列保存最近的事件，每個事件帶有遞增的序號。
+ * 發布者以 CAS 取得序號後直接覆寫最舊的槽位，不等待任何訂閱者，也不使用鎖；
+ * 每個訂閱者各自持有讀取位置，落後超過緩衝區容量（未讀的事件已被覆寫）時即被移除，
+ * 因此慢速的訂閱者不會拖慢流程執行。
+ */
+public class ExecutionEventBroadcaster implements ExecutionEventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionEventBroadcaster.class);
+
+    /** 預設緩衝區容量 */
+    static final int DEFAULT_CAPACITY = 4096;
+
+    /** 預設最大訂閱者數 */
+    static final int DEFAULT_MAX_SUBSCRIBERS = 20;
+
+    private final int capacity;
+    private final int mask;
+    private final int maxSubscribers;
+    private final AtomicReferenceArray<Entry> entries;
+    private final AtomicLong nextSequence = new AtomicLong(1);
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final LongAdder laggedSubscribers = new LongAdder();
+
+    public ExecutionEventBroadcaster() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_SUBSCRIBERS);
+    }
+
+    /**
+     * @param requestedCapacity 緩衝區容量，向上取整為 2 的次方
+     * @param maxSubscribers 最大訂閱者數
+     */
+    public ExecutionEventBroadcaster(int requestedCapacity, int maxSubscribers) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2");
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.maxSubscribers = maxSubscribers;
+        this.entries = new AtomicReferenceArray<>(capacity);
+    }
+
+    @Override
+    public void publish(ExecutionCompletedEvent event) {
+        long sequence = nextSequence.getAndIncrement();
+        entries.set((int) (sequence & mask), new Entry(sequence, event));
+        // 喚醒等待中的訂閱者；訂閱者在檢查前先登記，不會漏掉此次發布
+        for (Subscription subscription : subscriptions) {
+            Thread waiter = subscription.waiter;
+            if (waiter != null) {
+                LockSupport.unpark(waiter);
+            }
+        }
+    }
+
+    /**
+     * 建立訂閱
+     *
+     * @param flowIds 只接收這些流程的事件，空集合表示全部
+     * @param statuses 只接收這些執行狀態的事件，空集合表示全部
+     * @param lastSequence 已收到的最後序號，仍在緩衝區內時自下一筆開始補送，null 表示只接收之後的事件
+     * @return 已達訂閱者上限時為空
+     */
+    public Optional<Subscription> subscribe(Collection<String> flowIds, Collection<ExecutionStatus> statuses,
+                                            Long lastSequence) {
+        long next = nextSequence.get();
+        long start = next;
+        if (lastSequence != null && lastSequence < next) {
+            start = Math.max(lastSequence + 1, Math.max(1, next - capacity));
+        }
+        Subscription subscription = new Subscription(Set.copyOf(flowIds), Set.copyOf(statuses), start);
+        synchronized (subscriptions) {
+            if (subscriptions.size() >= maxSubscribers) {
+                return Optional.empty();
+            }
+            subscriptions.add(subscription);
+        }
+        return Optional.of(subscription);
+    }
+
+    /**
+     * 取得目前的訂閱者數
+     */
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * 取得因落後過多而被移除的訂閱者數
+     */
+    public long getLaggedSubscriberCount() {
+        return laggedSubscribers.sum();
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 帶序號的事件
+     */
+    public static final class Entry {
+        private final long sequence;
+        private final ExecutionCompletedEvent event;
+
+        Entry(long sequence, ExecutionCompletedEvent event) {
+            this.sequence = sequence;
+            this.event = event;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public ExecutionCompletedEvent getEvent() {
+            return event;
+        }
+    }
+
+    /**
+     * 單一訂閱者的讀取位置與過濾條件
+     *
+     * {@link #poll} 只能由單一執行緒呼叫。
+     */
+    public final class Subscription implements AutoCloseable {
+        private final Set<String> flowIds;
+        private final Set<ExecutionStatus> statuses;
+        private long cursor;
+        private volatile Thread waiter;
+        private volatile boolean closed;
+        private volatile boolean lagged;
+
+        private Subscription(Set<String> flowIds, Set<ExecutionStatus> statuses, long cursor) {
+            this.flowIds = flowIds;
+            this.statuses = statuses;
+            this.cursor = cursor;
+        }
+
+        /**
+         * 取出下一批符合條件的事件，沒有新事件時等待至多 timeout
+         *
+         * @param maxEvents 最多取出的事件數
+         * @param timeout 最長等待時間
+         * @return 符合條件的事件，逾時、已關閉或已落後時為空清單
+         */
+        public List<Entry> poll(int maxEvents, Duration timeout) {
+            List<Entry> result = new ArrayList<>();
+            long deadline = System.nanoTime() + timeout.toNanos();
+            while (!closed) {
+                waiter = Thread.currentThread();
+                try {
+                    drain(result, maxEvents);
+                    if (!result.isEmpty() || closed) {
+                        return result;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return result;
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                } finally {
+                    waiter = null;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    close();
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 讀取目前已發布的事件，落後超過緩衝區容量時關閉訂閱
+         */
+        private void drain(List<Entry> result, int maxEvents) {
+            while (result.size() < maxEvents) {
+                Entry entry = entries.get((int) (cursor & mask));
+                if (entry == null || entry.sequence < cursor) {
+                    // 尚未發布（或序號已取得但尚未寫入）
+                    return;
+                }
+                if (entry.sequence > cursor) {
+                    markLagged();
+                    return;
+                }
+                cursor++;
+                if (matches(entry.event)) {
+                    result.add(entry);
+                }
+            }
+        }
+
+        private boolean matches(ExecutionCompletedEvent event) {
+            return (flowIds.isEmpty() || flowIds.contains(event.getFlowId()))
+                && (statuses.isEmpty() || statuses.contains(event.getStatus()));
+        }
+
+        private void markLagged() {
+            lagged = true;
+            laggedSubscribers.increment();
+            logger.warn("執行事件訂閱者落後超過 {} 筆，已移除訂閱", capacity);
+            close();
+        }
+
+        /**
+         * 是否因落後過多而被移除
+         */
+        public boolean isLagged() {
+            return lagged;
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+
+        /**
+         * 取消訂閱並喚醒等待中的讀取
+         */
+        @Override
+        public void close() {
+            closed = true;
+            subscriptions.remove(this);
+            Thread current = waiter;
+            if (current != null) {
+                LockSupport.unpark(current);
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.model.common.BaseExecutionContext;
+import com.example.banking.benefit.domain.model.common.CustomerAttribute;
+import com.example.banking.benefit.domain.model.common.CustomerData;
+import com.example.banking.benefit.domain.model.config.FlowConfig;
+import com.example.banking.benefit.domain.model.flow.Flow;
+import com.example.banking.benefit.domain.model.result.ExecutionResult;
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
+import com.example.banking.benefit.domain.model.statistics.ResultCacheStatistics;
+import com.example.banking.benefit.domain.port.input.ConfigurationUseCase;
+import com.example.banking.benefit.domain.port.output.CachePort;
+import com.example.banking.benefit.domain.service.diagnostics.CacheLookupEvent;
+import com.example.banking.benefit.domain.service.expression.CustomerAttributeAnalyzer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 執行結果快取
+ *
+ * 流程配置的 resultCacheTtlMillis 大於 0 時才啟用。快取鍵由流程ID、版本與
+ * 流程實際讀取的客戶屬性雜湊組成，因此不同客戶只要相關屬性相同即可共用結果；
+ * 無法分析讀取範圍時改以客戶ID與全部屬性計算。只快取成功的結果，
+ * 流程重新發布時由 {@link #invalidate(String)} 清除該流程的所有項目。
+ */
+public class ExecutionResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionResultCache.class);
+
+    private static final String KEY_PREFIX = "flow-result:";
+    private static final String INDEX_PREFIX = "flow-result-index:";
+
+    private final CachePort cachePort;
+    private final ConfigurationUseCase configurationUseCase;
+    private final CustomerAttributeAnalyzer attributeAnalyzer = new CustomerAttributeAnalyzer();
+    private final Map<String, Optional<Set<String>>> readAttributes = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * @param cachePort 快取，為 null 時停用
+     * @param configurationUseCase 流程配置，為 null 時停用
+     */
+    public ExecutionResultCache(CachePort cachePort, ConfigurationUseCase configurationUseCase) {
+        this.cachePort = cachePort;
+        this.configurationUseCase = configurationUseCase;
+    }
+
+    /**
+     * 停用的結果快取
+     */
+    public static ExecutionResultCache disabled() {
+        return new ExecutionResultCache(null, null);
+    }
+
+    /**
+     * 查詢快取的執行結果
+     *
+     * @param flow 流程
+     * @param context 執行上下文
+     * @param executionId 本次執行ID
+     * @return 命中時為標記為快取的結果，未啟用或未命中時為空
+     */
+    public Optional<ExecutionResult> lookup(Flow flow, BaseExecutionContext context, String executionId) {
+        Optional<Duration> ttl = ttlFor(flow);
+        if (ttl.isEmpty()) {
+            return Optional.empty();
+        }
+        CacheLookupEvent lookupEvent = new CacheLookupEvent();
+        lookupEvent.begin();
+        Optional<ExecutionResult> cached = cachePort.get(keyFor(flow, context), ExecutionResult.class);
+        lookupEvent.complete(CacheLookupEvent.RESULT_CACHE, flow, null, cached.isPresent());
+        if (cached.isEmpty()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(cached.get().asCached(executionId));
+    }
+
+    /**
+     * 保存執行結果，只有成功的結果會被快取
+     */
+    public void store(Flow flow, BaseExecutionContext context, ExecutionResult result) {
+        if (result == null || result.getStatus() != ExecutionStatus.SUCCESS) {
+            return;
+        }
+        Optional<Duration> ttl = ttlFor(flow);
+        if (ttl.isEmpty()) {
+            return;
+        }
+        String key = keyFor(flow, context);
+        cachePort.set(key, result, ttl.get());
+        cachePort.addToSet(INDEX_PREFIX + flow.getFlowId().getValue(), key);
+        stores.increment();
+    }
+
+    /**
+     * 清除流程的所有快取結果，流程重新發布或刪除時呼叫
+     *
+     * @param flowId 流程ID
+     */
+    public void invalidate(String flowId) {
+        if (cachePort == null) {
+            return;
+        }
+        String indexKey = INDEX_PREFIX + flowId;
+        Set<String> keys = cachePort.getSet(indexKey, String.class);
+        if (!keys.isEmpty()) {
+            cachePort.deleteAll(keys.stream().toList());
+        }
+        cachePort.delete(indexKey);
+        readAttributes.keySet().removeIf(key -> key.startsWith(flowId + ":"));
+        invalidations.increment();
+        logger.debug("清除流程結果快取: {}, 項目數: {}", flowId, keys.size());
+    }
+
+    /**
+     * 取得快取統計資訊
+     */
+    public ResultCacheStatistics getStatistics() {
+        return new ResultCacheStatistics(hits.sum(), misses.sum(), stores.sum(), invalidations.sum());
+    }
+
+    private Optional<Duration> ttlFor(Flow flow) {
+        if (cachePort == null || configurationUseCase == null) {
+            return Optional.empty();
+        }
+        Optional<FlowConfig> config = configurationUseCase.getFlowConfig(flow.getFlowId());
+        if (config.isEmpty() || config.get().getResultCacheTtlMillis() <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.ofMillis(config.get().getResultCacheTtlMillis()));
+    }
+
+    private String keyFor(Flow flow, BaseExecutionContext context) {
+        String flowId = flow.getFlowId().getValue();
+        String version = flow.getVersion() != null ? flow.getVersion().getValue() : "";
+        Optional<Set<String>> attributes = readAttributes.computeIfAbsent(
+            flowId + ":" + version, key -> attributeAnalyzer.analyze(flow));
+        return KEY_PREFIX + flowId + ":" + version + ":" + (context.isSimulation() ? "sim:" : "")
+            + fingerprint(context, attributes);
+    }
+
+    /**
+     * 計算客戶屬性的穩定雜湊，屬性依名稱排序以確保順序無關
+     */
+    private String fingerprint(BaseExecutionContext context, Optional<Set<String>> attributes) {
+        CustomerData customerData = context.getCustomerData();
+        StringBuilder canonical = new StringBuilder();
+        if (attributes.isPresent()) {
+            for (String name : attributes.get()) {
+                appendAttribute(canonical, name,
+                    customerData != null ? customerData.getAttribute(name).orElse(null) : null);
+            }
+        } else {
+            Map<String, CustomerAttribute<?>> all = customerData != null ? customerData.getAllAttributes() : Map.of();
+            canonical.append("customerId=").append(context.getCustomerId()).append('\n');
+            for (Map.Entry<String, CustomerAttribute<?>> entry : new TreeMap<>(all).entrySet()) {
+                appendAttribute(canonical, entry.getKey(), entry.getValue());
+            }
+        }
+        return sha256(canonical.toString());
+    }
+
+    private void appendAttribute(StringBuilder canonical, String name, CustomerAttribute<?> attribute) {
+        canonical.append(name).append('=');
+        if (attribute == null) {
+            canonical.append("<absent>");
+        } else {
+            canonical.append(attribute.getType() != null ? attribute.getType().getName() : "null")
+                .append(':').append(attribute.getValue());
+        }
+        canonical.append('\n');
+    }
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 不可用", e);
+        }
+    }
+}
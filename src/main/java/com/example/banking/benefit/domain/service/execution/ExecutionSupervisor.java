@@ -0,0 +1,174 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.exception.DuplicateExecutionException;
+import com.example.banking.benefit.domain.exception.ExecutionCancelledException;
+import com.example.banking.benefit.domain.exception.ExecutionTimeoutException;
+import com.example.banking.benefit.domain.model.common.BaseExecutionContext;
+import com.example.banking.benefit.domain.model.common.ExecutionDeadline;
+import com.example.banking.benefit.domain.model.config.FlowConfig;
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.result.ExecutionResult;
+import com.example.banking.benefit.domain.port.input.ConfigurationUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 執行監督者
+ *
+ * 每次執行都在獨立的虛擬執行緒上進行，呼叫端只等待到期限為止。
+ * 逾時或取消時會中斷執行緒並立即返回，呼叫端的資源（隔艙許可、請求執行緒）隨即釋放。
+ */
+public class ExecutionSupervisor implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionSupervisor.class);
+
+    private final ConfigurationUseCase configurationUseCase;
+    private final long defaultTimeoutMillis;
+    private final ExecutorService executor;
+    private final Map<String, InFlightExecution> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param configurationUseCase 流程配置，可為 null
+     * @param defaultTimeoutMillis 流程未設定逾時時的預設值，0 表示不限時間
+     */
+    public ExecutionSupervisor(ConfigurationUseCase configurationUseCase, long defaultTimeoutMillis) {
+        this.configurationUseCase = configurationUseCase;
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+        this.executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("flow-execution-", 0).factory());
+    }
+
+    /**
+     * 決定執行期限：伺服器端逾時取流程配置，未設定時為預設值；
+     * 上下文已指定期限（例如來自請求標頭）時只能縮短，不能超過伺服器端逾時
+     */
+    public ExecutionDeadline resolveDeadline(String flowId, BaseExecutionContext context) {
+        long timeoutMillis = Optional.ofNullable(configurationUseCase)
+            .flatMap(useCase -> useCase.getFlowConfig(FlowId.of(flowId)))
+            .map(FlowConfig::getTimeoutMillis)
+            .filter(value -> value > 0)
+            .orElse(defaultTimeoutMillis);
+        ExecutionDeadline requested = context.getDeadline();
+        if (requested != null && requested.hasDeadline()
+                && (timeoutMillis <= 0 || requested.getTimeout().toMillis() <= timeoutMillis)) {
+            return requested;
+        }
+        return timeoutMillis > 0
+            ? ExecutionDeadline.after(Duration.ofMillis(timeoutMillis))
+            : ExecutionDeadline.none();
+    }
+
+    /**
+     * 在期限內執行流程
+     *
+     * @param flowId 流程ID
+     * @param executionId 執行ID
+     * @param deadline 執行期限
+     * @param task 流程執行工作
+     * @return 執行結果；逾時或取消時為對應狀態的結果
+     * @throws DuplicateExecutionException 相同執行ID的流程仍在執行中
+     */
+    public ExecutionResult run(FlowId flowId, String executionId, ExecutionDeadline deadline,
+                               Supplier<ExecutionResult> task) {
+        // 先登記再開始執行，工作一開始即可被取消；執行ID可由呼叫端指定，重複時拒絕以免取消到其他執行
+        FutureTask<ExecutionResult> future = new FutureTask<>(task::get);
+        if (inFlight.putIfAbsent(executionId, new InFlightExecution(future, deadline)) != null) {
+            throw new DuplicateExecutionException("執行ID已有執行中的流程：" + executionId);
+        }
+        try {
+            executor.execute(future);
+            if (deadline.hasDeadline()) {
+                return future.get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+            }
+            return future.get();
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            logger.warn("流程執行逾時: {} [executionId={}]", flowId.getValue(), executionId);
+            return ExecutionResult.timedOut(flowId, executionId,
+                "流程執行逾時：" + deadline.getTimeout().toMillis() + "ms");
+        } catch (CancellationException e) {
+            return ExecutionResult.cancelled(flowId, executionId, "流程執行已取消");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return ExecutionResult.cancelled(flowId, executionId, "流程執行已中斷");
+        } catch (ExecutionException e) {
+            return handleFailure(flowId, executionId, deadline, e.getCause());
+        } finally {
+            inFlight.remove(executionId);
+        }
+    }
+
+    /**
+     * 取消執行中的流程，並中斷其執行緒
+     *
+     * @param executionId 執行ID
+     * @return 是否找到執行中的流程
+     */
+    public boolean cancel(String executionId) {
+        InFlightExecution execution = inFlight.get(executionId);
+        if (execution == null) {
+            return false;
+        }
+        execution.deadline.cancel();
+        execution.future.cancel(true);
+        logger.info("取消流程執行: {}", executionId);
+        return true;
+    }
+
+    /**
+     * 取得執行中的流程數量
+     */
+    public int getActiveExecutions() {
+        return inFlight.size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private ExecutionResult handleFailure(FlowId flowId, String executionId, ExecutionDeadline deadline, Throwable cause) {
+        if (cause instanceof ExecutionCancelledException || deadline.isCancelled()) {
+            return ExecutionResult.cancelled(flowId, executionId, "流程執行已取消");
+        }
+        if (cause instanceof ExecutionTimeoutException || deadline.isExpired()) {
+            return ExecutionResult.timedOut(flowId, executionId,
+                "流程執行逾時：" + deadline.getTimeout().toMillis() + "ms");
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new IllegalStateException(cause);
+    }
+
+    /**
+     * 執行中的流程
+     */
+    private static final class InFlightExecution {
+        private final Future<ExecutionResult> future;
+        private final ExecutionDeadline deadline;
+
+        InFlightExecution(Future<ExecutionResult> future, ExecutionDeadline deadline) {
+            this.future = future;
+            this.deadline = deadline;
+        }
+    }
+}
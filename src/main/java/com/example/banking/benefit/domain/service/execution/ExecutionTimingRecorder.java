@@ -0,0 +1,126 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.model.statistics.TimingStatistics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 流程與節點執行時間記錄器
+ *
+ * 每個流程與每個節點各有一個滑動時間窗的 {@link LatencyHistogram}，
+ * 用於從引擎本身最近的資料找出較慢的流程與節點。
+ */
+public class ExecutionTimingRecorder {
+
+    private final Duration window;
+    private final Map<String, LatencyHistogram> flowHistograms = new ConcurrentHashMap<>();
+    private final Map<NodeKey, LatencyHistogram> nodeHistograms = new ConcurrentHashMap<>();
+
+    public ExecutionTimingRecorder() {
+        this(LatencyHistogram.DEFAULT_WINDOW);
+    }
+
+    /**
+     * @param window 統計涵蓋的時間窗
+     */
+    public ExecutionTimingRecorder(Duration window) {
+        this.window = window;
+    }
+
+    /**
+     * 記錄整個流程的執行時間
+     */
+    public void recordFlow(String flowId, long durationNanos) {
+        flowHistograms.computeIfAbsent(flowId, id -> new LatencyHistogram(window)).record(durationNanos);
+    }
+
+    /**
+     * 記錄單一節點的執行時間
+     */
+    public void recordNode(String flowId, String nodeId, long durationNanos) {
+        nodeHistograms.computeIfAbsent(new NodeKey(flowId, nodeId), key -> new LatencyHistogram(window))
+            .record(durationNanos);
+    }
+
+    /**
+     * 取得流程的執行時間統計
+     */
+    public Optional<TimingStatistics> getFlowTiming(String flowId) {
+        LatencyHistogram histogram = flowHistograms.get(flowId);
+        return histogram != null ? Optional.of(toStatistics(flowId, null, histogram)) : Optional.empty();
+    }
+
+    /**
+     * 取得所有流程的執行時間統計
+     */
+    public List<TimingStatistics> getAllFlowTimings() {
+        List<TimingStatistics> result = new ArrayList<>();
+        flowHistograms.forEach((flowId, histogram) -> result.add(toStatistics(flowId, null, histogram)));
+        result.sort(Comparator.comparing(TimingStatistics::getFlowId));
+        return result;
+    }
+
+    /**
+     * 取得流程中各節點的執行時間統計，依平均時間由長到短排序
+     */
+    public List<TimingStatistics> getNodeTimings(String flowId) {
+        List<TimingStatistics> result = new ArrayList<>();
+        nodeHistograms.forEach((key, histogram) -> {
+            if (key.flowId.equals(flowId)) {
+                result.add(toStatistics(key.flowId, key.nodeId, histogram));
+            }
+        });
+        result.sort(Comparator.comparingDouble(TimingStatistics::getMeanMicros).reversed());
+        return result;
+    }
+
+    private TimingStatistics toStatistics(String flowId, String nodeId, LatencyHistogram histogram) {
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        return new TimingStatistics(
+            flowId,
+            nodeId,
+            snapshot.getCount(),
+            snapshot.getMeanMicros(),
+            snapshot.getPercentileMicros(50),
+            snapshot.getPercentileMicros(90),
+            snapshot.getPercentileMicros(99),
+            snapshot.getMaxMicros()
+        );
+    }
+
+    /**
+     * 節點直方圖的鍵值
+     */
+    private static final class NodeKey {
+        private final String flowId;
+        private final String nodeId;
+
+        NodeKey(String flowId, String nodeId) {
+            this.flowId = flowId;
+            this.nodeId = nodeId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof NodeKey)) {
+                return false;
+            }
+            NodeKey other = (NodeKey) o;
+            return flowId.equals(other.flowId) && nodeId.equals(other.nodeId);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * flowId.hashCode() + nodeId.hashCode();
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.model.common.BaseExecutionContext;
+import com.example.banking.benefit.domain.model.flow.Flow;
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.log.SlowExecutionTrace;
+import com.example.banking.benefit.domain.model.log.SlowNodeTrace;
+import com.example.banking.benefit.domain.model.node.DecisionNode;
+import com.example.banking.benefit.domain.model.node.Node;
+import com.example.banking.benefit.domain.model.node.NodeOutcome;
+import com.example.banking.benefit.domain.model.process.ProcessNode;
+import com.example.banking.benefit.domain.port.input.ConfigurationUseCase;
+import com.example.banking.benefit.domain.service.expression.CustomerAttributeAnalyzer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 慢速執行記錄器
+ *
+ * 每次執行只記錄各節點的開始與結束時間、結果與表達式快取命中次數；
+ * 執行結束時若超過流程的慢速門檻，才組成詳細紀錄並分析表達式讀取的客戶屬性與其值，
+ * 放入固定容量的環形緩衝區，最舊的紀錄先被淘汰。
+ * 門檻可由流程配置的 flight-recorder.threshold-millis 覆寫，0 表示該流程不記錄。
+ */
+public class FlightRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecorder.class);
+
+    /** 預設保留的紀錄數 */
+    static final int DEFAULT_CAPACITY = 256;
+
+    /** 預設慢速門檻 */
+    static final Duration DEFAULT_THRESHOLD = Duration.ofSeconds(1);
+
+    private static final String THRESHOLD_PROPERTY = "flight-recorder.threshold-millis";
+
+    private static final Recording DISABLED = new Recording(null, null, null, 0, false);
+
+    private final ConfigurationUseCase configurationUseCase;
+    private final int capacity;
+    private final Duration defaultThreshold;
+    private final CustomerAttributeAnalyzer attributeAnalyzer = new CustomerAttributeAnalyzer();
+    private final ArrayDeque<SlowExecutionTrace> traces;
+    private final LongAdder captured = new LongAdder();
+
+    /**
+     * @param configurationUseCase 流程配置，為 null 時一律使用預設門檻
+     * @param capacity 保留的紀錄數，0 表示停用
+     * @param defaultThreshold 流程未設定時的慢速門檻
+     */
+    public FlightRecorder(ConfigurationUseCase configurationUseCase, int capacity, Duration defaultThreshold) {
+        this.configurationUseCase = configurationUseCase;
+        this.capacity = Math.max(0, capacity);
+        this.defaultThreshold = defaultThreshold;
+        this.traces = new ArrayDeque<>(this.capacity);
+    }
+
+    /**
+     * 不記錄任何執行的記錄器
+     */
+    public static FlightRecorder disabled() {
+        return new FlightRecorder(null, 0, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * 開始記錄一次執行，模擬執行或門檻為 0 時回傳不記錄的紀錄
+     */
+    public Recording begin(Flow flow, String executionId, BaseExecutionContext context) {
+        if (capacity == 0 || context.isSimulation()) {
+            return DISABLED;
+        }
+        long thresholdNanos = thresholdFor(flow.getFlowId()).toNanos();
+        if (thresholdNanos <= 0) {
+            return DISABLED;
+        }
+        return new Recording(flow, executionId, context, thresholdNanos, true);
+    }
+
+    /**
+     * 結束記錄，超過門檻時保留詳細紀錄
+     *
+     * @param recording 執行紀錄
+     * @param status 最終狀態
+     * @param errorMessage 錯誤訊息
+     * @param durationNanos 整個流程的經過時間
+     */
+    public void finish(Recording recording, String status, String errorMessage, long durationNanos) {
+        if (!recording.enabled || durationNanos < recording.thresholdNanos
+                || !recording.finished.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            SlowExecutionTrace trace = toTrace(recording, status, errorMessage, durationNanos);
+            synchronized (traces) {
+                if (traces.size() == capacity) {
+                    traces.removeFirst();
+                }
+                traces.addLast(trace);
+            }
+            captured.increment();
+        } catch (RuntimeException e) {
+            // 紀錄失敗不影響流程執行結果
+            logger.warn("記錄慢速執行失敗: {}", recording.executionId, e);
+        }
+    }
+
+    /**
+     * 取得保留的慢速執行紀錄，由新到舊排序
+     *
+     * @param flowId 流程ID，為 null 時包含所有流程
+     * @param limit 最多回傳的筆數
+     */
+    public List<SlowExecutionTrace> getTraces(String flowId, int limit) {
+        List<SlowExecutionTrace> result = new ArrayList<>();
+        synchronized (traces) {
+            Iterator<SlowExecutionTrace> iterator = traces.descendingIterator();
+            while (iterator.hasNext() && result.size() < limit) {
+                SlowExecutionTrace trace = iterator.next();
+                if (flowId == null || flowId.equals(trace.getFlowId())) {
+                    result.add(trace);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 根據執行ID查詢仍保留的慢速執行紀錄
+     */
+    public Optional<SlowExecutionTrace> find(String executionId) {
+        synchronized (traces) {
+            return traces.stream()
+                .filter(trace -> trace.getExecutionId().equals(executionId))
+                .findFirst();
+        }
+    }
+
+    /**
+     * 取得自啟動以來記錄的慢速執行數（含已淘汰的紀錄）
+     */
+    public long getCapturedCount() {
+        return captured.sum();
+    }
+
+    private Duration thresholdFor(FlowId flowId) {
+        if (configurationUseCase == null) {
+            return defaultThreshold;
+        }
+        return configurationUseCase.getFlowConfig(flowId)
+            .map(config -> config.getProperty(THRESHOLD_PROPERTY))
+            .map(value -> parseMillis(flowId, value))
+            .orElse(defaultThreshold);
+    }
+
+    private Duration parseMillis(FlowId flowId, String value) {
+        try {
+            return Duration.ofMillis(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            logger.warn("流程 {} 的 {} 不是有效的毫秒數: {}", flowId.getValue(), THRESHOLD_PROPERTY, value);
+            return defaultThreshold;
+        }
+    }
+
+    private SlowExecutionTrace toTrace(Recording recording, String status, String errorMessage, long durationNanos) {
+        List<Step> steps = recording.snapshot();
+        List<SlowNodeTrace> nodes = new ArrayList<>(steps.size());
+        Map<String, String> inputs = new TreeMap<>();
+        for (Step step : steps) {
+            String expression = expressionOf(step.node);
+            List<String> attributesRead = null;
+            if (expression != null) {
+                Optional<Set<String>> attributes = attributeAnalyzer.analyze(expression);
+                if (attributes.isPresent()) {
+                    attributesRead = new ArrayList<>(attributes.get());
+                    for (String attribute : attributesRead) {
+                        inputs.computeIfAbsent(attribute, key -> valueOf(recording.context, key));
+                    }
+                }
+            }
+            nodes.add(new SlowNodeTrace(step.node.getNodeId(), step.node.getNodeType(),
+                expression != null ? "spel" : "java", step.outcome, step.attemptCount,
+                step.startOffsetNanos, step.durationNanos, step.expressionCacheHits, step.expressionCacheMisses,
+                attributesRead));
+        }
+        Flow flow = recording.flow;
+        return new SlowExecutionTrace(recording.executionId, flow.getFlowId().getValue(),
+            flow.getVersion() != null ? flow.getVersion().getValue() : null,
+            recording.context.getCustomerId(), recording.startTime, durationNanos, recording.thresholdNanos,
+            status, errorMessage, nodes, inputs);
+    }
+
+    private static String expressionOf(Node node) {
+        if (node instanceof DecisionNode decisionNode) {
+            return decisionNode.isSpelExpression() ? decisionNode.getSpelExpression() : null;
+        }
+        if (node instanceof ProcessNode processNode) {
+            return processNode.getSpelExpression();
+        }
+        return null;
+    }
+
+    private static String valueOf(BaseExecutionContext context, String attribute) {
+        try {
+            return String.valueOf(context.getCustomerData(attribute));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 一次執行的節點時間紀錄
+     *
+     * 逾時時由呼叫端執行緒結束記錄，而流程執行緒可能仍在加入節點，因此以同步方式存取。
+     */
+    public static final class Recording {
+        private final Flow flow;
+        private final String executionId;
+        private final BaseExecutionContext context;
+        private final long thresholdNanos;
+        private final boolean enabled;
+        private final long startNanos = System.nanoTime();
+        private final LocalDateTime startTime;
+        private final List<Step> steps;
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private int pendingHits;
+        private int pendingMisses;
+
+        private Recording(Flow flow, String executionId, BaseExecutionContext context, long thresholdNanos,
+                          boolean enabled) {
+            this.flow = flow;
+            this.executionId = executionId;
+            this.context = context;
+            this.thresholdNanos = thresholdNanos;
+            this.enabled = enabled;
+            this.startTime = enabled ? LocalDateTime.now() : null;
+            this.steps = enabled ? new ArrayList<>() : List.of();
+        }
+
+        /**
+         * 記錄一次表達式快取查詢，計入下一個完成的節點
+         */
+        public void expressionLookup(boolean hit) {
+            if (!enabled) {
+                return;
+            }
+            synchronized (steps) {
+                if (hit) {
+                    pendingHits++;
+                } else {
+                    pendingMisses++;
+                }
+            }
+        }
+
+        /**
+         * 記錄一個已完成的節點
+         *
+         * @param node 節點
+         * @param outcome 節點結果
+         * @param attemptCount 嘗試次數
+         * @param nodeStartNanos 節點開始時的 System.nanoTime
+         * @param durationNanos 節點經過的奈秒數
+         */
+        public void addStep(Node node, NodeOutcome outcome, int attemptCount, long nodeStartNanos,
+                            long durationNanos) {
+            if (!enabled) {
+                return;
+            }
+            synchronized (steps) {
+                steps.add(new Step(node, outcome, attemptCount, nodeStartNanos - startNanos, durationNanos,
+                    pendingHits, pendingMisses));
+                pendingHits = 0;
+                pendingMisses = 0;
+            }
+        }
+
+        private List<Step> snapshot() {
+            synchronized (steps) {
+                return new ArrayList<>(steps);
+            }
+        }
+    }
+
+    /**
+     * 單一節點的時間紀錄
+     */
+    private static final class Step {
+        private final Node node;
+        private final NodeOutcome outcome;
+        private final int attemptCount;
+        private final long startOffsetNanos;
+        private final long durationNanos;
+        private final int expressionCacheHits;
+        private final int expressionCacheMisses;
+
+        Step(Node node, NodeOutcome outcome, int attemptCount, long startOffsetNanos, long durationNanos,
+             int expressionCacheHits, int expressionCacheMisses) {
+            this.node = node;
+            this.outcome = outcome;
+            this.attemptCount = attemptCount;
+            this.startOffsetNanos = startOffsetNanos;
+            this.durationNanos = durationNanos;
+            this.expressionCacheHits = expressionCacheHits;
+            this.expressionCacheMisses = expressionCacheMisses;
+        }
+    }
+}
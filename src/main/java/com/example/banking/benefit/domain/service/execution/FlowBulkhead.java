@@ -0,0 +1,166 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.model.statistics.BulkheadStatistics;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 單一流程的隔艙
+ *
+ * 以公平號誌限制同時執行數，超出的請求在有界佇列中等待；
+ * 佇列已滿或等待逾時的請求立即被拒絕，避免單一緩慢流程佔滿所有執行緒。
+ * 佇列中的請求會阻塞呼叫端執行緒（同步 API 下即 Web 容器的請求執行緒），
+ * 因此等待時間同時受佇列逾時與呼叫端指定的上限限制。
+ */
+public class FlowBulkhead {
+
+    private final String flowId;
+    private final int maxConcurrentExecutions;
+    private final int maxQueuedExecutions;
+    private final long queueTimeoutMillis;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Metrics metrics;
+
+    public FlowBulkhead(String flowId, int maxConcurrentExecutions, int maxQueuedExecutions, long queueTimeoutMillis) {
+        this(flowId, maxConcurrentExecutions, maxQueuedExecutions, queueTimeoutMillis, new Metrics());
+    }
+
+    FlowBulkhead(String flowId, int maxConcurrentExecutions, int maxQueuedExecutions,
+                 long queueTimeoutMillis, Metrics metrics) {
+        if (maxConcurrentExecutions <= 0 || maxQueuedExecutions < 0 || queueTimeoutMillis < 0) {
+            throw new IllegalArgumentException("無效的隔艙設定: " + flowId);
+        }
+        this.flowId = flowId;
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+        this.maxQueuedExecutions = maxQueuedExecutions;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.permits = new Semaphore(maxConcurrentExecutions, true);
+        this.metrics = metrics;
+    }
+
+    /**
+     * 嘗試取得執行許可
+     *
+     * @return 是否取得許可，取得後必須呼叫 {@link #release()}
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(null);
+    }
+
+    /**
+     * 嘗試取得執行許可，最多等待佇列逾時與指定上限中較短者
+     *
+     * @param maxWait 等待上限，通常為執行期限的剩餘時間；null 表示只受佇列逾時限制
+     * @return 是否取得許可，取得後必須呼叫 {@link #release()}
+     */
+    public boolean tryAcquire(Duration maxWait) {
+        long waitNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+        if (maxWait != null) {
+            waitNanos = Math.min(waitNanos, Math.max(0, maxWait.toNanos()));
+        }
+        long start = System.nanoTime();
+        try {
+            // 計時版本的 tryAcquire 會遵守公平性，不會插隊到等待中的請求之前
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                metrics.recordAdmitted(0);
+                return true;
+            }
+            if (queued.incrementAndGet() > maxQueuedExecutions) {
+                queued.decrementAndGet();
+                metrics.recordRejected();
+                return false;
+            }
+            try {
+                if (permits.tryAcquire(waitNanos, TimeUnit.NANOSECONDS)) {
+                    metrics.recordAdmitted(System.nanoTime() - start);
+                    return true;
+                }
+                metrics.recordRejected();
+                return false;
+            } finally {
+                queued.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            metrics.recordRejected();
+            return false;
+        }
+    }
+
+    /**
+     * 釋放執行許可
+     */
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * 是否與指定的限制相同
+     */
+    public boolean hasLimits(int maxConcurrentExecutions, int maxQueuedExecutions, long queueTimeoutMillis) {
+        return this.maxConcurrentExecutions == maxConcurrentExecutions
+            && this.maxQueuedExecutions == maxQueuedExecutions
+            && this.queueTimeoutMillis == queueTimeoutMillis;
+    }
+
+    public String getFlowId() {
+        return flowId;
+    }
+
+    public int getActiveExecutions() {
+        return maxConcurrentExecutions - permits.availablePermits();
+    }
+
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    Metrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * 取得統計資訊
+     */
+    public BulkheadStatistics getStatistics() {
+        long admitted = metrics.admitted.sum();
+        long averageWaitNanos = admitted > 0 ? metrics.totalWaitNanos.sum() / admitted : 0;
+        return new BulkheadStatistics(
+            flowId,
+            maxConcurrentExecutions,
+            maxQueuedExecutions,
+            getActiveExecutions(),
+            getQueueDepth(),
+            admitted,
+            metrics.rejected.sum(),
+            Duration.ofNanos(averageWaitNanos),
+            Duration.ofNanos(metrics.maxWaitNanos.get())
+        );
+    }
+
+    /**
+     * 隔艙計數器，調整限制重建隔艙時沿用
+     */
+    static final class Metrics {
+        private final LongAdder admitted = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+        void recordAdmitted(long waitNanos) {
+            admitted.increment();
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulate(waitNanos);
+        }
+
+        void recordRejected() {
+            rejected.increment();
+        }
+    }
+}
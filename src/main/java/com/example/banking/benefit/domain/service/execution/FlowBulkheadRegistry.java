@@ -0,0 +1,95 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.model.config.FlowConfig;
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.statistics.BulkheadStatistics;
+import com.example.banking.benefit.domain.port.input.ConfigurationUseCase;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 流程隔艙註冊表
+ *
+ * 每個流程一個隔艙，限制取自 {@link FlowConfig}，未設定的項目使用引擎預設值。
+ * 配置變更後下一次執行會以新限制重建隔艙，執行中的請求仍在原隔艙釋放許可。
+ */
+public class FlowBulkheadRegistry {
+
+    private final ConfigurationUseCase configurationUseCase;
+    private final int defaultMaxConcurrentExecutions;
+    private final int defaultMaxQueuedExecutions;
+    private final long defaultQueueTimeoutMillis;
+    private final Map<String, FlowBulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final Map<String, FlowBulkhead.Metrics> metrics = new ConcurrentHashMap<>();
+
+    public FlowBulkheadRegistry(
+            ConfigurationUseCase configurationUseCase,
+            int defaultMaxConcurrentExecutions,
+            int defaultMaxQueuedExecutions,
+            long defaultQueueTimeoutMillis) {
+        this.configurationUseCase = configurationUseCase;
+        this.defaultMaxConcurrentExecutions = defaultMaxConcurrentExecutions;
+        this.defaultMaxQueuedExecutions = defaultMaxQueuedExecutions;
+        this.defaultQueueTimeoutMillis = defaultQueueTimeoutMillis;
+    }
+
+    /**
+     * 建立不限制同時執行數的註冊表，供未配置隔艙的環境使用
+     */
+    public static FlowBulkheadRegistry unbounded() {
+        return new FlowBulkheadRegistry(null, Integer.MAX_VALUE, 0, 0);
+    }
+
+    /**
+     * 取得流程的隔艙
+     *
+     * @param flowId 流程ID
+     * @return 隔艙
+     */
+    public FlowBulkhead getBulkhead(String flowId) {
+        Optional<FlowConfig> config = configurationUseCase != null
+            ? configurationUseCase.getFlowConfig(FlowId.of(flowId))
+            : Optional.empty();
+        int maxConcurrent = config.map(FlowConfig::getMaxConcurrentExecutions)
+            .filter(value -> value > 0)
+            .orElse(defaultMaxConcurrentExecutions);
+        int maxQueued = config.map(FlowConfig::getMaxQueuedExecutions)
+            .filter(value -> value >= 0)
+            .orElse(defaultMaxQueuedExecutions);
+        long queueTimeout = config.map(FlowConfig::getQueueTimeoutMillis)
+            .filter(value -> value > 0)
+            .orElse(defaultQueueTimeoutMillis);
+
+        FlowBulkhead current = bulkheads.get(flowId);
+        if (current != null && current.hasLimits(maxConcurrent, maxQueued, queueTimeout)) {
+            return current;
+        }
+        return bulkheads.compute(flowId, (id, existing) ->
+            existing != null && existing.hasLimits(maxConcurrent, maxQueued, queueTimeout)
+                ? existing
+                : new FlowBulkhead(id, maxConcurrent, maxQueued, queueTimeout,
+                    metrics.computeIfAbsent(id, key -> new FlowBulkhead.Metrics())));
+    }
+
+    /**
+     * 取得單一流程的隔艙統計資訊
+     */
+    public Optional<BulkheadStatistics> getStatistics(String flowId) {
+        return Optional.ofNullable(bulkheads.get(flowId)).map(FlowBulkhead::getStatistics);
+    }
+
+    /**
+     * 取得所有流程的隔艙統計資訊
+     */
+    public List<BulkheadStatistics> getAllStatistics() {
+        return bulkheads.values().stream()
+            .map(FlowBulkhead::getStatistics)
+            .sorted(Comparator.comparing(BulkheadStatistics::getFlowId))
+            .collect(Collectors.toList());
+    }
+}
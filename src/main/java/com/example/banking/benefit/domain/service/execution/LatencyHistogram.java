@@ -0,0 +1,157 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.service.statistics.HistogramCodec;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 滑動時間窗的執行時間直方圖
+ *
+ * 以微秒記錄到 HdrHistogram 的 {@link Recorder}，記錄不需加鎖，可在請求執行緒上直接呼叫。
+ * 時間窗分為數個等長的區間，每個區間結束時取出該區間的直方圖放入環狀陣列，
+ * 查詢時只合併仍在時間窗內的區間，因此統計反映最近的執行而不會被啟動以來的資料稀釋。
+ * 百分位數誤差約 1%，並以區間內實際的最大值為上限。
+ */
+public class LatencyHistogram {
+
+    /** 預設時間窗 */
+    static final Duration DEFAULT_WINDOW = Duration.ofMinutes(5);
+
+    /** 時間窗分成的區間數 */
+    static final int INTERVAL_COUNT = 5;
+
+    private final Recorder recorder = new Recorder(HistogramCodec.SIGNIFICANT_DIGITS);
+    private final LongAdder currentSumMicros = new LongAdder();
+    private final LongAccumulator currentMaxMicros = new LongAccumulator(Long::max, 0);
+    private final LongSupplier nanoClock;
+    private final long intervalNanos;
+
+    // 以下欄位由物件鎖保護
+    private final Histogram[] intervals = new Histogram[INTERVAL_COUNT];
+    private final long[] intervalTicks = new long[INTERVAL_COUNT];
+    private final long[] intervalSumMicros = new long[INTERVAL_COUNT];
+    private final long[] intervalMaxMicros = new long[INTERVAL_COUNT];
+    private Histogram current = HistogramCodec.newHistogram();
+    private long currentTick;
+    private volatile long currentIntervalEnd;
+
+    public LatencyHistogram() {
+        this(DEFAULT_WINDOW);
+    }
+
+    public LatencyHistogram(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    LatencyHistogram(Duration window, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.intervalNanos = Math.max(1, window.toNanos() / INTERVAL_COUNT);
+        this.currentTick = Math.floorDiv(nanoClock.getAsLong(), intervalNanos);
+        this.currentIntervalEnd = (currentTick + 1) * intervalNanos;
+    }
+
+    /**
+     * 記錄一次執行時間
+     *
+     * @param durationNanos 以 System.nanoTime 量測的經過時間
+     */
+    public void record(long durationNanos) {
+        long micros = Math.max(0, durationNanos / 1_000);
+        long now = nanoClock.getAsLong();
+        if (now >= currentIntervalEnd) {
+            rotate(now);
+        }
+        recorder.recordValue(micros);
+        currentSumMicros.add(micros);
+        currentMaxMicros.accumulate(micros);
+    }
+
+    /**
+     * 取得時間窗內的統計快照
+     */
+    public synchronized Snapshot snapshot() {
+        long now = nanoClock.getAsLong();
+        rotate(now);
+        drain();
+        Histogram merged = HistogramCodec.merge(null, current);
+        long sum = currentSumMicros.sum();
+        long max = currentMaxMicros.get();
+        long oldestTick = currentTick - INTERVAL_COUNT + 1;
+        for (int i = 0; i < INTERVAL_COUNT; i++) {
+            if (intervals[i] != null && intervalTicks[i] >= oldestTick && intervalTicks[i] < currentTick) {
+                merged.add(intervals[i]);
+                sum += intervalSumMicros[i];
+                max = Math.max(max, intervalMaxMicros[i]);
+            }
+        }
+        return new Snapshot(merged, sum, max);
+    }
+
+    /**
+     * 區間結束時將目前的直方圖移入環狀陣列
+     */
+    private synchronized void rotate(long now) {
+        if (now < currentIntervalEnd) {
+            return;
+        }
+        drain();
+        int slot = Math.floorMod(currentTick, INTERVAL_COUNT);
+        intervals[slot] = current;
+        intervalTicks[slot] = currentTick;
+        intervalSumMicros[slot] = currentSumMicros.sumThenReset();
+        intervalMaxMicros[slot] = currentMaxMicros.getThenReset();
+        current = HistogramCodec.newHistogram();
+        currentTick = Math.floorDiv(now, intervalNanos);
+        currentIntervalEnd = (currentTick + 1) * intervalNanos;
+    }
+
+    private void drain() {
+        current.add(recorder.getIntervalHistogram());
+    }
+
+    /**
+     * 時間窗內的統計快照
+     */
+    public static final class Snapshot {
+        private final Histogram histogram;
+        private final long sumMicros;
+        private final long maxMicros;
+
+        Snapshot(Histogram histogram, long sumMicros, long maxMicros) {
+            this.histogram = histogram;
+            this.sumMicros = sumMicros;
+            this.maxMicros = maxMicros;
+        }
+
+        public long getCount() {
+            return histogram.getTotalCount();
+        }
+
+        public long getMaxMicros() {
+            return maxMicros;
+        }
+
+        public double getMeanMicros() {
+            long count = getCount();
+            return count > 0 ? (double) sumMicros / count : 0.0;
+        }
+
+        /**
+         * 取得百分位數
+         *
+         * @param percentile 0 到 100
+         * @return 百分位數所在桶的上界（微秒），不超過最大值，沒有資料時為 0
+         */
+        public long getPercentileMicros(double percentile) {
+            if (getCount() == 0) {
+                return 0;
+            }
+            return Math.min(histogram.getValueAtPercentile(percentile), maxMicros);
+        }
+    }
+}
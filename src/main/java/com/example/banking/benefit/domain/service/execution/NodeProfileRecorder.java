@@ -0,0 +1,94 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.model.node.NodeOutcome;
+import com.example.banking.benefit.domain.model.node.NodeType;
+import com.example.banking.benefit.domain.model.statistics.NodeProfile;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 節點執行剖析記錄器
+ *
+ * 每個節點以 {@link LongAdder} 累計執行次數、分支結果、錯誤次數與耗時，
+ * 熱門節點在多個執行緒同時記錄時分散到不同的計數格，不需加鎖也不會互相競爭。
+ * 與 {@link ExecutionTimingRecorder} 的滑動時間窗不同，計數自啟動以來持續累計，
+ * 供規則作者依分支比例與耗時調整節點順序。
+ */
+public class NodeProfileRecorder {
+
+    private final Map<String, Map<String, NodeCounters>> flows = new ConcurrentHashMap<>();
+
+    /**
+     * 記錄節點執行一次
+     *
+     * @param flowId 流程ID
+     * @param nodeId 節點ID
+     * @param nodeType 節點類型
+     * @param outcome 節點結果
+     * @param durationNanos 執行時間（奈秒）
+     */
+    public void record(String flowId, String nodeId, NodeType nodeType, NodeOutcome outcome, long durationNanos) {
+        NodeCounters counters = flows.computeIfAbsent(flowId, id -> new ConcurrentHashMap<>())
+            .computeIfAbsent(nodeId, id -> new NodeCounters(nodeType));
+        counters.evaluations.increment();
+        if (outcome == NodeOutcome.ERROR) {
+            counters.errors.increment();
+        } else if (outcome.isTrueBranch()) {
+            counters.trueCount.increment();
+        } else {
+            counters.falseCount.increment();
+        }
+        counters.totalNanos.add(durationNanos);
+    }
+
+    /**
+     * 取得流程中各節點的剖析資訊，依累計耗時由高到低排序
+     */
+    public List<NodeProfile> getProfile(String flowId) {
+        Map<String, NodeCounters> nodes = flows.get(flowId);
+        if (nodes == null) {
+            return List.of();
+        }
+        // 先讀出所有節點的耗時再計算占比，讀取期間的新記錄只會讓占比略有誤差
+        Map<String, Long> totals = new HashMap<>();
+        long flowTotal = 0;
+        for (Map.Entry<String, NodeCounters> entry : nodes.entrySet()) {
+            long total = entry.getValue().totalNanos.sum();
+            totals.put(entry.getKey(), total);
+            flowTotal += total;
+        }
+        List<NodeProfile> result = new ArrayList<>(nodes.size());
+        for (Map.Entry<String, NodeCounters> entry : nodes.entrySet()) {
+            NodeCounters counters = entry.getValue();
+            long total = totals.getOrDefault(entry.getKey(), counters.totalNanos.sum());
+            double share = flowTotal > 0 ? (double) total / flowTotal * 100 : 0.0;
+            result.add(new NodeProfile(flowId, entry.getKey(), counters.nodeType,
+                counters.evaluations.sum(), counters.trueCount.sum(), counters.falseCount.sum(),
+                counters.errors.sum(), total, share));
+        }
+        result.sort(Comparator.comparingLong(NodeProfile::getTotalNanos).reversed());
+        return result;
+    }
+
+    /**
+     * 單一節點的計數
+     */
+    private static final class NodeCounters {
+        private final NodeType nodeType;
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder trueCount = new LongAdder();
+        private final LongAdder falseCount = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        NodeCounters(NodeType nodeType) {
+            this.nodeType = nodeType;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.exception.ExecutionCancelledException;
+import com.example.banking.benefit.domain.model.common.ExecutionDeadline;
+import com.example.banking.benefit.domain.model.config.FlowConfig;
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.statistics.RetryStatistics;
+import com.example.banking.benefit.domain.port.input.ConfigurationUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 節點重試執行器
+ *
+ * 依 {@link RetryPolicy} 重試暫時性失敗。流程在虛擬執行緒上執行，
+ * 退避期間的 sleep 只會讓虛擬執行緒讓出載體執行緒，不會佔用平台執行緒；
+ * 剩餘的執行期限不足以等待下一次嘗試時即停止重試。
+ */
+public class RetryExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryExecutor.class);
+
+    private final ConfigurationUseCase configurationUseCase;
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    /**
+     * @param configurationUseCase 流程配置，為 null 時不重試
+     */
+    public RetryExecutor(ConfigurationUseCase configurationUseCase) {
+        this.configurationUseCase = configurationUseCase;
+    }
+
+    /**
+     * 取得節點的重試策略
+     */
+    public RetryPolicy policyFor(String flowId, String nodeId) {
+        if (configurationUseCase == null || flowId == null) {
+            return RetryPolicy.none();
+        }
+        Optional<FlowConfig> config = configurationUseCase.getFlowConfig(FlowId.of(flowId));
+        return RetryPolicy.fromConfig(config.orElse(null), nodeId);
+    }
+
+    /**
+     * 依節點的重試策略執行
+     */
+    public <T> RetryOutcome<T> execute(String flowId, String nodeId, ExecutionDeadline deadline, Callable<T> action) {
+        return execute(policyFor(flowId, nodeId), deadline, action);
+    }
+
+    /**
+     * 依指定的重試策略執行
+     *
+     * @param policy 重試策略
+     * @param deadline 執行期限，可為 null
+     * @param action 要執行的動作
+     * @return 執行結果與嘗試次數
+     */
+    public <T> RetryOutcome<T> execute(RetryPolicy policy, ExecutionDeadline deadline, Callable<T> action) {
+        int attempt = 0;
+        while (true) {
+            attempt++;
+            attempts.increment();
+            try {
+                T value = action.call();
+                if (attempt > 1) {
+                    recovered.increment();
+                }
+                return RetryOutcome.success(value, attempt);
+            } catch (Exception e) {
+                if (attempt >= policy.getMaxAttempts() || !policy.isRetryable(e)) {
+                    if (attempt > 1) {
+                        exhausted.increment();
+                    }
+                    return RetryOutcome.failure(e, attempt);
+                }
+                Duration delay = policy.backoff(attempt);
+                if (deadline != null && (deadline.shouldStop() || deadline.remaining().compareTo(delay) <= 0)) {
+                    exhausted.increment();
+                    return RetryOutcome.failure(e, attempt);
+                }
+                logger.debug("第 {} 次嘗試失敗，{}ms 後重試: {}", attempt, delay.toMillis(), e.getMessage());
+                retries.increment();
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return RetryOutcome.failure(new ExecutionCancelledException("流程執行已取消"), attempt);
+                }
+            }
+        }
+    }
+
+    /**
+     * 取得重試統計資訊
+     */
+    public RetryStatistics getStatistics() {
+        return new RetryStatistics(attempts.sum(), retries.sum(), recovered.sum(), exhausted.sum());
+    }
+
+    /**
+     * 重試執行結果
+     */
+    public static final class RetryOutcome<T> {
+        private final T value;
+        private final Exception error;
+        private final int attempts;
+
+        private RetryOutcome(T value, Exception error, int attempts) {
+            this.value = value;
+            this.error = error;
+            this.attempts = attempts;
+        }
+
+        static <T> RetryOutcome<T> success(T value, int attempts) {
+            return new RetryOutcome<>(value, null, attempts);
+        }
+
+        static <T> RetryOutcome<T> failure(Exception error, int attempts) {
+            return new RetryOutcome<>(null, error, attempts);
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public Exception getError() {
+            return error;
+        }
+
+        public int getAttempts() {
+            return attempts;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.exception.TransientExecutionException;
+import com.example.banking.benefit.domain.model.config.FlowConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 節點重試策略
+ *
+ * 最大嘗試次數取自 {@link FlowConfig#getMaxRetries()}，並可在流程配置的屬性中針對單一節點覆寫：
+ * <pre>
+ * retry.backoff-millis               起始退避時間
+ * retry.max-backoff-millis           最長退避時間
+ * retry.retryable-exceptions         可重試的例外類別，以逗號分隔
+ * node.{nodeId}.max-retries          節點的最大重試次數
+ * node.{nodeId}.retry.backoff-millis 節點的起始退避時間
+ * </pre>
+ */
+public final class RetryPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryPolicy.class);
+
+    static final long DEFAULT_BACKOFF_MILLIS = 100;
+    static final long DEFAULT_MAX_BACKOFF_MILLIS = 5_000;
+    static final double BACKOFF_MULTIPLIER = 2.0;
+    static final double JITTER = 0.5;
+
+    private static final List<Class<? extends Throwable>> DEFAULT_RETRYABLE = List.of(
+        TransientExecutionException.class,
+        IOException.class,
+        TimeoutException.class
+    );
+
+    private static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, Duration.ZERO, DEFAULT_RETRYABLE);
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final List<Class<? extends Throwable>> retryableExceptions;
+
+    public RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff,
+                       List<Class<? extends Throwable>> retryableExceptions) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retryableExceptions = Collections.unmodifiableList(new ArrayList<>(retryableExceptions));
+    }
+
+    /**
+     * 不重試的策略
+     */
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * 依流程配置建立節點的重試策略
+     *
+     * @param config 流程配置，可為 null
+     * @param nodeId 節點ID
+     * @return 重試策略
+     */
+    public static RetryPolicy fromConfig(FlowConfig config, String nodeId) {
+        if (config == null) {
+            return NONE;
+        }
+        String nodePrefix = "node." + nodeId + ".";
+        int maxRetries = intProperty(config, nodePrefix + "max-retries", config.getMaxRetries());
+        if (maxRetries <= 0) {
+            return NONE;
+        }
+        long backoffMillis = longProperty(config, nodePrefix + "retry.backoff-millis",
+            longProperty(config, "retry.backoff-millis", DEFAULT_BACKOFF_MILLIS));
+        long maxBackoffMillis = longProperty(config, "retry.max-backoff-millis", DEFAULT_MAX_BACKOFF_MILLIS);
+        return new RetryPolicy(
+            maxRetries + 1,
+            Duration.ofMillis(backoffMillis),
+            Duration.ofMillis(Math.max(backoffMillis, maxBackoffMillis)),
+            retryableExceptions(config.getProperty("retry.retryable-exceptions"))
+        );
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * 判斷例外是否可重試，會一併檢查其原因鏈
+     */
+    public boolean isRetryable(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            for (Class<? extends Throwable> type : retryableExceptions) {
+                if (type.isInstance(current)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 計算第 n 次嘗試失敗後的退避時間：指數成長並加上隨機抖動
+     *
+     * @param attempt 已失敗的嘗試次數，從 1 開始
+     * @return 退避時間
+     */
+    public Duration backoff(int attempt) {
+        double exponential = initialBackoff.toMillis() * Math.pow(BACKOFF_MULTIPLIER, attempt - 1);
+        long capped = (long) Math.min(exponential, maxBackoff.toMillis());
+        long fixed = (long) (capped * (1 - JITTER));
+        long jitter = capped - fixed;
+        return Duration.ofMillis(fixed + (jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter + 1) : 0));
+    }
+
+    private static List<Class<? extends Throwable>> retryableExceptions(String classNames) {
+        if (classNames == null || classNames.isBlank()) {
+            return DEFAULT_RETRYABLE;
+        }
+        List<Class<? extends Throwable>> result = new ArrayList<>();
+        for (String className : classNames.split(",")) {
+            String name = className.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            try {
+                result.add(Class.forName(name).asSubclass(Throwable.class));
+            } catch (ClassNotFoundException | ClassCastException e) {
+                logger.warn("忽略無效的可重試例外類別: {}", name);
+            }
+        }
+        return result.isEmpty() ? DEFAULT_RETRYABLE : result;
+    }
+
+    private static int intProperty(FlowConfig config, String key, int defaultValue) {
+        return (int) longProperty(config, key, defaultValue);
+    }
+
+    private static long longProperty(FlowConfig config, String key, long defaultValue) {
+        String value = config.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("忽略無效的流程配置屬性: {}={}", key, value);
+            return defaultValue;
+        }
+    }
+}
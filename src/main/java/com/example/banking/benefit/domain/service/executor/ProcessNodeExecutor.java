@@ -8,7 +8,10 @@ import com.example.banking.benefit.domain.exception.FlowExecutionException;
 import com.example.banking.benefit.domain.model.flow.FlowId;
 
 import java.util.Map;
+import java.util.concurrent.Callable;
 
+import com.example.banking.benefit.domain.service.execution.RetryExecutor;
+import com.example.banking.benefit.domain.service.execution.RetryExecutor.RetryOutcome;
 import com.example.banking.benefit.domain.service.expression.ExpressionEvaluator;
 import com.example.banking.benefit.domain.service.expression.JavaClassEvaluator;
 import com.example.banking.benefit.domain.service.expression.SpelExpressionEvaluator;
@@ -20,10 +23,16 @@ public class ProcessNodeExecutor implements NodeExecutor {
     
     private final ExpressionEvaluator javaClassEvaluator;
     private final ExpressionEvaluator spelExpressionEvaluator;
+    private final RetryExecutor retryExecutor;
     
     public ProcessNodeExecutor() {
+        this(new RetryExecutor(null));
+    }
+    
+    public ProcessNodeExecutor(RetryExecutor retryExecutor) {
         this.javaClassEvaluator = new JavaClassEvaluator();
         this.spelExpressionEvaluator = new SpelExpressionEvaluator();
+        this.retryExecutor = retryExecutor;
     }
     
     @Override
@@ -36,14 +45,28 @@ public class ProcessNodeExecutor implements NodeExecutor {
         nodeContext.put("currentNodeId", processNode.getNodeId());
         
         try {
-            // 執行處理邏輯
+            // 執行處理邏輯，暫時性失敗依節點的重試策略重試
+            Callable<Object> action;
             if (processNode.getImplementationClass() != null) {
-                return executeJavaImplementation(processNode, context, nodeContext);
+                action = () -> executeJavaImplementation(processNode, context, nodeContext);
             } else if (processNode.getSpelExpression() != null) {
-                return executeSpelExpression(processNode, context, nodeContext);
+                action = () -> executeSpelExpression(processNode, context, nodeContext);
             } else {
                 throw new FlowExecutionException("節點未設定執行邏輯");
             }
+            
+            RetryOutcome<Object> outcome = retryExecutor.execute(
+                context.getFlowId(), processNode.getNodeId(), context.getDeadline(), action);
+            nodeContext.put("attemptCount", outcome.getAttempts());
+            if (!outcome.isSuccess()) {
+                return ExecutionResult.failure(
+                    FlowId.of(context.getFlowId()),
+                    (String) nodeContext.get("executionId"),
+                    outcome.getError().getMessage()
+                );
+            }
+            nodeContext.put("processResult", outcome.getValue());
+            return ExecutionResult.success(FlowId.of(context.getFlowId()), (String) nodeContext.get("executionId"), nodeContext);
         } catch (Exception e) {
             return ExecutionResult.failure(
                 FlowId.of(context.getFlowId()),
@@ -61,28 +84,16 @@ public class ProcessNodeExecutor implements NodeExecutor {
     /**
      * 執行 Java 實作類別
      */
-    private ExecutionResult executeJavaImplementation(ProcessNode node, BaseExecutionContext context, Map<String, Object> nodeContext) {
+    private Object executeJavaImplementation(ProcessNode node, BaseExecutionContext context, Map<String, Object> nodeContext) {
         String className = node.getImplementationClassName();
-        try {
-            Object result = javaClassEvaluator.evaluateExpression(className, context, nodeContext, Object.class);
-            nodeContext.put("processResult", result);
-            return ExecutionResult.success(FlowId.of(context.getFlowId()), (String) nodeContext.get("executionId"), nodeContext);
-        } catch (Exception e) {
-            return ExecutionResult.failure(FlowId.of(context.getFlowId()), (String) nodeContext.get("executionId"), e.getMessage());
-        }
+        return javaClassEvaluator.evaluateExpression(className, context, nodeContext, Object.class);
     }
     
     /**
      * 執行 SpEL 表達式
      */
-    private ExecutionResult executeSpelExpression(ProcessNode node, BaseExecutionContext context, Map<String, Object> nodeContext) {
+    private Object executeSpelExpression(ProcessNode node, BaseExecutionContext context, Map<String, Object> nodeContext) {
         String expression = node.getSpelExpression();
-        try {
-            Object result = spelExpressionEvaluator.evaluateExpression(expression, context, nodeContext, Object.class);
-            nodeContext.put("processResult", result);
-            return ExecutionResult.success(FlowId.of(context.getFlowId()), (String) nodeContext.get("executionId"), nodeContext);
-        } catch (Exception e) {
-            return ExecutionResult.failure(FlowId.of(context.getFlowId()), (String) nodeContext.get("executionId"), e.getMessage());
-        }
+        return spelExpressionEvaluator.evaluateExpression(expression, context, nodeContext, Object.class);
     }
-}
\ No newline at end of file
+}
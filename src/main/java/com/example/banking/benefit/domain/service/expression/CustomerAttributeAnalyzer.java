@@ -0,0 +1,94 @@
+package com.example.banking.benefit.domain.service.expression;
+
+import com.example.banking.benefit.domain.model.flow.Flow;
+import com.example.banking.benefit.domain.model.node.DecisionNode;
+import com.example.banking.benefit.domain.model.process.ProcessNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 客戶屬性分析器
+ *
+ * 從流程中所有 SpEL 表達式找出以固定鍵值讀取的客戶屬性。
+ * 只要有 Java 類別節點，或表達式以其他方式存取客戶資料或整個上下文，
+ * 就無法確定讀取範圍，此時回傳空值表示需使用全部屬性。
+ */
+public class CustomerAttributeAnalyzer {
+
+    /** 以字串常數存取客戶屬性，例如 #customerData['age']、#customerData.get('age')、#context.getCustomerData('age') */
+    private static final Pattern KEYED_ACCESS = Pattern.compile(
+        "(?:#context\\.)?#?customerData(?:\\.attributes|\\.allAttributes)?\\s*"
+            + "(?:\\[\\s*'([^']+)'\\s*\\]|\\.(?:get|getAttribute|getValue|hasKey)\\(\\s*'([^']+)'[^)]*\\))"
+            + "|(?:#context\\.)?getCustomerData\\(\\s*'([^']+)'\\s*\\)");
+
+    /** 移除已辨識的存取後仍出現這些參考時，無法確定讀取範圍 */
+    private static final Pattern UNRESOLVED_ACCESS = Pattern.compile(
+        "customerData|CustomerData|#context|#variables|#customerId|#root|#this");
+
+    /**
+     * 分析流程讀取的客戶屬性
+     *
+     * @param flow 流程
+     * @return 讀取的屬性名稱（已排序）；無法確定時為空
+     */
+    public Optional<Set<String>> analyze(Flow flow) {
+        List<String> expressions = new ArrayList<>();
+        for (DecisionNode node : flow.getDecisionNodes()) {
+            if (node.getSpelExpression() == null) {
+                return Optional.empty();
+            }
+            expressions.add(node.getSpelExpression());
+        }
+        for (ProcessNode node : flow.getProcessNodes()) {
+            if (node.getSpelExpression() == null) {
+                return Optional.empty();
+            }
+            expressions.add(node.getSpelExpression());
+        }
+
+        Set<String> attributes = new TreeSet<>();
+        for (String expression : expressions) {
+            if (!collect(expression, attributes)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(attributes);
+    }
+
+    /**
+     * 分析單一表達式讀取的客戶屬性
+     *
+     * @param expression SpEL 表達式
+     * @return 讀取的屬性名稱（已排序）；無法確定時為空
+     */
+    public Optional<Set<String>> analyze(String expression) {
+        Set<String> attributes = new TreeSet<>();
+        return collect(expression, attributes) ? Optional.of(attributes) : Optional.empty();
+    }
+
+    /**
+     * 將表達式以固定鍵值讀取的屬性加入集合
+     *
+     * @return 是否能確定讀取範圍
+     */
+    private boolean collect(String expression, Set<String> attributes) {
+        Matcher matcher = KEYED_ACCESS.matcher(expression);
+        StringBuilder remainder = new StringBuilder();
+        while (matcher.find()) {
+            for (int group = 1; group <= matcher.groupCount(); group++) {
+                if (matcher.group(group) != null) {
+                    attributes.add(matcher.group(group));
+                }
+            }
+            matcher.appendReplacement(remainder, " ");
+        }
+        matcher.appendTail(remainder);
+        return !UNRESOLVED_ACCESS.matcher(remainder).find();
+    }
+}
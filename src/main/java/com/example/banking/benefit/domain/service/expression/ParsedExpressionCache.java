@@ -0,0 +1,75 @@
+package com.example.banking.benefit.domain.service.expression;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 已解析的 SpEL 表達式快取
+ *
+ * 表達式文字來自流程定義，種類有限，解析一次後即可重複用於各次執行。
+ * 達到上限後新的表達式仍會解析但不再放入快取，避免異常的流程定義佔用過多記憶體。
+ */
+public class ParsedExpressionCache {
+
+    /** 預設快取上限 */
+    static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+    private final int maximumSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ParsedExpressionCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public ParsedExpressionCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * 取得已解析的表達式
+     *
+     * @return 尚未解析過時為 null，此時應呼叫 {@link #parse(String)}
+     */
+    public Expression getIfPresent(String expression) {
+        Expression parsed = expressions.get(expression);
+        if (parsed != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return parsed;
+    }
+
+    /**
+     * 解析表達式並放入快取
+     *
+     * @throws org.springframework.expression.ParseException 表達式語法錯誤
+     */
+    public Expression parse(String expression) {
+        Expression parsed = parser.parseExpression(expression);
+        if (expressions.size() < maximumSize) {
+            expressions.putIfAbsent(expression, parsed);
+        }
+        return parsed;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return expressions.size();
+    }
+}
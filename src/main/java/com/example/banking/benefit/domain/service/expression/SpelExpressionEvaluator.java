@@ -1,6 +1,7 @@
 package com.example.banking.benefit.domain.service.expression;
 
 import com.example.banking.benefit.domain.model.common.BaseExecutionContext;
+import com.example.banking.benefit.domain.service.diagnostics.ExpressionCompileEvent;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.ParserContext;
@@ -25,7 +26,7 @@ public class SpelExpressionEvaluator implements ExpressionEvaluator {
     
     @Override
     public boolean evaluateCondition(String expression, BaseExecutionContext context, Map<String, Object> variables) {
-        Expression exp = parser.parseExpression(expression, parserContext);
+        Expression exp = parse(expression, context, variables);
         StandardEvaluationContext evalContext = createEvaluationContext(context, variables);
         Boolean result = exp.getValue(evalContext, Boolean.class);
         return Boolean.TRUE.equals(result);
@@ -33,7 +34,7 @@ public class SpelExpressionEvaluator implements ExpressionEvaluator {
     
     @Override
     public <T> T evaluateExpression(String expression, BaseExecutionContext context, Map<String, Object> variables, Class<T> expectedType) {
-        Expression exp = parser.parseExpression(expression, parserContext);
+        Expression exp = parse(expression, context, variables);
         StandardEvaluationContext evalContext = createEvaluationContext(context, variables);
         return exp.getValue(evalContext, expectedType);
     }
@@ -48,6 +49,23 @@ public class SpelExpressionEvaluator implements ExpressionEvaluator {
         }
     }
     
+    /**
+     * 解析表達式並提交 JFR 事件，此執行器不知道流程版本
+     */
+    private Expression parse(String expression, BaseExecutionContext context, Map<String, Object> variables) {
+        ExpressionCompileEvent event = new ExpressionCompileEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            Expression exp = parser.parseExpression(expression, parserContext);
+            success = true;
+            return exp;
+        } finally {
+            Object nodeId = variables != null ? variables.get("currentNodeId") : null;
+            event.complete(context.getFlowId(), null, nodeId != null ? nodeId.toString() : null, expression, success);
+        }
+    }
+    
     private StandardEvaluationContext createEvaluationContext(BaseExecutionContext context, Map<String, Object> variables) {
         StandardEvaluationContext evalContext = new StandardEvaluationContext();
         
@@ -175,6 +175,14 @@ public class BaseFlowExecutionService implements FlowExecutionService {
         throw new UnsupportedOperationException("getFlowExecutions not implemented in base class");
     }
     
+    @Override
+    public com.example.banking.benefit.domain.model.statistics.ExecutionDetailsPage getFlowExecutionPage(
+            String flowId, java.time.LocalDateTime startTime, java.time.LocalDateTime endTime, String status,
+            String cursor, int pageSize) {
+        // 預設實作，可由子類別覆寫
+        throw new UnsupportedOperationException("getFlowExecutionPage not implemented in base class");
+    }
+    
     @Override
     public ExecutionDetails getExecutionDetails(String executionId) {
         // 預設實作，可由子類別覆寫
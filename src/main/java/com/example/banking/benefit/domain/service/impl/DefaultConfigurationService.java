@@ -0,0 +1,64 @@
+package com.example.banking.benefit.domain.service.impl;
+
+import com.example.banking.benefit.domain.model.config.FlowConfig;
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.port.input.ConfigurationUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 流程配置服務的預設實作
+ *
+ * 配置保存在記憶體中，執行引擎在每次執行時讀取，因此更新後立即生效。
+ */
+@Service
+public class DefaultConfigurationService implements ConfigurationUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(DefaultConfigurationService.class);
+
+    private final Map<FlowId, FlowConfig> configs = new ConcurrentHashMap<>();
+
+    @Override
+    public void setFlowConfig(FlowId flowId, FlowConfig config) {
+        if (flowId == null || config == null) {
+            throw new IllegalArgumentException("流程ID與配置不能為空");
+        }
+        configs.put(flowId, config);
+        logger.info("設定流程配置: {}", flowId);
+    }
+
+    @Override
+    public Optional<FlowConfig> getFlowConfig(FlowId flowId) {
+        return Optional.ofNullable(configs.get(flowId));
+    }
+
+    @Override
+    public void updateFlowConfig(FlowId flowId, FlowConfig config) {
+        if (!configs.containsKey(flowId)) {
+            throw new IllegalArgumentException("流程配置不存在: " + flowId);
+        }
+        setFlowConfig(flowId, config);
+    }
+
+    @Override
+    public void deleteFlowConfig(FlowId flowId) {
+        configs.remove(flowId);
+        logger.info("刪除流程配置: {}", flowId);
+    }
+
+    @Override
+    public boolean hasFlowConfig(FlowId flowId) {
+        return configs.containsKey(flowId);
+    }
+
+    @Override
+    public Map<FlowId, FlowConfig> getAllFlowConfigs() {
+        return new HashMap<>(configs);
+    }
+}
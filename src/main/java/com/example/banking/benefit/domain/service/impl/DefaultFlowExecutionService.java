@@ -1,6 +1,7 @@
 package com.example.banking.benefit.domain.service.impl;
 
 import com.example.banking.benefit.domain.model.common.BaseExecutionContext;
+import com.example.banking.benefit.domain.model.common.ExecutionDeadline;
 import com.example.banking.benefit.domain.model.flow.Flow;
 import com.example.banking.benefit.domain.model.node.Node;
 import com.example.banking.benefit.domain.model.node.DecisionNode;
@@ -10,6 +11,7 @@ import com.example.banking.benefit.domain.model.result.ExecutionStatus;
 import com.example.banking.benefit.domain.model.statistics.FlowStatistics;
 import com.example.banking.benefit.domain.model.statistics.ExecutionDetails;
 import com.example.banking.benefit.domain.port.output.CachePort;
+import com.example.banking.benefit.domain.port.output.ExecutionStatePort;
 import com.example.banking.benefit.domain.port.output.LoggingPort;
 import com.example.banking.benefit.domain.port.output.NotificationPort;
 import com.example.banking.benefit.domain.repository.FlowRepository;
@@ -18,10 +20,10 @@ import com.example.banking.benefit.domain.exception.FlowExecutionException;
 import com.example.banking.benefit.domain.service.executor.NodeExecutor;
 import com.example.banking.benefit.domain.service.executor.NodeExecutorFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 預設的流程執行服務實作
@@ -29,27 +31,25 @@ import java.util.concurrent.ConcurrentHashMap;
 public class DefaultFlowExecutionService extends BaseFlowExecutionService {
     
     private final NodeExecutorFactory nodeExecutorFactory;
-    private final Map<String, ExecutionStatus> executionStates;
-    private final Map<String, Map<String, Object>> executionContexts;
+    private final ExecutionStatePort executionStatePort;
     
     public DefaultFlowExecutionService(
             FlowRepository flowRepository,
             CachePort cachePort,
             LoggingPort loggingPort,
             NotificationPort notificationPort,
-            NodeExecutorFactory nodeExecutorFactory) {
+            NodeExecutorFactory nodeExecutorFactory,
+            ExecutionStatePort executionStatePort) {
         super(flowRepository, cachePort, loggingPort, notificationPort);
         this.nodeExecutorFactory = nodeExecutorFactory;
-        this.executionStates = new ConcurrentHashMap<>();
-        this.executionContexts = new ConcurrentHashMap<>();
+        this.executionStatePort = executionStatePort;
     }
     
     @Override
     protected ExecutionResult doExecute(Flow flow, BaseExecutionContext context, String executionId) {
         try {
             // 初始化執行狀態
-            executionStates.put(executionId, ExecutionStatus.IN_PROGRESS);
-            executionContexts.put(executionId, new HashMap<>());
+            executionStatePort.begin(executionId);
             
             // 獲取起始節點
             Node startNode = flow.getStartNode()
@@ -59,7 +59,7 @@ public class DefaultFlowExecutionService extends BaseFlowExecutionService {
             return executeNode(flow, startNode, context, executionId);
             
         } catch (Exception e) {
-            executionStates.put(executionId, ExecutionStatus.FAILURE);
+            executionStatePort.complete(executionId, ExecutionStatus.FAILURE);
             throw e;
         }
     }
@@ -70,7 +70,7 @@ public class DefaultFlowExecutionService extends BaseFlowExecutionService {
         if (executionId == null) {
             throw new FlowExecutionException("找不到執行ID");
         }
-        executionStates.put(executionId, ExecutionStatus.PAUSED);
+        executionStatePort.pause(executionId);
     }
     
     @Override
@@ -80,13 +80,15 @@ public class DefaultFlowExecutionService extends BaseFlowExecutionService {
             throw new FlowExecutionException("找不到執行ID");
         }
         
-        ExecutionStatus currentStatus = executionStates.get(executionId);
+        ExecutionStatus currentStatus = executionStatePort.getStatus(executionId).orElse(null);
         if (currentStatus != ExecutionStatus.PAUSED) {
             throw new FlowExecutionException("流程不在暫停狀態");
         }
         
         // 從上次執行的節點繼續
-        Node currentNode = getCurrentNode(flow, executionId);
+        Map<String, Object> nodeContext = executionStatePort.resume(executionId)
+            .orElseThrow(() -> new FlowExecutionException("暫停的執行狀態已過期"));
+        Node currentNode = getCurrentNode(flow, nodeContext);
         if (currentNode == null) {
             throw new FlowExecutionException("找不到當前節點");
         }
@@ -100,8 +102,7 @@ public class DefaultFlowExecutionService extends BaseFlowExecutionService {
         if (executionId == null) {
             throw new FlowExecutionException("找不到執行ID");
         }
-        executionStates.put(executionId, ExecutionStatus.TERMINATED);
-        executionContexts.remove(executionId);
+        executionStatePort.complete(executionId, ExecutionStatus.TERMINATED);
     }
     
     @Override
@@ -110,8 +111,9 @@ public class DefaultFlowExecutionService extends BaseFlowExecutionService {
         if (executionId == null) {
             throw new FlowExecutionException("找不到執行ID");
         }
-        ExecutionStatus status = executionStates.get(executionId);
-        return status != null ? status.name() : "UNKNOWN";
+        return executionStatePort.getStatus(executionId)
+            .map(ExecutionStatus::name)
+            .orElse("UNKNOWN");
     }
     
     /**
@@ -119,15 +121,40 @@ public class DefaultFlowExecutionService extends BaseFlowExecutionService {
      */
     private ExecutionResult executeNode(Flow flow, Node node, BaseExecutionContext context, String executionId) {
         // 檢查是否已終止或暫停
-        ExecutionStatus currentStatus = executionStates.get(executionId);
+        ExecutionStatus currentStatus = executionStatePort.getStatus(executionId).orElse(null);
         if (currentStatus == ExecutionStatus.TERMINATED || currentStatus == ExecutionStatus.PAUSED) {
             return ExecutionResult.failure(flow.getFlowId(), executionId, "Flow execution " + currentStatus.name());
         }
 
-        // 取得節點執行器並執行
-        NodeExecutor executor = nodeExecutorFactory.getExecutor(node);
-        Map<String, Object> nodeContext = executionContexts.get(executionId);
-        ExecutionResult nodeResult = executor.execute(node, context, nodeContext);
+        // 節點之間檢查執行期限，逾時或取消時立即釋放狀態
+        ExecutionDeadline deadline = context.getDeadline();
+        if (deadline != null && deadline.isCancelled()) {
+            executionStatePort.complete(executionId, ExecutionStatus.CANCELLED);
+            return ExecutionResult.cancelled(flow.getFlowId(), executionId, "Flow execution cancelled");
+        }
+        if (deadline != null && deadline.isExpired()) {
+            executionStatePort.complete(executionId, ExecutionStatus.TIMED_OUT);
+            return ExecutionResult.timedOut(flow.getFlowId(), executionId, "Flow execution timed out");
+        }
+
+        // 取得節點執行上下文，已被淘汰的執行無法繼續
+        Map<String, Object> nodeContext = executionStatePort.getContext(executionId).orElse(null);
+        if (nodeContext == null) {
+            return ExecutionResult.failure(flow.getFlowId(), executionId, "Flow execution state expired");
+        }
+
+        List<String> path = executionPath(nodeContext);
+        path.add(node.getNodeId());
+
+        // 取得節點執行器並執行，模擬執行時略過有副作用的處理節點
+        ExecutionResult nodeResult;
+        if (context.isSimulation() && node instanceof ProcessNode && !((ProcessNode) node).isSideEffectFree()) {
+            nodeContext.put("currentNodeId", node.getNodeId());
+            nodeResult = ExecutionResult.success(flow.getFlowId(), executionId, nodeContext);
+        } else {
+            NodeExecutor executor = nodeExecutorFactory.getExecutor(node);
+            nodeResult = executor.execute(node, context, nodeContext);
+        }
 
         // 根據執行結果決定後續節點
         if (nodeResult.getStatus() == ExecutionStatus.SUCCESS) {
@@ -136,11 +163,9 @@ public class DefaultFlowExecutionService extends BaseFlowExecutionService {
                 nextNodeOpt = flow.getNextNode(node.getNodeId(), true);
             } else if (node instanceof DecisionNode) {
                 Boolean decision = null;
-                if (nodeContext != null) {
-                    Object v = nodeContext.get("decisionResult");
-                    if (v instanceof Boolean) {
-                        decision = (Boolean) v;
-                    }
+                Object v = nodeContext.get("decisionResult");
+                if (v instanceof Boolean) {
+                    decision = (Boolean) v;
                 }
                 nextNodeOpt = flow.getNextNode(node.getNodeId(), decision != null ? decision : false);
             }
@@ -149,23 +174,41 @@ public class DefaultFlowExecutionService extends BaseFlowExecutionService {
             if (nextNode != null) {
                 return executeNode(flow, nextNode, context, executionId);
             } else {
-                executionStates.put(executionId, ExecutionStatus.SUCCESS);
-                return nodeResult;
+                executionStatePort.complete(executionId, ExecutionStatus.SUCCESS);
+                return withPath(nodeResult, path, context);
             }
         } else {
-            executionStates.put(executionId, ExecutionStatus.FAILURE);
-            return nodeResult;
+            executionStatePort.complete(executionId, ExecutionStatus.FAILURE);
+            return withPath(nodeResult, path, context);
         }
     }
 
     /**
-     * 取得當前執行節點（根據 executionContexts 中儲存的 currentNodeId）
+     * 取得節點執行上下文中記錄的執行路徑
      */
-    private Node getCurrentNode(Flow flow, String executionId) {
-        Map<String, Object> context = executionContexts.get(executionId);
-        if (context == null) {
-            return null;
+    @SuppressWarnings("unchecked")
+    private List<String> executionPath(Map<String, Object> nodeContext) {
+        Object path = nodeContext.get("executionPath");
+        if (path instanceof List) {
+            return (List<String>) path;
         }
+        List<String> newPath = new ArrayList<>();
+        nodeContext.put("executionPath", newPath);
+        return newPath;
+    }
+
+    /**
+     * 附加執行路徑，模擬執行的結果另外標記
+     */
+    private ExecutionResult withPath(ExecutionResult result, List<String> path, BaseExecutionContext context) {
+        ExecutionResult withPath = result.withPath(path);
+        return context.isSimulation() ? withPath.asSimulation() : withPath;
+    }
+
+    /**
+     * 取得當前執行節點（根據節點執行上下文中儲存的 currentNodeId）
+     */
+    private Node getCurrentNode(Flow flow, Map<String, Object> context) {
         String currentNodeId = (String) context.get("currentNodeId");
         if (currentNodeId == null) {
             return null;
@@ -186,7 +229,15 @@ public class DefaultFlowExecutionService extends BaseFlowExecutionService {
         // 預設實作，可根據需要實作具體邏輯
         throw new UnsupportedOperationException("getFlowExecutions not implemented in DefaultFlowExecutionService");
     }
-    
+
+    @Override
+    public com.example.banking.benefit.domain.model.statistics.ExecutionDetailsPage getFlowExecutionPage(
+            String flowId, java.time.LocalDateTime startTime, java.time.LocalDateTime endTime, String status,
+            String cursor, int pageSize) {
+        // 預設實作，可根據需要實作具體邏輯
+        throw new UnsupportedOperationException("getFlowExecutionPage not implemented in DefaultFlowExecutionService");
+    }
+
     @Override
     public ExecutionDetails getExecutionDetails(String executionId) {
         // 預設實作，可根據需要實作具體邏輯
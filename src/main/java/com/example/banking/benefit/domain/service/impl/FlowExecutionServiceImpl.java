@@ -4,48 +4,131 @@ import com.example.banking.benefit.domain.model.flow.Flow;
 import com.example.banking.benefit.domain.model.flow.FlowId;
 import com.example.banking.benefit.domain.model.common.BaseExecutionContext;
 import com.example.banking.benefit.domain.model.common.ExecutionContext;
+import com.example.banking.benefit.domain.model.common.ExecutionDeadline;
+import com.example.banking.benefit.domain.model.result.ExecutionCompletedEvent;
 import com.example.banking.benefit.domain.model.result.ExecutionResult;
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
 import com.example.banking.benefit.domain.model.result.ProcessResult;
+import com.example.banking.benefit.domain.model.node.NodeOutcome;
 import com.example.banking.benefit.domain.model.node.NodeType;
 import com.example.banking.benefit.domain.model.node.DecisionNode;
-import com.example.banking.benefit.domain.model.node.ProcessNode;
+import com.example.banking.benefit.domain.model.node.Node;
+import com.example.banking.benefit.domain.model.process.ProcessNode;
 import com.example.banking.benefit.domain.model.state.ProcessState;
 import com.example.banking.benefit.domain.model.statistics.ExecutionDetails;
+import com.example.banking.benefit.domain.model.statistics.ExecutionDetailsPage;
 import com.example.banking.benefit.domain.model.statistics.FlowStatistics;
 import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import com.example.banking.benefit.domain.model.log.ExecutionLogCursor;
 import com.example.banking.benefit.domain.model.command.DecisionCommand;
 import com.example.banking.benefit.domain.service.FlowExecutionServiceExtended;
 import com.example.banking.benefit.domain.repository.ExecutionLogRepository;
+import com.example.banking.benefit.domain.port.output.EngineMetricsPort;
+import com.example.banking.benefit.domain.port.output.ExecutionEventPublisher;
+import com.example.banking.benefit.domain.port.output.ExecutionLogWriter;
+import com.example.banking.benefit.domain.service.log.ExecutionLogSampler;
+import com.example.banking.benefit.domain.service.log.ExecutionLogSampler.LogSession;
+import com.example.banking.benefit.domain.service.log.ExecutionTraceCodec;
+import com.example.banking.benefit.domain.service.log.ExecutionTraceRecorder;
+import com.example.banking.benefit.domain.service.log.ExecutionTraceRecorder.Recording;
+import com.example.banking.benefit.domain.service.log.SynchronousExecutionLogWriter;
+import com.example.banking.benefit.domain.model.log.ExecutionTrace;
+import com.example.banking.benefit.domain.model.log.NodeTrace;
 import com.example.banking.benefit.domain.repository.FlowRepository;
 import com.example.banking.benefit.domain.exception.*;
 import com.example.banking.benefit.domain.service.WhitelistTypeLocator;
+import com.example.banking.benefit.domain.service.common.ContextVariableEvaluationContext;
+import com.example.banking.benefit.domain.service.diagnostics.CacheLookupEvent;
+import com.example.banking.benefit.domain.service.diagnostics.ExpressionCompileEvent;
+import com.example.banking.benefit.domain.service.diagnostics.FlowExecutionEvent;
+import com.example.banking.benefit.domain.service.diagnostics.NodeEvaluationEvent;
+import com.example.banking.benefit.domain.service.execution.FlowBulkhead;
+import com.example.banking.benefit.domain.service.execution.FlowBulkheadRegistry;
+import com.example.banking.benefit.domain.service.execution.ExecutionSupervisor;
+import com.example.banking.benefit.domain.service.execution.ExecutionResultCache;
+import com.example.banking.benefit.domain.service.execution.ExecutionTimingRecorder;
+import com.example.banking.benefit.domain.service.execution.NodeProfileRecorder;
+import com.example.banking.benefit.domain.service.execution.FlightRecorder;
+import com.example.banking.benefit.domain.service.execution.RetryExecutor;
+import com.example.banking.benefit.domain.service.execution.RetryExecutor.RetryOutcome;
+import com.example.banking.benefit.domain.service.expression.ParsedExpressionCache;
+import com.example.banking.benefit.domain.service.statistics.FlowStatisticsAggregator;
 
 import jakarta.inject.Inject;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.expression.Expression;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.OptionalInt;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.lang.reflect.InvocationTargetException;
 
 @Service
 public class FlowExecutionServiceImpl implements FlowExecutionServiceExtended {
 
+    /** 流程層級（開始、完成、錯誤）日誌使用的節點ID */
+    private static final String FLOW_LEVEL_NODE_ID = "UNKNOWN";
+
     private final FlowRepository flowRepository;
     private final ExecutionLogRepository executionLogRepository;
+    private final FlowBulkheadRegistry bulkheadRegistry;
+    private final ExecutionSupervisor executionSupervisor;
+    private final RetryExecutor retryExecutor;
+    private final ExecutionResultCache resultCache;
+    private final ExecutionLogWriter executionLogWriter;
+    private final ExecutionTimingRecorder timingRecorder;
+    private final ExecutionTraceRecorder traceRecorder;
+    private final FlowStatisticsAggregator statisticsAggregator;
+    private final ExecutionLogSampler logSampler;
+    private final EngineMetricsPort metrics;
+    private final NodeProfileRecorder profileRecorder;
+    private final ExecutionEventPublisher eventPublisher;
+    private final FlightRecorder flightRecorder;
+    private final ParsedExpressionCache expressionCache = new ParsedExpressionCache();
 
-    @Inject
     public FlowExecutionServiceImpl(FlowRepository flowRepository, ExecutionLogRepository executionLogRepository) {
+        this(flowRepository, executionLogRepository, FlowBulkheadRegistry.unbounded(),
+             new ExecutionSupervisor(null, 0), new RetryExecutor(null), ExecutionResultCache.disabled(),
+             new SynchronousExecutionLogWriter(executionLogRepository), new ExecutionTimingRecorder(),
+             ExecutionTraceRecorder.rowsOnly(), FlowStatisticsAggregator.inMemory(), ExecutionLogSampler.full(),
+             EngineMetricsPort.noop(), new NodeProfileRecorder(), ExecutionEventPublisher.noop(),
+             FlightRecorder.disabled());
+    }
+
+    @Inject
+    public FlowExecutionServiceImpl(FlowRepository flowRepository, ExecutionLogRepository executionLogRepository,
+                                    FlowBulkheadRegistry bulkheadRegistry, ExecutionSupervisor executionSupervisor,
+                                    RetryExecutor retryExecutor, ExecutionResultCache resultCache,
+                                    ExecutionLogWriter executionLogWriter, ExecutionTimingRecorder timingRecorder,
+                                    ExecutionTraceRecorder traceRecorder,
+                                    FlowStatisticsAggregator statisticsAggregator, ExecutionLogSampler logSampler,
+                                    EngineMetricsPort metrics, NodeProfileRecorder profileRecorder,
+                                    ExecutionEventPublisher eventPublisher, FlightRecorder flightRecorder) {
         this.flowRepository = flowRepository;
         this.executionLogRepository = executionLogRepository;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.executionSupervisor = executionSupervisor;
+        this.retryExecutor = retryExecutor;
+        this.resultCache = resultCache;
+        this.executionLogWriter = executionLogWriter;
+        this.timingRecorder = timingRecorder;
+        this.traceRecorder = traceRecorder;
+        this.statisticsAggregator = statisticsAggregator;
+        this.logSampler = logSampler;
+        this.metrics = metrics;
+        this.profileRecorder = profileRecorder;
+        this.eventPublisher = eventPublisher;
+        this.flightRecorder = flightRecorder;
     }
     
     @Override
@@ -55,11 +138,76 @@ public class FlowExecutionServiceImpl implements FlowExecutionServiceExtended {
             throw new FlowNotFoundException("找不到流程：" + flow.getFlowId().getValue());
         }
 
-        var executionId = generateExecutionId();
-        
+        var executionId = resolveExecutionId(context);
+        FlowExecutionEvent executionEvent = new FlowExecutionEvent();
+        executionEvent.begin();
+
+        // 相同版本且讀取的客戶屬性相同時直接回應快取的結果
+        var cached = resultCache.lookup(flow, context, executionId);
+        if (cached.isPresent()) {
+            executionEvent.complete(flow, executionId, cached.get().getStatus(), context.isSimulation());
+            return cached.get();
+        }
+
+        // 期限自此開始計算，佇列等待也計入，避免請求執行緒在佇列中等待超過期限
+        ExecutionDeadline deadline = executionSupervisor.resolveDeadline(flow.getFlowId().getValue(), context);
+        context.setDeadline(deadline);
+
+        // 取得流程隔艙許可，佇列已滿時立即拒絕
+        FlowBulkhead bulkhead = bulkheadRegistry.getBulkhead(flow.getFlowId().getValue());
+        if (!bulkhead.tryAcquire(deadline.remaining())) {
+            metrics.recordRejected(flow.getFlowId().getValue());
+            executionEvent.complete(flow, executionId, ExecutionStatus.REJECTED, context.isSimulation());
+            return ExecutionResult.rejected(flow.getFlowId(), executionId,
+                "流程執行數已達上限：" + flow.getFlowId().getValue());
+        }
+
+        metrics.executionStarted(flow.getFlowId().getValue());
+        try {
+            // 在期限內於虛擬執行緒上執行，逾時或取消時立即返回
+            long startNanos = System.nanoTime();
+            Recording recording = traceRecorder.begin(flow, executionId, context.getCustomerId());
+            FlightRecorder.Recording flight = flightRecorder.begin(flow, executionId, context);
+            LogSession logSession = logSampler.begin(flow.getFlowId().getValue(), executionLogWriter);
+            // 逾時或取消後被中斷的工作仍可能跑完，由先取得此旗標的一方記錄統計、時間與日誌
+            AtomicBoolean completionClaim = new AtomicBoolean();
+            ExecutionResult result = executionSupervisor.run(flow.getFlowId(), executionId, deadline,
+                () -> executeFlow(flow, context, executionId, deadline, recording, logSession, flight,
+                                  completionClaim));
+            if ((result.getStatus() == ExecutionStatus.TIMED_OUT || result.getStatus() == ExecutionStatus.CANCELLED)
+                    && completionClaim.compareAndSet(false, true)) {
+                long durationNanos = System.nanoTime() - startNanos;
+                recordFlowCompletion(flow.getFlowId().getValue(), context, false, durationNanos);
+                logExecution(logSession, executionId, flow.getFlowId().getValue(), context,
+                            "ERROR", null, result.getStatus().name(), result.getMessage(), durationNanos, 1);
+                finishLogging(recording, logSession, context, result.getStatus().name(), result.getMessage(),
+                              true, durationNanos);
+            }
+            if (!context.isSimulation()) {
+                long durationNanos = System.nanoTime() - startNanos;
+                metrics.recordFlow(flow.getFlowId().getValue(), result.getStatus(), durationNanos);
+                flightRecorder.finish(flight, result.getStatus().name(), result.getMessage(), durationNanos);
+                String version = flow.getVersion() != null ? flow.getVersion().getValue() : null;
+                eventPublisher.publish(new ExecutionCompletedEvent(flow.getFlowId().getValue(), version, executionId,
+                    result.getStatus(), durationNanos, result.getPath().size(), LocalDateTime.now()));
+            }
+            resultCache.store(flow, context, result);
+            executionEvent.complete(flow, executionId, result.getStatus(), context.isSimulation());
+            return result;
+        } finally {
+            metrics.executionEnded(flow.getFlowId().getValue());
+            bulkhead.release();
+        }
+    }
+
+    private ExecutionResult executeFlow(Flow flow, BaseExecutionContext context, String executionId,
+                                        ExecutionDeadline deadline, Recording recording, LogSession logSession,
+                                        FlightRecorder.Recording flight, AtomicBoolean completionClaim) {
+        List<String> path = new ArrayList<>();
+        long flowStartNanos = System.nanoTime();
         try {
             // 記錄開始執行
-            logExecution(executionId, flow.getFlowId().getValue(), context.getCustomerId(), 
+            logExecution(logSession, executionId, flow.getFlowId().getValue(), context, 
                         "START", null, null, "開始執行流程");
 
             // 取得起始節點
@@ -70,13 +218,31 @@ public class FlowExecutionServiceImpl implements FlowExecutionServiceExtended {
             var currentNode = currentNodeOpt.get();
             
             while (currentNode != null) {
+                // 節點之間檢查是否已逾時或被取消
+                deadline.checkpoint(currentNode.getNodeId());
+                path.add(currentNode.getNodeId());
+                long nodeStartNanos = System.nanoTime();
+                NodeEvaluationEvent nodeEvent = new NodeEvaluationEvent();
+                nodeEvent.begin();
+
                 // 執行決策節點
                 if (currentNode.getNodeType() == NodeType.DECISION) {
                     var decisionNode = (DecisionNode) currentNode;
-                    var decisionResult = executeDecision(decisionNode, context);
+                    boolean decisionResult;
+                    try {
+                        decisionResult = executeDecision(flow, decisionNode, context, flight);
+                    } catch (DecisionEvaluationException e) {
+                        recordNodeTiming(flow, currentNode, NodeOutcome.ERROR, 1, context, flight, nodeStartNanos,
+                                         nodeEvent);
+                        throw e;
+                    }
+                    long nodeNanos = recordNodeTiming(flow, currentNode, NodeOutcome.ofDecision(decisionResult), 1,
+                                                      context, flight, nodeStartNanos, nodeEvent);
                     
-                    logExecution(executionId, flow.getFlowId().getValue(), context.getCustomerId(),
-                               "DECISION", currentNode.getNodeId(), String.valueOf(decisionResult), null);
+                    logExecution(logSession, executionId, flow.getFlowId().getValue(), context,
+                               "DECISION", currentNode.getNodeId(), String.valueOf(decisionResult), null,
+                               nodeNanos, 1);
+                    recording.addStep(currentNode.getNodeId(), NodeType.DECISION, decisionResult, false, 1, nodeNanos);
                     
                     var nextNode = flow.getNextNode(currentNode.getNodeId(), decisionResult);
                     if (nextNode.isEmpty()) {
@@ -87,12 +253,36 @@ public class FlowExecutionServiceImpl implements FlowExecutionServiceExtended {
                 // 執行處理節點
                 else if (currentNode.getNodeType() == NodeType.PROCESS) {
                     var processNode = (ProcessNode) currentNode;
-                    var processResult = executeProcess(processNode, context);
-                    
-                    logExecution(executionId, flow.getFlowId().getValue(), context.getCustomerId(),
-                               "PROCESS", currentNode.getNodeId(), processResult.isSuccess() ? "SUCCESS" : "FAILURE", null);
+                    boolean processSucceeded;
+                    if (context.isSimulation() && !processNode.isSideEffectFree()) {
+                        // 模擬執行時略過有副作用的處理節點，沿成功路徑繼續
+                        processSucceeded = true;
+                        recording.addStep(currentNode.getNodeId(), NodeType.PROCESS, true, true, 1, 0);
+                    } else {
+                        var outcome = executeProcess(flow, processNode, context, flight);
+                        NodeOutcome nodeOutcome = !outcome.isSuccess() ? NodeOutcome.ERROR
+                            : NodeOutcome.ofProcess(outcome.getValue().isSuccess());
+                        long nodeNanos = recordNodeTiming(flow, currentNode, nodeOutcome, outcome.getAttempts(),
+                                                          context, flight, nodeStartNanos, nodeEvent);
+                        if (!outcome.isSuccess()) {
+                            logExecution(logSession, executionId, flow.getFlowId().getValue(), context,
+                                       "PROCESS", currentNode.getNodeId(), "FAILURE", outcome.getError().getMessage(),
+                                       nodeNanos, outcome.getAttempts());
+                            recording.addStep(currentNode.getNodeId(), NodeType.PROCESS, false, false,
+                                              outcome.getAttempts(), nodeNanos);
+                            throw new ProcessExecutionException("處理節點執行失敗：" + processNode.getNodeId(), outcome.getError());
+                        }
+                        var processResult = outcome.getValue();
+                        processSucceeded = processResult.isSuccess();
+                        
+                        logExecution(logSession, executionId, flow.getFlowId().getValue(), context,
+                                   "PROCESS", currentNode.getNodeId(), processSucceeded ? "SUCCESS" : "FAILURE", null,
+                                   nodeNanos, outcome.getAttempts());
+                        recording.addStep(currentNode.getNodeId(), NodeType.PROCESS, processSucceeded, false,
+                                          outcome.getAttempts(), nodeNanos);
+                    }
                     
-                    var nextNode = flow.getNextNode(currentNode.getNodeId(), processResult.isSuccess());
+                    var nextNode = flow.getNextNode(currentNode.getNodeId(), processSucceeded);
                     if (nextNode.isEmpty()) {
                         break;
                     }
@@ -100,20 +290,86 @@ public class FlowExecutionServiceImpl implements FlowExecutionServiceExtended {
                 }
             }
 
-            // 記錄完成執行
-            logExecution(executionId, flow.getFlowId().getValue(), context.getCustomerId(),
-                        "COMPLETE", null, "SUCCESS", "流程執行完成");
+            // 記錄完成執行，呼叫端已因逾時或取消記錄過時略過
+            long flowNanos = System.nanoTime() - flowStartNanos;
+            if (completionClaim.compareAndSet(false, true)) {
+                recordFlowCompletion(flow.getFlowId().getValue(), context, true, flowNanos);
+                logExecution(logSession, executionId, flow.getFlowId().getValue(), context,
+                            "COMPLETE", null, "SUCCESS", "流程執行完成", flowNanos, 1);
+                finishLogging(recording, logSession, context, ExecutionStatus.SUCCESS.name(), null, false, flowNanos);
+            }
 
-            return ExecutionResult.success(flow.getFlowId(), executionId, null);
+            return withPath(ExecutionResult.success(flow.getFlowId(), executionId, null), path, context);
             
+        } catch (ExecutionTimeoutException | ExecutionCancelledException e) {
+            // 由執行監督者轉換為對應的結果並記錄
+            throw e;
         } catch (Exception e) {
+            if (deadline.isCancelled() || deadline.isExpired()) {
+                // 中斷造成的失敗，同樣交由執行監督者處理
+                throw e;
+            }
             // 記錄執行失敗
-            logExecution(executionId, flow.getFlowId().getValue(), context.getCustomerId(),
-                        "ERROR", null, "ERROR", e.getMessage());
+            long flowNanos = System.nanoTime() - flowStartNanos;
+            if (completionClaim.compareAndSet(false, true)) {
+                recordFlowCompletion(flow.getFlowId().getValue(), context, false, flowNanos);
+                logExecution(logSession, executionId, flow.getFlowId().getValue(), context,
+                            "ERROR", null, "ERROR", e.getMessage(), flowNanos, 1);
+                finishLogging(recording, logSession, context, ExecutionStatus.FAILURE.name(), e.getMessage(), true,
+                              flowNanos);
+            }
                         
-            return ExecutionResult.failure(flow.getFlowId(), executionId, e.getMessage());
+            return withPath(ExecutionResult.failure(flow.getFlowId(), executionId, e.getMessage()), path, context);
+        }
+    }
+
+    /**
+     * 記錄節點執行時間、剖析計數與慢速執行紀錄，模擬執行不列入統計（JFR 事件仍會提交並標示為模擬）
+     *
+     * @return 節點經過的奈秒數
+     */
+    private long recordNodeTiming(Flow flow, Node node, NodeOutcome outcome, int attemptCount,
+                                  BaseExecutionContext context, FlightRecorder.Recording flight,
+                                  long nodeStartNanos, NodeEvaluationEvent nodeEvent) {
+        long durationNanos = System.nanoTime() - nodeStartNanos;
+        nodeEvent.complete(flow, node, outcome, attemptCount, context.isSimulation());
+        if (!context.isSimulation()) {
+            String flowId = flow.getFlowId().getValue();
+            timingRecorder.recordNode(flowId, node.getNodeId(), durationNanos);
+            metrics.recordNode(flowId, node.getNodeId(), node.getNodeType(), outcome, durationNanos);
+            profileRecorder.record(flowId, node.getNodeId(), node.getNodeType(), outcome, durationNanos);
+            flight.addStep(node, outcome, attemptCount, nodeStartNanos, durationNanos);
+        }
+        return durationNanos;
+    }
+
+    /**
+     * 依取樣策略決定是否保留此次執行的日誌，保留時寫入精簡執行軌跡，模擬執行不寫入
+     */
+    private void finishLogging(Recording recording, LogSession logSession, BaseExecutionContext context, String status,
+                               String message, boolean failed, long durationNanos) {
+        if (!context.isSimulation() && logSession.complete(failed, durationNanos)) {
+            traceRecorder.finish(recording, status, message, durationNanos);
+        }
+    }
+
+    /**
+     * 記錄流程執行時間並累加統計彙總，模擬執行不列入統計
+     */
+    private void recordFlowCompletion(String flowId, BaseExecutionContext context, boolean success, long durationNanos) {
+        if (!context.isSimulation()) {
+            timingRecorder.recordFlow(flowId, durationNanos);
+            statisticsAggregator.record(flowId, success, durationNanos);
         }
     }
+
+    /**
+     * 附加執行路徑，模擬執行的結果另外標記
+     */
+    private ExecutionResult withPath(ExecutionResult result, List<String> path, BaseExecutionContext context) {
+        ExecutionResult withPath = result.withPath(path);
+        return context.isSimulation() ? withPath.asSimulation() : withPath;
+    }
     
     @Override
     public void pause(Flow flow, BaseExecutionContext context) {
@@ -149,30 +405,8 @@ public class FlowExecutionServiceImpl implements FlowExecutionServiceExtended {
         LocalDateTime effectiveStartTime = startTime != null ? startTime : LocalDateTime.now().minusDays(30);
         LocalDateTime effectiveEndTime = endTime != null ? endTime : LocalDateTime.now();
         
-        // 從 ExecutionLogRepository 取得執行記錄
-        List<ExecutionLog> logs = executionLogRepository.findByFlowIdAndExecutionTimeBetween(flowId, effectiveStartTime, effectiveEndTime);
-        
-        // 計算成功和失敗的執行數量
-        long totalExecutions = logs.size();
-        long successfulExecutions = logs.stream()
-            .filter(log -> "SUCCESS".equals(log.getExecutionResult().toString()))
-            .count();
-        long failedExecutions = totalExecutions - successfulExecutions;
-        
-        // 計算平均、最大和最小執行時間
-        Duration averageExecutionTime = calculateAverageExecutionTime(logs);
-        Duration maxExecutionTime = calculateMaxExecutionTime(logs);
-        Duration minExecutionTime = calculateMinExecutionTime(logs);
-        
-        // 建立並返回統計資訊
-        return new FlowStatistics(
-            totalExecutions,
-            successfulExecutions,
-            failedExecutions,
-            averageExecutionTime,
-            maxExecutionTime,
-            minExecutionTime
-        );
+        // 合併涵蓋時間範圍的統計彙總區間，不需載入執行日誌
+        return statisticsAggregator.query(flowId, effectiveStartTime, effectiveEndTime);
     }
 
     @Override
@@ -201,8 +435,41 @@ public class FlowExecutionServiceImpl implements FlowExecutionServiceExtended {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public ExecutionDetailsPage getFlowExecutionPage(String flowId, LocalDateTime startTime, LocalDateTime endTime,
+                                                     String status, String cursor, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+        FlowId id = FlowId.of(flowId);
+        if (!flowRepository.existsById(id)) {
+            throw new FlowNotFoundException("找不到流程：" + flowId);
+        }
+
+        LocalDateTime effectiveStartTime = startTime != null ? startTime : LocalDateTime.now().minusDays(30);
+        LocalDateTime effectiveEndTime = endTime != null ? endTime : LocalDateTime.now();
+        ExecutionLogCursor after = cursor != null && !cursor.isBlank() ? ExecutionLogCursor.decode(cursor) : null;
+
+        // 多取一筆判斷是否還有下一頁
+        List<ExecutionLog> logs = executionLogRepository.findPageAfter(
+            flowId, status, effectiveStartTime, effectiveEndTime, after, pageSize + 1);
+        boolean hasMore = logs.size() > pageSize;
+        List<ExecutionLog> page = hasMore ? logs.subList(0, pageSize) : logs;
+        String nextCursor = hasMore ? ExecutionLogCursor.after(page.get(page.size() - 1)).encode() : null;
+
+        return new ExecutionDetailsPage(
+            page.stream().map(this::convertToExecutionDetails).collect(Collectors.toList()),
+            nextCursor);
+    }
+
     @Override
     public ExecutionDetails getExecutionDetails(String executionId) {
+        // 優先使用精簡執行軌跡，可還原完整的執行路徑與各節點執行時間
+        Optional<ExecutionTrace> trace = traceRecorder.find(executionId);
+        if (trace.isPresent()) {
+            return convertToExecutionDetails(trace.get());
+        }
+
         ExecutionLog log = executionLogRepository.findById(executionId)
             .orElseThrow(() -> new ExecutionNotFoundException("執行記錄不存在: " + executionId));
             
@@ -217,8 +484,15 @@ public class FlowExecutionServiceImpl implements FlowExecutionServiceExtended {
         LocalDateTime effectiveStartTime = startTime != null ? startTime : LocalDateTime.now().minusDays(30);
         LocalDateTime effectiveEndTime = endTime != null ? endTime : LocalDateTime.now();
         
+        // 一次合併所有流程的統計彙總，不逐一查詢各流程
+        Map<String, FlowStatistics> statistics = statisticsAggregator.queryAll(effectiveStartTime, effectiveEndTime);
         return flows.stream()
-            .map(flow -> getFlowStatistics(flow.getFlowId().getValue(), effectiveStartTime, effectiveEndTime))
+            .map(flow -> {
+                String flowId = flow.getFlowId().getValue();
+                FlowStatistics flowStatistics = statistics.getOrDefault(flowId, FlowStatistics.empty(flowId));
+                flowStatistics.setFlowName(flow.getFlowName());
+                return flowStatistics;
+            })
             .collect(Collectors.toList());
     }
 
@@ -238,12 +512,41 @@ public class FlowExecutionServiceImpl implements FlowExecutionServiceExtended {
 
     @Override
     public void cancelExecution(String executionId) {
-        // 檢查執行記錄是否存在
-        executionLogRepository.findById(executionId)
-            .orElseThrow(() -> new RuntimeException("執行記錄不存在"));
-            
-        // 這裡可以實作取消邏輯，暫時拋出異常表示無法取消
-        throw new RuntimeException("無法取消執行");
+        // 中斷執行中的流程，執行緒會在下一個檢查點或阻塞呼叫時結束
+        if (!executionSupervisor.cancel(executionId)) {
+            throw new ExecutionNotFoundException("找不到執行中的流程：" + executionId);
+        }
+    }
+
+    private ExecutionDetails convertToExecutionDetails(ExecutionTrace trace) {
+        FlowId flowId = FlowId.of(trace.getFlowId());
+        Flow flow = (trace.getFlowVersion() != null
+                ? flowRepository.findByVersion(flowId, trace.getFlowVersion())
+                : flowRepository.findById(flowId))
+            .orElseThrow(() -> new FlowNotFoundException("找不到流程：" + trace.getFlowId()));
+        List<NodeTrace> steps = ExecutionTraceCodec.decode(flow, trace.getPathData());
+
+        List<String> executionPath = new ArrayList<>(steps.size());
+        Map<String, Duration> nodeExecutionTimes = new LinkedHashMap<>();
+        for (NodeTrace step : steps) {
+            executionPath.add(step.getNodeId());
+            nodeExecutionTimes.merge(step.getNodeId(), Duration.ofNanos(step.getDurationMicros() * 1_000), Duration::plus);
+        }
+        Duration executionTime = Duration.ofNanos(trace.getDurationMicros() * 1_000);
+
+        return ExecutionDetails.builder()
+            .executionId(trace.getExecutionId())
+            .flowId(trace.getFlowId())
+            .version(trace.getFlowVersion())
+            .customerId(trace.getCustomerId())
+            .startTime(trace.getStartTime())
+            .endTime(trace.getStartTime() != null ? trace.getStartTime().plus(executionTime) : null)
+            .executionTime(executionTime)
+            .status(trace.getStatus())
+            .errorMessage(trace.getErrorMessage())
+            .executionPath(executionPath)
+            .nodeExecutionTimes(nodeExecutionTimes)
+            .build();
     }
 
     private ExecutionDetails convertToExecutionDetails(ExecutionLog log) {
@@ -252,57 +555,40 @@ public class FlowExecutionServiceImpl implements FlowExecutionServiceExtended {
             .flowId(log.getFlowId())
             .customerId(log.getCustomerId())
             .startTime(log.getExecutionTime())
-            .executionTime(Duration.ofMillis(log.getExecutionDurationMs()))
+            .executionTime(log.getDuration())
             .status(log.getExecutionResult().toString())
             .errorMessage(log.getErrorMessage())
             .build();
     }
 
-    private Duration calculateAverageExecutionTime(List<ExecutionLog> logs) {
-        if (logs.isEmpty()) {
-            return Duration.ZERO;
-        }
-        
-        double avgMillis = logs.stream()
-            .mapToInt(ExecutionLog::getExecutionDurationMs)
-            .average()
-            .orElse(0.0);
-            
-        return Duration.ofMillis(Math.round(avgMillis));
-    }
-
-    private Duration calculateMaxExecutionTime(List<ExecutionLog> logs) {
-        if (logs.isEmpty()) {
-            return Duration.ZERO;
-        }
-        
-        OptionalInt maxMillis = logs.stream()
-            .mapToInt(ExecutionLog::getExecutionDurationMs)
-            .max();
-            
-        return maxMillis.isPresent() ? Duration.ofMillis(maxMillis.getAsInt()) : Duration.ZERO;
-    }
-
-    private Duration calculateMinExecutionTime(List<ExecutionLog> logs) {
-        if (logs.isEmpty()) {
-            return Duration.ZERO;
-        }
-        
-        OptionalInt minMillis = logs.stream()
-            .mapToInt(ExecutionLog::getExecutionDurationMs)
-            .min();
-            
-        return minMillis.isPresent() ? Duration.ofMillis(minMillis.getAsInt()) : Duration.ZERO;
+    private String resolveExecutionId(BaseExecutionContext context) {
+        String executionId = context.getExecutionId();
+        return executionId != null && !executionId.isBlank() ? executionId : generateExecutionId();
     }
 
     private String generateExecutionId() {
         return UUID.randomUUID().toString();
     }
 
-    private void logExecution(String executionId, String flowId, String customerId, 
+    private void logExecution(LogSession logSession, String executionId, String flowId, BaseExecutionContext context,
                             String type, String nodeId, String result, String message) {
+        logExecution(logSession, executionId, flowId, context, type, nodeId, result, message, -1, 1);
+    }
+
+    /**
+     * @param durationNanos 經過時間，負值表示此筆日誌不帶執行時間（例如流程開始）
+     */
+    private void logExecution(LogSession logSession, String executionId, String flowId, BaseExecutionContext context,
+                            String type, String nodeId, String result, String message,
+                            long durationNanos, int attemptCount) {
+        // 模擬執行不寫入執行日誌，只寫精簡軌跡時也不寫每個節點的日誌
+        if (context.isSimulation() || !traceRecorder.writesRows()) {
+            return;
+        }
+        String customerId = context.getCustomerId();
+
         // 確保 nodeId 不為 null
-        String safeNodeId = nodeId != null ? nodeId : "UNKNOWN";
+        String safeNodeId = nodeId != null ? nodeId : FLOW_LEVEL_NODE_ID;
         
         // 確保 type 是有效的 NodeType
         com.example.banking.benefit.domain.model.node.NodeType nodeType;
@@ -320,73 +606,142 @@ public class FlowExecutionServiceImpl implements FlowExecutionServiceExtended {
             "SUCCESS".equals(result) ? com.example.banking.benefit.domain.model.log.ExecutionResult.PASS 
                                    : com.example.banking.benefit.domain.model.log.ExecutionResult.FAIL
         );
+        log.setExecutionId(executionId);
         log.setResultData(result);
         log.setErrorMessage(message);
-        log.setExecutionDuration(0);
+        if (durationNanos >= 0) {
+            log.setExecutionDurationNanos(durationNanos);
+        }
+        log.setAttemptCount(attemptCount);
         
-        executionLogRepository.save(log);
+        // 由取樣決定寫出或暫存，寫出時由日誌寫入器決定同步寫入或排入批次寫入
+        logSession.write(log);
     }
 
-    private boolean executeDecision(DecisionNode node, BaseExecutionContext context) {
+    private boolean executeDecision(Flow flow, DecisionNode node, BaseExecutionContext context,
+                                    FlightRecorder.Recording flight) {
+        long startNanos = System.nanoTime();
+        boolean success = false;
         try {
-            if (node.isSpelExpression()) {
-                return evaluateSpelExpression(node.getSpelExpression(), context);
-            } else {
-                return executeJavaDecision(node.getImplementationClass(), context);
-            }
+            boolean result = node.isSpelExpression()
+                ? evaluateSpelExpression(flow, node, context, flight)
+                : executeJavaDecision(flow, node.getImplementationClass(), context);
+            success = true;
+            return result;
         } catch (Exception e) {
             throw new DecisionEvaluationException("決策執行失敗：" + node.getNodeId(), e.getMessage(), e);
+        } finally {
+            recordEvaluation(context, node.isSpelExpression(), success, startNanos);
         }
     }
 
-    private ProcessResult executeProcess(ProcessNode node, BaseExecutionContext context) {
-        try {
-            if (node.isSpelExpression()) {
-                return evaluateProcessSpelExpression(node.getSpelExpression(), context);
-            } else {
-                return executeJavaProcess(node.getImplementationClass(), context);
+    /**
+     * 執行處理節點，暫時性失敗依節點的重試策略重試
+     */
+    private RetryOutcome<ProcessResult> executeProcess(Flow flow, ProcessNode node, BaseExecutionContext context,
+                                                       FlightRecorder.Recording flight) {
+        boolean spel = node.getSpelExpression() != null;
+        return retryExecutor.execute(context.getFlowId(), node.getNodeId(), context.getDeadline(), () -> {
+            // 每次嘗試各自記錄評估時間
+            long startNanos = System.nanoTime();
+            boolean success = false;
+            try {
+                ProcessResult result = spel
+                    ? evaluateProcessSpelExpression(flow, node, context, flight)
+                    : executeJavaProcess(flow, node.getImplementationClass(), context);
+                success = true;
+                return result;
+            } finally {
+                recordEvaluation(context, spel, success, startNanos);
             }
-        } catch (Exception e) {
-            throw new ProcessExecutionException("處理節點執行失敗：" + node.getNodeId(), e);
+        });
+    }
+
+    /**
+     * 記錄運算式或 Java 類別評估時間，模擬執行不列入統計
+     */
+    private void recordEvaluation(BaseExecutionContext context, boolean spel, boolean success, long startNanos) {
+        if (!context.isSimulation()) {
+            metrics.recordEvaluation(context.getFlowId(), spel ? "spel" : "java", success, System.nanoTime() - startNanos);
         }
     }
 
-    private boolean evaluateSpelExpression(String expression, BaseExecutionContext context) {
-        SpelExpressionParser parser = new SpelExpressionParser();
-        StandardEvaluationContext evalContext = createSecureContext();
+    private boolean evaluateSpelExpression(Flow flow, DecisionNode node, BaseExecutionContext context,
+                                           FlightRecorder.Recording flight) {
+        StandardEvaluationContext evalContext = createSecureContext(context);
         evalContext.setVariable("context", context);
         
-        Expression exp = parser.parseExpression(expression);
+        Expression exp = parsedExpression(flow, node, node.getSpelExpression(), flight);
         return exp.getValue(evalContext, Boolean.class);
     }
 
-    private ProcessResult evaluateProcessSpelExpression(String expression, BaseExecutionContext context) {
-        SpelExpressionParser parser = new SpelExpressionParser();
-        StandardEvaluationContext evalContext = createSecureContext();
+    private ProcessResult evaluateProcessSpelExpression(Flow flow, ProcessNode node, BaseExecutionContext context,
+                                                        FlightRecorder.Recording flight) {
+        StandardEvaluationContext evalContext = createSecureContext(context);
         evalContext.setVariable("context", context);
         
-        Expression exp = parser.parseExpression(expression);
+        Expression exp = parsedExpression(flow, node, node.getSpelExpression(), flight);
         return exp.getValue(evalContext, ProcessResult.class);
     }
 
-    private boolean executeJavaDecision(String className, BaseExecutionContext context) 
+    /**
+     * 取得已解析的表達式，第一次使用時解析並快取
+     */
+    private Expression parsedExpression(Flow flow, Node node, String expression, FlightRecorder.Recording flight) {
+        CacheLookupEvent lookupEvent = new CacheLookupEvent();
+        lookupEvent.begin();
+        Expression parsed = expressionCache.getIfPresent(expression);
+        lookupEvent.complete(CacheLookupEvent.EXPRESSION_CACHE, flow, node.getNodeId(), parsed != null);
+        flight.expressionLookup(parsed != null);
+        if (parsed != null) {
+            return parsed;
+        }
+        ExpressionCompileEvent compileEvent = new ExpressionCompileEvent();
+        compileEvent.begin();
+        boolean success = false;
+        try {
+            parsed = expressionCache.parse(expression);
+            success = true;
+            return parsed;
+        } finally {
+            compileEvent.complete(flow.getFlowId().getValue(),
+                flow.getVersion() != null ? flow.getVersion().getValue() : null, node.getNodeId(), expression, success);
+        }
+    }
+
+    private boolean executeJavaDecision(Flow flow, String className, BaseExecutionContext context) 
             throws ClassNotFoundException, InstantiationException, IllegalAccessException, 
                    NoSuchMethodException, InvocationTargetException {
         Class<?> decisionClass = Class.forName(className);
         DecisionCommand command = (DecisionCommand) decisionClass.getDeclaredConstructor().newInstance();
-        return command.evaluate(ExecutionContext.create(context.getFlowId(), context.getCustomerId(), context.getCustomerData()));
+        return command.evaluate(toCommandContext(flow, context));
     }
 
-    private ProcessResult executeJavaProcess(String className, BaseExecutionContext context) 
+    private ProcessResult executeJavaProcess(Flow flow, String className, BaseExecutionContext context) 
             throws ClassNotFoundException, InstantiationException, IllegalAccessException,
                    NoSuchMethodException, InvocationTargetException {
         Class<?> processClass = Class.forName(className);
         ProcessState state = (ProcessState) processClass.getDeclaredConstructor().newInstance();
-        return state.execute(ExecutionContext.create(context.getFlowId(), context.getCustomerId(), context.getCustomerData()));
+        return state.execute(toCommandContext(flow, context));
+    }
+
+    /**
+     * 建立提供給 Java 類別節點的上下文，以流程的變數配置保存目前的變數，並帶入執行期限供其自行檢查
+     */
+    private ExecutionContext toCommandContext(Flow flow, BaseExecutionContext context) {
+        ExecutionContext commandContext = ExecutionContext.create(
+            context.getFlowId(), context.getCustomerId(), context.getCustomerData(), flow.getVariableLayout());
+        context.getVariables().forEach(commandContext::addVariable);
+        commandContext.setDeadline(context.getDeadline());
+        commandContext.setSimulation(context.isSimulation());
+        return commandContext;
     }
 
-    private StandardEvaluationContext createSecureContext() {
-        StandardEvaluationContext context = new StandardEvaluationContext();
+    /**
+     * 建立限制可用型別的評估上下文，表達式引用 #name 時才向執行上下文查詢變數
+     */
+    private StandardEvaluationContext createSecureContext(BaseExecutionContext executionContext) {
+        StandardEvaluationContext context = new ContextVariableEvaluationContext(executionContext);
         context.setTypeLocator(new WhitelistTypeLocator(
             Arrays.asList(
                 "java.lang.String",
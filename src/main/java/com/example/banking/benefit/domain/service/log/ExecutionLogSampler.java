@@ -0,0 +1,169 @@
+package com.example.banking.benefit.domain.service.log;
+
+import com.example.banking.benefit.domain.model.config.FlowConfig;
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import com.example.banking.benefit.domain.model.statistics.LogSamplingStatistics;
+import com.example.banking.benefit.domain.port.input.ConfigurationUseCase;
+import com.example.banking.benefit.domain.port.output.ExecutionLogWriter;
+import com.example.banking.benefit.domain.service.log.LogSamplingPolicy.Mode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 執行日誌取樣器
+ *
+ * 依流程的 {@link LogSamplingPolicy} 決定每次執行的節點日誌與精簡軌跡是否寫入。
+ * 需要等到完成才能決定的執行先在記憶體中暫存節點日誌，決定保留時一次寫出，否則捨棄。
+ * 流程統計由統計彙總另外累計每一次執行，不受取樣影響。
+ */
+public class ExecutionLogSampler {
+
+    private final ConfigurationUseCase configurationUseCase;
+    private final LogSamplingPolicy defaults;
+    private final DoubleSupplier random;
+    private final LongAdder keptExecutions = new LongAdder();
+    private final LongAdder droppedExecutions = new LongAdder();
+    private final LongAdder writtenRows = new LongAdder();
+    private final LongAdder droppedRows = new LongAdder();
+
+    /**
+     * @param configurationUseCase 流程配置，為 null 時一律使用預設策略
+     * @param defaults 流程未設定時使用的預設策略
+     */
+    public ExecutionLogSampler(ConfigurationUseCase configurationUseCase, LogSamplingPolicy defaults) {
+        this(configurationUseCase, defaults, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    ExecutionLogSampler(ConfigurationUseCase configurationUseCase, LogSamplingPolicy defaults, DoubleSupplier random) {
+        this.configurationUseCase = configurationUseCase;
+        this.defaults = defaults;
+        this.random = random;
+    }
+
+    /**
+     * 保留每次執行的取樣器
+     */
+    public static ExecutionLogSampler full() {
+        return new ExecutionLogSampler(null, LogSamplingPolicy.full());
+    }
+
+    /**
+     * 取得流程的取樣策略
+     */
+    public LogSamplingPolicy policyFor(String flowId) {
+        if (configurationUseCase == null || flowId == null) {
+            return defaults;
+        }
+        Optional<FlowConfig> config = configurationUseCase.getFlowConfig(FlowId.of(flowId));
+        return LogSamplingPolicy.fromConfig(config.orElse(null), defaults);
+    }
+
+    /**
+     * 開始一次執行的日誌記錄
+     *
+     * @param flowId 流程ID
+     * @param writer 保留的日誌交由此寫入器寫入
+     */
+    public LogSession begin(String flowId, ExecutionLogWriter writer) {
+        LogSamplingPolicy policy = policyFor(flowId);
+        State state = switch (policy.getMode()) {
+            case FULL -> State.WRITE_THROUGH;
+            case SAMPLED -> random.getAsDouble() < policy.getSampleRate() ? State.WRITE_THROUGH : State.BUFFERING;
+            case TAIL -> State.BUFFERING;
+            case OFF -> State.DROPPING;
+        };
+        return new LogSession(policy, writer, state);
+    }
+
+    public LogSamplingStatistics getStatistics() {
+        return new LogSamplingStatistics(
+            keptExecutions.sum(), droppedExecutions.sum(), writtenRows.sum(), droppedRows.sum());
+    }
+
+    private enum State {
+        WRITE_THROUGH,
+        BUFFERING,
+        DROPPING
+    }
+
+    /**
+     * 一次執行的日誌記錄
+     *
+     * 逾時時由呼叫端執行緒結束記錄，而流程執行緒可能仍在寫入節點日誌，因此以同步方式存取。
+     */
+    public final class LogSession {
+        private final LogSamplingPolicy policy;
+        private final ExecutionLogWriter writer;
+        private final List<ExecutionLog> buffer = new ArrayList<>();
+        private State state;
+        private boolean completed;
+
+        private LogSession(LogSamplingPolicy policy, ExecutionLogWriter writer, State state) {
+            this.policy = policy;
+            this.writer = writer;
+            this.state = state;
+        }
+
+        /**
+         * 寫入或暫存一筆節點日誌
+         */
+        public synchronized void write(ExecutionLog log) {
+            switch (state) {
+                case WRITE_THROUGH -> {
+                    writer.write(log);
+                    writtenRows.increment();
+                }
+                case BUFFERING -> buffer.add(log);
+                case DROPPING -> droppedRows.increment();
+            }
+        }
+
+        /**
+         * 結束記錄並決定是否保留，同一次執行只會決定一次
+         *
+         * @param failed 執行是否失敗、逾時或被取消
+         * @param durationNanos 整個流程的經過時間
+         * @return 是否保留此次執行的日誌
+         */
+        public synchronized boolean complete(boolean failed, long durationNanos) {
+            if (completed) {
+                return state == State.WRITE_THROUGH;
+            }
+            completed = true;
+            boolean keep = state == State.WRITE_THROUGH
+                || (state == State.BUFFERING && shouldKeep(failed, durationNanos));
+            if (keep) {
+                for (ExecutionLog log : buffer) {
+                    writer.write(log);
+                }
+                writtenRows.add(buffer.size());
+                keptExecutions.increment();
+                state = State.WRITE_THROUGH;
+            } else {
+                droppedRows.add(buffer.size());
+                droppedExecutions.increment();
+                state = State.DROPPING;
+            }
+            buffer.clear();
+            return keep;
+        }
+
+        private boolean shouldKeep(boolean failed, long durationNanos) {
+            if (failed) {
+                return true;
+            }
+            if (policy.getMode() != Mode.TAIL) {
+                // 開始時未抽中的成功執行
+                return false;
+            }
+            long slowNanos = policy.getSlowThreshold().toNanos();
+            return (slowNanos > 0 && durationNanos >= slowNanos) || random.getAsDouble() < policy.getSampleRate();
+        }
+    }
+}
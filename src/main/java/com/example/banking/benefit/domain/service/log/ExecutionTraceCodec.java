@@ -0,0 +1,118 @@
+package com.example.banking.benefit.domain.service.log;
+
+import com.example.banking.benefit.domain.model.flow.Flow;
+import com.example.banking.benefit.domain.model.log.NodeTrace;
+import com.example.banking.benefit.domain.model.node.NodeType;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 執行軌跡編解碼器
+ *
+ * 格式：版本位元組、節點數，接著每個節點依序為節點索引、旗標與執行時間（微秒），
+ * 皆以無號 varint 編碼。旗標的第 0 位為結果、第 1 位為是否略過，其餘位元為嘗試次數。
+ * 節點索引對應 {@link Flow#getNodeIds()}，解碼時須使用同一版本的流程。
+ */
+public final class ExecutionTraceCodec {
+
+    static final int FORMAT_VERSION = 1;
+
+    private static final int RESULT_FLAG = 1;
+    private static final int SKIPPED_FLAG = 1 << 1;
+    private static final int ATTEMPT_SHIFT = 2;
+
+    private ExecutionTraceCodec() {
+    }
+
+    /**
+     * 將節點執行紀錄編碼為位元組
+     */
+    public static byte[] encode(Flow flow, List<NodeTrace> steps) {
+        Map<String, Integer> nodeIndex = indexOf(flow.getNodeIds());
+        // 一般節點索引、旗標各佔 1 位元組，執行時間約 2~3 位元組
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + steps.size() * 5);
+        out.write(FORMAT_VERSION);
+        writeVarint(out, steps.size());
+        for (NodeTrace step : steps) {
+            Integer index = nodeIndex.get(step.getNodeId());
+            if (index == null) {
+                throw new IllegalArgumentException("節點不屬於此流程: " + step.getNodeId());
+            }
+            long flags = ((long) step.getAttemptCount() << ATTEMPT_SHIFT)
+                | (step.getResult() ? RESULT_FLAG : 0)
+                | (step.isSkipped() ? SKIPPED_FLAG : 0);
+            writeVarint(out, index);
+            writeVarint(out, flags);
+            writeVarint(out, Math.max(0, step.getDurationMicros()));
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 將位元組解碼為節點執行紀錄
+     */
+    public static List<NodeTrace> decode(Flow flow, byte[] data) {
+        if (data == null || data.length == 0) {
+            return List.of();
+        }
+        if (data[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("不支援的執行軌跡格式版本: " + data[0]);
+        }
+        List<String> nodeIds = flow.getNodeIds();
+        int decisionCount = flow.getDecisionNodes().size();
+        int[] position = {1};
+        int stepCount = (int) readVarint(data, position);
+        List<NodeTrace> steps = new ArrayList<>(stepCount);
+        for (int i = 0; i < stepCount; i++) {
+            int index = (int) readVarint(data, position);
+            long flags = readVarint(data, position);
+            long durationMicros = readVarint(data, position);
+            String nodeId = index < nodeIds.size() ? nodeIds.get(index) : "#" + index;
+            steps.add(new NodeTrace(
+                nodeId,
+                index < decisionCount ? NodeType.DECISION : NodeType.PROCESS,
+                (flags & RESULT_FLAG) != 0,
+                (flags & SKIPPED_FLAG) != 0,
+                (int) (flags >>> ATTEMPT_SHIFT),
+                durationMicros));
+        }
+        return steps;
+    }
+
+    static void writeVarint(ByteArrayOutputStream out, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+
+    static long readVarint(byte[] data, int[] position) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            if (position[0] >= data.length || shift > 63) {
+                throw new IllegalArgumentException("執行軌跡資料不完整");
+            }
+            byte b = data[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    private static Map<String, Integer> indexOf(List<String> nodeIds) {
+        Map<String, Integer> index = new HashMap<>(nodeIds.size() * 2);
+        for (int i = 0; i < nodeIds.size(); i++) {
+            index.putIfAbsent(nodeIds.get(i), i);
+        }
+        return index;
+    }
+}
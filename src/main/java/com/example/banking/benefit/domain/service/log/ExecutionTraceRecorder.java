@@ -0,0 +1,151 @@
+package com.example.banking.benefit.domain.service.log;
+
+import com.example.banking.benefit.domain.model.flow.Flow;
+import com.example.banking.benefit.domain.model.log.ExecutionTrace;
+import com.example.banking.benefit.domain.model.log.NodeTrace;
+import com.example.banking.benefit.domain.model.node.NodeType;
+import com.example.banking.benefit.domain.repository.ExecutionTraceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 執行軌跡記錄器
+ *
+ * 依日誌格式決定每個節點寫一筆 execution_log（ROWS）、每次執行寫一筆精簡軌跡（TRACE），
+ * 或兩者皆寫（BOTH）。
+ */
+public class ExecutionTraceRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionTraceRecorder.class);
+
+    /**
+     * 執行日誌格式
+     */
+    public enum LogFormat {
+        /** 每個節點一筆 execution_log */
+        ROWS,
+        /** 每次執行一筆 execution_trace */
+        TRACE,
+        /** 兩者皆寫，用於切換期間比對 */
+        BOTH
+    }
+
+    private final ExecutionTraceRepository traceRepository;
+    private final LogFormat format;
+
+    public ExecutionTraceRecorder(ExecutionTraceRepository traceRepository, LogFormat format) {
+        this.traceRepository = traceRepository;
+        this.format = traceRepository != null ? format : LogFormat.ROWS;
+    }
+
+    /**
+     * 只寫入 execution_log 的記錄器
+     */
+    public static ExecutionTraceRecorder rowsOnly() {
+        return new ExecutionTraceRecorder(null, LogFormat.ROWS);
+    }
+
+    /**
+     * 是否寫入每個節點的 execution_log
+     */
+    public boolean writesRows() {
+        return format != LogFormat.TRACE;
+    }
+
+    /**
+     * 是否寫入精簡執行軌跡
+     */
+    public boolean writesTraces() {
+        return format != LogFormat.ROWS;
+    }
+
+    /**
+     * 開始記錄一次執行
+     */
+    public Recording begin(Flow flow, String executionId, String customerId) {
+        return new Recording(flow, executionId, customerId);
+    }
+
+    /**
+     * 結束記錄並寫入執行軌跡，同一次執行只會寫入一次
+     *
+     * @param recording 執行記錄
+     * @param status 最終狀態
+     * @param errorMessage 錯誤訊息
+     * @param durationNanos 整個流程的經過時間
+     */
+    public void finish(Recording recording, String status, String errorMessage, long durationNanos) {
+        if (!writesTraces() || !recording.finished.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            ExecutionTrace trace = new ExecutionTrace(
+                recording.executionId,
+                recording.flow.getFlowId().getValue(),
+                recording.flow.getVersion() != null ? recording.flow.getVersion().getValue() : null,
+                recording.customerId,
+                recording.startTime,
+                durationNanos / 1_000,
+                status,
+                errorMessage,
+                ExecutionTraceCodec.encode(recording.flow, recording.snapshot())
+            );
+            traceRepository.save(trace);
+        } catch (RuntimeException e) {
+            // 軌跡寫入失敗不影響流程執行結果
+            logger.error("寫入執行軌跡失敗: {}", recording.executionId, e);
+        }
+    }
+
+    /**
+     * 根據執行ID查詢執行軌跡
+     */
+    public Optional<ExecutionTrace> find(String executionId) {
+        if (traceRepository == null) {
+            return Optional.empty();
+        }
+        return traceRepository.findById(executionId);
+    }
+
+    /**
+     * 一次執行的節點紀錄
+     *
+     * 逾時時由呼叫端執行緒結束記錄，因此節點紀錄以同步方式存取。
+     */
+    public static final class Recording {
+        private final Flow flow;
+        private final String executionId;
+        private final String customerId;
+        private final LocalDateTime startTime = LocalDateTime.now();
+        private final List<NodeTrace> steps = new ArrayList<>();
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private Recording(Flow flow, String executionId, String customerId) {
+            this.flow = flow;
+            this.executionId = executionId;
+            this.customerId = customerId;
+        }
+
+        /**
+         * 記錄一個節點
+         */
+        public void addStep(String nodeId, NodeType nodeType, boolean result, boolean skipped,
+                            int attemptCount, long durationNanos) {
+            synchronized (steps) {
+                steps.add(new NodeTrace(nodeId, nodeType, result, skipped, attemptCount, durationNanos / 1_000));
+            }
+        }
+
+        private List<NodeTrace> snapshot() {
+            synchronized (steps) {
+                return new ArrayList<>(steps);
+            }
+        }
+    }
+}
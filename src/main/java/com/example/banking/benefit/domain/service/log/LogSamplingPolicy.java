@@ -0,0 +1,136 @@
+package com.example.banking.benefit.domain.service.log;
+
+import com.example.banking.benefit.domain.model.config.FlowConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+/**
+ * 執行日誌取樣策略
+ *
+ * {@link FlowConfig#isLogEnabled()} 為 false 時不寫入執行日誌，否則可在流程配置的屬性中覆寫引擎預設值：
+ * <pre>
+ * log.policy                 FULL、SAMPLED、TAIL 或 OFF
+ * log.sample-rate            保留成功執行的比例（0 到 1）
+ * log.slow-threshold-millis  TAIL 時超過此時間的執行一律保留
+ * </pre>
+ */
+public final class LogSamplingPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogSamplingPolicy.class);
+
+    /**
+     * 取樣模式
+     */
+    public enum Mode {
+        /** 保留每次執行 */
+        FULL,
+        /** 開始時依比例抽樣，未抽中的執行失敗時仍完整保留 */
+        SAMPLED,
+        /** 完成時才決定，失敗或過慢的執行完整保留，其餘依比例抽樣 */
+        TAIL,
+        /** 不寫入執行日誌 */
+        OFF
+    }
+
+    private static final LogSamplingPolicy FULL = new LogSamplingPolicy(Mode.FULL, 1.0, Duration.ZERO);
+    private static final LogSamplingPolicy OFF = new LogSamplingPolicy(Mode.OFF, 0.0, Duration.ZERO);
+
+    private final Mode mode;
+    private final double sampleRate;
+    private final Duration slowThreshold;
+
+    public LogSamplingPolicy(Mode mode, double sampleRate, Duration slowThreshold) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1");
+        }
+        this.mode = mode;
+        this.sampleRate = sampleRate;
+        this.slowThreshold = slowThreshold;
+    }
+
+    /**
+     * 保留每次執行的策略
+     */
+    public static LogSamplingPolicy full() {
+        return FULL;
+    }
+
+    /**
+     * 依流程配置建立取樣策略
+     *
+     * @param config 流程配置，可為 null
+     * @param defaults 流程未設定時使用的引擎預設策略
+     * @return 取樣策略
+     */
+    public static LogSamplingPolicy fromConfig(FlowConfig config, LogSamplingPolicy defaults) {
+        if (config == null) {
+            return defaults;
+        }
+        if (!config.isLogEnabled()) {
+            return OFF;
+        }
+        Mode mode = modeProperty(config, defaults.mode);
+        if (mode == Mode.FULL) {
+            return FULL;
+        }
+        if (mode == Mode.OFF) {
+            return OFF;
+        }
+        double sampleRate = doubleProperty(config, "log.sample-rate", defaults.sampleRate);
+        long slowMillis = longProperty(config, "log.slow-threshold-millis", defaults.slowThreshold.toMillis());
+        return new LogSamplingPolicy(mode, Math.min(1.0, Math.max(0.0, sampleRate)), Duration.ofMillis(slowMillis));
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    private static Mode modeProperty(FlowConfig config, Mode defaultValue) {
+        String value = config.getProperty("log.policy");
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Mode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warn("忽略無效的流程配置屬性: log.policy={}", value);
+            return defaultValue;
+        }
+    }
+
+    private static double doubleProperty(FlowConfig config, String key, double defaultValue) {
+        String value = config.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("忽略無效的流程配置屬性: {}={}", key, value);
+            return defaultValue;
+        }
+    }
+
+    private static long longProperty(FlowConfig config, String key, long defaultValue) {
+        String value = config.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("忽略無效的流程配置屬性: {}={}", key, value);
+            return defaultValue;
+        }
+    }
+}
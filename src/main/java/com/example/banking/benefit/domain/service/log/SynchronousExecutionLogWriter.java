@@ -0,0 +1,41 @@
+package com.example.banking.benefit.domain.service.log;
+
+import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import com.example.banking.benefit.domain.model.statistics.ExecutionLogWriterStatistics;
+import com.example.banking.benefit.domain.port.output.ExecutionLogWriter;
+import com.example.banking.benefit.domain.repository.ExecutionLogRepository;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 同步執行日誌寫入
+ *
+ * 在呼叫端執行緒直接儲存每筆日誌，用於未啟用非同步寫入或測試時。
+ */
+public class SynchronousExecutionLogWriter implements ExecutionLogWriter {
+
+    private final ExecutionLogRepository executionLogRepository;
+    private final LongAdder written = new LongAdder();
+
+    public SynchronousExecutionLogWriter(ExecutionLogRepository executionLogRepository) {
+        this.executionLogRepository = executionLogRepository;
+    }
+
+    @Override
+    public void write(ExecutionLog log) {
+        executionLogRepository.save(log);
+        written.increment();
+    }
+
+    @Override
+    public boolean flush(Duration timeout) {
+        return true;
+    }
+
+    @Override
+    public ExecutionLogWriterStatistics getStatistics() {
+        long count = written.sum();
+        return new ExecutionLogWriterStatistics(count, count, 0, 0, 0, count, 0, 0);
+    }
+}
@@ -0,0 +1,497 @@
+package com.example.banking.benefit.domain.service.statistics;
+
+import com.example.banking.benefit.domain.model.statistics.BucketGranularity;
+import com.example.banking.benefit.domain.model.statistics.FlowStatistics;
+import com.example.banking.benefit.domain.model.statistics.LatencyPercentiles;
+import com.example.banking.benefit.domain.model.statistics.StatisticsBucket;
+import com.example.banking.benefit.domain.repository.StatisticsRollupRepository;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 流程統計彙總器
+ *
+ * 每次流程執行結束時累加到所屬的每分鐘、每小時與每日區間，查詢時只需合併涵蓋時間範圍的少數區間，
+ * 不必載入執行日誌。記憶體中保留各粒度在保留期限內的區間，增量定期累加寫入彙總表，
+ * 啟動時再從彙總表載回。超過分鐘或小時保留期限的時間範圍改用較粗的區間，邊界會對齊到該區間。
+ * 每個區間另有執行時間的 HDR 直方圖供計算百分位數，已結束的區間在寫出時壓縮保存以節省記憶體。
+ *
+ * 記憶體中的區間只包含本節點自啟動後的執行與啟動時載入的資料，多節點部署時其他節點的執行
+ * 要在寫入彙總表並重新載入後才會反映。
+ */
+public class FlowStatisticsAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlowStatisticsAggregator.class);
+
+    private static final BucketGranularity[] COARSEST_FIRST = {
+        BucketGranularity.DAY, BucketGranularity.HOUR, BucketGranularity.MINUTE
+    };
+
+    private final StatisticsRollupRepository repository;
+    private final Map<BucketGranularity, Duration> retention = new EnumMap<>(BucketGranularity.class);
+    private final Clock clock;
+    /** 依區間索引各流程的彙總，查詢所有流程時每個區間只需讀取一次 */
+    private final ConcurrentHashMap<Segment, ConcurrentHashMap<String, MutableBucket>> slots = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<BucketKey, MutableBucket> pending = new ConcurrentHashMap<>();
+
+    /**
+     * @param repository 彙總表，null 時只保留在記憶體
+     * @param minuteRetention 每分鐘區間的保留期限
+     * @param hourRetention 每小時區間的保留期限
+     * @param dayRetention 每日區間在記憶體中的保留期限，彙總表中的每日區間不會刪除
+     */
+    public FlowStatisticsAggregator(StatisticsRollupRepository repository, Duration minuteRetention,
+                                    Duration hourRetention, Duration dayRetention, Clock clock) {
+        this.repository = repository;
+        this.retention.put(BucketGranularity.MINUTE, minuteRetention);
+        this.retention.put(BucketGranularity.HOUR, hourRetention);
+        this.retention.put(BucketGranularity.DAY, dayRetention);
+        this.clock = clock;
+    }
+
+    /**
+     * 建立只保留在記憶體的彙總器
+     */
+    public static FlowStatisticsAggregator inMemory() {
+        return new FlowStatisticsAggregator(null, Duration.ofHours(48), Duration.ofDays(62), Duration.ofDays(400),
+            Clock.systemDefaultZone());
+    }
+
+    /**
+     * 記錄一次流程執行結果
+     *
+     * @param flowId 流程ID
+     * @param success 是否成功
+     * @param durationNanos 執行時間（奈秒）
+     */
+    public void record(String flowId, boolean success, long durationNanos) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        long durationMicros = Math.max(0, durationNanos / 1_000);
+        for (BucketGranularity granularity : BucketGranularity.values()) {
+            Segment slot = new Segment(granularity, granularity.truncate(now));
+            slotBucket(slot, flowId).add(success, durationMicros);
+            if (repository != null) {
+                addPending(new BucketKey(flowId, granularity, slot.start), success, durationMicros);
+            }
+        }
+    }
+
+    /**
+     * 查詢流程在時間範圍內的統計資訊
+     *
+     * @param flowId 流程ID
+     * @param startTime 開始時間（含）
+     * @param endTime 結束時間（不含）
+     * @return 統計資訊
+     */
+    public FlowStatistics query(String flowId, LocalDateTime startTime, LocalDateTime endTime) {
+        List<StatisticsBucket> buckets = collect(flowId, startTime, endTime).get(flowId);
+        return summarize(flowId, buckets != null ? buckets : List.of());
+    }
+
+    /**
+     * 一次查詢所有流程在時間範圍內的統計資訊，每個區間只讀取一次
+     *
+     * @param startTime 開始時間（含）
+     * @param endTime 結束時間（不含）
+     * @return 各流程的統計資訊，依流程ID排序，沒有執行的流程不包含在內
+     */
+    public Map<String, FlowStatistics> queryAll(LocalDateTime startTime, LocalDateTime endTime) {
+        Map<String, FlowStatistics> result = new TreeMap<>();
+        collect(null, startTime, endTime).forEach((flowId, buckets) ->
+            result.put(flowId, summarize(flowId, buckets)));
+        return result;
+    }
+
+    /**
+     * 將同一流程的多個區間彙總為流程統計資訊
+     *
+     * 百分位數只涵蓋有直方圖的區間。
+     */
+    static FlowStatistics summarize(String flowId, Iterable<StatisticsBucket> buckets) {
+        long count = 0;
+        long success = 0;
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        Histogram merged = null;
+        for (StatisticsBucket bucket : buckets) {
+            if (bucket.getExecutionCount() == 0) {
+                continue;
+            }
+            count += bucket.getExecutionCount();
+            success += bucket.getSuccessCount();
+            sum += bucket.getDurationSumMicros();
+            min = Math.min(min, bucket.getMinDurationMicros());
+            max = Math.max(max, bucket.getMaxDurationMicros());
+            merged = HistogramCodec.merge(merged, decodeOrNull(bucket));
+        }
+        return new FlowStatistics(
+            flowId,
+            count,
+            success,
+            count - success,
+            count > 0 ? Duration.ofNanos(Math.round((double) sum / count * 1_000)) : Duration.ZERO,
+            Duration.ofNanos(max * 1_000),
+            count > 0 ? Duration.ofNanos(min * 1_000) : Duration.ZERO,
+            percentiles(merged, max)
+        );
+    }
+
+    /**
+     * 由以微秒記錄的直方圖計算百分位數
+     *
+     * @param histogram 直方圖，null 或沒有資料時回傳 {@link LatencyPercentiles#EMPTY}
+     * @param maxMicros 實際的最長執行時間（微秒），百分位數不會超過此值
+     */
+    static LatencyPercentiles percentiles(Histogram histogram, long maxMicros) {
+        if (histogram == null || histogram.getTotalCount() == 0) {
+            return LatencyPercentiles.EMPTY;
+        }
+        return new LatencyPercentiles(
+            valueAt(histogram, 50.0, maxMicros),
+            valueAt(histogram, 90.0, maxMicros),
+            valueAt(histogram, 95.0, maxMicros),
+            valueAt(histogram, 99.0, maxMicros),
+            valueAt(histogram, 99.9, maxMicros)
+        );
+    }
+
+    private static Duration valueAt(Histogram histogram, double percentile, long maxMicros) {
+        // 直方圖回傳所在桶的上界，以實際的最大值為上限
+        long micros = Math.min(histogram.getValueAtPercentile(percentile), maxMicros);
+        return Duration.ofNanos(micros * 1_000);
+    }
+
+    /**
+     * 還原區間的直方圖，損壞的直方圖不影響計數，百分位數略過該區間
+     */
+    private static Histogram decodeOrNull(StatisticsBucket bucket) {
+        if (bucket.getDurationHistogram() == null) {
+            return null;
+        }
+        try {
+            return HistogramCodec.decode(bucket.getDurationHistogram());
+        } catch (IllegalArgumentException e) {
+            logger.warn("略過無法解讀的流程統計直方圖: {} {} {}",
+                bucket.getFlowId(), bucket.getGranularity(), bucket.getBucketStart(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 收集涵蓋時間範圍的區間
+     *
+     * @param flowId 流程ID，null 表示所有流程
+     */
+    private Map<String, List<StatisticsBucket>> collect(String flowId, LocalDateTime startTime, LocalDateTime endTime) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Map<String, List<StatisticsBucket>> result = new HashMap<>();
+        Map<BucketGranularity, Set<LocalDateTime>> missing = new EnumMap<>(BucketGranularity.class);
+        for (Segment segment : decompose(startTime, endTime, now)) {
+            if (!isInMemory(segment.granularity, segment.start, now)) {
+                missing.computeIfAbsent(segment.granularity, g -> new HashSet<>()).add(segment.start);
+                continue;
+            }
+            Map<String, MutableBucket> flows = slots.get(segment);
+            if (flows == null) {
+                continue;
+            }
+            if (flowId != null) {
+                MutableBucket bucket = flows.get(flowId);
+                if (bucket != null) {
+                    addTo(result, bucket.snapshot(flowId, segment.granularity, segment.start));
+                }
+            } else {
+                flows.forEach((id, bucket) -> addTo(result, bucket.snapshot(id, segment.granularity, segment.start)));
+            }
+        }
+        if (repository != null) {
+            missing.forEach((granularity, starts) -> {
+                LocalDateTime from = starts.stream().min(LocalDateTime::compareTo).orElseThrow();
+                LocalDateTime to = granularity.next(starts.stream().max(LocalDateTime::compareTo).orElseThrow());
+                List<StatisticsBucket> stored = flowId != null
+                    ? repository.findBuckets(flowId, granularity, from, to)
+                    : repository.findBuckets(granularity, from, to);
+                stored.stream()
+                    .filter(bucket -> starts.contains(bucket.getBucketStart()))
+                    .forEach(bucket -> addTo(result, bucket));
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 將累積的增量寫入彙總表，並清除超過保留期限的區間
+     */
+    @Scheduled(fixedDelayString = "${benefit.engine.statistics.flush-interval:PT10S}")
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (repository != null) {
+            List<StatisticsBucket> deltas = drainPending();
+            if (!deltas.isEmpty()) {
+                try {
+                    repository.merge(deltas);
+                } catch (RuntimeException e) {
+                    // 寫入失敗時整批皆未寫入，放回全部增量下次再寫
+                    deltas.forEach(this::restorePending);
+                    logger.warn("寫入流程統計彙總失敗，{} 個區間將於下次重試", deltas.size(), e);
+                }
+            }
+            for (BucketGranularity granularity : List.of(BucketGranularity.MINUTE, BucketGranularity.HOUR)) {
+                try {
+                    repository.deleteBefore(granularity, now.minus(retention.get(granularity)));
+                } catch (RuntimeException e) {
+                    logger.warn("清除過期的流程統計彙總失敗: {}", granularity, e);
+                }
+            }
+        }
+        slots.keySet().removeIf(slot -> !isInMemory(slot.granularity, slot.start, now));
+        slots.forEach((slot, flows) -> {
+            if (!slot.granularity.next(slot.start).isAfter(now)) {
+                flows.values().forEach(MutableBucket::freeze);
+            }
+        });
+    }
+
+    /**
+     * 從彙總表載入保留期限內的區間，須在開始記錄執行與第一次寫出前呼叫
+     */
+    public void load() {
+        if (repository == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        int loaded = 0;
+        try {
+            for (BucketGranularity granularity : BucketGranularity.values()) {
+                LocalDateTime from = granularity.truncate(now.minus(retention.get(granularity)));
+                for (StatisticsBucket bucket : repository.findBuckets(granularity, from, granularity.next(now))) {
+                    slotBucket(new Segment(granularity, bucket.getBucketStart()), bucket.getFlowId()).merge(bucket);
+                    loaded++;
+                }
+            }
+            logger.info("已載入流程統計彙總區間: {}", loaded);
+        } catch (RuntimeException e) {
+            // 載入失敗時仍可累計新的執行，只是查詢不包含先前的資料
+            logger.warn("載入流程統計彙總失敗", e);
+        }
+    }
+
+    /**
+     * 將時間範圍拆成盡量少的區間：完整的日、小時使用較粗的區間，其餘以分鐘補足
+     */
+    List<Segment> decompose(LocalDateTime startTime, LocalDateTime endTime, LocalDateTime now) {
+        LocalDateTime end = BucketGranularity.MINUTE.isAligned(endTime)
+            ? endTime
+            : BucketGranularity.MINUTE.next(BucketGranularity.MINUTE.truncate(endTime));
+        LocalDateTime time = finestAvailable(startTime, now).truncate(startTime);
+        List<Segment> segments = new ArrayList<>();
+        while (time.isBefore(end)) {
+            BucketGranularity finest = finestAvailable(time, now);
+            BucketGranularity chosen = finest;
+            for (BucketGranularity granularity : COARSEST_FIRST) {
+                if (granularity.isAligned(time) && !granularity.next(time).isAfter(end)) {
+                    chosen = granularity.compareTo(finest) >= 0 ? granularity : finest;
+                    break;
+                }
+            }
+            segments.add(new Segment(chosen, time));
+            time = chosen.next(time);
+        }
+        return segments;
+    }
+
+    private BucketGranularity finestAvailable(LocalDateTime time, LocalDateTime now) {
+        for (BucketGranularity granularity : List.of(BucketGranularity.MINUTE, BucketGranularity.HOUR)) {
+            if (!granularity.next(granularity.truncate(time)).isBefore(now.minus(retention.get(granularity)))) {
+                return granularity;
+            }
+        }
+        return BucketGranularity.DAY;
+    }
+
+    private boolean isInMemory(BucketGranularity granularity, LocalDateTime bucketStart, LocalDateTime now) {
+        return !granularity.next(bucketStart).isBefore(now.minus(retention.get(granularity)));
+    }
+
+    private List<StatisticsBucket> drainPending() {
+        List<StatisticsBucket> deltas = new ArrayList<>(pending.size());
+        for (BucketKey key : pending.keySet()) {
+            MutableBucket bucket = pending.remove(key);
+            if (bucket != null) {
+                deltas.add(bucket.seal(key.flowId, key.granularity, key.bucketStart));
+            }
+        }
+        return deltas;
+    }
+
+    private void restorePending(StatisticsBucket delta) {
+        BucketKey key = new BucketKey(delta.getFlowId(), delta.getGranularity(), delta.getBucketStart());
+        MutableBucket bucket;
+        do {
+            bucket = pending.computeIfAbsent(key, k -> new MutableBucket());
+        } while (!bucket.merge(delta));
+    }
+
+    private MutableBucket slotBucket(Segment slot, String flowId) {
+        return slots.computeIfAbsent(slot, s -> new ConcurrentHashMap<>())
+            .computeIfAbsent(flowId, id -> new MutableBucket());
+    }
+
+    private void addPending(BucketKey key, boolean success, long durationMicros) {
+        // 寫出時先移除再封存，取得已封存的區間時重新取得新的區間
+        MutableBucket bucket;
+        do {
+            bucket = pending.computeIfAbsent(key, k -> new MutableBucket());
+        } while (!bucket.add(success, durationMicros));
+    }
+
+    private static void addTo(Map<String, List<StatisticsBucket>> result, StatisticsBucket bucket) {
+        result.computeIfAbsent(bucket.getFlowId(), id -> new ArrayList<>()).add(bucket);
+    }
+
+    /**
+     * 時間區間，同時作為記憶體中區間的索引
+     */
+    static final class Segment {
+        final BucketGranularity granularity;
+        final LocalDateTime start;
+
+        Segment(BucketGranularity granularity, LocalDateTime start) {
+            this.granularity = granularity;
+            this.start = start;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Segment that = (Segment) o;
+            return granularity == that.granularity && start.equals(that.start);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(granularity, start);
+        }
+    }
+
+    private static final class BucketKey {
+        private final String flowId;
+        private final BucketGranularity granularity;
+        private final LocalDateTime bucketStart;
+
+        BucketKey(String flowId, BucketGranularity granularity, LocalDateTime bucketStart) {
+            this.flowId = flowId;
+            this.granularity = granularity;
+            this.bucketStart = bucketStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            BucketKey that = (BucketKey) o;
+            return flowId.equals(that.flowId) && granularity == that.granularity && bucketStart.equals(that.bucketStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(flowId, granularity, bucketStart);
+        }
+    }
+
+    /**
+     * 可累加的區間，同一區間的寫入量不高，以物件鎖保護
+     *
+     * 直方圖在第一次記錄時建立；區間結束後壓縮為位元組，需要再累加時才還原。
+     */
+    private static final class MutableBucket {
+        private long executionCount;
+        private long successCount;
+        private long durationSumMicros;
+        private long minDurationMicros = Long.MAX_VALUE;
+        private long maxDurationMicros;
+        private Histogram histogram;
+        private byte[] frozenHistogram;
+        private boolean sealed;
+
+        synchronized boolean add(boolean success, long durationMicros) {
+            if (sealed) {
+                return false;
+            }
+            executionCount++;
+            if (success) {
+                successCount++;
+            }
+            durationSumMicros += durationMicros;
+            minDurationMicros = Math.min(minDurationMicros, durationMicros);
+            maxDurationMicros = Math.max(maxDurationMicros, durationMicros);
+            histogram().recordValue(durationMicros);
+            return true;
+        }
+
+        synchronized boolean merge(StatisticsBucket bucket) {
+            if (sealed) {
+                return false;
+            }
+            executionCount += bucket.getExecutionCount();
+            successCount += bucket.getSuccessCount();
+            durationSumMicros += bucket.getDurationSumMicros();
+            minDurationMicros = Math.min(minDurationMicros, bucket.getMinDurationMicros());
+            maxDurationMicros = Math.max(maxDurationMicros, bucket.getMaxDurationMicros());
+            Histogram other = decodeOrNull(bucket);
+            if (other != null) {
+                histogram().add(other);
+            }
+            return true;
+        }
+
+        synchronized StatisticsBucket snapshot(String flowId, BucketGranularity granularity, LocalDateTime start) {
+            // 已壓縮的直方圖不會再被修改，可直接共用
+            byte[] encoded = histogram != null ? HistogramCodec.encode(histogram) : frozenHistogram;
+            return new StatisticsBucket(flowId, granularity, start, executionCount, successCount,
+                durationSumMicros, minDurationMicros, maxDurationMicros, encoded);
+        }
+
+        /**
+         * 壓縮直方圖，區間結束後呼叫
+         */
+        synchronized void freeze() {
+            if (histogram != null) {
+                frozenHistogram = HistogramCodec.encode(histogram);
+                histogram = null;
+            }
+        }
+
+        private Histogram histogram() {
+            if (histogram == null) {
+                histogram = frozenHistogram != null ? HistogramCodec.decode(frozenHistogram) : HistogramCodec.newHistogram();
+                frozenHistogram = null;
+            }
+            return histogram;
+        }
+
+        synchronized StatisticsBucket seal(String flowId, BucketGranularity granularity, LocalDateTime start) {
+            sealed = true;
+            return snapshot(flowId, granularity, start);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.banking.benefit.domain.service.statistics;
+
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+
+/**
+ * 執行時間直方圖的建立與序列化
+ *
+ * 直方圖以微秒記錄、保留兩位有效位數（誤差約 1%），並自動擴展可記錄的範圍。
+ * 序列化使用 HdrHistogram 的壓縮格式，執行時間集中的區間通常只需數百位元組，
+ * 供彙總表保存及已結束的區間在記憶體中以壓縮形式保留。
+ */
+public final class HistogramCodec {
+
+    /** 有效位數 */
+    public static final int SIGNIFICANT_DIGITS = 2;
+
+    private HistogramCodec() {
+    }
+
+    /**
+     * 建立空的直方圖
+     */
+    public static Histogram newHistogram() {
+        return new Histogram(SIGNIFICANT_DIGITS);
+    }
+
+    /**
+     * 將直方圖壓縮為位元組
+     */
+    public static byte[] encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Arrays.copyOf(buffer.array(), length);
+    }
+
+    /**
+     * 還原壓縮的直方圖，還原後可繼續記錄與合併
+     *
+     * @throws IllegalArgumentException 資料不是有效的直方圖
+     */
+    public static Histogram decode(byte[] data) {
+        try {
+            Histogram histogram = Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(data), 0);
+            histogram.setAutoResize(true);
+            return histogram;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("無效的直方圖資料", e);
+        }
+    }
+
+    /**
+     * 將直方圖累加到目標
+     *
+     * @param target 目標，null 時建立新的直方圖
+     * @param other 要累加的直方圖，null 時不累加，不會被修改
+     * @return 累加後的目標
+     */
+    public static Histogram merge(Histogram target, Histogram other) {
+        if (other == null) {
+            return target;
+        }
+        Histogram result = target != null ? target : newHistogram();
+        result.add(other);
+        return result;
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.banking.benefit.infrastructure.cache;
+
+import com.example.banking.benefit.domain.port.output.CachePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Policy;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Caffeine 快取轉接器
+ *
+ * 每筆項目有各自的存活時間，集合以併發安全的 Set 保存，可原地新增或移除元素。
+ */
+public class CaffeineCacheAdapter implements CachePort {
+
+    /** 未指定存活時間的集合項目 */
+    private static final long NO_EXPIRY_NANOS = Long.MAX_VALUE;
+
+    private final Cache<String, Entry> cache;
+
+    public CaffeineCacheAdapter(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new EntryExpiry())
+            .build();
+    }
+
+    @Override
+    public void set(String key, Object value, Duration ttl) {
+        cache.put(key, new Entry(value, toNanos(ttl)));
+    }
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> clazz) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null || !clazz.isInstance(entry.value)) {
+            return Optional.empty();
+        }
+        return Optional.of(clazz.cast(entry.value));
+    }
+
+    @Override
+    public void delete(String key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void deleteAll(List<String> keys) {
+        cache.invalidateAll(keys);
+    }
+
+    @Override
+    public void setSet(String key, Set<?> values, Duration ttl) {
+        Set<Object> set = ConcurrentHashMap.newKeySet();
+        set.addAll(values);
+        cache.put(key, new Entry(set, toNanos(ttl)));
+    }
+
+    @Override
+    public <T> Set<T> getSet(String key, Class<T> clazz) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null || !(entry.value instanceof Set)) {
+            return Collections.emptySet();
+        }
+        return ((Set<?>) entry.value).stream()
+            .filter(clazz::isInstance)
+            .map(clazz::cast)
+            .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void addToSet(String key, Object value) {
+        Entry entry = cache.asMap().compute(key, (k, existing) ->
+            existing != null && existing.value instanceof Set
+                ? existing
+                : new Entry(ConcurrentHashMap.newKeySet(), NO_EXPIRY_NANOS));
+        ((Set<Object>) entry.value).add(value);
+    }
+
+    @Override
+    public void removeFromSet(String key, Object value) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null && entry.value instanceof Set) {
+            ((Set<?>) entry.value).remove(value);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return cache.getIfPresent(key) != null;
+    }
+
+    @Override
+    public Optional<Duration> getTtl(String key) {
+        Optional<Policy.VarExpiration<String, Entry>> expiration = cache.policy().expireVariably();
+        return expiration.flatMap(policy -> policy.getExpiresAfter(key));
+    }
+
+    @Override
+    public void updateTtl(String key, Duration ttl) {
+        cache.policy().expireVariably()
+            .ifPresent(policy -> policy.setExpiresAfter(key, ttl));
+    }
+
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 估計的快取項目數
+     */
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private static long toNanos(Duration ttl) {
+        return ttl == null || ttl.isNegative() || ttl.isZero() ? NO_EXPIRY_NANOS : ttl.toNanos();
+    }
+
+    /**
+     * 快取項目
+     */
+    private static final class Entry {
+        private final Object value;
+        private final long ttlNanos;
+
+        Entry(Object value, long ttlNanos) {
+            this.value = value;
+            this.ttlNanos = ttlNanos;
+        }
+    }
+
+    /**
+     * 依項目自身的存活時間計算到期
+     */
+    private static final class EntryExpiry implements Expiry<String, Entry> {
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return entry.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return entry.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
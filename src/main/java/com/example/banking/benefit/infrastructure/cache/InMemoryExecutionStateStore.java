@@ -0,0 +1,205 @@
+package com.example.banking.benefit.infrastructure.cache;
+
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
+import com.example.banking.benefit.domain.model.statistics.ExecutionStateStatistics;
+import com.example.banking.benefit.domain.port.output.ExecutionStatePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 記憶體執行狀態儲存
+ *
+ * 分為執行層與暫停層兩個 Caffeine 快取：執行層以容量與閒置時間淘汰，
+ * 暫停層使用獨立的容量與較長的存活時間，避免大量執行中的流程把暫停中的流程擠出。
+ */
+public class InMemoryExecutionStateStore implements ExecutionStatePort {
+
+    /** 每筆狀態的固定開銷估計（鍵值字串、狀態物件與快取節點） */
+    static final long ENTRY_OVERHEAD_BYTES = 256;
+
+    /** 上下文中每個變數的開銷估計 */
+    static final long CONTEXT_ENTRY_BYTES = 96;
+
+    private final Cache<String, StateEntry> activeTier;
+    private final Cache<String, StateEntry> pausedTier;
+    private final LongAdder evictions = new LongAdder();
+
+    public InMemoryExecutionStateStore(
+            long maxActiveEntries,
+            Duration activeTtl,
+            long maxPausedEntries,
+            Duration pausedTtl) {
+        this(maxActiveEntries, activeTtl, maxPausedEntries, pausedTtl, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    InMemoryExecutionStateStore(
+            long maxActiveEntries,
+            Duration activeTtl,
+            long maxPausedEntries,
+            Duration pausedTtl,
+            Ticker ticker,
+            Executor executor) {
+        this.activeTier = Caffeine.newBuilder()
+            .maximumSize(maxActiveEntries)
+            .expireAfterAccess(activeTtl)
+            .ticker(ticker)
+            .executor(executor)
+            .removalListener((String key, StateEntry value, RemovalCause cause) -> onRemoval(cause))
+            .build();
+        this.pausedTier = Caffeine.newBuilder()
+            .maximumSize(maxPausedEntries)
+            .expireAfterWrite(pausedTtl)
+            .ticker(ticker)
+            .executor(executor)
+            .removalListener((String key, StateEntry value, RemovalCause cause) -> onRemoval(cause))
+            .build();
+    }
+
+    @Override
+    public Map<String, Object> begin(String executionId) {
+        Map<String, Object> context = new HashMap<>();
+        activeTier.put(executionId, new StateEntry(ExecutionStatus.IN_PROGRESS, context));
+        return context;
+    }
+
+    @Override
+    public Optional<ExecutionStatus> getStatus(String executionId) {
+        return findEntry(executionId).map(StateEntry::getStatus);
+    }
+
+    @Override
+    public void updateStatus(String executionId, ExecutionStatus status) {
+        Optional<StateEntry> entry = findEntry(executionId);
+        if (entry.isPresent()) {
+            entry.get().setStatus(status);
+        } else {
+            activeTier.put(executionId, new StateEntry(status, null));
+        }
+    }
+
+    @Override
+    public Optional<Map<String, Object>> getContext(String executionId) {
+        return findEntry(executionId).map(StateEntry::getContext);
+    }
+
+    @Override
+    public void pause(String executionId) {
+        StateEntry entry = activeTier.getIfPresent(executionId);
+        if (entry == null) {
+            entry = pausedTier.getIfPresent(executionId);
+            if (entry != null) {
+                return;
+            }
+            entry = new StateEntry(ExecutionStatus.PAUSED, new HashMap<>());
+        }
+        entry.setStatus(ExecutionStatus.PAUSED);
+        pausedTier.put(executionId, entry);
+        activeTier.invalidate(executionId);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> resume(String executionId) {
+        StateEntry entry = pausedTier.getIfPresent(executionId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        entry.setStatus(ExecutionStatus.IN_PROGRESS);
+        activeTier.put(executionId, entry);
+        pausedTier.invalidate(executionId);
+        return Optional.ofNullable(entry.getContext());
+    }
+
+    @Override
+    public void complete(String executionId, ExecutionStatus finalStatus) {
+        // 只保留最終狀態供查詢，上下文立即釋放
+        activeTier.put(executionId, new StateEntry(finalStatus, null));
+        pausedTier.invalidate(executionId);
+    }
+
+    @Override
+    public ExecutionStateStatistics getStatistics() {
+        return new ExecutionStateStatistics(
+            activeTier.estimatedSize(),
+            pausedTier.estimatedSize(),
+            evictions.sum(),
+            estimateMemory(activeTier) + estimateMemory(pausedTier)
+        );
+    }
+
+    /**
+     * 將暫停中的執行放回暫停層，供持久化儲存在重新啟動或淘汰後還原使用
+     */
+    public void restorePaused(String executionId, Map<String, Object> context) {
+        pausedTier.put(executionId, new StateEntry(ExecutionStatus.PAUSED, new HashMap<>(context)));
+    }
+
+    /**
+     * 執行快取維護工作，主要供測試使用
+     */
+    void cleanUp() {
+        activeTier.cleanUp();
+        pausedTier.cleanUp();
+    }
+
+    private Optional<StateEntry> findEntry(String executionId) {
+        StateEntry entry = activeTier.getIfPresent(executionId);
+        if (entry == null) {
+            entry = pausedTier.getIfPresent(executionId);
+        }
+        return Optional.ofNullable(entry);
+    }
+
+    private void onRemoval(RemovalCause cause) {
+        if (cause.wasEvicted()) {
+            evictions.increment();
+        }
+    }
+
+    private long estimateMemory(Cache<String, StateEntry> tier) {
+        long total = 0;
+        for (StateEntry entry : tier.asMap().values()) {
+            total += entry.estimateBytes();
+        }
+        return total;
+    }
+
+    /**
+     * 單筆執行狀態
+     */
+    static final class StateEntry {
+        private volatile ExecutionStatus status;
+        private final Map<String, Object> context;
+
+        StateEntry(ExecutionStatus status, Map<String, Object> context) {
+            this.status = status;
+            this.context = context;
+        }
+
+        ExecutionStatus getStatus() {
+            return status;
+        }
+
+        void setStatus(ExecutionStatus status) {
+            this.status = status;
+        }
+
+        Map<String, Object> getContext() {
+            return context;
+        }
+
+        long estimateBytes() {
+            int contextSize = context != null ? context.size() : 0;
+            return ENTRY_OVERHEAD_BYTES + contextSize * CONTEXT_ENTRY_BYTES;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.banking.benefit.infrastructure.config;
+
+import com.example.banking.benefit.domain.port.output.CachePort;
+import com.example.banking.benefit.infrastructure.cache.CaffeineCacheAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 快取配置
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public CachePort cachePort(@Value("${benefit.engine.cache.maximum-size:100000}") long maximumSize) {
+        return new CaffeineCacheAdapter(maximumSize);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.banking.benefit.infrastructure.config;
+
+import com.example.banking.benefit.domain.model.common.CustomerAttributeDictionary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 客戶資料配置
+ *
+ * 依 benefit.engine.customer-data.attributes 白名單（以逗號分隔的「名稱:型別」）登記共用字典的屬性，
+ * 型別為 Integer、Long、Double、Boolean、String 或 LocalDate。未列出的屬性由各筆客戶資料自行保存。
+ */
+@Configuration
+public class CustomerDataConfig {
+
+    private static final Map<String, Class<?>> TYPES = Map.of(
+        "Integer", Integer.class,
+        "Long", Long.class,
+        "Double", Double.class,
+        "Boolean", Boolean.class,
+        "String", String.class,
+        "LocalDate", LocalDate.class);
+
+    @Bean
+    public CustomerAttributeDictionary customerAttributeDictionary(
+            @Value("${benefit.engine.customer-data.attributes:}") String attributes) {
+        CustomerAttributeDictionary dictionary = CustomerAttributeDictionary.shared();
+        register(dictionary, attributes);
+        return dictionary;
+    }
+
+    /**
+     * 依白名單登記屬性
+     *
+     * @throws IllegalArgumentException 格式或型別不正確、與已登記的型別衝突或超過字典上限
+     */
+    static void register(CustomerAttributeDictionary dictionary, String attributes) {
+        for (String entry : attributes.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("客戶屬性格式應為 名稱:型別：" + trimmed);
+            }
+            String name = trimmed.substring(0, separator).trim();
+            Class<?> type = TYPES.get(trimmed.substring(separator + 1).trim());
+            if (type == null) {
+                throw new IllegalArgumentException("不支援的客戶屬性型別：" + trimmed);
+            }
+            if (dictionary.register(name, type) == null) {
+                throw new IllegalArgumentException("無法登記客戶屬性（型別衝突或字典已滿）：" + trimmed);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.banking.benefit.infrastructure.config;
+
+import com.example.banking.benefit.domain.port.output.CustomerServicePort;
+import com.example.banking.benefit.infrastructure.customer.CachingCustomerServiceAdapter;
+import com.example.banking.benefit.infrastructure.customer.CachingCustomerServiceAdapter.CachePolicy;
+import com.example.banking.benefit.infrastructure.customer.StubCustomerServiceAdapter;
+import com.example.banking.benefit.infrastructure.customer.UnavailableCustomerServiceAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+/**
+ * 客戶服務配置
+ *
+ * 實際的客戶服務轉接器以 {@link #ADAPTER} 限定名稱註冊，行程內的替身只在 local 與 test profile 註冊。
+ * 其他環境未註冊實際轉接器時改用 {@link UnavailableCustomerServiceAdapter}，應用程式照常啟動，
+ * 呼叫客戶服務時才失敗，不會誤用替身資料。
+ * benefit.engine.customer-service.cache.enabled 為 true（預設）時以快取包裝所註冊的轉接器，
+ * 各查詢方法分別設定存活時間與背景重新載入時間。
+ */
+@Configuration
+public class CustomerServiceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerServiceConfig.class);
+
+    /** 實際客戶服務轉接器的限定名稱 */
+    public static final String ADAPTER = "customerServiceAdapter";
+
+    @Bean
+    @Qualifier(ADAPTER)
+    @Profile({"local", "test"})
+    public CustomerServicePort stubCustomerService(
+            @Value("${benefit.engine.customer-service.stub-latency:PT0S}") Duration stubLatency) {
+        return new StubCustomerServiceAdapter(stubLatency);
+    }
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    @ConditionalOnProperty(name = "benefit.engine.customer-service.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CustomerServicePort cachingCustomerService(
+            @Qualifier(ADAPTER) ObjectProvider<CustomerServicePort> adapters,
+            @Value("${benefit.engine.customer-service.cache.maximum-size:100000}") long maximumSize,
+            @Value("${benefit.engine.customer-service.cache.profile-ttl:PT10M}") Duration profileTtl,
+            @Value("${benefit.engine.customer-service.cache.profile-refresh:PT5M}") Duration profileRefresh,
+            @Value("${benefit.engine.customer-service.cache.context-ttl:PT1M}") Duration contextTtl,
+            @Value("${benefit.engine.customer-service.cache.context-refresh:PT30S}") Duration contextRefresh,
+            @Value("${benefit.engine.customer-service.cache.status-ttl:PT2M}") Duration statusTtl,
+            @Value("${benefit.engine.customer-service.cache.status-refresh:PT1M}") Duration statusRefresh,
+            @Value("${benefit.engine.customer-service.cache.active-ttl:PT2M}") Duration activeTtl,
+            @Value("${benefit.engine.customer-service.cache.active-refresh:PT1M}") Duration activeRefresh) {
+        return new CachingCustomerServiceAdapter(
+            configuredAdapter(adapters),
+            maximumSize,
+            new CachePolicy(profileTtl, profileRefresh),
+            new CachePolicy(contextTtl, contextRefresh),
+            new CachePolicy(statusTtl, statusRefresh),
+            new CachePolicy(activeTtl, activeRefresh));
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "benefit.engine.customer-service.cache.enabled", havingValue = "false")
+    public CustomerServicePort customerService(@Qualifier(ADAPTER) ObjectProvider<CustomerServicePort> adapters) {
+        return configuredAdapter(adapters);
+    }
+
+    private static CustomerServicePort configuredAdapter(ObjectProvider<CustomerServicePort> adapters) {
+        return adapters.getIfAvailable(() -> {
+            logger.warn("未註冊客戶服務轉接器（@Qualifier(\"{}\")），客戶服務呼叫將失敗", ADAPTER);
+            return new UnavailableCustomerServiceAdapter();
+        });
+    }
+}
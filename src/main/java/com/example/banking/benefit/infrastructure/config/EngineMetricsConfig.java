@@ -0,0 +1,49 @@
+package com.example.banking.benefit.infrastructure.config;
+
+import com.example.banking.benefit.domain.port.output.DiagnosticRecordingPort;
+import com.example.banking.benefit.domain.port.output.EngineMetricsPort;
+import com.example.banking.benefit.infrastructure.diagnostics.JfrDiagnosticRecorder;
+import com.example.banking.benefit.infrastructure.metrics.MicrometerEngineMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 引擎執行指標配置
+ *
+ * 指標註冊至 Actuator 提供的 MeterRegistry，並經由 /actuator/prometheus 匯出。
+ * 流程與節點標籤數量以 benefit.engine.metrics.max-flows / max-nodes 限制，
+ * 超過上限的新標籤值不會產生計量器，避免錯誤的流程定義撐大監控系統的時間序列數。
+ * JFR 診斷錄製的最長時間與設定由 benefit.engine.jfr.* 指定。
+ */
+@Configuration
+public class EngineMetricsConfig {
+
+    @Bean
+    public EngineMetricsPort engineMetrics(MeterRegistry meterRegistry) {
+        return new MicrometerEngineMetrics(meterRegistry);
+    }
+
+    @Bean
+    public MeterFilter flowCardinalityFilter(
+            @Value("${benefit.engine.metrics.max-flows:200}") int maxFlows) {
+        return MicrometerEngineMetrics.flowCardinalityFilter(maxFlows);
+    }
+
+    @Bean
+    public MeterFilter nodeCardinalityFilter(
+            @Value("${benefit.engine.metrics.max-nodes:2000}") int maxNodes) {
+        return MicrometerEngineMetrics.nodeCardinalityFilter(maxNodes);
+    }
+
+    @Bean
+    public DiagnosticRecordingPort diagnosticRecorder(
+            @Value("${benefit.engine.jfr.max-duration:PT5M}") Duration maxDuration,
+            @Value("${benefit.engine.jfr.settings:profile}") String settings) {
+        return new JfrDiagnosticRecorder(maxDuration, settings);
+    }
+}
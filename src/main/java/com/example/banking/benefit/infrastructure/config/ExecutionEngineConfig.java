@@ -0,0 +1,77 @@
+package com.example.banking.benefit.infrastructure.config;
+
+import com.example.banking.benefit.domain.port.input.ConfigurationUseCase;
+import com.example.banking.benefit.domain.port.output.CachePort;
+import com.example.banking.benefit.domain.service.execution.ExecutionEventBroadcaster;
+import com.example.banking.benefit.domain.service.execution.ExecutionResultCache;
+import com.example.banking.benefit.domain.service.execution.ExecutionSupervisor;
+import com.example.banking.benefit.domain.service.execution.ExecutionTimingRecorder;
+import com.example.banking.benefit.domain.service.execution.FlightRecorder;
+import com.example.banking.benefit.domain.service.execution.FlowBulkheadRegistry;
+import com.example.banking.benefit.domain.service.execution.NodeProfileRecorder;
+import com.example.banking.benefit.domain.service.execution.RetryExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 流程執行引擎配置
+ */
+@Configuration
+public class ExecutionEngineConfig {
+
+    @Bean
+    public FlowBulkheadRegistry flowBulkheadRegistry(
+            ConfigurationUseCase configurationUseCase,
+            @Value("${benefit.engine.bulkhead.max-concurrent-executions:32}") int maxConcurrentExecutions,
+            @Value("${benefit.engine.bulkhead.max-queued-executions:64}") int maxQueuedExecutions,
+            @Value("${benefit.engine.bulkhead.queue-timeout-millis:1000}") long queueTimeoutMillis) {
+        return new FlowBulkheadRegistry(
+            configurationUseCase, maxConcurrentExecutions, maxQueuedExecutions, queueTimeoutMillis);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ExecutionSupervisor executionSupervisor(
+            ConfigurationUseCase configurationUseCase,
+            @Value("${benefit.engine.execution.default-timeout-millis:30000}") long defaultTimeoutMillis) {
+        return new ExecutionSupervisor(configurationUseCase, defaultTimeoutMillis);
+    }
+
+    @Bean
+    public RetryExecutor retryExecutor(ConfigurationUseCase configurationUseCase) {
+        return new RetryExecutor(configurationUseCase);
+    }
+
+    @Bean
+    public ExecutionResultCache executionResultCache(CachePort cachePort, ConfigurationUseCase configurationUseCase) {
+        return new ExecutionResultCache(cachePort, configurationUseCase);
+    }
+
+    @Bean
+    public ExecutionTimingRecorder executionTimingRecorder(
+            @Value("${benefit.engine.timing.window:PT5M}") Duration window) {
+        return new ExecutionTimingRecorder(window);
+    }
+
+    @Bean
+    public NodeProfileRecorder nodeProfileRecorder() {
+        return new NodeProfileRecorder();
+    }
+
+    @Bean
+    public ExecutionEventBroadcaster executionEventBroadcaster(
+            @Value("${benefit.engine.events.buffer-size:4096}") int bufferSize,
+            @Value("${benefit.engine.events.max-subscribers:20}") int maxSubscribers) {
+        return new ExecutionEventBroadcaster(bufferSize, maxSubscribers);
+    }
+
+    @Bean
+    public FlightRecorder flightRecorder(
+            ConfigurationUseCase configurationUseCase,
+            @Value("${benefit.engine.flight-recorder.capacity:256}") int capacity,
+            @Value("${benefit.engine.flight-recorder.threshold:PT1S}") Duration threshold) {
+        return new FlightRecorder(configurationUseCase, capacity, threshold);
+    }
+}
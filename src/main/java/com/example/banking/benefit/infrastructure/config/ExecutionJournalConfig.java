@@ -0,0 +1,50 @@
+package com.example.banking.benefit.infrastructure.config;
+
+import com.example.banking.benefit.domain.port.output.ExecutionLogExportPort;
+import com.example.banking.benefit.domain.port.output.ExecutionLogRetentionPort;
+import com.example.banking.benefit.infrastructure.persistence.journal.JournalExecutionLogRetention;
+import com.example.banking.benefit.infrastructure.persistence.journal.MappedExecutionJournal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 執行日誌區段檔案配置
+ *
+ * benefit.engine.journal.enabled 為 true 時，執行日誌改存於本機記憶體映射的區段檔案而非 execution_log。
+ * 非同步寫入器直接以 JDBC 批次寫入資料庫，因此須搭配 benefit.engine.execution-log.mode: sync，
+ * 否則日誌寫入 execution_log 而查詢與匯出讀取區段檔案，啟動時即失敗；保留期限請設定 benefit.engine.execution-log.retention.strategy: JOURNAL，匯出改由區段檔案讀出。
+ */
+@Configuration
+@ConditionalOnProperty(name = "benefit.engine.journal.enabled", havingValue = "true")
+public class ExecutionJournalConfig {
+
+    @Bean(destroyMethod = "close")
+    public MappedExecutionJournal executionJournal(
+            @Value("${benefit.engine.execution-log.mode:async}") String executionLogMode,
+            @Value("${benefit.engine.journal.directory:./data/execution-journal}") String directory,
+            @Value("${benefit.engine.journal.segment-size:67108864}") int segmentSize,
+            @Value("${benefit.engine.journal.compaction-interval:PT5M}") Duration compactionInterval,
+            @Value("${benefit.engine.journal.compaction-threshold:0.3}") double compactionThreshold) {
+        if (!"sync".equalsIgnoreCase(executionLogMode)) {
+            throw new IllegalStateException("benefit.engine.journal.enabled=true 須搭配 "
+                + "benefit.engine.execution-log.mode=sync，目前為 " + executionLogMode);
+        }
+        return new MappedExecutionJournal(Path.of(directory), segmentSize, compactionInterval, compactionThreshold);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "benefit.engine.execution-log.retention.strategy", havingValue = "JOURNAL")
+    public ExecutionLogRetentionPort journalExecutionLogRetention(MappedExecutionJournal executionJournal) {
+        return new JournalExecutionLogRetention(executionJournal);
+    }
+
+    @Bean
+    public ExecutionLogExportPort journalExecutionLogExport(MappedExecutionJournal executionJournal) {
+        return executionJournal::stream;
+    }
+}
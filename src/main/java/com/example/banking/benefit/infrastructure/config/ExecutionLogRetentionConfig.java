@@ -0,0 +1,55 @@
+package com.example.banking.benefit.infrastructure.config;
+
+import com.example.banking.benefit.domain.port.output.ExecutionLogRetentionPort;
+import com.example.banking.benefit.domain.repository.ExecutionTraceRepository;
+import com.example.banking.benefit.infrastructure.persistence.BatchDeleteExecutionLogRetention;
+import com.example.banking.benefit.infrastructure.persistence.ExecutionLogRetentionJob;
+import com.example.banking.benefit.infrastructure.persistence.PartitionedExecutionLogRetention;
+import com.example.banking.benefit.infrastructure.persistence.PartitionedExecutionLogRetention.PartitionInterval;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+/**
+ * 執行日誌保留期限配置
+ *
+ * benefit.engine.execution-log.retention.strategy 為 DELETE（預設）時分批刪除過期日誌，
+ * 為 PARTITION 時 execution_log 須為 PostgreSQL 分區表（schema-postgresql.sql），
+ * 過期日誌以整個分區移除。execution_trace 不分區，一律依相同保留天數分批刪除。
+ */
+@Configuration
+@EnableScheduling
+public class ExecutionLogRetentionConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "benefit.engine.execution-log.retention.strategy", havingValue = "DELETE", matchIfMissing = true)
+    public ExecutionLogRetentionPort batchDeleteExecutionLogRetention(
+            JdbcTemplate jdbcTemplate,
+            @Value("${benefit.engine.execution-log.retention.delete-batch-size:5000}") int batchSize) {
+        return new BatchDeleteExecutionLogRetention(jdbcTemplate, batchSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "benefit.engine.execution-log.retention.strategy", havingValue = "PARTITION")
+    public ExecutionLogRetentionPort partitionedExecutionLogRetention(
+            JdbcTemplate jdbcTemplate,
+            @Value("${benefit.engine.execution-log.retention.partition-interval:DAY}") PartitionInterval interval,
+            @Value("${benefit.engine.execution-log.retention.detach-only:false}") boolean detachOnly) {
+        return new PartitionedExecutionLogRetention(jdbcTemplate, interval, detachOnly);
+    }
+
+    @Bean
+    public ExecutionLogRetentionJob executionLogRetentionJob(
+            ExecutionLogRetentionPort retentionPort,
+            ExecutionTraceRepository executionTraceRepository,
+            @Value("${benefit.engine.execution-log.retention.retention-days:30}") int retentionDays,
+            @Value("${benefit.engine.execution-log.retention.partition-ahead-days:7}") int partitionAheadDays) {
+        return new ExecutionLogRetentionJob(retentionPort, executionTraceRepository, retentionDays, partitionAheadDays,
+            Clock.systemDefaultZone());
+    }
+}
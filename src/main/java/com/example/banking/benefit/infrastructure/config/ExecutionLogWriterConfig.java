@@ -0,0 +1,102 @@
+package com.example.banking.benefit.infrastructure.config;
+
+import com.example.banking.benefit.domain.port.input.ConfigurationUseCase;
+import com.example.banking.benefit.domain.port.output.ExecutionLogExportPort;
+import com.example.banking.benefit.domain.port.output.ExecutionLogWriter;
+import com.example.banking.benefit.domain.repository.ExecutionLogRepository;
+import com.example.banking.benefit.domain.repository.ExecutionTraceRepository;
+import com.example.banking.benefit.domain.service.log.ExecutionLogSampler;
+import com.example.banking.benefit.domain.service.log.ExecutionTraceRecorder;
+import com.example.banking.benefit.domain.service.log.ExecutionTraceRecorder.LogFormat;
+import com.example.banking.benefit.domain.service.log.LogSamplingPolicy;
+import com.example.banking.benefit.domain.service.log.SynchronousExecutionLogWriter;
+import com.example.banking.benefit.infrastructure.persistence.AsyncExecutionLogWriter;
+import com.example.banking.benefit.infrastructure.persistence.AsyncExecutionLogWriter.OverflowPolicy;
+import com.example.banking.benefit.infrastructure.persistence.JdbcExecutionLogBatchWriter;
+import com.example.banking.benefit.infrastructure.persistence.JdbcExecutionLogExporter;
+import com.example.banking.benefit.infrastructure.persistence.JdbcExecutionLogRepository;
+import com.example.banking.benefit.infrastructure.persistence.JdbcExecutionTraceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * 執行日誌寫入配置
+ *
+ * benefit.engine.execution-log.mode 為 async（預設）時以環形緩衝區排入並批次寫入，
+ * 為 sync 時在請求執行緒上逐筆寫入。benefit.engine.execution-log.format 決定寫入每個節點的
+ * execution_log（ROWS）、每次執行一筆的精簡軌跡（TRACE）或兩者（BOTH）。
+ * benefit.engine.execution-log.sampling 為流程未自行設定時的預設取樣策略。
+ * 匯出時以 benefit.engine.execution-log.export.fetch-size 控制每次自資料庫取回的資料列數。
+ * 未啟用區段檔案時，執行日誌的查詢與游標分頁直接讀取 execution_log。
+ */
+@Configuration
+public class ExecutionLogWriterConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "benefit.engine.execution-log.mode", havingValue = "async", matchIfMissing = true)
+    public AsyncExecutionLogWriter asyncExecutionLogWriter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${benefit.engine.execution-log.capacity:8192}") int capacity,
+            @Value("${benefit.engine.execution-log.batch-size:256}") int batchSize,
+            @Value("${benefit.engine.execution-log.flush-interval:PT0.05S}") Duration flushInterval,
+            @Value("${benefit.engine.execution-log.overflow-policy:CALLER_RUNS}") OverflowPolicy overflowPolicy,
+            @Value("${benefit.engine.execution-log.block-timeout:PT0.1S}") Duration blockTimeout) {
+        JdbcExecutionLogBatchWriter batchWriter =
+            new JdbcExecutionLogBatchWriter(jdbcTemplate, new TransactionTemplate(transactionManager));
+        return new AsyncExecutionLogWriter(batchWriter, capacity, batchSize, flushInterval, overflowPolicy, blockTimeout);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "benefit.engine.execution-log.mode", havingValue = "sync")
+    public ExecutionLogWriter synchronousExecutionLogWriter(ExecutionLogRepository executionLogRepository) {
+        return new SynchronousExecutionLogWriter(executionLogRepository);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "benefit.engine.journal.enabled", havingValue = "false", matchIfMissing = true)
+    public ExecutionLogRepository jdbcExecutionLogRepository(JdbcTemplate jdbcTemplate) {
+        return new JdbcExecutionLogRepository(jdbcTemplate);
+    }
+
+    @Bean
+    public ExecutionTraceRepository executionTraceRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${benefit.engine.execution-log.retention.delete-batch-size:5000}") int deleteBatchSize) {
+        return new JdbcExecutionTraceRepository(jdbcTemplate, deleteBatchSize);
+    }
+
+    @Bean
+    public ExecutionTraceRecorder executionTraceRecorder(
+            ExecutionTraceRepository executionTraceRepository,
+            @Value("${benefit.engine.execution-log.format:ROWS}") LogFormat format) {
+        return new ExecutionTraceRecorder(executionTraceRepository, format);
+    }
+
+    @Bean
+    public ExecutionLogSampler executionLogSampler(
+            ConfigurationUseCase configurationUseCase,
+            @Value("${benefit.engine.execution-log.sampling.policy:FULL}") LogSamplingPolicy.Mode mode,
+            @Value("${benefit.engine.execution-log.sampling.sample-rate:0.1}") double sampleRate,
+            @Value("${benefit.engine.execution-log.sampling.slow-threshold:PT1S}") Duration slowThreshold) {
+        return new ExecutionLogSampler(configurationUseCase, new LogSamplingPolicy(mode, sampleRate, slowThreshold));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "benefit.engine.journal.enabled", havingValue = "false", matchIfMissing = true)
+    public ExecutionLogExportPort jdbcExecutionLogExporter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${benefit.engine.execution-log.export.fetch-size:1000}") int fetchSize) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return new JdbcExecutionLogExporter(jdbcTemplate, transactionTemplate, fetchSize);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.banking.benefit.infrastructure.config;
+
+import com.example.banking.benefit.domain.port.output.ExecutionStatePort;
+import com.example.banking.benefit.infrastructure.cache.InMemoryExecutionStateStore;
+import com.example.banking.benefit.infrastructure.persistence.PersistentExecutionStateStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 執行狀態儲存配置
+ *
+ * benefit.engine.state-store.type 為 memory（預設）時只保存在記憶體，
+ * 為 persistent 時暫停中的執行會額外寫入本機檔案。
+ */
+@Configuration
+public class ExecutionStateStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "benefit.engine.state-store.type", havingValue = "memory", matchIfMissing = true)
+    public ExecutionStatePort inMemoryExecutionStateStore(
+            @Value("${benefit.engine.state-store.max-active-entries:10000}") long maxActiveEntries,
+            @Value("${benefit.engine.state-store.active-ttl:PT10M}") Duration activeTtl,
+            @Value("${benefit.engine.state-store.max-paused-entries:10000}") long maxPausedEntries,
+            @Value("${benefit.engine.state-store.paused-ttl:PT24H}") Duration pausedTtl) {
+        return new InMemoryExecutionStateStore(maxActiveEntries, activeTtl, maxPausedEntries, pausedTtl);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "benefit.engine.state-store.type", havingValue = "persistent")
+    public ExecutionStatePort persistentExecutionStateStore(
+            @Value("${benefit.engine.state-store.max-active-entries:10000}") long maxActiveEntries,
+            @Value("${benefit.engine.state-store.active-ttl:PT10M}") Duration activeTtl,
+            @Value("${benefit.engine.state-store.max-paused-entries:10000}") long maxPausedEntries,
+            @Value("${benefit.engine.state-store.paused-ttl:PT24H}") Duration pausedTtl,
+            @Value("${benefit.engine.state-store.file:./data/execution-state.mv.db}") String file) {
+        InMemoryExecutionStateStore memoryStore =
+            new InMemoryExecutionStateStore(maxActiveEntries, activeTtl, maxPausedEntries, pausedTtl);
+        return new PersistentExecutionStateStore(memoryStore, file, pausedTtl, maxPausedEntries);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.banking.benefit.infrastructure.config;
+
+import com.example.banking.benefit.domain.repository.ProcessNodeRepository;
+import com.example.banking.benefit.infrastructure.persistence.JdbcProcessNodeRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 流程定義存取配置
+ */
+@Configuration
+public class FlowDefinitionConfig {
+
+    @Bean
+    public ProcessNodeRepository processNodeRepository(JdbcTemplate jdbcTemplate) {
+        return new JdbcProcessNodeRepository(jdbcTemplate);
+    }
+}
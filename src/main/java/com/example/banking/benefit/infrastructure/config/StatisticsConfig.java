@@ -0,0 +1,42 @@
+package com.example.banking.benefit.infrastructure.config;
+
+import com.example.banking.benefit.domain.repository.StatisticsRollupRepository;
+import com.example.banking.benefit.domain.service.statistics.FlowStatisticsAggregator;
+import com.example.banking.benefit.infrastructure.persistence.JdbcStatisticsRollupRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 流程統計彙總配置
+ *
+ * 彙總器建立時先從 flow_statistics_rollup 載入保留期限內的區間，之後依
+ * benefit.engine.statistics.flush-interval 定期寫出增量，關閉時再寫出一次。
+ */
+@Configuration
+public class StatisticsConfig {
+
+    @Bean
+    public StatisticsRollupRepository statisticsRollupRepository(
+            JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        return new JdbcStatisticsRollupRepository(jdbcTemplate, new TransactionTemplate(transactionManager));
+    }
+
+    @Bean(destroyMethod = "flush")
+    public FlowStatisticsAggregator flowStatisticsAggregator(
+            StatisticsRollupRepository statisticsRollupRepository,
+            @Value("${benefit.engine.statistics.minute-retention:PT48H}") Duration minuteRetention,
+            @Value("${benefit.engine.statistics.hour-retention:P62D}") Duration hourRetention,
+            @Value("${benefit.engine.statistics.day-retention:P400D}") Duration dayRetention) {
+        FlowStatisticsAggregator aggregator = new FlowStatisticsAggregator(
+            statisticsRollupRepository, minuteRetention, hourRetention, dayRetention, Clock.systemDefaultZone());
+        aggregator.load();
+        return aggregator;
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.banking.benefit.infrastructure.customer;
+
+import com.example.banking.benefit.domain.model.customer.CustomerContext;
+import com.example.banking.benefit.domain.model.customer.CustomerProfile;
+import com.example.banking.benefit.domain.port.output.CustomerServicePort;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * 具快取的客戶服務
+ *
+ * 包裝實際的客戶服務，客戶資料、上下文、狀態與活躍旗標各自使用一個 Caffeine 快取與獨立的存活時間。
+ * 設定 refresh 時，超過 refresh 但未過期的項目仍立即回傳舊值，並在背景重新載入，
+ * 熱門客戶因此不會在過期當下阻塞查詢；重新載入失敗時保留舊值直到過期。
+ * 查無資料的結果同樣快取，避免重複查詢不存在的客戶。
+ * 批次查詢只向實際服務查詢快取中沒有的客戶，並以一次批次呼叫取得。
+ * 回傳的客戶資料物件由快取共用，呼叫端不應修改。
+ */
+public class CachingCustomerServiceAdapter implements CustomerServicePort, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingCustomerServiceAdapter.class);
+
+    private final CustomerServicePort delegate;
+    private final LoadingCache<String, Optional<CustomerProfile>> profiles;
+    private final LoadingCache<String, Optional<CustomerContext>> contexts;
+    private final LoadingCache<String, Optional<String>> statuses;
+    private final LoadingCache<String, Boolean> activeFlags;
+    private final ExecutorService ownedExecutor;
+
+    public CachingCustomerServiceAdapter(
+            CustomerServicePort delegate,
+            long maximumSize,
+            CachePolicy profilePolicy,
+            CachePolicy contextPolicy,
+            CachePolicy statusPolicy,
+            CachePolicy activePolicy) {
+        this(delegate, maximumSize, profilePolicy, contextPolicy, statusPolicy, activePolicy, Ticker.systemTicker(),
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("customer-refresh-", 0).factory()), true);
+    }
+
+    CachingCustomerServiceAdapter(
+            CustomerServicePort delegate,
+            long maximumSize,
+            CachePolicy profilePolicy,
+            CachePolicy contextPolicy,
+            CachePolicy statusPolicy,
+            CachePolicy activePolicy,
+            Ticker ticker,
+            Executor executor) {
+        this(delegate, maximumSize, profilePolicy, contextPolicy, statusPolicy, activePolicy, ticker, executor, false);
+    }
+
+    private CachingCustomerServiceAdapter(
+            CustomerServicePort delegate,
+            long maximumSize,
+            CachePolicy profilePolicy,
+            CachePolicy contextPolicy,
+            CachePolicy statusPolicy,
+            CachePolicy activePolicy,
+            Ticker ticker,
+            Executor executor,
+            boolean ownsExecutor) {
+        this.delegate = delegate;
+        this.ownedExecutor = ownsExecutor ? (ExecutorService) executor : null;
+        this.profiles = build(maximumSize, profilePolicy, ticker, executor,
+            batchLoader(delegate::getCustomerProfile, delegate::getCustomerProfiles));
+        this.contexts = build(maximumSize, contextPolicy, ticker, executor,
+            batchLoader(id -> Optional.ofNullable(delegate.getCustomerContext(id)), delegate::getCustomerContexts));
+        this.statuses = build(maximumSize, statusPolicy, ticker, executor,
+            batchLoader(id -> Optional.ofNullable(delegate.getCustomerStatus(id)), delegate::getCustomerStatuses));
+        this.activeFlags = build(maximumSize, activePolicy, ticker, executor, delegate::isCustomerActive);
+    }
+
+    private static <V> LoadingCache<String, V> build(
+            long maximumSize, CachePolicy policy, Ticker ticker, Executor executor, CacheLoader<String, V> loader) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(policy.getExpireAfterWrite())
+            .ticker(ticker)
+            .executor(executor);
+        if (policy.isRefreshEnabled()) {
+            builder.refreshAfterWrite(policy.getRefreshAfterWrite());
+        }
+        return builder.build(loader);
+    }
+
+    /**
+     * 建立單筆與批次分別對應實際服務方法的載入器，批次結果中沒有的客戶視為查無資料
+     */
+    private static <V> CacheLoader<String, Optional<V>> batchLoader(
+            Function<String, Optional<V>> single,
+            Function<Collection<String>, Map<String, V>> batch) {
+        return new CacheLoader<>() {
+            @Override
+            public Optional<V> load(String customerId) {
+                return single.apply(customerId);
+            }
+
+            @Override
+            public Map<String, Optional<V>> loadAll(Set<? extends String> customerIds) {
+                Map<String, V> loaded = batch.apply(List.copyOf(customerIds));
+                Map<String, Optional<V>> result = new HashMap<>();
+                for (String customerId : customerIds) {
+                    result.put(customerId, Optional.ofNullable(loaded.get(customerId)));
+                }
+                return result;
+            }
+        };
+    }
+
+    @Override
+    public Optional<CustomerProfile> getCustomerProfile(String customerId) {
+        return profiles.get(customerId);
+    }
+
+    @Override
+    public Map<String, CustomerProfile> getCustomerProfiles(Collection<String> customerIds) {
+        return present(profiles.getAll(customerIds));
+    }
+
+    @Override
+    public CustomerContext getCustomerContext(String customerId) {
+        return contexts.get(customerId).orElse(null);
+    }
+
+    @Override
+    public Map<String, CustomerContext> getCustomerContexts(Collection<String> customerIds) {
+        return present(contexts.getAll(customerIds));
+    }
+
+    @Override
+    public String getCustomerStatus(String customerId) {
+        return statuses.get(customerId).orElse(null);
+    }
+
+    @Override
+    public Map<String, String> getCustomerStatuses(Collection<String> customerIds) {
+        return present(statuses.getAll(customerIds));
+    }
+
+    @Override
+    public boolean isCustomerActive(String customerId) {
+        return activeFlags.get(customerId);
+    }
+
+    /**
+     * 資格判斷依權益與當下使用量而定，不快取
+     */
+    @Override
+    public boolean validateCustomerEligibility(String customerId, String benefitCode) {
+        return delegate.validateCustomerEligibility(customerId, benefitCode);
+    }
+
+    /**
+     * 更新後移除該客戶的上下文快取，下次查詢取得最新的使用量
+     */
+    @Override
+    public void updateBenefitUsage(String customerId, String benefitCode, Map<String, Object> usageDetails) {
+        try {
+            delegate.updateBenefitUsage(customerId, benefitCode, usageDetails);
+        } finally {
+            contexts.invalidate(customerId);
+        }
+    }
+
+    @Override
+    public List<Map<String, Object>> getBenefitUsageHistory(String customerId, String benefitCode) {
+        return delegate.getBenefitUsageHistory(customerId, benefitCode);
+    }
+
+    /**
+     * 移除指定客戶的所有快取項目
+     */
+    public void invalidate(String customerId) {
+        profiles.invalidate(customerId);
+        contexts.invalidate(customerId);
+        statuses.invalidate(customerId);
+        activeFlags.invalidate(customerId);
+    }
+
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+            logger.info("客戶服務快取已關閉");
+        }
+    }
+
+    private static <V> Map<String, V> present(Map<String, Optional<V>> entries) {
+        Map<String, V> result = new LinkedHashMap<>();
+        entries.forEach((customerId, value) -> value.ifPresent(v -> result.put(customerId, v)));
+        return result;
+    }
+
+    /**
+     * 單一查詢方法的快取策略
+     */
+    public static final class CachePolicy {
+        private final Duration expireAfterWrite;
+        private final Duration refreshAfterWrite;
+
+        /**
+         * @param expireAfterWrite 寫入後的存活時間
+         * @param refreshAfterWrite 寫入後開始背景重新載入的時間，為 0 或不小於存活時間時不重新載入
+         */
+        public CachePolicy(Duration expireAfterWrite, Duration refreshAfterWrite) {
+            if (expireAfterWrite.isZero() || expireAfterWrite.isNegative()) {
+                throw new IllegalArgumentException("快取存活時間必須大於 0：" + expireAfterWrite);
+            }
+            this.expireAfterWrite = expireAfterWrite;
+            this.refreshAfterWrite = refreshAfterWrite;
+        }
+
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public Duration getRefreshAfterWrite() {
+            return refreshAfterWrite;
+        }
+
+        public boolean isRefreshEnabled() {
+            return refreshAfterWrite != null
+                && refreshAfterWrite.compareTo(Duration.ZERO) > 0
+                && refreshAfterWrite.compareTo(expireAfterWrite) < 0;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.banking.benefit.infrastructure.customer;
+
+import com.example.banking.benefit.domain.model.customer.CustomerContext;
+import com.example.banking.benefit.domain.model.customer.CustomerProfile;
+import com.example.banking.benefit.domain.port.output.CustomerServicePort;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 行程內的客戶服務替身
+ *
+ * 客戶資料與權益使用紀錄保存在記憶體，供本機執行與測試使用。
+ * 可設定每次遠端呼叫的模擬延遲，批次方法整批只計一次呼叫與一次延遲，
+ * 以反映實際客戶服務批次查詢的往返成本。
+ */
+public class StubCustomerServiceAdapter implements CustomerServicePort {
+
+    private static final String ACTIVE = "ACTIVE";
+
+    private final Duration latency;
+    private final Map<String, CustomerProfile> profiles = new ConcurrentHashMap<>();
+    private final Map<String, List<Map<String, Object>>> usageHistory = new ConcurrentHashMap<>();
+    private final LongAdder remoteCalls = new LongAdder();
+
+    /**
+     * @param latency 每次呼叫的模擬延遲，為 0 時不延遲
+     */
+    public StubCustomerServiceAdapter(Duration latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * 新增或取代客戶資料
+     */
+    public void register(CustomerProfile profile) {
+        profiles.put(profile.getCustomerId(), profile);
+    }
+
+    /**
+     * 取得目前為止的呼叫次數，批次呼叫計為一次
+     */
+    public long getRemoteCalls() {
+        return remoteCalls.sum();
+    }
+
+    @Override
+    public Optional<CustomerProfile> getCustomerProfile(String customerId) {
+        call();
+        return Optional.ofNullable(profiles.get(customerId));
+    }
+
+    @Override
+    public Map<String, CustomerProfile> getCustomerProfiles(Collection<String> customerIds) {
+        call();
+        Map<String, CustomerProfile> result = new LinkedHashMap<>();
+        for (String customerId : customerIds) {
+            CustomerProfile profile = profiles.get(customerId);
+            if (profile != null) {
+                result.put(customerId, profile);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public CustomerContext getCustomerContext(String customerId) {
+        call();
+        return toContext(customerId);
+    }
+
+    @Override
+    public Map<String, CustomerContext> getCustomerContexts(Collection<String> customerIds) {
+        call();
+        Map<String, CustomerContext> result = new LinkedHashMap<>();
+        for (String customerId : customerIds) {
+            CustomerContext context = toContext(customerId);
+            if (context != null) {
+                result.put(customerId, context);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean validateCustomerEligibility(String customerId, String benefitCode) {
+        call();
+        CustomerProfile profile = profiles.get(customerId);
+        return profile != null && ACTIVE.equals(profile.getStatus());
+    }
+
+    @Override
+    public void updateBenefitUsage(String customerId, String benefitCode, Map<String, Object> usageDetails) {
+        call();
+        Map<String, Object> record = new HashMap<>(usageDetails);
+        record.put("benefitCode", benefitCode);
+        record.putIfAbsent("usedAt", LocalDateTime.now());
+        usageHistory.computeIfAbsent(customerId, id -> new CopyOnWriteArrayList<>()).add(record);
+    }
+
+    @Override
+    public List<Map<String, Object>> getBenefitUsageHistory(String customerId, String benefitCode) {
+        call();
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Map<String, Object> record : usageHistory.getOrDefault(customerId, List.of())) {
+            if (benefitCode == null || benefitCode.equals(record.get("benefitCode"))) {
+                result.add(new HashMap<>(record));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String getCustomerStatus(String customerId) {
+        call();
+        CustomerProfile profile = profiles.get(customerId);
+        return profile != null ? profile.getStatus() : null;
+    }
+
+    @Override
+    public Map<String, String> getCustomerStatuses(Collection<String> customerIds) {
+        call();
+        Map<String, String> result = new LinkedHashMap<>();
+        for (String customerId : customerIds) {
+            CustomerProfile profile = profiles.get(customerId);
+            if (profile != null) {
+                result.put(customerId, profile.getStatus());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isCustomerActive(String customerId) {
+        call();
+        CustomerProfile profile = profiles.get(customerId);
+        return profile != null && ACTIVE.equals(profile.getStatus());
+    }
+
+    private CustomerContext toContext(String customerId) {
+        CustomerProfile profile = profiles.get(customerId);
+        if (profile == null) {
+            return null;
+        }
+        CustomerContext context = CustomerContext.create(customerId, profile.getCustomerType());
+        profile.getAttributes().forEach(context::setAttribute);
+        for (Map<String, Object> record : usageHistory.getOrDefault(customerId, List.of())) {
+            context.updateBenefitUsage((String) record.get("benefitCode"), 1);
+        }
+        return context;
+    }
+
+    private void call() {
+        remoteCalls.increment();
+        if (latency.isZero() || latency.isNegative()) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(latency.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
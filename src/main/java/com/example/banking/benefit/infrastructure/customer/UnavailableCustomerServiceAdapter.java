@@ -0,0 +1,59 @@
+package com.example.banking.benefit.infrastructure.customer;
+
+import com.example.banking.benefit.domain.model.customer.CustomerContext;
+import com.example.banking.benefit.domain.model.customer.CustomerProfile;
+import com.example.banking.benefit.domain.port.output.CustomerServicePort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 未設定客戶服務時的轉接器
+ *
+ * 未註冊實際轉接器的環境仍可啟動，但每次呼叫都以 {@link IllegalStateException} 失敗，
+ * 不會回傳替身資料。
+ */
+public class UnavailableCustomerServiceAdapter implements CustomerServicePort {
+
+    private static final String MESSAGE = "未設定客戶服務轉接器";
+
+    @Override
+    public Optional<CustomerProfile> getCustomerProfile(String customerId) {
+        throw unavailable();
+    }
+
+    @Override
+    public CustomerContext getCustomerContext(String customerId) {
+        throw unavailable();
+    }
+
+    @Override
+    public boolean validateCustomerEligibility(String customerId, String benefitCode) {
+        throw unavailable();
+    }
+
+    @Override
+    public void updateBenefitUsage(String customerId, String benefitCode, Map<String, Object> usageDetails) {
+        throw unavailable();
+    }
+
+    @Override
+    public List<Map<String, Object>> getBenefitUsageHistory(String customerId, String benefitCode) {
+        throw unavailable();
+    }
+
+    @Override
+    public String getCustomerStatus(String customerId) {
+        throw unavailable();
+    }
+
+    @Override
+    public boolean isCustomerActive(String customerId) {
+        throw unavailable();
+    }
+
+    private static IllegalStateException unavailable() {
+        return new IllegalStateException(MESSAGE);
+    }
+}
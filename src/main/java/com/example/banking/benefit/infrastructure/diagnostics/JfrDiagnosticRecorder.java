@@ -0,0 +1,174 @@
+package com.example.banking.benefit.infrastructure.diagnostics;
+
+import com.example.banking.benefit.domain.port.output.DiagnosticRecordingPort;
+import com.example.banking.benefit.domain.service.diagnostics.EngineEvent;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 以 JDK Flight Recorder 實作的診斷錄製
+ *
+ * 以指定的 JFR 設定（default 或 profile）錄製 JVM 事件，並啟用所有引擎事件，
+ * 錄製結束後先寫到暫存檔再複製給呼叫端，完成後刪除暫存檔。
+ * 錄製本身另設定錄製時間加上寬限時間的上限，呼叫端未結束錄製（例如連線中斷）時由 JFR 自行停止；
+ * 錄製停止時即釋放錄製權，不必等到呼叫端關閉，未被取用的錄製於停止後關閉。
+ */
+public class JfrDiagnosticRecorder implements DiagnosticRecordingPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(JfrDiagnosticRecorder.class);
+
+    /** 錄製時間結束後留給呼叫端停止並取出錄製檔的時間 */
+    private static final Duration STOP_GRACE = Duration.ofSeconds(10);
+
+    private final Duration maxDuration;
+    private final String settings;
+    private final Duration stopGrace;
+    private final AtomicBoolean active = new AtomicBoolean();
+
+    /**
+     * @param maxDuration 允許的最長錄製時間
+     * @param settings JFR 設定名稱，如 default 或 profile
+     */
+    public JfrDiagnosticRecorder(Duration maxDuration, String settings) {
+        this(maxDuration, settings, STOP_GRACE);
+    }
+
+    JfrDiagnosticRecorder(Duration maxDuration, String settings, Duration stopGrace) {
+        this.maxDuration = maxDuration;
+        this.settings = settings;
+        this.stopGrace = stopGrace;
+    }
+
+    @Override
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    @Override
+    public Optional<Session> start(Duration duration) {
+        if (duration.isZero() || duration.isNegative() || duration.compareTo(maxDuration) > 0) {
+            throw new IllegalArgumentException("錄製時間必須介於 0 與 " + maxDuration + " 之間：" + duration);
+        }
+        if (!active.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+        JfrSession session = null;
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName("benefit-engine");
+            for (Class<? extends EngineEvent> type : EngineEvent.TYPES) {
+                recording.enable(type).withThreshold(Duration.ZERO);
+            }
+            recording.setDuration(duration.plus(stopGrace));
+            session = new JfrSession(recording, duration);
+            FlightRecorder.addListener(session);
+            recording.start();
+            logger.info("開始 JFR 錄製，設定: {}，時間: {}", settings, duration);
+            return Optional.of(session);
+        } catch (IOException | ParseException e) {
+            active.set(false);
+            throw new IllegalStateException("無法載入 JFR 設定：" + settings, e);
+        } catch (RuntimeException e) {
+            if (session != null) {
+                session.close();
+            } else {
+                active.set(false);
+            }
+            throw e;
+        }
+    }
+
+    private final class JfrSession implements Session, FlightRecorderListener {
+        private final Recording recording;
+        private final long deadlineNanos;
+        private final AtomicBoolean finishing = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        JfrSession(Recording recording, Duration duration) {
+            this.recording = recording;
+            this.deadlineNanos = System.nanoTime() + duration.toNanos();
+        }
+
+        @Override
+        public void finishTo(OutputStream output) throws IOException {
+            try {
+                long remaining;
+                while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+                    TimeUnit.NANOSECONDS.sleep(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!finishing.compareAndSet(false, true) || recording.getState() == RecordingState.CLOSED) {
+                throw new IllegalStateException("JFR 錄製已超過寬限時間而結束");
+            }
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            Path file = Files.createTempFile("benefit-engine-", ".jfr");
+            try {
+                recording.dump(file);
+                Files.copy(file, output);
+            } finally {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    logger.warn("無法刪除 JFR 暫存檔: {}", file, e);
+                }
+            }
+        }
+
+        /**
+         * 錄製停止或關閉時釋放錄製權；呼叫端尚未取用的錄製已無人讀取，於背景關閉
+         */
+        @Override
+        public void recordingStateChanged(Recording changed) {
+            if (changed != recording) {
+                return;
+            }
+            RecordingState state = changed.getState();
+            if (state != RecordingState.STOPPED && state != RecordingState.CLOSED) {
+                return;
+            }
+            release();
+            if (state == RecordingState.STOPPED && finishing.compareAndSet(false, true)) {
+                logger.warn("JFR 錄製超過寬限時間仍未取用，已自動停止並關閉");
+                Thread.ofVirtual().name("jfr-close").start(this::close);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                try {
+                    recording.close();
+                } finally {
+                    release();
+                }
+            }
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                FlightRecorder.removeListener(this);
+                active.set(false);
+            }
+        }
+    }
+}
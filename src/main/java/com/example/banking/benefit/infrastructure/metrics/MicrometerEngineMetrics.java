@@ -0,0 +1,162 @@
+package com.example.banking.benefit.infrastructure.metrics;
+
+import com.example.banking.benefit.domain.model.node.NodeOutcome;
+import com.example.banking.benefit.domain.model.node.NodeType;
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
+import com.example.banking.benefit.domain.port.output.EngineMetricsPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Micrometer 引擎執行指標
+ *
+ * 計量器依流程快取，第一次出現的流程、節點或結果才向註冊表註冊，之後的記錄不再配置物件。
+ * 所有標籤值都來自流程定義（流程ID、節點ID、節點類型）或固定集合（執行狀態、評估方式），
+ * 並以 {@link #flowCardinalityFilter(int)} 與 {@link #nodeCardinalityFilter(int)} 限制上限。
+ */
+public class MicrometerEngineMetrics implements EngineMetricsPort {
+
+    static final String METRIC_PREFIX = "benefit.";
+    static final String FLOW_EXECUTIONS = "benefit.flow.executions";
+    static final String FLOW_ACTIVE = "benefit.flow.executions.active";
+    static final String FLOW_REJECTED = "benefit.flow.executions.rejected";
+    static final String NODE_EXECUTIONS = "benefit.node.executions";
+    static final String EXPRESSION_EVALUATIONS = "benefit.expression.evaluations";
+
+    static final String TAG_FLOW = "flow";
+    static final String TAG_NODE = "node";
+    static final String TAG_NODE_TYPE = "node_type";
+    static final String TAG_OUTCOME = "outcome";
+    static final String TAG_EVALUATOR = "evaluator";
+
+    private static final ExecutionStatus[] STATUSES = ExecutionStatus.values();
+
+    private final MeterRegistry registry;
+    private final Map<String, FlowMeters> flows = new ConcurrentHashMap<>();
+
+    public MicrometerEngineMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void executionStarted(String flowId) {
+        meters(flowId).active.incrementAndGet();
+    }
+
+    @Override
+    public void executionEnded(String flowId) {
+        meters(flowId).active.decrementAndGet();
+    }
+
+    @Override
+    public void recordFlow(String flowId, ExecutionStatus status, long durationNanos) {
+        meters(flowId).flowTimer(status).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordRejected(String flowId) {
+        meters(flowId).rejected.increment();
+    }
+
+    @Override
+    public void recordNode(String flowId, String nodeId, NodeType nodeType, NodeOutcome outcome, long durationNanos) {
+        meters(flowId).nodeTimer(nodeId, nodeType, outcome).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordEvaluation(String flowId, String evaluator, boolean success, long durationNanos) {
+        meters(flowId).evaluationTimer(evaluator, success).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 限制所有引擎指標的流程標籤數，超過時新流程的計量器改為不記錄
+     */
+    public static MeterFilter flowCardinalityFilter(int maxFlows) {
+        return MeterFilter.maximumAllowableTags(METRIC_PREFIX, TAG_FLOW, maxFlows, MeterFilter.deny());
+    }
+
+    /**
+     * 限制節點計時器的節點標籤數，超過時新節點的計時器改為不記錄
+     */
+    public static MeterFilter nodeCardinalityFilter(int maxNodes) {
+        return MeterFilter.maximumAllowableTags(NODE_EXECUTIONS, TAG_NODE, maxNodes, MeterFilter.deny());
+    }
+
+    private FlowMeters meters(String flowId) {
+        FlowMeters meters = flows.get(flowId);
+        if (meters == null) {
+            meters = flows.computeIfAbsent(flowId, FlowMeters::new);
+        }
+        return meters;
+    }
+
+    /**
+     * 單一流程的計量器
+     */
+    private final class FlowMeters {
+        private final String flowId;
+        private final AtomicInteger active = new AtomicInteger();
+        private final Counter rejected;
+        private final AtomicReferenceArray<Timer> flowTimers = new AtomicReferenceArray<>(STATUSES.length);
+        private final Map<String, Map<NodeOutcome, Timer>> nodeTimers = new ConcurrentHashMap<>();
+        private final Map<String, Timer> evaluationTimers = new ConcurrentHashMap<>();
+
+        FlowMeters(String flowId) {
+            this.flowId = flowId;
+            // 量測值只保留弱參考，由此物件持有計數以免被回收
+            Gauge.builder(FLOW_ACTIVE, active, AtomicInteger::get)
+                .description("執行中的流程數")
+                .tag(TAG_FLOW, flowId)
+                .register(registry);
+            this.rejected = Counter.builder(FLOW_REJECTED)
+                .description("因隔艙已滿被拒絕的執行數")
+                .tag(TAG_FLOW, flowId)
+                .register(registry);
+        }
+
+        Timer flowTimer(ExecutionStatus status) {
+            Timer timer = flowTimers.get(status.ordinal());
+            if (timer == null) {
+                // 重複註冊時註冊表回傳同一個計時器，競爭時無須同步
+                timer = Timer.builder(FLOW_EXECUTIONS)
+                    .description("流程執行時間")
+                    .tag(TAG_FLOW, flowId)
+                    .tag(TAG_OUTCOME, status.name())
+                    .register(registry);
+                flowTimers.set(status.ordinal(), timer);
+            }
+            return timer;
+        }
+
+        Timer nodeTimer(String nodeId, NodeType nodeType, NodeOutcome outcome) {
+            return nodeTimers.computeIfAbsent(nodeId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(outcome, o -> Timer.builder(NODE_EXECUTIONS)
+                    .description("節點執行時間")
+                    .tag(TAG_FLOW, flowId)
+                    .tag(TAG_NODE, nodeId)
+                    .tag(TAG_NODE_TYPE, nodeType.name())
+                    .tag(TAG_OUTCOME, o.name())
+                    .register(registry));
+        }
+
+        Timer evaluationTimer(String evaluator, boolean success) {
+            String outcome = success ? "SUCCESS" : "ERROR";
+            return evaluationTimers.computeIfAbsent(success ? evaluator : evaluator + ":" + outcome,
+                key -> Timer.builder(EXPRESSION_EVALUATIONS)
+                    .description("決策與處理節點的運算式或 Java 類別評估時間")
+                    .tag(TAG_FLOW, flowId)
+                    .tag(TAG_EVALUATOR, evaluator)
+                    .tag(TAG_OUTCOME, outcome)
+                    .register(registry));
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import com.example.banking.benefit.domain.model.statistics.ExecutionLogWriterStatistics;
+import com.example.banking.benefit.domain.port.output.ExecutionLogWriter;
+import com.example.banking.benefit.domain.service.diagnostics.LogFlushEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 非同步批次執行日誌寫入
+ *
+ * 請求執行緒只把日誌放入無鎖環形緩衝區，由單一寫入執行緒批次取出並以
+ * {@link JdbcExecutionLogBatchWriter} 在同一交易中寫入。緩衝區滿時依 {@link OverflowPolicy} 處理，
+ * 關閉時會先寫出所有尚未處理的日誌。關閉開始後的寫入不再排入緩衝區而在呼叫端直接寫入，
+ * 最後一次寫出會等到所有進行中的排入完成，日誌不會排在最後一次寫出之後而遺失。
+ */
+public class AsyncExecutionLogWriter implements ExecutionLogWriter, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncExecutionLogWriter.class);
+
+    /**
+     * 緩衝區已滿時的處理方式
+     */
+    public enum OverflowPolicy {
+        /** 捨棄新日誌並計數 */
+        DROP,
+        /** 在呼叫端執行緒直接寫入 */
+        CALLER_RUNS,
+        /** 等待緩衝區出現空位，逾時後捨棄 */
+        BLOCK
+    }
+
+    private final JdbcExecutionLogBatchWriter batchWriter;
+    private final MpscRingBuffer<ExecutionLog> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    /** 進行中的 write 呼叫數，最後一次寫出前須降為零 */
+    private final AtomicInteger producers = new AtomicInteger();
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public AsyncExecutionLogWriter(
+            JdbcExecutionLogBatchWriter batchWriter,
+            int capacity,
+            int batchSize,
+            Duration flushInterval,
+            OverflowPolicy overflowPolicy,
+            Duration blockTimeout) {
+        this.batchWriter = batchWriter;
+        this.buffer = new MpscRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = blockTimeout.toNanos();
+        this.writerThread = new Thread(this::drainLoop, "execution-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void write(ExecutionLog log) {
+        // 先登記再檢查 running：close 在設定 running 之後等待登記數歸零，兩者不會錯過彼此
+        producers.incrementAndGet();
+        try {
+            if (!running) {
+                writeOnCaller(log);
+                return;
+            }
+            if (buffer.offer(log)) {
+                onEnqueued();
+                return;
+            }
+            switch (overflowPolicy) {
+                case CALLER_RUNS -> writeOnCaller(log);
+                case BLOCK -> {
+                    if (offerWithin(log, blockTimeoutNanos)) {
+                        return;
+                    }
+                    if (running) {
+                        dropped.increment();
+                    } else {
+                        writeOnCaller(log);
+                    }
+                }
+                default -> dropped.increment();
+            }
+        } finally {
+            producers.decrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean flush(Duration timeout) {
+        long target = enqueued.sum();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        LockSupport.unpark(writerThread);
+        while (processed() < target) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return true;
+    }
+
+    @Override
+    public ExecutionLogWriterStatistics getStatistics() {
+        return new ExecutionLogWriterStatistics(
+            enqueued.sum(),
+            written.sum(),
+            dropped.sum(),
+            callerRuns.sum(),
+            failed.sum(),
+            batches.sum(),
+            buffer.size(),
+            buffer.capacity()
+        );
+    }
+
+    /**
+     * 停止接收並寫出緩衝區中剩餘的日誌
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            logger.warn("執行日誌寫入執行緒未在時限內結束，尚未寫出: {}", buffer.size());
+        } else {
+            drainRemaining();
+            logger.info("執行日誌寫入已停止，共寫入 {} 筆，捨棄 {} 筆", written.sum(), dropped.sum());
+        }
+    }
+
+    private void drainLoop() {
+        List<ExecutionLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            if (buffer.drainTo(batch, batchSize) == 0) {
+                // 沒有待寫入的日誌，等待下一個寫入週期或被喚醒
+                LockSupport.parkNanos(this, flushIntervalNanos);
+                continue;
+            }
+            writeBatch(batch);
+        }
+        drainRemaining();
+    }
+
+    /**
+     * 等待進行中的排入完成後寫出緩衝區中剩餘的日誌，之後的寫入都在呼叫端直接寫入
+     */
+    private void drainRemaining() {
+        while (producers.get() > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        List<ExecutionLog> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            writeBatch(batch);
+        }
+    }
+
+    private void writeBatch(List<ExecutionLog> batch) {
+        LogFlushEvent event = new LogFlushEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            batchWriter.insert(batch);
+            written.add(batch.size());
+            batches.increment();
+            success = true;
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            logger.error("批次寫入執行日誌失敗，筆數: {}", batch.size(), e);
+        } finally {
+            if (event.isEnabled()) {
+                event.complete(commonFlowId(batch), batch.size(), success);
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 批次內所有日誌屬於同一流程時回傳該流程ID，否則為 null
+     */
+    private static String commonFlowId(List<ExecutionLog> batch) {
+        String flowId = batch.get(0).getFlowId();
+        for (ExecutionLog log : batch) {
+            if (flowId == null || !flowId.equals(log.getFlowId())) {
+                return null;
+            }
+        }
+        return flowId;
+    }
+
+    private void writeOnCaller(ExecutionLog log) {
+        callerRuns.increment();
+        try {
+            batchWriter.insert(List.of(log));
+            written.increment();
+        } catch (RuntimeException e) {
+            failed.increment();
+            logger.error("寫入執行日誌失敗: {}", log.getLogId(), e);
+        }
+    }
+
+    private boolean offerWithin(ExecutionLog log, long timeoutNanos) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (running) {
+            if (buffer.offer(log)) {
+                onEnqueued();
+                return true;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        return false;
+    }
+
+    private void onEnqueued() {
+        enqueued.increment();
+        // 累積滿一批時立即喚醒寫入執行緒，不必等到下一個週期
+        if (buffer.size() >= batchSize) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private long processed() {
+        // 呼叫端直接寫入的日誌不經過緩衝區
+        return written.sum() + failed.sum() - callerRuns.sum();
+    }
+}
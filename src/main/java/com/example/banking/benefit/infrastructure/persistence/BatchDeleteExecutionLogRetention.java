@@ -0,0 +1,55 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.port.output.ExecutionLogRetentionPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 分批刪除的執行日誌保留期限
+ *
+ * 供不支援宣告式分區的資料庫（如 H2）使用。每批只刪除固定列數並各自提交，
+ * 鎖定時間與交易大小受限於批次大小，不會一次鎖住整段過期資料。
+ */
+public class BatchDeleteExecutionLogRetention implements ExecutionLogRetentionPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchDeleteExecutionLogRetention.class);
+
+    static final String DELETE_BATCH_SQL = "DELETE FROM execution_log WHERE log_id IN "
+        + "(SELECT log_id FROM execution_log WHERE execution_time < ? FETCH FIRST ? ROWS ONLY)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public BatchDeleteExecutionLogRetention(JdbcTemplate jdbcTemplate, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int preparePartitions(LocalDate from, LocalDate to) {
+        return 0;
+    }
+
+    @Override
+    public long purgeBefore(LocalDateTime cutoff) {
+        Timestamp cutoffTime = Timestamp.valueOf(cutoff);
+        long deleted = 0;
+        int batch;
+        do {
+            batch = jdbcTemplate.update(DELETE_BATCH_SQL, cutoffTime, batchSize);
+            deleted += batch;
+        } while (batch >= batchSize);
+        if (deleted > 0) {
+            logger.info("已刪除過期的執行日誌: {} 筆 (早於 {})", deleted, cutoff);
+        }
+        return deleted;
+    }
+}
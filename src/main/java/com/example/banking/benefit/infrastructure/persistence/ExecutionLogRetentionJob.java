@@ -0,0 +1,67 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.port.output.ExecutionLogRetentionPort;
+import com.example.banking.benefit.domain.repository.ExecutionTraceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 執行日誌保留期限排程
+ *
+ * 啟動時與每日排程時預先建立未來的分區，並移除超過保留天數的日誌與精簡執行軌跡。
+ * 日誌與軌跡各自處理，其中一項失敗不影響另一項。
+ */
+public class ExecutionLogRetentionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionLogRetentionJob.class);
+
+    private final ExecutionLogRetentionPort retentionPort;
+    private final ExecutionTraceRepository traceRepository;
+    private final int retentionDays;
+    private final int partitionAheadDays;
+    private final Clock clock;
+
+    public ExecutionLogRetentionJob(ExecutionLogRetentionPort retentionPort, ExecutionTraceRepository traceRepository,
+                                    int retentionDays, int partitionAheadDays, Clock clock) {
+        if (retentionDays <= 0) {
+            throw new IllegalArgumentException("retentionDays must be positive");
+        }
+        this.retentionPort = retentionPort;
+        this.traceRepository = traceRepository;
+        this.retentionDays = retentionDays;
+        this.partitionAheadDays = Math.max(0, partitionAheadDays);
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        run();
+    }
+
+    @Scheduled(cron = "${benefit.engine.execution-log.retention.cron:0 15 0 * * *}")
+    public void run() {
+        LocalDate today = LocalDate.now(clock);
+        LocalDateTime cutoff = today.minusDays(retentionDays).atStartOfDay();
+        // 下次排程會重試，不影響流程執行
+        try {
+            retentionPort.preparePartitions(today, today.plusDays(partitionAheadDays));
+            long removed = retentionPort.purgeBefore(cutoff);
+            logger.debug("執行日誌保留期限處理完成: 保留 {} 天, 移除 {}", retentionDays, removed);
+        } catch (RuntimeException e) {
+            logger.error("執行日誌保留期限處理失敗", e);
+        }
+        try {
+            long removed = traceRepository.deleteStartedBefore(cutoff);
+            logger.debug("執行軌跡保留期限處理完成: 保留 {} 天, 移除 {}", retentionDays, removed);
+        } catch (RuntimeException e) {
+            logger.error("執行軌跡保留期限處理失敗", e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 以 JDBC 批次寫入執行日誌
+ *
+ * 一批日誌在同一個交易中以單一批次語句寫入並一次提交，
+ * 多個流程執行的日誌因此共用一次提交（group commit）。
+ */
+public class JdbcExecutionLogBatchWriter {
+
+    static final String INSERT_SQL = "INSERT INTO execution_log "
+        + "(log_id, execution_id, flow_id, customer_id, execution_time, node_id, node_type, "
+        + "execution_result, result_data, error_message, execution_duration_ms, execution_duration_us, "
+        + "attempt_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int[] ARGUMENT_TYPES = {
+        Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR,
+        Types.VARCHAR, Types.VARCHAR, Types.CLOB, Types.CLOB, Types.INTEGER, Types.BIGINT, Types.INTEGER
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcExecutionLogBatchWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 在單一交易中寫入一批日誌
+     */
+    public void insert(List<ExecutionLog> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(logs.size());
+        for (ExecutionLog log : logs) {
+            rows.add(toRow(log));
+        }
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, ARGUMENT_TYPES));
+    }
+
+    private Object[] toRow(ExecutionLog log) {
+        return new Object[] {
+            log.getLogId(),
+            log.getExecutionId(),
+            log.getFlowId(),
+            log.getCustomerId(),
+            log.getExecutionTime() != null ? Timestamp.valueOf(log.getExecutionTime()) : null,
+            log.getNodeId(),
+            log.getNodeType() != null ? log.getNodeType().name() : null,
+            log.getExecutionResult() != null ? log.getExecutionResult().name() : null,
+            log.getResultData(),
+            log.getErrorMessage(),
+            log.getExecutionDurationMs(),
+            log.getExecutionDurationMicros(),
+            log.getAttemptCount()
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import com.example.banking.benefit.domain.model.log.ExecutionResult;
+import com.example.banking.benefit.domain.model.node.NodeType;
+import com.example.banking.benefit.domain.port.output.ExecutionLogExportPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 以 JDBC 伺服器端游標匯出執行日誌
+ *
+ * 查詢使用只進、唯讀的結果集並設定 fetch size，每次只從資料庫取回一批資料列。
+ * PostgreSQL 只有在關閉自動提交時才會使用游標，因此查詢在唯讀交易中執行。
+ */
+public class JdbcExecutionLogExporter implements ExecutionLogExportPort {
+
+    static final String SELECT_SQL = "SELECT log_id, execution_id, flow_id, customer_id, execution_time, node_id, "
+        + "node_type, execution_result, result_data, error_message, execution_duration_ms, execution_duration_us, "
+        + "attempt_count FROM execution_log WHERE flow_id = ? AND execution_time >= ? AND execution_time <= ? "
+        + "ORDER BY execution_time, log_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+
+    /**
+     * @param transactionTemplate 應設定為唯讀交易
+     * @param fetchSize 每次自資料庫取回的資料列數
+     */
+    public JdbcExecutionLogExporter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("fetchSize must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public long stream(String flowId, LocalDateTime startTime, LocalDateTime endTime, Consumer<ExecutionLog> consumer) {
+        long[] count = new long[1];
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                SELECT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setString(1, flowId);
+            statement.setTimestamp(2, Timestamp.valueOf(startTime));
+            statement.setTimestamp(3, Timestamp.valueOf(endTime));
+            return statement;
+        }, (RowCallbackHandler) resultSet -> {
+            consumer.accept(mapRow(resultSet));
+            count[0]++;
+        }));
+        return count[0];
+    }
+
+    static ExecutionLog mapRow(ResultSet rs) throws SQLException {
+        Timestamp executionTime = rs.getTimestamp("execution_time");
+        String nodeType = rs.getString("node_type");
+        String executionResult = rs.getString("execution_result");
+        int durationMs = rs.getInt("execution_duration_ms");
+        Integer executionDurationMs = rs.wasNull() ? null : durationMs;
+        long durationMicros = rs.getLong("execution_duration_us");
+        Long executionDurationMicros = rs.wasNull() ? null : durationMicros;
+        return ExecutionLog.restore(
+            rs.getString("log_id"),
+            rs.getString("execution_id"),
+            rs.getString("flow_id"),
+            rs.getString("customer_id"),
+            executionTime != null ? executionTime.toLocalDateTime() : null,
+            rs.getString("node_id"),
+            nodeType != null ? NodeType.valueOf(nodeType) : null,
+            executionResult != null ? ExecutionResult.valueOf(executionResult) : null,
+            rs.getString("result_data"),
+            rs.getString("error_message"),
+            executionDurationMs,
+            executionDurationMicros,
+            rs.getInt("attempt_count")
+        );
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import com.example.banking.benefit.domain.model.log.ExecutionLogCursor;
+import com.example.banking.benefit.domain.repository.ExecutionLogRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 以 JDBC 存取 execution_log
+ *
+ * 日誌只新增不更新。游標分頁以 {@code (execution_time, log_id) > (?, ?)} 的列值比較從
+ * idx_log_flow_result_time 或 idx_log_flow_time 索引位置往後讀取，不使用 OFFSET。
+ */
+public class JdbcExecutionLogRepository implements ExecutionLogRepository {
+
+    private static final String SELECT_SQL = "SELECT log_id, execution_id, flow_id, customer_id, execution_time, "
+        + "node_id, node_type, execution_result, result_data, error_message, execution_duration_ms, "
+        + "execution_duration_us, attempt_count FROM execution_log";
+
+    private static final String TIME_ORDER = " ORDER BY execution_time, log_id";
+
+    private static final RowMapper<ExecutionLog> ROW_MAPPER =
+        (rs, rowNum) -> JdbcExecutionLogExporter.mapRow(rs);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcExecutionLogRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<ExecutionLog> findById(String logId) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE log_id = ?", ROW_MAPPER, logId).stream().findFirst();
+    }
+
+    @Override
+    public List<ExecutionLog> findAll() {
+        return jdbcTemplate.query(SELECT_SQL + TIME_ORDER, ROW_MAPPER);
+    }
+
+    @Override
+    public ExecutionLog save(ExecutionLog log) {
+        jdbcTemplate.update(JdbcExecutionLogBatchWriter.INSERT_SQL,
+            log.getLogId(),
+            log.getExecutionId(),
+            log.getFlowId(),
+            log.getCustomerId(),
+            toTimestamp(log.getExecutionTime()),
+            log.getNodeId(),
+            log.getNodeType() != null ? log.getNodeType().name() : null,
+            log.getExecutionResult() != null ? log.getExecutionResult().name() : null,
+            log.getResultData(),
+            log.getErrorMessage(),
+            log.getExecutionDurationMs(),
+            log.getExecutionDurationMicros(),
+            log.getAttemptCount());
+        return log;
+    }
+
+    @Override
+    public void delete(ExecutionLog log) {
+        deleteById(log.getLogId());
+    }
+
+    @Override
+    public void deleteById(String logId) {
+        jdbcTemplate.update("DELETE FROM execution_log WHERE log_id = ?", logId);
+    }
+
+    @Override
+    public boolean existsById(String logId) {
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM execution_log WHERE log_id = ?", Long.class, logId);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM execution_log", Long.class);
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public List<ExecutionLog> findByFlowId(FlowId flowId) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE flow_id = ?" + TIME_ORDER, ROW_MAPPER, flowId.getValue());
+    }
+
+    @Override
+    public List<ExecutionLog> findByCustomerId(String customerId) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE customer_id = ?" + TIME_ORDER, ROW_MAPPER, customerId);
+    }
+
+    @Override
+    public List<ExecutionLog> findByExecutionTimeBetween(LocalDateTime startTime, LocalDateTime endTime) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE execution_time >= ? AND execution_time <= ?" + TIME_ORDER,
+            ROW_MAPPER, toTimestamp(startTime), toTimestamp(endTime));
+    }
+
+    @Override
+    public List<ExecutionLog> findByExecutionResult(String result) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE execution_result = ?" + TIME_ORDER, ROW_MAPPER, result);
+    }
+
+    @Override
+    public List<ExecutionLog> findByExecutionDurationGreaterThan(int durationMs) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE execution_duration_ms > ?" + TIME_ORDER, ROW_MAPPER, durationMs);
+    }
+
+    @Override
+    public List<ExecutionLog> findByNodeId(String nodeId) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE node_id = ?" + TIME_ORDER, ROW_MAPPER, nodeId);
+    }
+
+    @Override
+    public void deleteByExecutionTimeBefore(LocalDateTime dateTime) {
+        jdbcTemplate.update("DELETE FROM execution_log WHERE execution_time < ?", toTimestamp(dateTime));
+    }
+
+    @Override
+    public List<ExecutionLog> findByFlowIdAndExecutionTimeBetween(String flowId, LocalDateTime startTime,
+                                                                  LocalDateTime endTime) {
+        return jdbcTemplate.query(
+            SELECT_SQL + " WHERE flow_id = ? AND execution_time >= ? AND execution_time <= ?" + TIME_ORDER,
+            ROW_MAPPER, flowId, toTimestamp(startTime), toTimestamp(endTime));
+    }
+
+    @Override
+    public Page<ExecutionLog> findByFlowIdAndExecutionResultAndExecutionTimeBetween(
+            String flowId, String status, LocalDateTime startTime, LocalDateTime endTime, Pageable pageable) {
+        List<Object> args = new ArrayList<>();
+        String where = flowFilter(flowId, status, startTime, endTime, args);
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM execution_log" + where, Long.class,
+            args.toArray());
+        StringBuilder sql = new StringBuilder(SELECT_SQL).append(where).append(TIME_ORDER);
+        if (pageable.isPaged()) {
+            sql.append(" OFFSET ? ROWS FETCH NEXT ? ROWS ONLY");
+            args.add(pageable.getOffset());
+            args.add(pageable.getPageSize());
+        }
+        List<ExecutionLog> content = jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+        return new PageImpl<>(content, pageable, total != null ? total : 0);
+    }
+
+    @Override
+    public List<ExecutionLog> findPageAfter(String flowId, String status, LocalDateTime startTime, LocalDateTime endTime,
+                                            ExecutionLogCursor after, int limit) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(SELECT_SQL).append(flowFilter(flowId, status, startTime, endTime, args));
+        if (after != null) {
+            sql.append(" AND (execution_time, log_id) > (?, ?)");
+            args.add(toTimestamp(after.getExecutionTime()));
+            args.add(after.getLogId());
+        }
+        sql.append(TIME_ORDER).append(" FETCH FIRST ? ROWS ONLY");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * 依流程、執行結果（null 表示不限）與時間範圍篩選的條件，參數依序加入 args
+     */
+    private static String flowFilter(String flowId, String status, LocalDateTime startTime, LocalDateTime endTime,
+                                     List<Object> args) {
+        StringBuilder where = new StringBuilder(" WHERE flow_id = ?");
+        args.add(flowId);
+        if (status != null) {
+            where.append(" AND execution_result = ?");
+            args.add(status);
+        }
+        where.append(" AND execution_time >= ? AND execution_time <= ?");
+        args.add(toTimestamp(startTime));
+        args.add(toTimestamp(endTime));
+        return where.toString();
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime time) {
+        return time != null ? Timestamp.valueOf(time) : null;
+    }
+}
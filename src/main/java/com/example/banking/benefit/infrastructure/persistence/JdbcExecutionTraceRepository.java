@@ -0,0 +1,93 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.model.log.ExecutionTrace;
+import com.example.banking.benefit.domain.repository.ExecutionTraceRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 以 JDBC 存取精簡執行軌跡
+ *
+ * 過期軌跡與 execution_log 相同，每批只刪除固定列數並各自提交。
+ */
+public class JdbcExecutionTraceRepository implements ExecutionTraceRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO execution_trace "
+        + "(execution_id, flow_id, flow_version, customer_id, start_time, duration_us, status, error_message, path_data) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_BY_ID_SQL = "SELECT execution_id, flow_id, flow_version, customer_id, "
+        + "start_time, duration_us, status, error_message, path_data FROM execution_trace WHERE execution_id = ?";
+
+    static final String DELETE_BATCH_SQL = "DELETE FROM execution_trace WHERE execution_id IN "
+        + "(SELECT execution_id FROM execution_trace WHERE start_time < ? FETCH FIRST ? ROWS ONLY)";
+
+    private static final int DEFAULT_DELETE_BATCH_SIZE = 5000;
+
+    private static final RowMapper<ExecutionTrace> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp startTime = rs.getTimestamp("start_time");
+        return new ExecutionTrace(
+            rs.getString("execution_id"),
+            rs.getString("flow_id"),
+            rs.getString("flow_version"),
+            rs.getString("customer_id"),
+            startTime != null ? startTime.toLocalDateTime() : null,
+            rs.getLong("duration_us"),
+            rs.getString("status"),
+            rs.getString("error_message"),
+            rs.getBytes("path_data")
+        );
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int deleteBatchSize;
+
+    public JdbcExecutionTraceRepository(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, DEFAULT_DELETE_BATCH_SIZE);
+    }
+
+    public JdbcExecutionTraceRepository(JdbcTemplate jdbcTemplate, int deleteBatchSize) {
+        if (deleteBatchSize <= 0) {
+            throw new IllegalArgumentException("deleteBatchSize must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.deleteBatchSize = deleteBatchSize;
+    }
+
+    @Override
+    public void save(ExecutionTrace trace) {
+        jdbcTemplate.update(INSERT_SQL,
+            trace.getExecutionId(),
+            trace.getFlowId(),
+            trace.getFlowVersion(),
+            trace.getCustomerId(),
+            trace.getStartTime() != null ? Timestamp.valueOf(trace.getStartTime()) : null,
+            trace.getDurationMicros(),
+            trace.getStatus(),
+            trace.getErrorMessage(),
+            trace.getPathData());
+    }
+
+    @Override
+    public Optional<ExecutionTrace> findById(String executionId) {
+        List<ExecutionTrace> traces = jdbcTemplate.query(SELECT_BY_ID_SQL, ROW_MAPPER, executionId);
+        return traces.stream().findFirst();
+    }
+
+    @Override
+    public long deleteStartedBefore(LocalDateTime cutoff) {
+        Timestamp cutoffTime = Timestamp.valueOf(cutoff);
+        long deleted = 0;
+        int batch;
+        do {
+            batch = jdbcTemplate.update(DELETE_BATCH_SQL, cutoffTime, deleteBatchSize);
+            deleted += batch;
+        } while (batch >= deleteBatchSize);
+        return deleted;
+    }
+}
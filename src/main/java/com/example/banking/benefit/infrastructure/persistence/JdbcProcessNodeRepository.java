@@ -0,0 +1,172 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.node.ProcessType;
+import com.example.banking.benefit.domain.model.process.ProcessNode;
+import com.example.banking.benefit.domain.repository.ProcessNodeRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 以 JDBC 存取處理節點
+ *
+ * 載入時一併讀取 side_effect_free，模擬執行依此決定節點是否實際執行。
+ */
+public class JdbcProcessNodeRepository implements ProcessNodeRepository {
+
+    private static final String COLUMNS = "node_id, flow_id, node_name, node_description, process_type, "
+        + "implementation_class, spel_expression, state_name, node_order, side_effect_free, created_time, updated_time";
+
+    private static final String SELECT_SQL = "SELECT " + COLUMNS + " FROM process_node";
+
+    private static final String INSERT_SQL = "INSERT INTO process_node (" + COLUMNS + ") "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE process_node SET flow_id = ?, node_name = ?, "
+        + "node_description = ?, process_type = ?, implementation_class = ?, spel_expression = ?, state_name = ?, "
+        + "node_order = ?, side_effect_free = ?, updated_time = ? WHERE node_id = ?";
+
+    private static final String SELECT_START_NODES_SQL = "SELECT p.node_id, p.flow_id, p.node_name, "
+        + "p.node_description, p.process_type, p.implementation_class, p.spel_expression, p.state_name, "
+        + "p.node_order, p.side_effect_free, p.created_time, p.updated_time FROM process_node p "
+        + "JOIN flow_definition f ON f.flow_id = p.flow_id AND f.start_node_id = p.node_id WHERE p.flow_id = ?";
+
+    private static final RowMapper<ProcessNode> ROW_MAPPER = (rs, rowNum) -> {
+        int order = rs.getInt("node_order");
+        Integer nodeOrder = rs.wasNull() ? null : order;
+        return ProcessNode.restore(
+            rs.getString("node_id"),
+            rs.getString("flow_id"),
+            rs.getString("node_name"),
+            rs.getString("node_description"),
+            ProcessType.valueOf(rs.getString("process_type")),
+            rs.getString("implementation_class"),
+            rs.getString("spel_expression"),
+            rs.getString("state_name"),
+            nodeOrder,
+            rs.getBoolean("side_effect_free"),
+            toLocalDateTime(rs.getTimestamp("created_time")),
+            toLocalDateTime(rs.getTimestamp("updated_time"))
+        );
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcProcessNodeRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<ProcessNode> findById(String nodeId) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE node_id = ?", ROW_MAPPER, nodeId).stream().findFirst();
+    }
+
+    @Override
+    public List<ProcessNode> findAll() {
+        return jdbcTemplate.query(SELECT_SQL + " ORDER BY flow_id, node_order", ROW_MAPPER);
+    }
+
+    @Override
+    public List<ProcessNode> findByFlowId(FlowId flowId) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE flow_id = ? ORDER BY node_order", ROW_MAPPER,
+            flowId.getValue());
+    }
+
+    @Override
+    public List<ProcessNode> findByStateName(String stateName) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE state_name = ?", ROW_MAPPER, stateName);
+    }
+
+    @Override
+    public List<ProcessNode> findByImplementationClass(String implementationClass) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE implementation_class = ?", ROW_MAPPER, implementationClass);
+    }
+
+    @Override
+    public List<ProcessNode> findStartNodesByFlowId(FlowId flowId) {
+        return jdbcTemplate.query(SELECT_START_NODES_SQL, ROW_MAPPER, flowId.getValue());
+    }
+
+    /**
+     * 節點已存在時更新，否則新增
+     */
+    @Override
+    public ProcessNode save(ProcessNode node) {
+        int updated = jdbcTemplate.update(UPDATE_SQL,
+            node.getFlowId(),
+            node.getNodeName(),
+            node.getDescription(),
+            node.getProcessType().name(),
+            node.getImplementationClassName(),
+            node.getSpelExpression(),
+            node.getStateName(),
+            node.getNodeOrder(),
+            node.isSideEffectFree(),
+            toTimestamp(node.getUpdatedTime()),
+            node.getNodeId());
+        if (updated == 0) {
+            jdbcTemplate.update(INSERT_SQL,
+                node.getNodeId(),
+                node.getFlowId(),
+                node.getNodeName(),
+                node.getDescription(),
+                node.getProcessType().name(),
+                node.getImplementationClassName(),
+                node.getSpelExpression(),
+                node.getStateName(),
+                node.getNodeOrder(),
+                node.isSideEffectFree(),
+                toTimestamp(node.getCreatedTime()),
+                toTimestamp(node.getUpdatedTime()));
+        }
+        return node;
+    }
+
+    @Override
+    public void delete(ProcessNode node) {
+        deleteById(node.getNodeId());
+    }
+
+    @Override
+    public void deleteById(String nodeId) {
+        jdbcTemplate.update("DELETE FROM process_node WHERE node_id = ?", nodeId);
+    }
+
+    @Override
+    public void deleteByFlowId(FlowId flowId) {
+        jdbcTemplate.update("DELETE FROM process_node WHERE flow_id = ?", flowId.getValue());
+    }
+
+    @Override
+    public boolean existsById(String nodeId) {
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM process_node WHERE node_id = ?", Long.class, nodeId);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM process_node", Long.class);
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public long countByFlowId(FlowId flowId) {
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM process_node WHERE flow_id = ?", Long.class, flowId.getValue());
+        return count != null ? count : 0;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime time) {
+        return time != null ? Timestamp.valueOf(time) : null;
+    }
+}
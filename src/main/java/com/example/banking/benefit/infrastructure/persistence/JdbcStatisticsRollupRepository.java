@@ -0,0 +1,198 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.model.statistics.BucketGranularity;
+import com.example.banking.benefit.domain.model.statistics.StatisticsBucket;
+import com.example.banking.benefit.domain.repository.StatisticsRollupRepository;
+import com.example.banking.benefit.domain.service.statistics.HistogramCodec;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 以 JDBC 存取流程統計彙總
+ *
+ * 計數與極值以 UPDATE 累加，直方圖無法在 SQL 中合併，因此先讀出目前的直方圖與版本，
+ * 在記憶體中合併後以版本作為條件寫回；其他節點已先寫入時重新讀取再合併。
+ * 區間不存在時才 INSERT，多個節點同時新增同一區間時，主鍵衝突的一方改回累加。
+ * 一次寫出的所有區間在同一個交易中提交，任一區間失敗時全部回復，
+ * 呼叫端放回整批增量重試也不會重複累加已寫入的區間。
+ * 主鍵衝突的 INSERT 在儲存點中執行，回復儲存點後交易仍可繼續（PostgreSQL 需要）。
+ */
+public class JdbcStatisticsRollupRepository implements StatisticsRollupRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcStatisticsRollupRepository.class);
+
+    /** 同一區間版本衝突時的最大重試次數 */
+    static final int MAX_MERGE_ATTEMPTS = 10;
+
+    static final String UPDATE_SQL = "UPDATE flow_statistics_rollup SET "
+        + "execution_count = execution_count + ?, "
+        + "success_count = success_count + ?, "
+        + "duration_sum_us = duration_sum_us + ?, "
+        + "duration_min_us = LEAST(duration_min_us, ?), "
+        + "duration_max_us = GREATEST(duration_max_us, ?), "
+        + "duration_histogram = ?, "
+        + "row_version = row_version + 1 "
+        + "WHERE flow_id = ? AND granularity = ? AND bucket_start = ? AND row_version = ?";
+
+    static final String INSERT_SQL = "INSERT INTO flow_statistics_rollup "
+        + "(flow_id, granularity, bucket_start, execution_count, success_count, duration_sum_us, "
+        + "duration_min_us, duration_max_us, duration_histogram, row_version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    static final String SELECT_HISTOGRAM_SQL = "SELECT duration_histogram, row_version FROM flow_statistics_rollup "
+        + "WHERE flow_id = ? AND granularity = ? AND bucket_start = ?";
+
+    private static final String SELECT_COLUMNS = "SELECT flow_id, granularity, bucket_start, execution_count, "
+        + "success_count, duration_sum_us, duration_min_us, duration_max_us, duration_histogram "
+        + "FROM flow_statistics_rollup ";
+
+    private static final RowMapper<StatisticsBucket> ROW_MAPPER = (rs, rowNum) -> new StatisticsBucket(
+        rs.getString("flow_id"),
+        BucketGranularity.valueOf(rs.getString("granularity")),
+        rs.getTimestamp("bucket_start").toLocalDateTime(),
+        rs.getLong("execution_count"),
+        rs.getLong("success_count"),
+        rs.getLong("duration_sum_us"),
+        rs.getLong("duration_min_us"),
+        rs.getLong("duration_max_us"),
+        rs.getBytes("duration_histogram")
+    );
+
+    private static final RowMapper<StoredHistogram> HISTOGRAM_MAPPER = (rs, rowNum) ->
+        new StoredHistogram(rs.getBytes("duration_histogram"), rs.getLong("row_version"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate savepointTemplate;
+
+    public JdbcStatisticsRollupRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.savepointTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+    }
+
+    @Override
+    public void merge(List<StatisticsBucket> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            for (StatisticsBucket delta : deltas) {
+                mergeBucket(delta);
+            }
+        });
+    }
+
+    @Override
+    public List<StatisticsBucket> findBuckets(String flowId, BucketGranularity granularity,
+                                              LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+            SELECT_COLUMNS + "WHERE flow_id = ? AND granularity = ? AND bucket_start >= ? AND bucket_start < ?",
+            ROW_MAPPER, flowId, granularity.name(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    @Override
+    public List<StatisticsBucket> findBuckets(BucketGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+            SELECT_COLUMNS + "WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?",
+            ROW_MAPPER, granularity.name(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    @Override
+    public int deleteBefore(BucketGranularity granularity, LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM flow_statistics_rollup WHERE granularity = ? AND bucket_start < ?",
+            granularity.name(), Timestamp.valueOf(before));
+    }
+
+    private void mergeBucket(StatisticsBucket delta) {
+        Timestamp bucketStart = Timestamp.valueOf(delta.getBucketStart());
+        for (int attempt = 0; attempt < MAX_MERGE_ATTEMPTS; attempt++) {
+            List<StoredHistogram> stored = jdbcTemplate.query(SELECT_HISTOGRAM_SQL, HISTOGRAM_MAPPER,
+                delta.getFlowId(), delta.getGranularity().name(), bucketStart);
+            if (stored.isEmpty()) {
+                try {
+                    savepointTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL,
+                        delta.getFlowId(),
+                        delta.getGranularity().name(),
+                        bucketStart,
+                        delta.getExecutionCount(),
+                        delta.getSuccessCount(),
+                        delta.getDurationSumMicros(),
+                        delta.getMinDurationMicros(),
+                        delta.getMaxDurationMicros(),
+                        mergeHistogram(null, delta)));
+                    return;
+                } catch (DuplicateKeyException e) {
+                    continue;
+                }
+            }
+            StoredHistogram current = stored.get(0);
+            int updated = jdbcTemplate.update(UPDATE_SQL,
+                delta.getExecutionCount(),
+                delta.getSuccessCount(),
+                delta.getDurationSumMicros(),
+                delta.getMinDurationMicros(),
+                delta.getMaxDurationMicros(),
+                mergeHistogram(current.data, delta),
+                delta.getFlowId(),
+                delta.getGranularity().name(),
+                bucketStart,
+                current.version);
+            if (updated > 0) {
+                return;
+            }
+        }
+        throw new ConcurrencyFailureException("流程統計彙總區間持續發生版本衝突: "
+            + delta.getFlowId() + " " + delta.getGranularity() + " " + delta.getBucketStart());
+    }
+
+    /**
+     * 將增量的直方圖合併到已保存的直方圖
+     *
+     * @return 合併後的壓縮資料，兩者都沒有直方圖時為 null
+     */
+    private static byte[] mergeHistogram(byte[] stored, StatisticsBucket delta) {
+        if (delta.getDurationHistogram() == null) {
+            return stored;
+        }
+        Histogram merged = HistogramCodec.merge(decodeOrNull(stored), HistogramCodec.decode(delta.getDurationHistogram()));
+        return HistogramCodec.encode(merged);
+    }
+
+    private static Histogram decodeOrNull(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return HistogramCodec.decode(data);
+        } catch (IllegalArgumentException e) {
+            // 損壞的直方圖不影響計數，百分位數改由之後的增量重新累積
+            logger.warn("略過無法解讀的流程統計直方圖", e);
+            return null;
+        }
+    }
+
+    /**
+     * 已保存的直方圖與版本
+     */
+    private static final class StoredHistogram {
+        private final byte[] data;
+        private final long version;
+
+        StoredHistogram(byte[] data, long version) {
+            this.data = data;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 有界的多生產者單消費者環形緩衝區
+ *
+ * 每個槽位帶有序號：生產者以 CAS 取得寫入位置後寫入元素並發布序號，
+ * 消費者只在序號已發布時讀取。整個過程不使用鎖，緩衝區滿時 {@link #offer} 立即回傳 false。
+ * {@link #poll()} 與 {@link #drainTo} 只能由單一執行緒呼叫。
+ */
+class MpscRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    MpscRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2");
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 加入元素
+     *
+     * @return 緩衝區已滿時為 false
+     */
+    boolean offer(E element) {
+        long position = producerIndex.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (producerIndex.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    // 發布序號，消費者看到序號後必定看到元素
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = producerIndex.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = producerIndex.get();
+            }
+        }
+    }
+
+    /**
+     * 取出一個元素，僅限消費者執行緒
+     *
+     * @return 緩衝區為空時為 null
+     */
+    E poll() {
+        long position = consumerIndex.get();
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = elements.get(index);
+        elements.lazySet(index, null);
+        // 釋放槽位供下一輪生產者使用
+        sequences.set(index, position + capacity);
+        consumerIndex.lazySet(position + 1);
+        return element;
+    }
+
+    /**
+     * 取出至多 limit 個元素，僅限消費者執行緒
+     *
+     * @return 取出的數量
+     */
+    int drainTo(List<E> target, int limit) {
+        int drained = 0;
+        while (drained < limit) {
+            E element = poll();
+            if (element == null) {
+                break;
+            }
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 目前的元素數量估計值
+     */
+    int size() {
+        long size = producerIndex.get() - consumerIndex.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.port.output.ExecutionLogRetentionPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+/**
+ * PostgreSQL 分區執行日誌保留期限
+ *
+ * execution_log 依 execution_time 做範圍分區，分區命名為 execution_log_pYYYYMMDD（日）
+ * 或 execution_log_pYYYYMM（月）。過期的分區整個卸離後刪除，不需逐列刪除；
+ * 預設分區中的過期資料仍以 DELETE 清除，正常情況下該分區應為空。
+ */
+public class PartitionedExecutionLogRetention implements ExecutionLogRetentionPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionedExecutionLogRetention.class);
+
+    static final String TABLE_NAME = "execution_log";
+    static final String PARTITION_PREFIX = TABLE_NAME + "_p";
+    static final String DEFAULT_PARTITION = TABLE_NAME + "_default";
+
+    static final String LIST_PARTITIONS_SQL = "SELECT c.relname FROM pg_inherits i "
+        + "JOIN pg_class c ON c.oid = i.inhrelid "
+        + "JOIN pg_class p ON p.oid = i.inhparent "
+        + "WHERE p.relname = ?";
+
+    /**
+     * 分區單位
+     */
+    public enum PartitionInterval {
+        DAY(DateTimeFormatter.BASIC_ISO_DATE),
+        MONTH(DateTimeFormatter.ofPattern("yyyyMM"));
+
+        private final DateTimeFormatter suffixFormat;
+
+        PartitionInterval(DateTimeFormatter suffixFormat) {
+            this.suffixFormat = suffixFormat;
+        }
+
+        LocalDate startOf(LocalDate date) {
+            return this == DAY ? date : date.with(TemporalAdjusters.firstDayOfMonth());
+        }
+
+        LocalDate next(LocalDate start) {
+            return this == DAY ? start.plusDays(1) : start.plusMonths(1);
+        }
+
+        String suffix(LocalDate start) {
+            return start.format(suffixFormat);
+        }
+
+        LocalDate parse(String suffix) {
+            return this == DAY
+                ? LocalDate.parse(suffix, suffixFormat)
+                : LocalDate.parse(suffix + "01", DateTimeFormatter.BASIC_ISO_DATE);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionInterval interval;
+    private final boolean detachOnly;
+
+    public PartitionedExecutionLogRetention(JdbcTemplate jdbcTemplate, PartitionInterval interval, boolean detachOnly) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.interval = interval;
+        this.detachOnly = detachOnly;
+    }
+
+    @Override
+    public int preparePartitions(LocalDate from, LocalDate to) {
+        List<String> existing = listPartitions();
+        int created = 0;
+        for (LocalDate start = interval.startOf(from); !start.isAfter(to); start = interval.next(start)) {
+            String partition = PARTITION_PREFIX + interval.suffix(start);
+            if (existing.contains(partition)) {
+                continue;
+            }
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + TABLE_NAME
+                    + " FOR VALUES FROM ('" + start + "') TO ('" + interval.next(start) + "')");
+                created++;
+            } catch (DataAccessException e) {
+                // 預設分區已有此區間的資料時無法建立，資料會留在預設分區直到過期
+                logger.warn("建立執行日誌分區失敗: {}", partition, e);
+            }
+        }
+        if (created > 0) {
+            logger.info("已建立執行日誌分區: {} 個 ({} ~ {})", created, from, to);
+        }
+        return created;
+    }
+
+    @Override
+    public long purgeBefore(LocalDateTime cutoff) {
+        long removed = 0;
+        for (String partition : listPartitions()) {
+            LocalDate start = parseStart(partition);
+            if (start == null || interval.next(start).atStartOfDay().isAfter(cutoff)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DETACH PARTITION " + partition);
+            if (!detachOnly) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            }
+            removed++;
+            logger.info("已{}過期的執行日誌分區: {}", detachOnly ? "卸離" : "刪除", partition);
+        }
+        int defaultRows = jdbcTemplate.update(
+            "DELETE FROM " + DEFAULT_PARTITION + " WHERE execution_time < ?", Timestamp.valueOf(cutoff));
+        if (defaultRows > 0) {
+            logger.warn("預設分區中有過期的執行日誌: {} 筆，請確認分區是否預先建立", defaultRows);
+        }
+        return removed;
+    }
+
+    private List<String> listPartitions() {
+        return jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class, TABLE_NAME);
+    }
+
+    private LocalDate parseStart(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return interval.parse(partition.substring(PARTITION_PREFIX.length()));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
+import com.example.banking.benefit.domain.model.statistics.ExecutionStateStatistics;
+import com.example.banking.benefit.domain.port.output.ExecutionStatePort;
+import com.example.banking.benefit.infrastructure.cache.InMemoryExecutionStateStore;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 持久化執行狀態儲存
+ *
+ * 執行層沿用記憶體儲存，暫停中的執行另外寫入本機的 H2 MVStore 檔案，
+ * 因此即使記憶體中的項目被淘汰或應用程式重新啟動，暫停的流程仍可繼續執行。
+ * 只有可序列化的上下文變數會被保存。檔案中的暫停執行同樣受存活時間與容量限制，
+ * 超過容量時先移除暫停最久的執行。另以依暫停時間排序的索引記錄暫停順序，
+ * 淘汰與清除過期只需從索引開頭讀取，不必掃描所有暫停執行。
+ */
+public class PersistentExecutionStateStore implements ExecutionStatePort, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersistentExecutionStateStore.class);
+
+    private static final String PAUSED_MAP_NAME = "pausedExecutions";
+    private static final String PAUSED_ORDER_MAP_NAME = "pausedExecutionOrder";
+
+    private final InMemoryExecutionStateStore memoryStore;
+    private final MVStore store;
+    private final MVMap<String, PausedExecution> pausedExecutions;
+    /** 暫停順序索引：{@link #orderKey} 依暫停時間排序，值為執行ID */
+    private final MVMap<String, String> pausedOrder;
+    private final Duration pausedTtl;
+    private final long maxPausedEntries;
+    private final LongSupplier clock;
+    private final LongAdder evictions = new LongAdder();
+
+    public PersistentExecutionStateStore(
+            InMemoryExecutionStateStore memoryStore, String fileName, Duration pausedTtl, long maxPausedEntries) {
+        this(memoryStore, fileName, pausedTtl, maxPausedEntries, System::currentTimeMillis);
+    }
+
+    PersistentExecutionStateStore(
+            InMemoryExecutionStateStore memoryStore,
+            String fileName,
+            Duration pausedTtl,
+            long maxPausedEntries,
+            LongSupplier clock) {
+        this.memoryStore = memoryStore;
+        this.pausedTtl = pausedTtl;
+        this.maxPausedEntries = maxPausedEntries;
+        this.clock = clock;
+        this.store = new MVStore.Builder()
+            .fileName(fileName)
+            .compress()
+            .open();
+        this.pausedExecutions = store.openMap(PAUSED_MAP_NAME);
+        this.pausedOrder = store.openMap(PAUSED_ORDER_MAP_NAME);
+        if (pausedOrder.size() != pausedExecutions.size()) {
+            rebuildOrder();
+        }
+        int purged = purgeExpired();
+        logger.info("開啟暫停執行儲存: {}, 暫停中的執行: {}, 已清除過期: {}", fileName, pausedExecutions.size(), purged);
+    }
+
+    @Override
+    public Map<String, Object> begin(String executionId) {
+        return memoryStore.begin(executionId);
+    }
+
+    @Override
+    public Optional<ExecutionStatus> getStatus(String executionId) {
+        Optional<ExecutionStatus> status = memoryStore.getStatus(executionId);
+        if (status.isPresent()) {
+            return status;
+        }
+        return findPaused(executionId).map(paused -> ExecutionStatus.PAUSED);
+    }
+
+    @Override
+    public void updateStatus(String executionId, ExecutionStatus status) {
+        memoryStore.updateStatus(executionId, status);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> getContext(String executionId) {
+        Optional<Map<String, Object>> context = memoryStore.getContext(executionId);
+        if (context.isPresent()) {
+            return context;
+        }
+        return findPaused(executionId).map(PausedExecution::getContext);
+    }
+
+    @Override
+    public void pause(String executionId) {
+        memoryStore.pause(executionId);
+        Map<String, Object> context = memoryStore.getContext(executionId).orElseGet(HashMap::new);
+        PausedExecution paused = new PausedExecution(toSerializable(executionId, context), clock.getAsLong());
+        PausedExecution previous = pausedExecutions.put(executionId, paused);
+        if (previous != null) {
+            pausedOrder.remove(orderKey(previous.getPausedAtMillis(), executionId));
+        }
+        pausedOrder.put(orderKey(paused.getPausedAtMillis(), executionId), executionId);
+        evictOverflow();
+        store.commit();
+    }
+
+    @Override
+    public Optional<Map<String, Object>> resume(String executionId) {
+        Optional<Map<String, Object>> context = memoryStore.resume(executionId);
+        if (context.isEmpty()) {
+            // 記憶體中已淘汰或應用程式重新啟動過，從檔案還原
+            Optional<PausedExecution> paused = findPaused(executionId);
+            if (paused.isEmpty()) {
+                return Optional.empty();
+            }
+            memoryStore.restorePaused(executionId, paused.get().getContext());
+            context = memoryStore.resume(executionId);
+        }
+        removePaused(executionId);
+        store.commit();
+        return context;
+    }
+
+    @Override
+    public void complete(String executionId, ExecutionStatus finalStatus) {
+        memoryStore.complete(executionId, finalStatus);
+        if (removePaused(executionId) != null) {
+            store.commit();
+        }
+    }
+
+    @Override
+    public ExecutionStateStatistics getStatistics() {
+        ExecutionStateStatistics memory = memoryStore.getStatistics();
+        return new ExecutionStateStatistics(
+            memory.getActiveEntries(),
+            pausedExecutions.size(),
+            memory.getEvictions() + evictions.sum(),
+            memory.getEstimatedMemoryBytes()
+        );
+    }
+
+    /**
+     * 清除超過存活時間的暫停執行
+     *
+     * @return 清除的數量
+     */
+    public int purgeExpired() {
+        String cutoffKey = orderKey(clock.getAsLong() - pausedTtl.toMillis(), "");
+        int purged = 0;
+        // 索引依暫停時間排序，讀到未過期的項目即可停止
+        for (String key = pausedOrder.firstKey(); key != null && key.compareTo(cutoffKey) < 0;
+             key = pausedOrder.firstKey()) {
+            removePaused(pausedOrder.get(key));
+            purged++;
+        }
+        if (purged > 0) {
+            evictions.add(purged);
+            store.commit();
+        }
+        return purged;
+    }
+
+    /**
+     * 超過容量時依暫停順序索引移除暫停最久的執行
+     */
+    private void evictOverflow() {
+        while (pausedExecutions.size() > maxPausedEntries) {
+            String oldestId = pausedOrder.get(pausedOrder.firstKey());
+            removePaused(oldestId);
+            evictions.increment();
+            logger.warn("暫停執行已達上限 {}，移除暫停最久的執行: {}", maxPausedEntries, oldestId);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!store.isClosed()) {
+            store.close();
+        }
+    }
+
+    private Optional<PausedExecution> findPaused(String executionId) {
+        PausedExecution paused = pausedExecutions.get(executionId);
+        if (paused == null) {
+            return Optional.empty();
+        }
+        if (paused.getPausedAtMillis() < clock.getAsLong() - pausedTtl.toMillis()) {
+            removePaused(executionId);
+            evictions.increment();
+            return Optional.empty();
+        }
+        return Optional.of(paused);
+    }
+
+    /**
+     * 移除暫停執行及其順序索引
+     *
+     * @return 移除的暫停執行，不存在時為 null
+     */
+    private PausedExecution removePaused(String executionId) {
+        PausedExecution removed = pausedExecutions.remove(executionId);
+        if (removed != null) {
+            pausedOrder.remove(orderKey(removed.getPausedAtMillis(), executionId));
+        }
+        return removed;
+    }
+
+    /**
+     * 由暫停執行重建順序索引，用於沒有索引的舊檔案
+     */
+    private void rebuildOrder() {
+        pausedOrder.clear();
+        for (Map.Entry<String, PausedExecution> entry : pausedExecutions.entrySet()) {
+            pausedOrder.put(orderKey(entry.getValue().getPausedAtMillis(), entry.getKey()), entry.getKey());
+        }
+        store.commit();
+    }
+
+    /**
+     * 順序索引的鍵：固定寬度的暫停時間後接執行ID，字串排序即為暫停時間順序
+     */
+    private static String orderKey(long pausedAtMillis, String executionId) {
+        return String.format("%019d:%s", Math.max(0, pausedAtMillis), executionId);
+    }
+
+    private HashMap<String, Object> toSerializable(String executionId, Map<String, Object> context) {
+        HashMap<String, Object> result = new HashMap<>();
+        context.forEach((key, value) -> {
+            if (value == null || value instanceof Serializable) {
+                result.put(key, value);
+            } else {
+                logger.warn("略過無法序列化的上下文變數: {} [executionId={}]", key, executionId);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 暫停中的執行快照
+     */
+    static final class PausedExecution implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final HashMap<String, Object> context;
+        private final long pausedAtMillis;
+
+        PausedExecution(HashMap<String, Object> context, long pausedAtMillis) {
+            this.context = context;
+            this.pausedAtMillis = pausedAtMillis;
+        }
+
+        Map<String, Object> getContext() {
+            return context;
+        }
+
+        long getPausedAtMillis() {
+            return pausedAtMillis;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.banking.benefit.infrastructure.persistence.journal;
+
+import com.example.banking.benefit.domain.port.output.ExecutionLogRetentionPort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 執行日誌區段的保留期限
+ *
+ * 提高保留水位線後立即壓縮，整段過期的區段直接刪除檔案，沒有分區需要預先建立。
+ */
+public class JournalExecutionLogRetention implements ExecutionLogRetentionPort {
+
+    private final MappedExecutionJournal journal;
+
+    public JournalExecutionLogRetention(MappedExecutionJournal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public int preparePartitions(LocalDate from, LocalDate to) {
+        return 0;
+    }
+
+    @Override
+    public long purgeBefore(LocalDateTime cutoff) {
+        journal.deleteByExecutionTimeBefore(cutoff);
+        return journal.compact();
+    }
+}
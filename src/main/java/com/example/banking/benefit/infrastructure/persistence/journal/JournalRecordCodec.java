@@ -0,0 +1,220 @@
+package com.example.banking.benefit.infrastructure.persistence.journal;
+
+import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import com.example.banking.benefit.domain.model.log.ExecutionResult;
+import com.example.banking.benefit.domain.model.node.NodeType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 執行日誌紀錄的二進位格式
+ *
+ * 紀錄內容為：類型（1 位元組）、執行時間（UTC 紀元微秒，8 位元組）、日誌ID，
+ * 日誌紀錄接著是欄位旗標與各欄位。字串以 varint 長度加 UTF-8 編碼，可為空的欄位以旗標標示是否存在。
+ * 刪除紀錄（tombstone）只有類型、時間與被刪除的日誌ID。
+ */
+final class JournalRecordCodec {
+
+    static final byte LOG_RECORD = 1;
+    static final byte TOMBSTONE_RECORD = 2;
+
+    /** 類型與時間之後即為日誌ID */
+    static final int LOG_ID_OFFSET = 9;
+
+    private static final int HAS_EXECUTION_ID = 1;
+    private static final int HAS_NODE_TYPE = 1 << 1;
+    private static final int HAS_RESULT = 1 << 2;
+    private static final int HAS_RESULT_DATA = 1 << 3;
+    private static final int HAS_ERROR_MESSAGE = 1 << 4;
+    private static final int HAS_DURATION_MS = 1 << 5;
+    private static final int HAS_DURATION_MICROS = 1 << 6;
+
+    private static final NodeType[] NODE_TYPES = NodeType.values();
+    private static final ExecutionResult[] RESULTS = ExecutionResult.values();
+
+    private JournalRecordCodec() {
+    }
+
+    static byte[] encode(ExecutionLog log) {
+        Writer writer = new Writer(128);
+        writer.writeByte(LOG_RECORD);
+        writer.writeLong(toMicros(log.getExecutionTime()));
+        writer.writeString(log.getLogId());
+        int flags = (log.getExecutionId() != null ? HAS_EXECUTION_ID : 0)
+            | (log.getNodeType() != null ? HAS_NODE_TYPE : 0)
+            | (log.getExecutionResult() != null ? HAS_RESULT : 0)
+            | (log.getResultData() != null ? HAS_RESULT_DATA : 0)
+            | (log.getErrorMessage() != null ? HAS_ERROR_MESSAGE : 0)
+            | (log.getExecutionDurationMs() != null ? HAS_DURATION_MS : 0)
+            | (log.getExecutionDurationMicros() != null ? HAS_DURATION_MICROS : 0);
+        writer.writeByte(flags);
+        writer.writeString(log.getFlowId());
+        writer.writeString(log.getCustomerId());
+        writer.writeString(log.getNodeId());
+        if (log.getExecutionId() != null) {
+            writer.writeString(log.getExecutionId());
+        }
+        if (log.getNodeType() != null) {
+            writer.writeByte(log.getNodeType().ordinal());
+        }
+        if (log.getExecutionResult() != null) {
+            writer.writeByte(log.getExecutionResult().ordinal());
+        }
+        if (log.getResultData() != null) {
+            writer.writeString(log.getResultData());
+        }
+        if (log.getErrorMessage() != null) {
+            writer.writeString(log.getErrorMessage());
+        }
+        if (log.getExecutionDurationMs() != null) {
+            writer.writeVarint(log.getExecutionDurationMs());
+        }
+        if (log.getExecutionDurationMicros() != null) {
+            writer.writeVarint(log.getExecutionDurationMicros());
+        }
+        writer.writeVarint(log.getAttemptCount());
+        return writer.toByteArray();
+    }
+
+    static byte[] encodeTombstone(String logId, long timeMicros) {
+        Writer writer = new Writer(16 + logId.length());
+        writer.writeByte(TOMBSTONE_RECORD);
+        writer.writeLong(timeMicros);
+        writer.writeString(logId);
+        return writer.toByteArray();
+    }
+
+    static byte type(ByteBuffer buffer, int offset) {
+        return buffer.get(offset);
+    }
+
+    static long timeMicros(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + 1);
+    }
+
+    static String logId(ByteBuffer buffer, int offset) {
+        return new Reader(buffer, offset + LOG_ID_OFFSET).readString();
+    }
+
+    static ExecutionLog decode(ByteBuffer buffer, int offset) {
+        Reader reader = new Reader(buffer, offset + 1);
+        LocalDateTime executionTime = fromMicros(reader.readLong());
+        String logId = reader.readString();
+        int flags = reader.readByte();
+        String flowId = reader.readString();
+        String customerId = reader.readString();
+        String nodeId = reader.readString();
+        String executionId = (flags & HAS_EXECUTION_ID) != 0 ? reader.readString() : null;
+        NodeType nodeType = (flags & HAS_NODE_TYPE) != 0 ? NODE_TYPES[reader.readByte()] : null;
+        ExecutionResult result = (flags & HAS_RESULT) != 0 ? RESULTS[reader.readByte()] : null;
+        String resultData = (flags & HAS_RESULT_DATA) != 0 ? reader.readString() : null;
+        String errorMessage = (flags & HAS_ERROR_MESSAGE) != 0 ? reader.readString() : null;
+        Integer durationMs = (flags & HAS_DURATION_MS) != 0 ? (int) reader.readVarint() : null;
+        Long durationMicros = (flags & HAS_DURATION_MICROS) != 0 ? reader.readVarint() : null;
+        int attemptCount = (int) reader.readVarint();
+        return ExecutionLog.restore(logId, executionId, flowId, customerId, executionTime, nodeId, nodeType,
+            result, resultData, errorMessage, durationMs, durationMicros, attemptCount);
+    }
+
+    static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(
+            Math.floorDiv(micros, 1_000_000), (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static final class Writer {
+        private byte[] bytes;
+        private int size;
+
+        Writer(int initialCapacity) {
+            this.bytes = new byte[initialCapacity];
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) value;
+        }
+
+        void writeLong(long value) {
+            ensureCapacity(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                bytes[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeVarint(long value) {
+            ensureCapacity(10);
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            bytes[size++] = (byte) remaining;
+        }
+
+        void writeString(String value) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(encoded.length);
+            ensureCapacity(encoded.length);
+            System.arraycopy(encoded, 0, bytes, size, encoded.length);
+            size += encoded.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final ByteBuffer buffer;
+        private int position;
+
+        Reader(ByteBuffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        int readByte() {
+            return buffer.get(position++) & 0xFF;
+        }
+
+        long readLong() {
+            long value = buffer.getLong(position);
+            position += 8;
+            return value;
+        }
+
+        long readVarint() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer.get(position++);
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        String readString() {
+            int length = (int) readVarint();
+            byte[] bytes = new byte[length];
+            buffer.get(position, bytes);
+            position += length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
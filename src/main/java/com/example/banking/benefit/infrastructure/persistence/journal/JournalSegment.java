@@ -0,0 +1,259 @@
+package com.example.banking.benefit.infrastructure.persistence.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 固定大小的日誌區段檔案
+ *
+ * 檔案開頭為 16 位元組的標頭，之後依序為 [長度 int][紀錄內容] 的紀錄，長度為 0 表示結尾。
+ * 寫入時先寫紀錄內容再寫長度，因此寫到一半中斷的紀錄在重新開啟時會被忽略。
+ * 每 {@link #BLOCK_RECORDS} 筆紀錄建立一個稀疏索引區塊，記錄起始位置與時間範圍，
+ * 查詢時可略過時間範圍不相交的區塊。索引只保存在記憶體，開啟時掃描檔案重建。
+ *
+ * 寫入由呼叫端同步，讀取透過 {@link #view()} 取得的快照進行，不需要鎖定。
+ */
+final class JournalSegment {
+
+    static final int MAGIC = 0x454A4E4C;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int BLOCK_RECORDS = 256;
+
+    private final Path path;
+    private final long sequence;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final List<IndexBlock> blocks = new ArrayList<>();
+
+    private volatile int writePosition;
+    private int recordCount;
+    private int tombstoneCount;
+    private long minTimeMicros = Long.MAX_VALUE;
+    private long maxTimeMicros = Long.MIN_VALUE;
+
+    private int blockOffset;
+    private int blockCount;
+    private long blockMinMicros = Long.MAX_VALUE;
+    private long blockMaxMicros = Long.MIN_VALUE;
+
+    private JournalSegment(Path path, long sequence, MappedByteBuffer buffer) {
+        this.path = path;
+        this.sequence = sequence;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+        this.writePosition = HEADER_SIZE;
+        this.blockOffset = HEADER_SIZE;
+    }
+
+    /**
+     * 建立新的區段檔案
+     */
+    static JournalSegment create(Path path, long sequence, int capacity) {
+        JournalSegment segment = new JournalSegment(path, sequence, map(path, capacity));
+        segment.buffer.putInt(0, MAGIC);
+        segment.buffer.putInt(4, VERSION);
+        segment.buffer.putLong(8, sequence);
+        return segment;
+    }
+
+    /**
+     * 開啟既有的區段檔案並重建索引
+     *
+     * @param tombstones 掃描到的刪除紀錄日誌ID
+     */
+    static JournalSegment open(Path path, long sequence, Consumer<String> tombstones) {
+        int capacity;
+        try {
+            capacity = (int) Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("無法讀取日誌區段: " + path, e);
+        }
+        JournalSegment segment = new JournalSegment(path, sequence, map(path, capacity));
+        if (segment.buffer.getInt(0) != MAGIC || segment.buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("日誌區段格式不正確: " + path);
+        }
+        int position = HEADER_SIZE;
+        while (position + 4 <= capacity) {
+            int length = segment.buffer.getInt(position);
+            if (length <= 0 || position + 4 + length > capacity) {
+                break;
+            }
+            int offset = position + 4;
+            boolean tombstone = JournalRecordCodec.type(segment.buffer, offset) == JournalRecordCodec.TOMBSTONE_RECORD;
+            if (tombstone) {
+                tombstones.accept(JournalRecordCodec.logId(segment.buffer, offset));
+            }
+            segment.track(position, JournalRecordCodec.timeMicros(segment.buffer, offset), tombstone);
+            position = offset + length;
+        }
+        segment.writePosition = position;
+        return segment;
+    }
+
+    /**
+     * 附加一筆紀錄
+     *
+     * @return 剩餘空間不足時為 false
+     */
+    boolean append(byte[] record, long timeMicros, boolean tombstone) {
+        int position = writePosition;
+        if (position + 4 + record.length > capacity) {
+            return false;
+        }
+        buffer.put(position + 4, record);
+        buffer.putInt(position, record.length);
+        track(position, timeMicros, tombstone);
+        writePosition = position + 4 + record.length;
+        return true;
+    }
+
+    /**
+     * 可容納的最大紀錄長度
+     */
+    int maxRecordSize() {
+        return capacity - HEADER_SIZE - 4;
+    }
+
+    boolean isEmpty() {
+        return recordCount == 0;
+    }
+
+    /**
+     * 取得目前內容的唯讀快照，快照之後附加的紀錄不會被看見
+     */
+    synchronized View view() {
+        List<IndexBlock> snapshot = new ArrayList<>(blocks);
+        if (blockCount > 0) {
+            snapshot.add(new IndexBlock(blockOffset, blockCount, blockMinMicros, blockMaxMicros));
+        }
+        return new View(buffer.duplicate(), writePosition, Collections.unmodifiableList(snapshot),
+            minTimeMicros, maxTimeMicros, recordCount, tombstoneCount);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    private synchronized void track(int position, long timeMicros, boolean tombstone) {
+        if (blockCount == 0) {
+            blockOffset = position;
+        }
+        blockCount++;
+        blockMinMicros = Math.min(blockMinMicros, timeMicros);
+        blockMaxMicros = Math.max(blockMaxMicros, timeMicros);
+        if (blockCount == BLOCK_RECORDS) {
+            blocks.add(new IndexBlock(blockOffset, blockCount, blockMinMicros, blockMaxMicros));
+            blockCount = 0;
+            blockMinMicros = Long.MAX_VALUE;
+            blockMaxMicros = Long.MIN_VALUE;
+        }
+        recordCount++;
+        if (tombstone) {
+            tombstoneCount++;
+        }
+        minTimeMicros = Math.min(minTimeMicros, timeMicros);
+        maxTimeMicros = Math.max(maxTimeMicros, timeMicros);
+    }
+
+    private static MappedByteBuffer map(Path path, int capacity) {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 對應關係在通道關閉後仍然有效
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("無法映射日誌區段: " + path, e);
+        }
+    }
+
+    /**
+     * 稀疏索引區塊
+     */
+    static final class IndexBlock {
+        final int offset;
+        final int count;
+        final long minMicros;
+        final long maxMicros;
+
+        IndexBlock(int offset, int count, long minMicros, long maxMicros) {
+            this.offset = offset;
+            this.count = count;
+            this.minMicros = minMicros;
+            this.maxMicros = maxMicros;
+        }
+
+        boolean overlaps(long fromMicros, long toMicros) {
+            return maxMicros >= fromMicros && minMicros <= toMicros;
+        }
+    }
+
+    /**
+     * 區段的唯讀快照
+     */
+    static final class View {
+        final ByteBuffer buffer;
+        final int limit;
+        final List<IndexBlock> blocks;
+        final long minMicros;
+        final long maxMicros;
+        final int recordCount;
+        final int tombstoneCount;
+
+        View(ByteBuffer buffer, int limit, List<IndexBlock> blocks, long minMicros, long maxMicros,
+             int recordCount, int tombstoneCount) {
+            this.buffer = buffer;
+            this.limit = limit;
+            this.blocks = blocks;
+            this.minMicros = minMicros;
+            this.maxMicros = maxMicros;
+            this.recordCount = recordCount;
+            this.tombstoneCount = tombstoneCount;
+        }
+
+        boolean overlaps(long fromMicros, long toMicros) {
+            return recordCount > 0 && maxMicros >= fromMicros && minMicros <= toMicros;
+        }
+
+        /**
+         * 依序走訪時間範圍內區塊的紀錄，傳入紀錄內容的起始位置
+         */
+        void forEachRecord(long fromMicros, long toMicros, RecordVisitor visitor) {
+            for (IndexBlock block : blocks) {
+                if (!block.overlaps(fromMicros, toMicros)) {
+                    continue;
+                }
+                int position = block.offset;
+                for (int i = 0; i < block.count && position + 4 <= limit; i++) {
+                    int length = buffer.getInt(position);
+                    visitor.visit(buffer, position + 4, length);
+                    position += 4 + length;
+                }
+            }
+        }
+    }
+
+    /**
+     * 紀錄走訪器
+     */
+    interface RecordVisitor {
+        void visit(ByteBuffer buffer, int offset, int length);
+    }
+}
@@ -0,0 +1,487 @@
+package com.example.banking.benefit.infrastructure.persistence.journal;
+
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import com.example.banking.benefit.domain.model.log.ExecutionLogCursor;
+import com.example.banking.benefit.domain.repository.ExecutionLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 以記憶體映射檔案保存的只附加執行日誌
+ *
+ * 日誌依序附加到固定大小的區段檔案，寫滿後換到下一個區段，寫入只是記憶體複製，不經過資料庫。
+ * 查詢以區段與區塊的時間範圍略過不相關的資料，只解碼可能符合的紀錄。
+ * 刪除以附加刪除紀錄表示，保留期限以水位線表示；背景壓縮會移除整段過期的區段，
+ * 並重寫無效紀錄比例過高的已封存區段。
+ *
+ * 執行時間以 UTC 換算為微秒保存，與資料庫版本相同，呼叫端傳入的時間視為本地時間原樣比較。
+ */
+public class MappedExecutionJournal implements ExecutionLogRepository, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedExecutionJournal.class);
+
+    private static final Pattern SEGMENT_FILE = Pattern.compile("segment-(\\d{20})\\.journal");
+    private static final String COMPACTING_SUFFIX = ".compacting";
+    private static final String WATERMARK_FILE = "retention.watermark";
+
+    private static final Comparator<ExecutionLog> TIME_ORDER = Comparator
+        .comparing(ExecutionLog::getExecutionTime)
+        .thenComparing(ExecutionLog::getLogId);
+
+    private final Path directory;
+    private final int segmentSize;
+    private final double compactionThreshold;
+    private final Object writeLock = new Object();
+    private final Set<String> deletedIds = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService compactor;
+
+    /** 由舊到新排列，最後一個為寫入中的區段；變更時整份替換 */
+    private volatile List<JournalSegment> segments;
+    private volatile long retentionWatermarkMicros = Long.MIN_VALUE;
+
+    public MappedExecutionJournal(Path directory, int segmentSize, Duration compactionInterval, double compactionThreshold) {
+        if (segmentSize <= JournalSegment.HEADER_SIZE + 4) {
+            throw new IllegalArgumentException("區段大小過小: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.compactionThreshold = compactionThreshold;
+        this.segments = openSegments();
+        this.retentionWatermarkMicros = readWatermark();
+        this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "execution-journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!compactionInterval.isZero() && !compactionInterval.isNegative()) {
+            long intervalMillis = compactionInterval.toMillis();
+            compactor.scheduleWithFixedDelay(this::compactQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        logger.info("開啟執行日誌區段: {}, 區段數: {}, 已刪除: {}", directory, segments.size(), deletedIds.size());
+    }
+
+    @Override
+    public ExecutionLog save(ExecutionLog log) {
+        byte[] record = JournalRecordCodec.encode(log);
+        append(record, JournalRecordCodec.toMicros(log.getExecutionTime()), false);
+        return log;
+    }
+
+    @Override
+    public Optional<ExecutionLog> findById(String logId) {
+        if (deletedIds.contains(logId)) {
+            return Optional.empty();
+        }
+        List<JournalSegment> current = segments;
+        // 較新的紀錄較常被查詢，由新到舊掃描
+        for (int i = current.size() - 1; i >= 0; i--) {
+            List<ExecutionLog> found = scan(List.of(current.get(i)), Long.MIN_VALUE, Long.MAX_VALUE,
+                (buffer, offset) -> logId.equals(JournalRecordCodec.logId(buffer, offset)), log -> true);
+            if (!found.isEmpty()) {
+                return Optional.of(found.get(0));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<ExecutionLog> findAll() {
+        return scanAll(log -> true);
+    }
+
+    @Override
+    public void delete(ExecutionLog log) {
+        deleteById(log.getLogId());
+    }
+
+    @Override
+    public void deleteById(String logId) {
+        if (!deletedIds.add(logId)) {
+            return;
+        }
+        long nowMicros = JournalRecordCodec.toMicros(LocalDateTime.now());
+        append(JournalRecordCodec.encodeTombstone(logId, nowMicros), nowMicros, true);
+    }
+
+    @Override
+    public boolean existsById(String logId) {
+        return findById(logId).isPresent();
+    }
+
+    @Override
+    public long count() {
+        return scanAll(log -> true).size();
+    }
+
+    @Override
+    public List<ExecutionLog> findByFlowId(FlowId flowId) {
+        String value = flowId.getValue();
+        return scanAll(log -> value.equals(log.getFlowId()));
+    }
+
+    @Override
+    public List<ExecutionLog> findByCustomerId(String customerId) {
+        return scanAll(log -> customerId.equals(log.getCustomerId()));
+    }
+
+    @Override
+    public List<ExecutionLog> findByExecutionTimeBetween(LocalDateTime startTime, LocalDateTime endTime) {
+        return scanRange(startTime, endTime, log -> true);
+    }
+
+    @Override
+    public List<ExecutionLog> findByExecutionResult(String result) {
+        return scanAll(log -> log.getExecutionResult() != null && log.getExecutionResult().name().equals(result));
+    }
+
+    @Override
+    public List<ExecutionLog> findByExecutionDurationGreaterThan(int durationMs) {
+        return scanAll(log -> log.getExecutionDurationMs() != null && log.getExecutionDurationMs() > durationMs);
+    }
+
+    @Override
+    public List<ExecutionLog> findByNodeId(String nodeId) {
+        return scanAll(log -> nodeId.equals(log.getNodeId()));
+    }
+
+    /**
+     * 提高保留水位線，早於該時間的日誌立即不可見，實際空間由背景壓縮回收
+     */
+    @Override
+    public void deleteByExecutionTimeBefore(LocalDateTime dateTime) {
+        long micros = JournalRecordCodec.toMicros(dateTime);
+        synchronized (writeLock) {
+            if (micros <= retentionWatermarkMicros) {
+                return;
+            }
+            writeWatermark(micros);
+            retentionWatermarkMicros = micros;
+        }
+        compactor.execute(this::compactQuietly);
+    }
+
+    @Override
+    public List<ExecutionLog> findByFlowIdAndExecutionTimeBetween(String flowId, LocalDateTime startTime, LocalDateTime endTime) {
+        return scanRange(startTime, endTime, log -> flowId.equals(log.getFlowId()));
+    }
+
+    @Override
+    public Page<ExecutionLog> findByFlowIdAndExecutionResultAndExecutionTimeBetween(
+            String flowId, String status, LocalDateTime startTime, LocalDateTime endTime, Pageable pageable) {
+        List<ExecutionLog> matched = scanRange(startTime, endTime, matches(flowId, status));
+        matched.sort(TIME_ORDER);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(matched, pageable, matched.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + pageable.getPageSize(), matched.size());
+        return new PageImpl<>(new ArrayList<>(matched.subList(from, to)), pageable, matched.size());
+    }
+
+    @Override
+    public List<ExecutionLog> findPageAfter(String flowId, String status, LocalDateTime startTime, LocalDateTime endTime,
+                                            ExecutionLogCursor after, int limit) {
+        LocalDateTime from = after != null && after.getExecutionTime().isAfter(startTime) ? after.getExecutionTime() : startTime;
+        Predicate<ExecutionLog> filter = matches(flowId, status);
+        if (after != null) {
+            filter = filter.and(log -> {
+                int byTime = log.getExecutionTime().compareTo(after.getExecutionTime());
+                return byTime > 0 || (byTime == 0 && log.getLogId().compareTo(after.getLogId()) > 0);
+            });
+        }
+        List<ExecutionLog> matched = scanRange(from, endTime, filter);
+        matched.sort(TIME_ORDER);
+        return matched.size() > limit ? new ArrayList<>(matched.subList(0, limit)) : matched;
+    }
+
+    /**
+     * 依寫入順序逐筆讀出流程在時間範圍內的日誌，不暫存整個範圍
+     *
+     * @return 讀出的筆數
+     */
+    public long stream(String flowId, LocalDateTime startTime, LocalDateTime endTime, Consumer<ExecutionLog> consumer) {
+        long[] count = new long[1];
+        scan(segments, JournalRecordCodec.toMicros(startTime), JournalRecordCodec.toMicros(endTime),
+            (buffer, offset) -> true, log -> flowId.equals(log.getFlowId()), log -> {
+                consumer.accept(log);
+                count[0]++;
+            });
+        return count[0];
+    }
+
+    /**
+     * 將寫入中的區段同步到磁碟
+     */
+    public void flush() {
+        segments.get(segments.size() - 1).force();
+    }
+
+    /**
+     * 執行一次壓縮：刪除整段早於水位線的區段，重寫無效紀錄比例超過門檻的已封存區段
+     *
+     * @return 回收的區段數
+     */
+    public synchronized int compact() {
+        List<JournalSegment> current = segments;
+        long watermark = retentionWatermarkMicros;
+        int reclaimed = 0;
+        // 寫入中的區段不處理
+        for (JournalSegment segment : current.subList(0, current.size() - 1)) {
+            JournalSegment.View view = segment.view();
+            if (view.recordCount == 0 || view.maxMicros < watermark) {
+                replace(segment, null);
+                reclaimed++;
+                continue;
+            }
+            int[] dead = new int[1];
+            view.forEachRecord(Long.MIN_VALUE, Long.MAX_VALUE, (buffer, offset, length) -> {
+                if (isDead(buffer, offset, watermark)) {
+                    dead[0]++;
+                }
+            });
+            if ((double) dead[0] / view.recordCount >= compactionThreshold) {
+                replace(segment, rewrite(segment, view, watermark));
+                reclaimed++;
+            }
+        }
+        if (reclaimed > 0) {
+            logger.info("執行日誌壓縮完成, 回收區段: {}, 剩餘區段: {}", reclaimed, segments.size());
+        }
+        return reclaimed;
+    }
+
+    @Override
+    public void close() {
+        compactor.shutdownNow();
+        synchronized (writeLock) {
+            for (JournalSegment segment : segments) {
+                segment.force();
+            }
+        }
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    private void append(byte[] record, long timeMicros, boolean tombstone) {
+        synchronized (writeLock) {
+            JournalSegment active = segments.get(segments.size() - 1);
+            if (record.length > active.maxRecordSize()) {
+                throw new IllegalArgumentException("日誌紀錄超過區段大小: " + record.length);
+            }
+            if (!active.append(record, timeMicros, tombstone)) {
+                active = roll(active);
+                active.append(record, timeMicros, tombstone);
+            }
+        }
+    }
+
+    private JournalSegment roll(JournalSegment active) {
+        active.force();
+        long sequence = active.getSequence() + 1;
+        JournalSegment next = JournalSegment.create(segmentPath(sequence), sequence, segmentSize);
+        List<JournalSegment> updated = new ArrayList<>(segments);
+        updated.add(next);
+        segments = List.copyOf(updated);
+        return next;
+    }
+
+    private List<ExecutionLog> scanAll(Predicate<ExecutionLog> filter) {
+        return scan(segments, Long.MIN_VALUE, Long.MAX_VALUE, (buffer, offset) -> true, filter);
+    }
+
+    private List<ExecutionLog> scanRange(LocalDateTime startTime, LocalDateTime endTime, Predicate<ExecutionLog> filter) {
+        return scan(segments, JournalRecordCodec.toMicros(startTime), JournalRecordCodec.toMicros(endTime),
+            (buffer, offset) -> true, filter);
+    }
+
+    private List<ExecutionLog> scan(List<JournalSegment> candidates, long fromMicros, long toMicros,
+                                    RawFilter rawFilter, Predicate<ExecutionLog> filter) {
+        List<ExecutionLog> result = new ArrayList<>();
+        scan(candidates, fromMicros, toMicros, rawFilter, filter, result::add);
+        return result;
+    }
+
+    /**
+     * 掃描區段中時間範圍內的有效紀錄，先以不需解碼的條件過濾再解碼
+     */
+    private void scan(List<JournalSegment> candidates, long fromMicros, long toMicros,
+                      RawFilter rawFilter, Predicate<ExecutionLog> filter, Consumer<ExecutionLog> sink) {
+        long from = Math.max(fromMicros, retentionWatermarkMicros);
+        for (JournalSegment segment : candidates) {
+            JournalSegment.View view = segment.view();
+            if (!view.overlaps(from, toMicros)) {
+                continue;
+            }
+            view.forEachRecord(from, toMicros, (buffer, offset, length) -> {
+                if (JournalRecordCodec.type(buffer, offset) != JournalRecordCodec.LOG_RECORD) {
+                    return;
+                }
+                long time = JournalRecordCodec.timeMicros(buffer, offset);
+                if (time < from || time > toMicros || !rawFilter.test(buffer, offset)) {
+                    return;
+                }
+                ExecutionLog log = JournalRecordCodec.decode(buffer, offset);
+                if (!deletedIds.contains(log.getLogId()) && filter.test(log)) {
+                    sink.accept(log);
+                }
+            });
+        }
+    }
+
+    private Predicate<ExecutionLog> matches(String flowId, String status) {
+        return log -> flowId.equals(log.getFlowId())
+            && (status == null || (log.getExecutionResult() != null && log.getExecutionResult().name().equals(status)));
+    }
+
+    private boolean isDead(ByteBuffer buffer, int offset, long watermark) {
+        if (JournalRecordCodec.timeMicros(buffer, offset) < watermark) {
+            return true;
+        }
+        // 刪除紀錄本身必須保留，否則重新開啟後被刪除的日誌會重新出現
+        return JournalRecordCodec.type(buffer, offset) == JournalRecordCodec.LOG_RECORD
+            && deletedIds.contains(JournalRecordCodec.logId(buffer, offset));
+    }
+
+    private JournalSegment rewrite(JournalSegment segment, JournalSegment.View view, long watermark) {
+        Path temporary = segment.getPath().resolveSibling(segment.getPath().getFileName() + COMPACTING_SUFFIX);
+        try {
+            Files.deleteIfExists(temporary);
+            JournalSegment compacted = JournalSegment.create(temporary, segment.getSequence(), segmentSize);
+            view.forEachRecord(Long.MIN_VALUE, Long.MAX_VALUE, (buffer, offset, length) -> {
+                if (isDead(buffer, offset, watermark)) {
+                    return;
+                }
+                byte[] record = new byte[length];
+                buffer.get(offset, record);
+                compacted.append(record, JournalRecordCodec.timeMicros(buffer, offset),
+                    JournalRecordCodec.type(buffer, offset) == JournalRecordCodec.TOMBSTONE_RECORD);
+            });
+            compacted.force();
+            Files.move(temporary, segment.getPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return JournalSegment.open(segment.getPath(), segment.getSequence(), id -> { });
+        } catch (IOException e) {
+            throw new UncheckedIOException("無法壓縮日誌區段: " + segment.getPath(), e);
+        }
+    }
+
+    /**
+     * 以新區段取代舊區段，replacement 為 null 時刪除
+     */
+    private void replace(JournalSegment segment, JournalSegment replacement) {
+        synchronized (writeLock) {
+            List<JournalSegment> updated = new ArrayList<>(segments);
+            int index = updated.indexOf(segment);
+            if (index < 0) {
+                return;
+            }
+            if (replacement != null) {
+                updated.set(index, replacement);
+            } else {
+                updated.remove(index);
+                try {
+                    Files.deleteIfExists(segment.getPath());
+                } catch (IOException e) {
+                    throw new UncheckedIOException("無法刪除日誌區段: " + segment.getPath(), e);
+                }
+            }
+            segments = List.copyOf(updated);
+        }
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (RuntimeException e) {
+            logger.error("執行日誌壓縮失敗", e);
+        }
+    }
+
+    private List<JournalSegment> openSegments() {
+        try {
+            Files.createDirectories(directory);
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(directory)) {
+                files = stream.sorted().toList();
+            }
+            List<JournalSegment> opened = new ArrayList<>();
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(COMPACTING_SUFFIX)) {
+                    // 壓縮中斷留下的暫存檔，原區段仍然完整
+                    Files.delete(file);
+                    continue;
+                }
+                Matcher matcher = SEGMENT_FILE.matcher(name);
+                if (matcher.matches()) {
+                    opened.add(JournalSegment.open(file, Long.parseLong(matcher.group(1)), deletedIds::add));
+                }
+            }
+            if (opened.isEmpty()) {
+                opened.add(JournalSegment.create(segmentPath(0), 0, segmentSize));
+            }
+            return List.copyOf(opened);
+        } catch (IOException e) {
+            throw new UncheckedIOException("無法開啟執行日誌目錄: " + directory, e);
+        }
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format("segment-%020d.journal", sequence));
+    }
+
+    private long readWatermark() {
+        Path file = directory.resolve(WATERMARK_FILE);
+        try {
+            return Files.exists(file) ? Long.parseLong(Files.readString(file).trim()) : Long.MIN_VALUE;
+        } catch (IOException e) {
+            throw new UncheckedIOException("無法讀取保留水位線: " + file, e);
+        }
+    }
+
+    private void writeWatermark(long micros) {
+        Path file = directory.resolve(WATERMARK_FILE);
+        Path temporary = directory.resolve(WATERMARK_FILE + ".tmp");
+        try {
+            Files.writeString(temporary, Long.toString(micros));
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("無法寫入保留水位線: " + file, e);
+        }
+    }
+
+    /**
+     * 解碼前的紀錄過濾條件
+     */
+    private interface RawFilter {
+        boolean test(ByteBuffer buffer, int offset);
+    }
+}
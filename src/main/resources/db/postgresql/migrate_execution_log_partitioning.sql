@@ -0,0 +1,104 @@
+-- 將既有未分區的 execution_log 轉為依日分區
+--
+-- 適用於以舊版 schema.sql 建立的 PostgreSQL 資料庫，需在停機或暫停寫入時執行。
+-- 舊表改名後保留為 execution_log_legacy，確認資料無誤後再手動刪除。
+-- 執行後的資料表、欄位與索引與 schema-postgresql.sql 相同。
+
+BEGIN;
+
+-- 舊版 execution_log 沒有執行ID、微秒耗時與嘗試次數欄位，先補齊再搬移資料
+ALTER TABLE execution_log ADD COLUMN IF NOT EXISTS execution_id VARCHAR(50);
+ALTER TABLE execution_log ADD COLUMN IF NOT EXISTS execution_duration_us BIGINT;
+ALTER TABLE execution_log ADD COLUMN IF NOT EXISTS attempt_count INT DEFAULT 1;
+
+ALTER TABLE execution_log RENAME TO execution_log_legacy;
+ALTER INDEX IF EXISTS idx_log_flow_customer RENAME TO idx_log_legacy_flow_customer;
+ALTER INDEX IF EXISTS idx_log_execution_time RENAME TO idx_log_legacy_execution_time;
+ALTER INDEX IF EXISTS idx_log_execution_id RENAME TO idx_log_legacy_execution_id;
+ALTER INDEX IF EXISTS idx_log_flow_result_time RENAME TO idx_log_legacy_flow_result_time;
+ALTER INDEX IF EXISTS idx_log_flow_time RENAME TO idx_log_legacy_flow_time;
+
+CREATE TABLE execution_log (
+    log_id VARCHAR(50) NOT NULL,
+    execution_id VARCHAR(50),
+    flow_id VARCHAR(50) NOT NULL,
+    customer_id VARCHAR(50) NOT NULL,
+    execution_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    node_id VARCHAR(50),
+    node_type VARCHAR(20),
+    execution_result VARCHAR(20),
+    result_data TEXT,
+    error_message TEXT,
+    execution_duration_ms INT,
+    execution_duration_us BIGINT,
+    attempt_count INT DEFAULT 1,
+    PRIMARY KEY (log_id, execution_time)
+) PARTITION BY RANGE (execution_time);
+CREATE TABLE execution_log_default PARTITION OF execution_log DEFAULT;
+
+-- 為既有資料的每一天及未來 7 天建立分區，命名規則與 PartitionedExecutionLogRetention 相同
+DO $$
+DECLARE
+    day DATE;
+    last_day DATE := CURRENT_DATE + 7;
+BEGIN
+    SELECT COALESCE(MIN(execution_time)::DATE, CURRENT_DATE) INTO day FROM execution_log_legacy;
+    WHILE day <= last_day LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF execution_log FOR VALUES FROM (%L) TO (%L)',
+            'execution_log_p' || to_char(day, 'YYYYMMDD'), day, day + 1);
+        day := day + 1;
+    END LOOP;
+END $$;
+
+INSERT INTO execution_log (log_id, execution_id, flow_id, customer_id, execution_time, node_id, node_type,
+                           execution_result, result_data, error_message, execution_duration_ms,
+                           execution_duration_us, attempt_count)
+SELECT log_id, execution_id, flow_id, customer_id, COALESCE(execution_time, CURRENT_TIMESTAMP), node_id, node_type,
+       execution_result, result_data, error_message, execution_duration_ms,
+       execution_duration_us, COALESCE(attempt_count, 1)
+FROM execution_log_legacy;
+
+CREATE INDEX idx_log_flow_customer ON execution_log(flow_id, customer_id);
+CREATE INDEX idx_log_execution_time ON execution_log(execution_time);
+CREATE INDEX idx_log_execution_id ON execution_log(execution_id);
+CREATE INDEX idx_log_flow_result_time ON execution_log(flow_id, execution_result, execution_time, log_id);
+CREATE INDEX idx_log_flow_time ON execution_log(flow_id, execution_time, log_id);
+
+-- 處理節點的模擬執行旗標
+ALTER TABLE process_node ADD COLUMN IF NOT EXISTS side_effect_free BOOLEAN DEFAULT FALSE;
+
+-- 精簡執行軌跡，已由舊版 schema 建立時放寬錯誤訊息長度
+CREATE TABLE IF NOT EXISTS execution_trace (
+    execution_id VARCHAR(50) NOT NULL PRIMARY KEY,
+    flow_id VARCHAR(50) NOT NULL,
+    flow_version VARCHAR(20),
+    customer_id VARCHAR(50) NOT NULL,
+    start_time TIMESTAMP NOT NULL,
+    duration_us BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    error_message TEXT,
+    path_data BYTEA
+);
+ALTER TABLE execution_trace ALTER COLUMN error_message TYPE TEXT;
+CREATE INDEX IF NOT EXISTS idx_trace_flow_time ON execution_trace(flow_id, start_time);
+
+-- 流程統計彙總
+CREATE TABLE IF NOT EXISTS flow_statistics_rollup (
+    flow_id VARCHAR(50) NOT NULL,
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    execution_count BIGINT NOT NULL,
+    success_count BIGINT NOT NULL,
+    duration_sum_us BIGINT NOT NULL,
+    duration_min_us BIGINT NOT NULL,
+    duration_max_us BIGINT NOT NULL,
+    duration_histogram BYTEA,
+    row_version BIGINT DEFAULT 0 NOT NULL,
+    PRIMARY KEY (flow_id, granularity, bucket_start)
+);
+ALTER TABLE flow_statistics_rollup ADD COLUMN IF NOT EXISTS duration_histogram BYTEA;
+ALTER TABLE flow_statistics_rollup ADD COLUMN IF NOT EXISTS row_version BIGINT DEFAULT 0 NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_rollup_granularity_start ON flow_statistics_rollup(granularity, bucket_start);
+
+COMMIT;
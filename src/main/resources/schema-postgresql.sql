@@ -0,0 +1,154 @@
+-- PostgreSQL 結構（spring.profiles.active=postgresql 時使用，H2 使用 schema.sql）
+-- 每次啟動都會執行，因此全部使用 IF NOT EXISTS。既有未分區的 execution_log 會在建立預設分區時失敗，
+-- 須先執行 db/postgresql/migrate_execution_log_partitioning.sql。
+
+-- 流程定義表
+CREATE TABLE IF NOT EXISTS flow_definition (
+    flow_id VARCHAR(50) NOT NULL PRIMARY KEY,
+    flow_name VARCHAR(100) NOT NULL,
+    flow_description TEXT,
+    version VARCHAR(20) NOT NULL, 
+    status VARCHAR(20) NOT NULL,
+    start_node_id VARCHAR(50),
+    created_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(50)
+);
+CREATE INDEX IF NOT EXISTS idx_status ON flow_definition(status);
+
+-- 決策節點表 
+CREATE TABLE IF NOT EXISTS decision_node (
+    node_id VARCHAR(50) NOT NULL PRIMARY KEY,
+    flow_id VARCHAR(50) NOT NULL,
+    node_name VARCHAR(100) NOT NULL,
+    node_description TEXT,
+    decision_type VARCHAR(50) NOT NULL,
+    implementation_class VARCHAR(255),
+    spel_expression TEXT,
+    node_order INT,
+    created_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_decision_flow FOREIGN KEY (flow_id) REFERENCES flow_definition(flow_id)
+);
+CREATE INDEX IF NOT EXISTS idx_decision_flow ON decision_node(flow_id);
+
+-- 處理節點表
+CREATE TABLE IF NOT EXISTS process_node (
+    node_id VARCHAR(50) NOT NULL PRIMARY KEY,
+    flow_id VARCHAR(50) NOT NULL,
+    node_name VARCHAR(100) NOT NULL,
+    node_description TEXT,
+    process_type VARCHAR(50) NOT NULL,
+    implementation_class VARCHAR(255),
+    spel_expression TEXT,
+    state_name VARCHAR(50),
+    node_order INT,
+    side_effect_free BOOLEAN DEFAULT FALSE,
+    created_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_process_flow FOREIGN KEY (flow_id) REFERENCES flow_definition(flow_id)
+);
+CREATE INDEX IF NOT EXISTS idx_process_flow ON process_node(flow_id);
+
+-- 節點關聯表
+CREATE TABLE IF NOT EXISTS node_relation (
+    relation_id VARCHAR(50) NOT NULL PRIMARY KEY,
+    flow_id VARCHAR(50) NOT NULL,
+    source_node_id VARCHAR(50) NOT NULL,
+    source_node_type VARCHAR(20) NOT NULL,
+    target_node_id VARCHAR(50) NOT NULL,
+    target_node_type VARCHAR(20) NOT NULL,
+    relation_type VARCHAR(20) NOT NULL,
+    logic_operator VARCHAR(10),
+    condition_expression TEXT,
+    created_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_relation_flow FOREIGN KEY (flow_id) REFERENCES flow_definition(flow_id)
+);
+CREATE INDEX IF NOT EXISTS idx_relation_source ON node_relation(source_node_id);
+CREATE INDEX IF NOT EXISTS idx_relation_target ON node_relation(target_node_id);
+
+-- 決策群組表
+CREATE TABLE IF NOT EXISTS decision_group (
+    group_id VARCHAR(50) NOT NULL PRIMARY KEY,
+    flow_id VARCHAR(50) NOT NULL,
+    group_name VARCHAR(100) NOT NULL,
+    logic_operator VARCHAR(10) NOT NULL,
+    target_process_id VARCHAR(50),
+    parent_group_id VARCHAR(50),
+    created_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_group_flow FOREIGN KEY (flow_id) REFERENCES flow_definition(flow_id),
+    CONSTRAINT fk_group_process FOREIGN KEY (target_process_id) REFERENCES process_node(node_id)
+);
+CREATE INDEX IF NOT EXISTS idx_group_flow ON decision_group(flow_id);
+
+-- 決策群組成員表
+CREATE TABLE IF NOT EXISTS decision_group_member (
+    member_id VARCHAR(50) NOT NULL PRIMARY KEY,
+    group_id VARCHAR(50) NOT NULL,
+    decision_node_id VARCHAR(50) NOT NULL,
+    member_order INT,
+    created_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_member_group FOREIGN KEY (group_id) REFERENCES decision_group(group_id),
+    CONSTRAINT fk_member_decision FOREIGN KEY (decision_node_id) REFERENCES decision_node(node_id)
+);
+CREATE INDEX IF NOT EXISTS idx_member_group ON decision_group_member(group_id);
+
+-- 執行日誌表：依 execution_time 以日為單位做範圍分區，保留期限由排程以整個分區移除
+-- 分區鍵必須包含在主鍵中，各日分區由 ExecutionLogRetentionJob 預先建立
+CREATE TABLE IF NOT EXISTS execution_log (
+    log_id VARCHAR(50) NOT NULL,
+    execution_id VARCHAR(50),
+    flow_id VARCHAR(50) NOT NULL,
+    customer_id VARCHAR(50) NOT NULL,
+    execution_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    node_id VARCHAR(50),
+    node_type VARCHAR(20),
+    execution_result VARCHAR(20),
+    result_data TEXT,
+    error_message TEXT,
+    execution_duration_ms INT,
+    execution_duration_us BIGINT,
+    attempt_count INT DEFAULT 1,
+    PRIMARY KEY (log_id, execution_time)
+) PARTITION BY RANGE (execution_time);
+-- 尚未建立分區的時間先寫入預設分區，避免排程延誤時寫入失敗
+CREATE TABLE IF NOT EXISTS execution_log_default PARTITION OF execution_log DEFAULT;
+CREATE INDEX IF NOT EXISTS idx_log_flow_customer ON execution_log(flow_id, customer_id);
+CREATE INDEX IF NOT EXISTS idx_log_execution_time ON execution_log(execution_time);
+CREATE INDEX IF NOT EXISTS idx_log_execution_id ON execution_log(execution_id);
+-- 執行列表游標分頁：依流程（與執行結果）篩選後按 (execution_time, log_id) 順序讀取
+CREATE INDEX IF NOT EXISTS idx_log_flow_result_time ON execution_log(flow_id, execution_result, execution_time, log_id);
+CREATE INDEX IF NOT EXISTS idx_log_flow_time ON execution_log(flow_id, execution_time, log_id);
+
+-- 精簡執行軌跡：每次執行一筆，路徑以節點索引、旗標與執行時間的 varint 編碼保存
+CREATE TABLE IF NOT EXISTS execution_trace (
+    execution_id VARCHAR(50) NOT NULL PRIMARY KEY,
+    flow_id VARCHAR(50) NOT NULL,
+    flow_version VARCHAR(20),
+    customer_id VARCHAR(50) NOT NULL,
+    start_time TIMESTAMP NOT NULL,
+    duration_us BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    error_message TEXT,
+    path_data BYTEA
+);
+CREATE INDEX IF NOT EXISTS idx_trace_flow_time ON execution_trace(flow_id, start_time);
+
+-- 流程統計彙總：每個流程每分鐘、每小時、每日一筆，由 FlowStatisticsAggregator 定期累加寫入
+CREATE TABLE IF NOT EXISTS flow_statistics_rollup (
+    flow_id VARCHAR(50) NOT NULL,
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    execution_count BIGINT NOT NULL,
+    success_count BIGINT NOT NULL,
+    duration_sum_us BIGINT NOT NULL,
+    duration_min_us BIGINT NOT NULL,
+    duration_max_us BIGINT NOT NULL,
+    -- 執行時間 HDR 直方圖（壓縮格式），合併時以 row_version 避免覆寫其他節點的寫入
+    duration_histogram BYTEA,
+    row_version BIGINT DEFAULT 0 NOT NULL,
+    PRIMARY KEY (flow_id, granularity, bucket_start)
+);
+CREATE INDEX IF NOT EXISTS idx_rollup_granularity_start ON flow_statistics_rollup(granularity, bucket_start);
+ALTER TABLE flow_statistics_rollup ADD COLUMN IF NOT EXISTS duration_histogram BYTEA;
+ALTER TABLE flow_statistics_rollup ADD COLUMN IF NOT EXISTS row_version BIGINT DEFAULT 0 NOT NULL;
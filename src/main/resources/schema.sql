@@ -39,6 +39,7 @@ CREATE TABLE process_node (
     spel_expression CLOB,
     state_name VARCHAR(50),
     node_order INT,
+    side_effect_free BOOLEAN DEFAULT FALSE,
     created_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     CONSTRAINT fk_process_flow FOREIGN KEY (flow_id) REFERENCES flow_definition(flow_id)
@@ -91,6 +92,7 @@ CREATE INDEX idx_member_group ON decision_group_member(group_id);
 -- 執行日誌表
 CREATE TABLE execution_log (
     log_id VARCHAR(50) NOT NULL PRIMARY KEY,
+    execution_id VARCHAR(50),
     flow_id VARCHAR(50) NOT NULL,
     customer_id VARCHAR(50) NOT NULL,
     execution_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
@@ -99,7 +101,44 @@ CREATE TABLE execution_log (
     execution_result VARCHAR(20),
     result_data CLOB,
     error_message CLOB,
-    execution_duration_ms INT
+    execution_duration_ms INT,
+    execution_duration_us BIGINT,
+    attempt_count INT DEFAULT 1
 );
 CREATE INDEX idx_log_flow_customer ON execution_log(flow_id, customer_id);
-CREATE INDEX idx_log_execution_time ON execution_log(execution_time);
\ No newline at end of file
+CREATE INDEX idx_log_execution_time ON execution_log(execution_time);
+CREATE INDEX idx_log_execution_id ON execution_log(execution_id);
+-- 執行列表游標分頁：依流程（與執行結果）篩選後按 (execution_time, log_id) 順序讀取
+CREATE INDEX idx_log_flow_result_time ON execution_log(flow_id, execution_result, execution_time, log_id);
+CREATE INDEX idx_log_flow_time ON execution_log(flow_id, execution_time, log_id);
+
+-- 精簡執行軌跡：每次執行一筆，路徑以節點索引、旗標與執行時間的 varint 編碼保存
+CREATE TABLE execution_trace (
+    execution_id VARCHAR(50) NOT NULL PRIMARY KEY,
+    flow_id VARCHAR(50) NOT NULL,
+    flow_version VARCHAR(20),
+    customer_id VARCHAR(50) NOT NULL,
+    start_time TIMESTAMP NOT NULL,
+    duration_us BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    error_message CLOB,
+    path_data BLOB
+);
+CREATE INDEX idx_trace_flow_time ON execution_trace(flow_id, start_time);
+
+-- 流程統計彙總：每個流程每分鐘、每小時、每日一筆，由 FlowStatisticsAggregator 定期累加寫入
+CREATE TABLE flow_statistics_rollup (
+    flow_id VARCHAR(50) NOT NULL,
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    execution_count BIGINT NOT NULL,
+    success_count BIGINT NOT NULL,
+    duration_sum_us BIGINT NOT NULL,
+    duration_min_us BIGINT NOT NULL,
+    duration_max_us BIGINT NOT NULL,
+    -- 執行時間 HDR 直方圖（壓縮格式），合併時以 row_version 避免覆寫其他節點的寫入
+    duration_histogram VARBINARY(65536),
+    row_version BIGINT DEFAULT 0 NOT NULL,
+    PRIMARY KEY (flow_id, granularity, bucket_start)
+);
+CREATE INDEX idx_rollup_granularity_start ON flow_statistics_rollup(granularity, bucket_start);
@@ -2,11 +2,13 @@ package com.example.banking.benefit.application.controller;
 
 import com.example.banking.benefit.application.dto.common.ApiResponse;
 import com.example.banking.benefit.application.dto.flow.ExecuteFlowRequest;
+import com.example.banking.benefit.domain.exception.DuplicateExecutionException;
 import com.example.banking.benefit.domain.model.common.CustomerAttribute;
 import com.example.banking.benefit.domain.model.common.CustomerData;
 import com.example.banking.benefit.domain.model.flow.Flow;
 import com.example.banking.benefit.domain.model.flow.FlowId;
 import com.example.banking.benefit.domain.model.result.ExecutionResult;
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
 import com.example.banking.benefit.domain.service.FlowExecutionServiceExtended;
 import com.example.banking.benefit.domain.service.FlowManagementService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,6 +20,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -25,6 +28,7 @@ import java.util.UUID;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -113,6 +117,106 @@ class FlowExecutionControllerTest {
         verify(flowExecutionService, never()).execute(any(), any());
     }
 
+    @Test
+    void executeFlow_InvalidExecutionId_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/flow-executions")
+                .header("X-Execution-Id", "bad id!")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().string("X-Error-Code", "400"))
+                .andExpect(jsonPath("$.code").value("400"));
+
+        verify(flowExecutionService, never()).execute(any(), any());
+    }
+
+    @Test
+    void executeFlow_NonPositiveTimeout_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/flow-executions")
+                .header("X-Execution-Timeout", "0")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().string("X-Error-Code", "400"))
+                .andExpect(jsonPath("$.message").value(containsString("執行逾時")));
+
+        verify(flowExecutionService, never()).execute(any(), any());
+    }
+
+    @Test
+    void executeFlow_WithTimeoutHeader_ShouldPassDeadlineToService() throws Exception {
+        when(flowManagementService.getFlow(any(FlowId.class), eq("1.0.0")))
+                .thenReturn(Optional.of(flow));
+        when(flowExecutionService.execute(any(Flow.class), any()))
+                .thenReturn(executionResult);
+
+        mockMvc.perform(post("/api/v1/flow-executions")
+                .header("X-Execution-Timeout", "1500")
+                .header("X-Execution-Id", "exec-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        verify(flowExecutionService).execute(any(Flow.class), argThat(context ->
+                "exec-1".equals(context.getExecutionId())
+                        && Duration.ofMillis(1500).equals(context.getDeadline().getTimeout())));
+    }
+
+    @Test
+    void executeFlow_Rejected_ShouldReturnTooManyRequests() throws Exception {
+        stubExecution(ExecutionStatus.REJECTED, "流程執行量已達上限");
+
+        mockMvc.perform(post("/api/v1/flow-executions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("X-Error-Code", "429"))
+                .andExpect(jsonPath("$.code").value("429"));
+    }
+
+    @Test
+    void executeFlow_TimedOut_ShouldReturnGatewayTimeout() throws Exception {
+        stubExecution(ExecutionStatus.TIMED_OUT, "流程執行逾時：1500ms");
+
+        mockMvc.perform(post("/api/v1/flow-executions")
+                .header("X-Execution-Id", "exec-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(header().string("X-Error-Code", "504"))
+                .andExpect(header().string("X-Execution-Id", "exec-1"))
+                .andExpect(jsonPath("$.message").value(containsString("逾時")));
+    }
+
+    @Test
+    void executeFlow_Cancelled_ShouldReturnConflict() throws Exception {
+        stubExecution(ExecutionStatus.CANCELLED, "流程執行已取消");
+
+        mockMvc.perform(post("/api/v1/flow-executions")
+                .header("X-Execution-Id", "exec-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(header().string("X-Error-Code", "409"))
+                .andExpect(header().string("X-Execution-Id", "exec-1"));
+    }
+
+    @Test
+    void executeFlow_DuplicateExecutionId_ShouldReturnConflict() throws Exception {
+        when(flowManagementService.getFlow(any(FlowId.class), eq("1.0.0")))
+                .thenReturn(Optional.of(flow));
+        when(flowExecutionService.execute(any(Flow.class), any()))
+                .thenThrow(new DuplicateExecutionException("執行ID已有執行中的流程：exec-1"));
+
+        mockMvc.perform(post("/api/v1/flow-executions")
+                .header("X-Execution-Id", "exec-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(header().string("X-Error-Code", "409"))
+                .andExpect(jsonPath("$.message").value(containsString("exec-1")));
+    }
+
     @Test
     void getExecutionResult_Success() throws Exception {
         String executionId = UUID.randomUUID().toString();
@@ -168,4 +272,13 @@ class FlowExecutionControllerTest {
 
         verify(flowExecutionService).cancelExecution(executionId);
     }
-}
\ No newline at end of file
+
+    private void stubExecution(ExecutionStatus status, String message) {
+        when(flowManagementService.getFlow(any(FlowId.class), eq("1.0.0")))
+                .thenReturn(Optional.of(flow));
+        when(executionResult.getStatus()).thenReturn(status);
+        when(executionResult.getMessage()).thenReturn(message);
+        when(flowExecutionService.execute(any(Flow.class), any()))
+                .thenReturn(executionResult);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.banking.benefit.application.converter;
+
+import com.example.banking.benefit.application.converter.ExecutionLogExportWriter.Format;
+import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import com.example.banking.benefit.domain.model.log.ExecutionResult;
+import com.example.banking.benefit.domain.model.node.NodeType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 執行日誌匯出寫入器的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. NDJSON 每筆一行並略過空值欄位
+ * 2. CSV 輸出標題列並跳脫逗號、引號與換行
+ * 3. 輸出為完整的 gzip 資料
+ *
+ * @see ExecutionLogExportWriter
+ */
+class ExecutionLogExportWriterTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2026, 10, 19, 9, 30, 15);
+
+    @Test
+    void accept_NdjsonFormat_ShouldWriteOneObjectPerLine() throws IOException {
+        String output = export(Format.NDJSON,
+            log("log-1", null),
+            log("log-2", "逾時"));
+
+        String[] lines = output.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"logId\":\"log-1\",\"executionId\":\"exec-1\",\"flowId\":\"FLOW_001\",\"customerId\":\"C001\","
+            + "\"executionTime\":\"2026-10-19T09:30:15\",\"nodeId\":\"D1\",\"nodeType\":\"DECISION\","
+            + "\"executionResult\":\"PASS\",\"executionDurationMs\":2,\"executionDurationMicros\":2500,"
+            + "\"attemptCount\":1}", lines[0]);
+        assertTrue(lines[1].contains("\"errorMessage\":\"逾時\""));
+    }
+
+    @Test
+    void accept_CsvFormat_ShouldEscapeSpecialCharacters() throws IOException {
+        String output = export(Format.CSV, log("log-1", "a,\"b\"\nc"));
+
+        String[] lines = output.split("\r\n");
+        assertTrue(lines[0].startsWith("logId,executionId,flowId"));
+        assertEquals("log-1,exec-1,FLOW_001,C001,2026-10-19T09:30:15,D1,DECISION,PASS,,"
+            + "\"a,\"\"b\"\"\nc\",2,2500,1", lines[1]);
+    }
+
+    @Test
+    void close_NoRows_ShouldWriteValidGzip() throws IOException {
+        assertEquals("", export(Format.NDJSON));
+    }
+
+    private String export(Format format, ExecutionLog... logs) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ExecutionLogExportWriter writer = new ExecutionLogExportWriter(output, format)) {
+            for (ExecutionLog log : logs) {
+                writer.accept(log);
+            }
+        }
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private ExecutionLog log(String logId, String errorMessage) {
+        return ExecutionLog.restore(logId, "exec-1", "FLOW_001", "C001", TIME, "D1", NodeType.DECISION,
+            ExecutionResult.PASS, null, errorMessage, 2, 2_500L, 1);
+    }
+}
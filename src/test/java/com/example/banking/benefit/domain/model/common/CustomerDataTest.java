@@ -0,0 +1,161 @@
+package com.example.banking.benefit.domain.model.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 精簡客戶資料的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 以 Map 建立的客戶資料保留原本的屬性型別與值
+ * 2. 不裝箱的存取方法與數值型別的放寬轉換
+ * 3. 字典共用已登記的槽位，未登記的名稱或型別衝突時改存於 Map
+ * 4. 建立客戶資料不會登記新的屬性或改變已登記的型別
+ * 5. 字典已滿時拒絕登記
+ * 6. 同一屬性重複寫入時以最後一次為準
+ *
+ * @see CustomerData
+ * @see CustomerAttributeDictionary
+ */
+class CustomerDataTest {
+
+    private final CustomerAttributeDictionary dictionary = new CustomerAttributeDictionary(16);
+
+    @BeforeEach
+    void setUp() {
+        dictionary.register("age", Integer.class);
+        dictionary.register("balance", Long.class);
+        dictionary.register("score", Double.class);
+        dictionary.register("vip", Boolean.class);
+        dictionary.register("tier", String.class);
+    }
+
+    @Test
+    void create_FromAttributeMap_ShouldPreserveTypesAndValues() {
+        Map<String, CustomerAttribute<?>> attributes = new LinkedHashMap<>();
+        attributes.put("age", CustomerAttribute.forInteger(30));
+        attributes.put("balance", CustomerAttribute.forLong(5_000_000_000L));
+        attributes.put("score", CustomerAttribute.forDouble(712.5));
+        attributes.put("vip", CustomerAttribute.forBoolean(false));
+        attributes.put("tier", CustomerAttribute.forString("GOLD"));
+        attributes.put("since", CustomerAttribute.forDate(LocalDate.of(2020, 1, 1)));
+
+        CustomerData data = CustomerData.create("CUST_001", attributes, dictionary);
+
+        assertEquals("CUST_001", data.getId());
+        assertEquals(6, data.size());
+        assertEquals(attributes, data.getAllAttributes());
+        assertEquals(30, data.get("age"));
+        assertEquals(Boolean.FALSE, data.get("vip"));
+        assertEquals("GOLD", data.get("tier"));
+        assertEquals(CustomerAttribute.forDouble(712.5), data.getAttribute("score").orElseThrow());
+        assertEquals(LocalDate.of(2020, 1, 1), data.getValue("since", LocalDate.class).orElseThrow());
+        assertTrue(data.getValue("age", String.class).isEmpty());
+        assertFalse(data.hasKey("missing"));
+        assertNull(data.get("missing"));
+    }
+
+    @Test
+    void typedAccessors_ShouldReadWithoutBoxingAndWidenNumbers() {
+        CustomerData data = CustomerData.builder("CUST_001", dictionary)
+            .putInt("age", 30)
+            .putLong("balance", 5_000_000_000L)
+            .putDouble("score", 712.5)
+            .putBoolean("vip", true)
+            .build();
+
+        assertEquals(30, data.getInt("age", -1));
+        assertEquals(30L, data.getLong("age", -1));
+        assertEquals(30.0, data.getDouble("age", -1));
+        assertEquals(5_000_000_000L, data.getLong("balance", -1));
+        assertEquals(-1, data.getInt("balance", -1));
+        assertEquals(712.5, data.getDouble("score", -1));
+        assertEquals(-1L, data.getLong("score", -1));
+        assertTrue(data.getBoolean("vip", false));
+        assertTrue(data.getBoolean("missing", true));
+        assertEquals(7, data.getInt("missing", 7));
+    }
+
+    @Test
+    void dictionary_SharedAcrossCustomers_ShouldReuseSlotsAndOverflowOnConflict() {
+        CustomerData first = CustomerData.builder("CUST_001", dictionary).putInt("age", 30).build();
+        CustomerData second = CustomerData.builder("CUST_002", dictionary)
+            .put("age", CustomerAttribute.forString("thirty"))
+            .putInt("points", 100)
+            .build();
+
+        assertEquals(5, dictionary.size());
+        assertEquals(Integer.class, dictionary.slotOf("age").getType());
+        assertEquals(30, first.get("age"));
+        assertFalse(first.hasKey("points"));
+        assertEquals("thirty", second.get("age"));
+        assertEquals(-1, second.getInt("age", -1));
+        assertEquals(100, second.getInt("points", -1));
+        assertEquals(2, second.size());
+    }
+
+    @Test
+    void builder_UnregisteredAttributes_ShouldNotChangeDictionary() {
+        CustomerAttributeDictionary empty = new CustomerAttributeDictionary(16);
+        CustomerData data = CustomerData.builder("CUST_001", empty)
+            .put("age", CustomerAttribute.forString("thirty"))
+            .putInt("junk-1", 1)
+            .putBoolean("junk-2", true)
+            .build();
+        empty.register("age", Integer.class);
+
+        assertEquals(1, empty.size());
+        assertNull(empty.slotOf("junk-1"));
+        assertEquals(Integer.class, empty.slotOf("age").getType());
+        assertEquals("thirty", data.get("age"));
+        assertEquals(1, data.getInt("junk-1", -1));
+        assertTrue(data.getBoolean("junk-2", false));
+        assertEquals(31, CustomerData.builder("CUST_002", empty).putInt("age", 31).build().getInt("age", -1));
+    }
+
+    @Test
+    void dictionary_WhenFull_ShouldRejectRegistration() {
+        CustomerAttributeDictionary small = new CustomerAttributeDictionary(1);
+
+        assertNotNull(small.register("age", Integer.class));
+        assertNull(small.register("score", Double.class));
+        assertNull(small.register("age", String.class));
+        CustomerData data = CustomerData.builder("CUST_001", small)
+            .putInt("age", 30)
+            .putDouble("score", 712.5)
+            .build();
+
+        assertEquals(1, small.size());
+        assertNull(small.slotOf("score"));
+        assertEquals(712.5, data.getDouble("score", -1));
+        assertEquals(Map.of("age", CustomerAttribute.forInteger(30), "score", CustomerAttribute.forDouble(712.5)),
+            data.getAllAttributes());
+    }
+
+    @Test
+    void builder_RepeatedKey_ShouldKeepLastValue() {
+        CustomerData data = CustomerData.builder("CUST_001", dictionary)
+            .putInt("age", 30)
+            .put("age", CustomerAttribute.forString("thirty"))
+            .putBoolean("vip", true)
+            .putBoolean("vip", false)
+            .build();
+
+        assertEquals("thirty", data.get("age"));
+        assertFalse(data.getBoolean("vip", true));
+        assertEquals(2, data.size());
+
+        CustomerData reverted = CustomerData.builder("CUST_002", dictionary)
+            .put("age", CustomerAttribute.forString("thirty"))
+            .putInt("age", 31)
+            .build();
+        assertEquals(31, reverted.get("age"));
+        assertEquals(1, reverted.size());
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.banking.benefit.domain.model.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 槽位索引變數儲存的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 由表達式編譯變數配置並略過內建變數
+ * 2. 配置內與配置外變數的讀寫
+ * 3. 唯讀視圖反映最新內容且不可修改
+ *
+ * @see VariableStore
+ * @see VariableLayout
+ */
+class VariableStoreTest {
+
+    @Test
+    void compile_ShouldAssignSlotsToReferencedVariables() {
+        VariableLayout layout = VariableLayout.compile(List.of(
+            "#creditScore > 700 && #context.customerData.get('age') >= 18",
+            "#creditScore > 800 || #income > 100000"));
+
+        assertEquals(2, layout.size());
+        assertEquals(0, layout.slotOf("creditScore"));
+        assertEquals(1, layout.slotOf("income"));
+        assertEquals(-1, layout.slotOf("context"));
+    }
+
+    @Test
+    void put_ShouldStoreLayoutAndOverflowVariables() {
+        VariableStore store = new VariableStore(VariableLayout.of(List.of("creditScore")));
+
+        store.put("creditScore", 750);
+        store.put("dynamic", "value");
+        store.put("nullable", null);
+
+        assertEquals(750, store.get(0));
+        assertEquals(750, store.get("creditScore"));
+        assertEquals("value", store.get("dynamic"));
+        assertTrue(store.contains("nullable"));
+        assertFalse(store.contains("missing"));
+        assertEquals(3, store.size());
+    }
+
+    @Test
+    void asMap_ShouldBeLiveReadOnlyView() {
+        VariableStore store = new VariableStore(VariableLayout.of(List.of("a", "b")));
+        Map<String, Object> view = store.asMap();
+
+        store.put("b", 2);
+        store.put("c", 3);
+
+        assertEquals(Map.of("b", 2, "c", 3), new HashMap<>(view));
+        assertThrows(UnsupportedOperationException.class, () -> view.put("a", 1));
+    }
+}
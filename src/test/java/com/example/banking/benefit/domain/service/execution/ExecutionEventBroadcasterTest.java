@@ -0,0 +1,131 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.model.result.ExecutionCompletedEvent;
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 執行完成事件廣播緩衝區的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 訂閱者依序收到訂閱之後發布的事件
+ * 2. 依流程與執行狀態過濾事件
+ * 3. 以最後收到的序號補送緩衝區內的事件
+ * 4. 落後超過緩衝區容量的訂閱者被移除
+ * 5. 訂閱者數上限與等待中的讀取被喚醒
+ *
+ * @see ExecutionEventBroadcaster
+ */
+class ExecutionEventBroadcasterTest {
+
+    private static final Duration NO_WAIT = Duration.ZERO;
+
+    @Test
+    void poll_AfterPublish_ShouldReturnEventsInOrder() {
+        ExecutionEventBroadcaster broadcaster = new ExecutionEventBroadcaster(8, 4);
+        broadcaster.publish(event("F001", ExecutionStatus.SUCCESS));
+        ExecutionEventBroadcaster.Subscription subscription =
+            broadcaster.subscribe(List.of(), List.of(), null).orElseThrow();
+
+        broadcaster.publish(event("F001", ExecutionStatus.SUCCESS));
+        broadcaster.publish(event("F002", ExecutionStatus.FAILURE));
+
+        List<ExecutionEventBroadcaster.Entry> entries = subscription.poll(10, NO_WAIT);
+        assertEquals(2, entries.size());
+        assertEquals(2, entries.get(0).getSequence());
+        assertEquals("F001", entries.get(0).getEvent().getFlowId());
+        assertEquals(3, entries.get(1).getSequence());
+        assertEquals("F002", entries.get(1).getEvent().getFlowId());
+        assertTrue(subscription.poll(10, NO_WAIT).isEmpty());
+    }
+
+    @Test
+    void subscribe_WithFlowAndStatusFilter_ShouldOnlyReturnMatchingEvents() {
+        ExecutionEventBroadcaster broadcaster = new ExecutionEventBroadcaster(8, 4);
+        ExecutionEventBroadcaster.Subscription subscription = broadcaster
+            .subscribe(List.of("F001"), List.of(ExecutionStatus.FAILURE, ExecutionStatus.TIMED_OUT), null)
+            .orElseThrow();
+
+        broadcaster.publish(event("F001", ExecutionStatus.SUCCESS));
+        broadcaster.publish(event("F002", ExecutionStatus.FAILURE));
+        broadcaster.publish(event("F001", ExecutionStatus.TIMED_OUT));
+
+        List<ExecutionEventBroadcaster.Entry> entries = subscription.poll(10, NO_WAIT);
+        assertEquals(1, entries.size());
+        assertEquals(ExecutionStatus.TIMED_OUT, entries.get(0).getEvent().getStatus());
+    }
+
+    @Test
+    void subscribe_WithLastSequence_ShouldReplayBufferedEvents() {
+        ExecutionEventBroadcaster broadcaster = new ExecutionEventBroadcaster(4, 4);
+        for (int i = 0; i < 6; i++) {
+            broadcaster.publish(event("F00" + i, ExecutionStatus.SUCCESS));
+        }
+
+        // 序號 4 之後的事件仍在緩衝區內
+        List<ExecutionEventBroadcaster.Entry> replayed =
+            broadcaster.subscribe(List.of(), List.of(), 4L).orElseThrow().poll(10, NO_WAIT);
+        assertEquals(List.of(5L, 6L), replayed.stream().map(ExecutionEventBroadcaster.Entry::getSequence).toList());
+
+        // 已被覆寫的部分略過，自最舊仍保留的事件開始
+        List<ExecutionEventBroadcaster.Entry> oldest =
+            broadcaster.subscribe(List.of(), List.of(), 0L).orElseThrow().poll(10, NO_WAIT);
+        assertEquals(List.of(3L, 4L, 5L, 6L), oldest.stream().map(ExecutionEventBroadcaster.Entry::getSequence).toList());
+    }
+
+    @Test
+    void poll_SubscriberLappedByPublisher_ShouldCloseSubscription() {
+        ExecutionEventBroadcaster broadcaster = new ExecutionEventBroadcaster(4, 4);
+        ExecutionEventBroadcaster.Subscription subscription =
+            broadcaster.subscribe(List.of(), List.of(), null).orElseThrow();
+
+        for (int i = 0; i < 5; i++) {
+            broadcaster.publish(event("F001", ExecutionStatus.SUCCESS));
+        }
+
+        assertTrue(subscription.poll(10, NO_WAIT).isEmpty());
+        assertTrue(subscription.isLagged());
+        assertTrue(subscription.isClosed());
+        assertEquals(0, broadcaster.getSubscriberCount());
+        assertEquals(1, broadcaster.getLaggedSubscriberCount());
+    }
+
+    @Test
+    void subscribe_AtSubscriberLimit_ShouldRejectUntilClosed() {
+        ExecutionEventBroadcaster broadcaster = new ExecutionEventBroadcaster(8, 1);
+        ExecutionEventBroadcaster.Subscription first =
+            broadcaster.subscribe(List.of(), List.of(), null).orElseThrow();
+
+        assertTrue(broadcaster.subscribe(List.of(), List.of(), null).isEmpty());
+
+        first.close();
+        assertTrue(broadcaster.subscribe(List.of(), List.of(), null).isPresent());
+    }
+
+    @Test
+    void poll_WaitingSubscriber_ShouldWakeOnPublish() throws Exception {
+        ExecutionEventBroadcaster broadcaster = new ExecutionEventBroadcaster(8, 4);
+        ExecutionEventBroadcaster.Subscription subscription =
+            broadcaster.subscribe(List.of(), List.of(), null).orElseThrow();
+
+        CompletableFuture<List<ExecutionEventBroadcaster.Entry>> pending =
+            CompletableFuture.supplyAsync(() -> subscription.poll(10, Duration.ofSeconds(10)));
+        Thread.sleep(50);
+        broadcaster.publish(event("F001", ExecutionStatus.SUCCESS));
+
+        assertEquals(1, pending.get(5, TimeUnit.SECONDS).size());
+    }
+
+    private static ExecutionCompletedEvent event(String flowId, ExecutionStatus status) {
+        return new ExecutionCompletedEvent(flowId, "1.0.0", "exec-" + flowId, status, 1_000_000, 3,
+            LocalDateTime.now());
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.model.common.BaseExecutionContext;
+import com.example.banking.benefit.domain.model.common.CustomerAttribute;
+import com.example.banking.benefit.domain.model.common.CustomerData;
+import com.example.banking.benefit.domain.model.common.DefaultExecutionContext;
+import com.example.banking.benefit.domain.model.config.FlowConfig;
+import com.example.banking.benefit.domain.model.flow.Flow;
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.flow.Version;
+import com.example.banking.benefit.domain.model.node.DecisionNode;
+import com.example.banking.benefit.domain.model.result.ExecutionResult;
+import com.example.banking.benefit.domain.model.statistics.ResultCacheStatistics;
+import com.example.banking.benefit.domain.port.input.ConfigurationUseCase;
+import com.example.banking.benefit.infrastructure.cache.CaffeineCacheAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 執行結果快取的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 未設定存活時間時不快取
+ * 2. 只依流程讀取的客戶屬性命中快取
+ * 3. 流程重新發布後清除快取
+ * 4. 只快取成功的結果
+ * 5. 無法分析讀取範圍時以客戶為單位快取
+ *
+ * @see ExecutionResultCache
+ */
+class ExecutionResultCacheTest {
+
+    private static final FlowId FLOW_ID = FlowId.of("FLOW_001");
+
+    private ExecutionResultCache resultCache;
+    private FlowConfig config;
+    private Flow flow;
+
+    @BeforeEach
+    void setUp() {
+        ConfigurationUseCase configurationUseCase = mock(ConfigurationUseCase.class);
+        config = new FlowConfig("SYNC", 0, 0, true);
+        config.setResultCacheTtlMillis(60_000);
+        when(configurationUseCase.getFlowConfig(any(FlowId.class))).thenReturn(Optional.of(config));
+        resultCache = new ExecutionResultCache(new CaffeineCacheAdapter(1000), configurationUseCase);
+
+        flow = Flow.create(FLOW_ID, "測試流程", "測試用", Version.of("1.0.0"));
+        flow.addDecisionNode(DecisionNode.createSpELDecision(
+            "D1", "年齡檢查", "年齡需滿18歲", "#context.customerData.get('age') >= 18"));
+    }
+
+    @Test
+    void lookup_WhenTtlNotConfigured_ShouldNotCache() {
+        config.setResultCacheTtlMillis(0);
+        BaseExecutionContext context = context("C001", 30, "台北");
+
+        resultCache.store(flow, context, ExecutionResult.success(FLOW_ID, "E1", null));
+
+        assertTrue(resultCache.lookup(flow, context, "E2").isEmpty());
+        assertEquals(0, resultCache.getStatistics().getStores());
+    }
+
+    @Test
+    void lookup_WhenReadAttributesMatch_ShouldHitAcrossCustomers() {
+        resultCache.store(flow, context("C001", 30, "台北"), ExecutionResult.success(FLOW_ID, "E1", null));
+
+        // 城市不在流程讀取的屬性中，不影響快取鍵
+        Optional<ExecutionResult> cached = resultCache.lookup(flow, context("C002", 30, "高雄"), "E2");
+
+        assertTrue(cached.isPresent());
+        assertTrue(cached.get().isFromCache());
+        assertEquals("E2", cached.get().getExecutionId());
+        assertTrue(resultCache.lookup(flow, context("C003", 40, "台北"), "E3").isEmpty());
+
+        ResultCacheStatistics statistics = resultCache.getStatistics();
+        assertEquals(1, statistics.getHits());
+        assertEquals(1, statistics.getMisses());
+    }
+
+    @Test
+    void invalidate_ShouldRemoveEntriesOfFlow() {
+        BaseExecutionContext context = context("C001", 30, "台北");
+        resultCache.store(flow, context, ExecutionResult.success(FLOW_ID, "E1", null));
+
+        resultCache.invalidate(FLOW_ID.getValue());
+
+        assertTrue(resultCache.lookup(flow, context, "E2").isEmpty());
+        assertEquals(1, resultCache.getStatistics().getInvalidations());
+    }
+
+    @Test
+    void store_WhenResultFailed_ShouldNotCache() {
+        BaseExecutionContext context = context("C001", 30, "台北");
+
+        resultCache.store(flow, context, ExecutionResult.failure(FLOW_ID, "E1", "處理失敗"));
+
+        assertTrue(resultCache.lookup(flow, context, "E2").isEmpty());
+    }
+
+    @Test
+    void lookup_WhenFlowHasJavaNode_ShouldKeyByCustomer() {
+        flow.addDecisionNode(DecisionNode.createJavaClassDecision(
+            "D2", "自訂決策", "Java 類別決策", "com.example.CustomDecision"));
+        resultCache.store(flow, context("C001", 30, "台北"), ExecutionResult.success(FLOW_ID, "E1", null));
+
+        assertTrue(resultCache.lookup(flow, context("C002", 30, "台北"), "E2").isEmpty());
+        assertTrue(resultCache.lookup(flow, context("C001", 30, "台北"), "E3").isPresent());
+    }
+
+    private BaseExecutionContext context(String customerId, int age, String city) {
+        CustomerData customerData = CustomerData.create(customerId, Map.of(
+            "age", CustomerAttribute.forInteger(age),
+            "city", CustomerAttribute.forString(city)));
+        return DefaultExecutionContext.builder()
+            .flowId(FLOW_ID.getValue())
+            .customerId(customerId)
+            .customerData(customerData)
+            .build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.exception.DuplicateExecutionException;
+import com.example.banking.benefit.domain.model.common.DefaultExecutionContext;
+import com.example.banking.benefit.domain.model.common.ExecutionDeadline;
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.result.ExecutionResult;
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 執行監督者的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 期限內完成的執行
+ * 2. 逾時時中斷執行並立即返回
+ * 3. 取消執行中的流程
+ * 4. 拒絕重複的執行ID
+ * 5. 請求指定的期限不超過伺服器端逾時
+ *
+ * @see ExecutionSupervisor
+ */
+class ExecutionSupervisorTest {
+
+    private static final FlowId FLOW_ID = FlowId.of("F001");
+
+    private ExecutionSupervisor supervisor;
+
+    @BeforeEach
+    void setUp() {
+        supervisor = new ExecutionSupervisor(null, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        supervisor.close();
+    }
+
+    @Test
+    void run_WhenCompletedInTime_ShouldReturnTaskResult() {
+        ExecutionResult result = supervisor.run(FLOW_ID, "exec-1", ExecutionDeadline.after(Duration.ofSeconds(5)),
+            () -> ExecutionResult.success(FLOW_ID, "exec-1", null));
+
+        assertEquals(ExecutionStatus.SUCCESS, result.getStatus());
+        assertEquals(0, supervisor.getActiveExecutions());
+    }
+
+    @Test
+    void run_WhenDeadlineExceeded_ShouldInterruptAndReturnTimedOut() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        ExecutionResult result = supervisor.run(FLOW_ID, "exec-1", ExecutionDeadline.after(Duration.ofMillis(50)),
+            () -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return ExecutionResult.success(FLOW_ID, "exec-1", null);
+            });
+
+        assertEquals(ExecutionStatus.TIMED_OUT, result.getStatus());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(0, supervisor.getActiveExecutions());
+    }
+
+    @Test
+    void cancel_WhenExecutionInFlight_ShouldReturnCancelled() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        ExecutionDeadline deadline = ExecutionDeadline.none();
+
+        CompletableFuture<ExecutionResult> pending = CompletableFuture.supplyAsync(() ->
+            supervisor.run(FLOW_ID, "exec-1", deadline, () -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return ExecutionResult.success(FLOW_ID, "exec-1", null);
+            }));
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(supervisor.cancel("exec-1"));
+
+        ExecutionResult result = pending.get(5, TimeUnit.SECONDS);
+        assertEquals(ExecutionStatus.CANCELLED, result.getStatus());
+        assertTrue(deadline.isCancelled());
+    }
+
+    @Test
+    void cancel_WhenExecutionUnknown_ShouldReturnFalse() {
+        assertFalse(supervisor.cancel("unknown"));
+    }
+
+    @Test
+    void run_WhenExecutionIdInFlight_ShouldRejectDuplicate() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ExecutionResult> pending = CompletableFuture.supplyAsync(() ->
+            supervisor.run(FLOW_ID, "exec-1", ExecutionDeadline.none(), () -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return ExecutionResult.success(FLOW_ID, "exec-1", null);
+            }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(DuplicateExecutionException.class, () -> supervisor.run(FLOW_ID, "exec-1",
+            ExecutionDeadline.none(), () -> ExecutionResult.success(FLOW_ID, "exec-1", null)));
+
+        // 重複的請求不影響原本的執行
+        assertEquals(1, supervisor.getActiveExecutions());
+        release.countDown();
+        assertEquals(ExecutionStatus.SUCCESS, pending.get(5, TimeUnit.SECONDS).getStatus());
+    }
+
+    @Test
+    void resolveDeadline_RequestedLongerThanConfigured_ShouldClampToConfigured() {
+        ExecutionSupervisor bounded = new ExecutionSupervisor(null, 1_000);
+        try {
+            ExecutionDeadline deadline = bounded.resolveDeadline("F001",
+                contextWithDeadline(ExecutionDeadline.after(Duration.ofHours(1))));
+
+            assertEquals(Duration.ofMillis(1_000), deadline.getTimeout());
+        } finally {
+            bounded.close();
+        }
+    }
+
+    @Test
+    void resolveDeadline_RequestedShorterThanConfigured_ShouldKeepRequested() {
+        ExecutionSupervisor bounded = new ExecutionSupervisor(null, 1_000);
+        try {
+            ExecutionDeadline requested = ExecutionDeadline.after(Duration.ofMillis(200));
+
+            assertSame(requested, bounded.resolveDeadline("F001", contextWithDeadline(requested)));
+        } finally {
+            bounded.close();
+        }
+    }
+
+    private static DefaultExecutionContext contextWithDeadline(ExecutionDeadline deadline) {
+        return DefaultExecutionContext.builder()
+            .flowId("F001")
+            .executionId("exec-1")
+            .deadline(deadline)
+            .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.model.statistics.TimingStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 流程與節點執行時間記錄器的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 直方圖的次數、平均、最大值與百分位數
+ * 2. 滑動時間窗排除過期的區間
+ * 3. 節點統計依平均時間排序
+ * 4. 未記錄的流程沒有統計
+ *
+ * @see ExecutionTimingRecorder
+ * @see LatencyHistogram
+ */
+class ExecutionTimingRecorderTest {
+
+    @Test
+    void histogram_ShouldTrackCountMeanMaxAndPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100_000);      // 100 微秒
+        }
+        histogram.record(50_000_000);       // 50 毫秒
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.getCount());
+        assertEquals(50_000, snapshot.getMaxMicros());
+        assertEquals(599.0, snapshot.getMeanMicros(), 0.001);
+        assertEquals(100, snapshot.getPercentileMicros(50));
+        assertEquals(100, snapshot.getPercentileMicros(99));
+        assertEquals(50_000, snapshot.getPercentileMicros(100));
+    }
+
+    @Test
+    void histogram_AfterWindowElapsed_ShouldDropExpiredIntervals() {
+        AtomicLong nanos = new AtomicLong();
+        LatencyHistogram histogram = new LatencyHistogram(Duration.ofMinutes(5), nanos::get);
+        histogram.record(80_000_000);       // 80 毫秒
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        histogram.record(1_000_000);        // 1 毫秒
+
+        LatencyHistogram.Snapshot withinWindow = histogram.snapshot();
+        assertEquals(2, withinWindow.getCount());
+        assertEquals(80_000, withinWindow.getMaxMicros());
+
+        nanos.addAndGet(Duration.ofMinutes(4).toNanos());
+        LatencyHistogram.Snapshot afterWindow = histogram.snapshot();
+        assertEquals(1, afterWindow.getCount());
+        assertEquals(1_000, afterWindow.getMaxMicros());
+        assertEquals(1_000, afterWindow.getPercentileMicros(99), 10);
+    }
+
+    @Test
+    void getNodeTimings_ShouldSortBySlowestNode() {
+        ExecutionTimingRecorder recorder = new ExecutionTimingRecorder();
+        recorder.recordNode("F001", "FAST", 10_000);
+        recorder.recordNode("F001", "SLOW", 5_000_000);
+        recorder.recordNode("F002", "OTHER", 1_000);
+        recorder.recordFlow("F001", 6_000_000);
+
+        List<TimingStatistics> nodes = recorder.getNodeTimings("F001");
+
+        assertEquals(2, nodes.size());
+        assertEquals("SLOW", nodes.get(0).getNodeId());
+        assertEquals("FAST", nodes.get(1).getNodeId());
+        assertEquals(6_000, recorder.getFlowTiming("F001").orElseThrow().getMaxMicros());
+        assertTrue(recorder.getFlowTiming("F003").isEmpty());
+    }
+}
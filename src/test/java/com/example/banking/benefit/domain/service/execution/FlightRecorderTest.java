@@ -0,0 +1,159 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.model.common.CustomerAttribute;
+import com.example.banking.benefit.domain.model.common.CustomerData;
+import com.example.banking.benefit.domain.model.common.ExecutionContext;
+import com.example.banking.benefit.domain.model.config.FlowConfig;
+import com.example.banking.benefit.domain.model.flow.Flow;
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.flow.Version;
+import com.example.banking.benefit.domain.model.log.SlowExecutionTrace;
+import com.example.banking.benefit.domain.model.log.SlowNodeTrace;
+import com.example.banking.benefit.domain.model.node.DecisionNode;
+import com.example.banking.benefit.domain.model.node.NodeOutcome;
+import com.example.banking.benefit.domain.model.node.NodeType;
+import com.example.banking.benefit.domain.model.process.ProcessNode;
+import com.example.banking.benefit.domain.port.input.ConfigurationUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 慢速執行記錄器的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 未超過門檻的執行不保留
+ * 2. 超過門檻的執行保留節點時間、評估方式、表達式快取命中與讀取的客戶屬性值
+ * 3. 環形緩衝區淘汰最舊的紀錄，查詢由新到舊並可依流程過濾
+ * 4. 流程配置覆寫門檻，門檻為 0 或模擬執行時不記錄
+ *
+ * @see FlightRecorder
+ */
+class FlightRecorderTest {
+
+    private static final long THRESHOLD_NANOS = Duration.ofMillis(100).toNanos();
+
+    private final ConfigurationUseCase configurationUseCase = mock(ConfigurationUseCase.class);
+
+    private Flow flow;
+    private DecisionNode decision;
+    private ProcessNode process;
+    private ExecutionContext context;
+
+    @BeforeEach
+    void setUp() {
+        when(configurationUseCase.getFlowConfig(any())).thenReturn(Optional.empty());
+        flow = Flow.create(FlowId.of("FLOW_001"), "測試流程", "測試用", Version.of("1.0.0"));
+        decision = DecisionNode.createSpELDecision("D1", "年齡判斷", "測試決策",
+            "#context.getCustomerData('age') >= 18");
+        flow.addDecisionNode(decision);
+        process = ProcessNode.createJavaClassProcess("FLOW_001", "發放", "測試處理", "com.example.Grant");
+        process.setId("P1");
+        flow.addProcessNode(process);
+
+        Map<String, CustomerAttribute<?>> attributes = new HashMap<>();
+        attributes.put("age", CustomerAttribute.forInteger(30));
+        context = ExecutionContext.create("FLOW_001", "CUST_001", CustomerData.create("CUST_001", attributes));
+    }
+
+    @Test
+    void finish_BelowThreshold_ShouldNotKeepTrace() {
+        FlightRecorder recorder = new FlightRecorder(configurationUseCase, 8, Duration.ofMillis(100));
+        FlightRecorder.Recording recording = recorder.begin(flow, "exec-1", context);
+        recording.addStep(decision, NodeOutcome.TRUE, 1, System.nanoTime(), 1_000);
+
+        recorder.finish(recording, "SUCCESS", null, THRESHOLD_NANOS - 1);
+
+        assertTrue(recorder.getTraces(null, 10).isEmpty());
+        assertEquals(0, recorder.getCapturedCount());
+    }
+
+    @Test
+    void finish_AboveThreshold_ShouldKeepNodeDetailsAndInputs() {
+        FlightRecorder recorder = new FlightRecorder(configurationUseCase, 8, Duration.ofMillis(100));
+        FlightRecorder.Recording recording = recorder.begin(flow, "exec-1", context);
+        recording.expressionLookup(false);
+        recording.addStep(decision, NodeOutcome.TRUE, 1, System.nanoTime(), 2_000);
+        recording.addStep(process, NodeOutcome.SUCCESS, 3, System.nanoTime(), 150_000_000);
+
+        recorder.finish(recording, "SUCCESS", null, 150_500_000);
+
+        SlowExecutionTrace trace = recorder.find("exec-1").orElseThrow();
+        assertEquals("FLOW_001", trace.getFlowId());
+        assertEquals("1.0.0", trace.getVersion());
+        assertEquals("CUST_001", trace.getCustomerId());
+        assertEquals(THRESHOLD_NANOS, trace.getThresholdNanos());
+        assertEquals(Map.of("age", "30"), trace.getInputs());
+
+        SlowNodeTrace first = trace.getNodes().get(0);
+        assertEquals("D1", first.getNodeId());
+        assertEquals(NodeType.DECISION, first.getNodeType());
+        assertEquals("spel", first.getEvaluator());
+        assertEquals(0, first.getExpressionCacheHits());
+        assertEquals(1, first.getExpressionCacheMisses());
+        assertEquals(List.of("age"), first.getAttributesRead());
+
+        SlowNodeTrace second = trace.getNodes().get(1);
+        assertEquals("P1", second.getNodeId());
+        assertEquals("java", second.getEvaluator());
+        assertEquals(3, second.getAttemptCount());
+        assertEquals(0, second.getExpressionCacheMisses());
+        assertNull(second.getAttributesRead());
+        assertTrue(second.getStartOffsetNanos() >= first.getStartOffsetNanos());
+    }
+
+    @Test
+    void getTraces_BeyondCapacity_ShouldEvictOldestAndFilterByFlow() {
+        FlightRecorder recorder = new FlightRecorder(configurationUseCase, 2, Duration.ofMillis(100));
+        for (int i = 1; i <= 3; i++) {
+            recorder.finish(recorder.begin(flow, "exec-" + i, context), "SUCCESS", null, THRESHOLD_NANOS);
+        }
+
+        List<SlowExecutionTrace> traces = recorder.getTraces(null, 10);
+        assertEquals(List.of("exec-3", "exec-2"), traces.stream().map(SlowExecutionTrace::getExecutionId).toList());
+        assertTrue(recorder.find("exec-1").isEmpty());
+        assertEquals(3, recorder.getCapturedCount());
+        assertEquals(1, recorder.getTraces(null, 1).size());
+        assertTrue(recorder.getTraces("OTHER_FLOW", 10).isEmpty());
+    }
+
+    @Test
+    void begin_FlowThresholdOverride_ShouldApplyPerFlow() {
+        FlowConfig config = new FlowConfig("SYNC", 0, 0, true);
+        config.setProperty("flight-recorder.threshold-millis", "500");
+        when(configurationUseCase.getFlowConfig(FlowId.of("FLOW_001"))).thenReturn(Optional.of(config));
+        FlightRecorder recorder = new FlightRecorder(configurationUseCase, 8, Duration.ofMillis(100));
+
+        recorder.finish(recorder.begin(flow, "exec-1", context), "SUCCESS", null, Duration.ofMillis(200).toNanos());
+        recorder.finish(recorder.begin(flow, "exec-2", context), "SUCCESS", null, Duration.ofMillis(600).toNanos());
+
+        assertTrue(recorder.find("exec-1").isEmpty());
+        assertEquals(Duration.ofMillis(500).toNanos(), recorder.find("exec-2").orElseThrow().getThresholdNanos());
+    }
+
+    @Test
+    void begin_ZeroThresholdOrSimulation_ShouldNotRecord() {
+        FlowConfig config = new FlowConfig("SYNC", 0, 0, true);
+        config.setProperty("flight-recorder.threshold-millis", "0");
+        when(configurationUseCase.getFlowConfig(FlowId.of("FLOW_001"))).thenReturn(Optional.of(config));
+        FlightRecorder recorder = new FlightRecorder(configurationUseCase, 8, Duration.ofMillis(100));
+        recorder.finish(recorder.begin(flow, "exec-1", context), "SUCCESS", null, Duration.ofSeconds(5).toNanos());
+
+        FlightRecorder defaults = new FlightRecorder(null, 8, Duration.ofMillis(100));
+        context.setSimulation(true);
+        defaults.finish(defaults.begin(flow, "exec-2", context), "SUCCESS", null, Duration.ofSeconds(5).toNanos());
+
+        assertEquals(0, recorder.getCapturedCount());
+        assertEquals(0, defaults.getCapturedCount());
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.model.config.FlowConfig;
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.statistics.BulkheadStatistics;
+import com.example.banking.benefit.domain.port.input.ConfigurationUseCase;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 流程隔艙的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 同時執行數限制與佇列滿時的拒絕
+ * 2. 佇列中的請求在許可釋放後取得執行
+ * 3. 依流程配置建立隔艙，佇列長度 0 表示不排隊
+ * 4. 等待時間受呼叫端指定的上限限制
+ *
+ * @see FlowBulkhead
+ * @see FlowBulkheadRegistry
+ */
+class FlowBulkheadTest {
+
+    @Test
+    void tryAcquire_WhenQueueFull_ShouldRejectImmediately() {
+        FlowBulkhead bulkhead = new FlowBulkhead("F001", 1, 0, 1000);
+
+        assertTrue(bulkhead.tryAcquire());
+        assertFalse(bulkhead.tryAcquire());
+
+        BulkheadStatistics statistics = bulkhead.getStatistics();
+        assertEquals(1, statistics.getActiveExecutions());
+        assertEquals(1, statistics.getAdmittedExecutions());
+        assertEquals(1, statistics.getRejectedExecutions());
+    }
+
+    @Test
+    void tryAcquire_WhenQueueTimeoutElapsed_ShouldReject() {
+        FlowBulkhead bulkhead = new FlowBulkhead("F001", 1, 1, 10);
+
+        assertTrue(bulkhead.tryAcquire());
+        assertFalse(bulkhead.tryAcquire());
+        assertEquals(0, bulkhead.getQueueDepth());
+    }
+
+    @Test
+    void tryAcquire_WithMaxWaitShorterThanQueueTimeout_ShouldRejectAtMaxWait() {
+        FlowBulkhead bulkhead = new FlowBulkhead("F001", 1, 1, 60_000);
+        assertTrue(bulkhead.tryAcquire());
+
+        long start = System.nanoTime();
+        assertFalse(bulkhead.tryAcquire(Duration.ofMillis(20)));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(30));
+        assertFalse(bulkhead.tryAcquire(Duration.ZERO));
+        assertEquals(2, bulkhead.getStatistics().getRejectedExecutions());
+    }
+
+    @Test
+    void tryAcquire_WhenPermitReleased_ShouldAdmitQueuedRequest() throws Exception {
+        FlowBulkhead bulkhead = new FlowBulkhead("F001", 1, 1, 5000);
+        assertTrue(bulkhead.tryAcquire());
+
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicBoolean admitted = new AtomicBoolean();
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            admitted.set(bulkhead.tryAcquire());
+            done.countDown();
+        });
+
+        // 等待請求進入佇列後釋放許可
+        while (bulkhead.getQueueDepth() == 0 && waiter.isAlive()) {
+            Thread.onSpinWait();
+        }
+        bulkhead.release();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(admitted.get());
+        assertEquals(2, bulkhead.getStatistics().getAdmittedExecutions());
+    }
+
+    @Test
+    void getBulkhead_ShouldUseFlowConfigLimits() {
+        ConfigurationUseCase configurationUseCase = mock(ConfigurationUseCase.class);
+        FlowConfig config = new FlowConfig("SYNC", 0, 0, true);
+        config.setMaxConcurrentExecutions(2);
+        config.setMaxQueuedExecutions(5);
+        when(configurationUseCase.getFlowConfig(any(FlowId.class))).thenReturn(Optional.of(config));
+
+        FlowBulkheadRegistry registry = new FlowBulkheadRegistry(configurationUseCase, 32, 64, 1000);
+        FlowBulkhead bulkhead = registry.getBulkhead("F001");
+
+        assertSame(bulkhead, registry.getBulkhead("F001"));
+        BulkheadStatistics statistics = registry.getStatistics("F001").orElseThrow();
+        assertEquals(2, statistics.getMaxConcurrentExecutions());
+        assertEquals(5, statistics.getMaxQueuedExecutions());
+
+        // 配置變更後重建隔艙
+        config.setMaxConcurrentExecutions(4);
+        assertNotSame(bulkhead, registry.getBulkhead("F001"));
+        assertEquals(4, registry.getStatistics("F001").orElseThrow().getMaxConcurrentExecutions());
+    }
+
+    @Test
+    void getBulkhead_ZeroQueueInFlowConfig_ShouldNotFallBackToDefault() {
+        ConfigurationUseCase configurationUseCase = mock(ConfigurationUseCase.class);
+        FlowConfig config = new FlowConfig("SYNC", 0, 0, true);
+        config.setMaxConcurrentExecutions(1);
+        config.setMaxQueuedExecutions(0);
+        when(configurationUseCase.getFlowConfig(any(FlowId.class))).thenReturn(Optional.of(config));
+
+        FlowBulkheadRegistry registry = new FlowBulkheadRegistry(configurationUseCase, 32, 64, 1000);
+        FlowBulkhead bulkhead = registry.getBulkhead("F001");
+
+        assertEquals(0, registry.getStatistics("F001").orElseThrow().getMaxQueuedExecutions());
+        assertTrue(bulkhead.tryAcquire());
+        assertFalse(bulkhead.tryAcquire());
+
+        // 未設定時沿用引擎預設值
+        assertEquals(64, new FlowBulkheadRegistry(null, 32, 64, 1000).getBulkhead("F002")
+            .getStatistics().getMaxQueuedExecutions());
+        assertEquals(-1, new FlowConfig("SYNC", 0, 0, true).getMaxQueuedExecutions());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.model.node.NodeOutcome;
+import com.example.banking.benefit.domain.model.node.NodeType;
+import com.example.banking.benefit.domain.model.statistics.NodeProfile;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 節點執行剖析記錄器的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 決策與處理節點的分支計數、錯誤次數與平均耗時
+ * 2. 節點依累計耗時排序並計算耗時占比
+ * 3. 多執行緒同時記錄時計數不遺失
+ * 4. 未記錄的流程沒有剖析資訊
+ *
+ * @see NodeProfileRecorder
+ */
+class NodeProfileRecorderTest {
+
+    @Test
+    void record_DecisionAndProcessOutcomes_ShouldCountBranchesAndErrors() {
+        NodeProfileRecorder recorder = new NodeProfileRecorder();
+        recorder.record("F001", "D1", NodeType.DECISION, NodeOutcome.TRUE, 2_000);
+        recorder.record("F001", "D1", NodeType.DECISION, NodeOutcome.TRUE, 2_000);
+        recorder.record("F001", "D1", NodeType.DECISION, NodeOutcome.TRUE, 2_000);
+        recorder.record("F001", "D1", NodeType.DECISION, NodeOutcome.FALSE, 2_000);
+        recorder.record("F001", "D1", NodeType.DECISION, NodeOutcome.ERROR, 2_000);
+        recorder.record("F001", "P1", NodeType.PROCESS, NodeOutcome.SUCCESS, 1_000);
+        recorder.record("F001", "P1", NodeType.PROCESS, NodeOutcome.FAILURE, 1_000);
+
+        List<NodeProfile> profile = recorder.getProfile("F001");
+
+        NodeProfile decision = profile.get(0);
+        assertEquals("D1", decision.getNodeId());
+        assertEquals(NodeType.DECISION, decision.getNodeType());
+        assertEquals(5, decision.getEvaluations());
+        assertEquals(3, decision.getTrueCount());
+        assertEquals(1, decision.getFalseCount());
+        assertEquals(1, decision.getErrorCount());
+        assertEquals(75.0, decision.getTrueRatio(), 0.001);
+        assertEquals(2.0, decision.getMeanMicros(), 0.001);
+
+        NodeProfile process = profile.get(1);
+        assertEquals("P1", process.getNodeId());
+        assertEquals(1, process.getTrueCount());
+        assertEquals(1, process.getFalseCount());
+        assertEquals(50.0, process.getTrueRatio(), 0.001);
+    }
+
+    @Test
+    void getProfile_ShouldSortByTotalTimeAndComputeCostShare() {
+        NodeProfileRecorder recorder = new NodeProfileRecorder();
+        recorder.record("F001", "CHEAP", NodeType.DECISION, NodeOutcome.TRUE, 1_000);
+        recorder.record("F001", "CHEAP", NodeType.DECISION, NodeOutcome.TRUE, 1_000);
+        recorder.record("F001", "COSTLY", NodeType.PROCESS, NodeOutcome.SUCCESS, 6_000);
+        recorder.record("F002", "OTHER", NodeType.PROCESS, NodeOutcome.SUCCESS, 100_000);
+
+        List<NodeProfile> profile = recorder.getProfile("F001");
+
+        assertEquals(2, profile.size());
+        assertEquals("COSTLY", profile.get(0).getNodeId());
+        assertEquals(75.0, profile.get(0).getCostShare(), 0.001);
+        assertEquals("CHEAP", profile.get(1).getNodeId());
+        assertEquals(25.0, profile.get(1).getCostShare(), 0.001);
+    }
+
+    @Test
+    void record_ConcurrentThreads_ShouldNotLoseCounts() throws Exception {
+        NodeProfileRecorder recorder = new NodeProfileRecorder();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    recorder.record("F001", "D1", NodeType.DECISION, NodeOutcome.ofDecision(i % 2 == 0), 10);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        NodeProfile profile = recorder.getProfile("F001").get(0);
+        assertEquals(80_000, profile.getEvaluations());
+        assertEquals(40_000, profile.getTrueCount());
+        assertEquals(40_000, profile.getFalseCount());
+        assertEquals(800_000, profile.getTotalNanos());
+    }
+
+    @Test
+    void getProfile_UnknownFlow_ShouldReturnEmpty() {
+        NodeProfileRecorder recorder = new NodeProfileRecorder();
+
+        assertTrue(recorder.getProfile("UNKNOWN").isEmpty());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.banking.benefit.domain.service.execution;
+
+import com.example.banking.benefit.domain.exception.TransientExecutionException;
+import com.example.banking.benefit.domain.model.config.FlowConfig;
+import com.example.banking.benefit.domain.model.statistics.RetryStatistics;
+import com.example.banking.benefit.domain.service.execution.RetryExecutor.RetryOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 節點重試執行器的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 暫時性失敗的重試與嘗試次數
+ * 2. 不可重試例外立即失敗
+ * 3. 由流程配置與節點覆寫建立重試策略
+ * 4. 退避時間的上限
+ *
+ * @see RetryExecutor
+ * @see RetryPolicy
+ */
+class RetryExecutorTest {
+
+    private RetryExecutor retryExecutor;
+    private RetryPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        retryExecutor = new RetryExecutor(null);
+        policy = new RetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(5),
+            List.of(TransientExecutionException.class));
+    }
+
+    @Test
+    void execute_WhenTransientFailureRecovers_ShouldReturnValueWithAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+
+        RetryOutcome<String> outcome = retryExecutor.execute(policy, null, () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new TransientExecutionException("下游暫時無法連線");
+            }
+            return "OK";
+        });
+
+        assertTrue(outcome.isSuccess());
+        assertEquals("OK", outcome.getValue());
+        assertEquals(3, outcome.getAttempts());
+
+        RetryStatistics statistics = retryExecutor.getStatistics();
+        assertEquals(3, statistics.getTotalAttempts());
+        assertEquals(2, statistics.getRetries());
+        assertEquals(1, statistics.getRecoveredCalls());
+    }
+
+    @Test
+    void execute_WhenFailureNotRetryable_ShouldFailAfterFirstAttempt() {
+        RetryOutcome<String> outcome = retryExecutor.execute(policy, null, () -> {
+            throw new IllegalStateException("資料錯誤");
+        });
+
+        assertFalse(outcome.isSuccess());
+        assertEquals(1, outcome.getAttempts());
+        assertInstanceOf(IllegalStateException.class, outcome.getError());
+    }
+
+    @Test
+    void execute_WhenAttemptsExhausted_ShouldReturnLastError() {
+        RetryOutcome<String> outcome = retryExecutor.execute(policy, null, () -> {
+            throw new TransientExecutionException("下游暫時無法連線");
+        });
+
+        assertFalse(outcome.isSuccess());
+        assertEquals(3, outcome.getAttempts());
+        assertEquals(1, retryExecutor.getStatistics().getExhaustedCalls());
+    }
+
+    @Test
+    void fromConfig_ShouldApplyNodeOverride() {
+        FlowConfig config = new FlowConfig("SYNC", 2, 0, true);
+        config.setProperty("node.N002.max-retries", "4");
+
+        assertEquals(3, RetryPolicy.fromConfig(config, "N001").getMaxAttempts());
+        assertEquals(5, RetryPolicy.fromConfig(config, "N002").getMaxAttempts());
+        assertEquals(1, RetryPolicy.fromConfig(null, "N001").getMaxAttempts());
+    }
+
+    @Test
+    void backoff_ShouldGrowExponentiallyUpToMax() {
+        RetryPolicy backoffPolicy = new RetryPolicy(10, Duration.ofMillis(100), Duration.ofMillis(400),
+            List.of(TransientExecutionException.class));
+
+        Duration first = backoffPolicy.backoff(1);
+        Duration tenth = backoffPolicy.backoff(10);
+
+        assertTrue(first.toMillis() >= 50 && first.toMillis() <= 100);
+        assertTrue(tenth.toMillis() >= 200 && tenth.toMillis() <= 400);
+    }
+}
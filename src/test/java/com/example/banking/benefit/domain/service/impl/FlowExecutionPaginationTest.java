@@ -0,0 +1,109 @@
+package com.example.banking.benefit.domain.service.impl;
+
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import com.example.banking.benefit.domain.model.log.ExecutionLogCursor;
+import com.example.banking.benefit.domain.model.log.ExecutionResult;
+import com.example.banking.benefit.domain.model.node.NodeType;
+import com.example.banking.benefit.domain.model.statistics.ExecutionDetailsPage;
+import com.example.banking.benefit.domain.repository.ExecutionLogRepository;
+import com.example.banking.benefit.domain.repository.FlowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 流程執行列表游標分頁的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 游標編碼後可還原執行時間與日誌ID
+ * 2. 格式不正確的游標會被拒絕
+ * 3. 多取一筆判斷下一頁，並以最後一筆建立游標
+ * 4. 帶入游標時從該位置之後查詢
+ *
+ * @see FlowExecutionServiceImpl#getFlowExecutionPage
+ * @see ExecutionLogCursor
+ */
+@ExtendWith(MockitoExtension.class)
+class FlowExecutionPaginationTest {
+
+    private static final String FLOW_ID = "FLOW_001";
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2026, 10, 2, 0, 0);
+
+    @Mock
+    private FlowRepository flowRepository;
+
+    @Mock
+    private ExecutionLogRepository executionLogRepository;
+
+    private FlowExecutionServiceImpl flowExecutionService;
+
+    @BeforeEach
+    void setUp() {
+        flowExecutionService = new FlowExecutionServiceImpl(flowRepository, executionLogRepository);
+    }
+
+    @Test
+    void decode_EncodedCursor_ShouldRestorePosition() {
+        ExecutionLogCursor cursor = ExecutionLogCursor.of(LocalDateTime.of(2026, 10, 1, 8, 30, 15, 123_456_000), "log|1");
+
+        ExecutionLogCursor decoded = ExecutionLogCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        assertEquals("log|1", decoded.getLogId());
+    }
+
+    @Test
+    void decode_MalformedCursor_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> ExecutionLogCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> ExecutionLogCursor.decode("%%%"));
+    }
+
+    @Test
+    void getFlowExecutionPage_MoreRowsThanPageSize_ShouldReturnNextCursor() {
+        when(flowRepository.existsById(any(FlowId.class))).thenReturn(true);
+        List<ExecutionLog> logs = List.of(newLog(), newLog(), newLog());
+        when(executionLogRepository.findPageAfter(FLOW_ID, "SUCCESS", START, END, null, 3)).thenReturn(logs);
+
+        ExecutionDetailsPage page = flowExecutionService.getFlowExecutionPage(FLOW_ID, START, END, "SUCCESS", null, 2);
+
+        assertEquals(2, page.getExecutions().size());
+        assertTrue(page.hasMore());
+        assertEquals(ExecutionLogCursor.after(logs.get(1)), ExecutionLogCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void getFlowExecutionPage_LastPage_ShouldHaveNoCursor() {
+        when(flowRepository.existsById(any(FlowId.class))).thenReturn(true);
+        ExecutionLog previous = newLog();
+        String cursor = ExecutionLogCursor.after(previous).encode();
+        when(executionLogRepository.findPageAfter(eq(FLOW_ID), isNull(), eq(START), eq(END),
+                eq(ExecutionLogCursor.after(previous)), eq(11)))
+            .thenReturn(List.of(newLog()));
+
+        ExecutionDetailsPage page = flowExecutionService.getFlowExecutionPage(FLOW_ID, START, END, null, cursor, 10);
+
+        assertEquals(1, page.getExecutions().size());
+        assertFalse(page.hasMore());
+        assertNull(page.getNextCursor());
+        verify(executionLogRepository).findPageAfter(eq(FLOW_ID), isNull(), eq(START), eq(END),
+            eq(ExecutionLogCursor.after(previous)), eq(11));
+    }
+
+    private ExecutionLog newLog() {
+        return ExecutionLog.create(FLOW_ID, "CUST_001", "UNKNOWN", NodeType.PROCESS, ExecutionResult.SUCCESS);
+    }
+}
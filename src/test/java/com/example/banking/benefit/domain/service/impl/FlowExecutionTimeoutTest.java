@@ -0,0 +1,133 @@
+package com.example.banking.benefit.domain.service.impl;
+
+import com.example.banking.benefit.domain.model.command.DecisionCommand;
+import com.example.banking.benefit.domain.model.common.CustomerData;
+import com.example.banking.benefit.domain.model.common.ExecutionContext;
+import com.example.banking.benefit.domain.model.flow.Flow;
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.node.DecisionNode;
+import com.example.banking.benefit.domain.model.result.ExecutionResult;
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
+import com.example.banking.benefit.domain.port.output.EngineMetricsPort;
+import com.example.banking.benefit.domain.port.output.ExecutionEventPublisher;
+import com.example.banking.benefit.domain.repository.ExecutionLogRepository;
+import com.example.banking.benefit.domain.repository.FlowRepository;
+import com.example.banking.benefit.domain.service.execution.ExecutionResultCache;
+import com.example.banking.benefit.domain.service.execution.ExecutionSupervisor;
+import com.example.banking.benefit.domain.service.execution.ExecutionTimingRecorder;
+import com.example.banking.benefit.domain.service.execution.FlightRecorder;
+import com.example.banking.benefit.domain.service.execution.FlowBulkheadRegistry;
+import com.example.banking.benefit.domain.service.execution.NodeProfileRecorder;
+import com.example.banking.benefit.domain.service.execution.RetryExecutor;
+import com.example.banking.benefit.domain.service.log.ExecutionLogSampler;
+import com.example.banking.benefit.domain.service.log.ExecutionTraceRecorder;
+import com.example.banking.benefit.domain.service.log.SynchronousExecutionLogWriter;
+import com.example.banking.benefit.domain.service.statistics.FlowStatisticsAggregator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 流程執行逾時的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 逾時後呼叫端立即回應逾時結果
+ * 2. 被中斷的工作之後仍跑完時，統計與執行時間只記錄一次
+ *
+ * @see FlowExecutionServiceImpl#execute
+ */
+class FlowExecutionTimeoutTest {
+
+    private static final String FLOW_ID = "FLOW_001";
+
+    private final ExecutionSupervisor supervisor = new ExecutionSupervisor(null, 200);
+
+    @AfterEach
+    void tearDown() {
+        supervisor.close();
+    }
+
+    @Test
+    void execute_WorkerFinishesAfterTimeout_ShouldRecordCompletionOnce() throws Exception {
+        FlowRepository flowRepository = mock(FlowRepository.class);
+        ExecutionLogRepository executionLogRepository = mock(ExecutionLogRepository.class);
+        when(flowRepository.existsById(any(FlowId.class))).thenReturn(true);
+
+        ExecutionTimingRecorder timingRecorder = new ExecutionTimingRecorder();
+        FlowStatisticsAggregator statisticsAggregator = FlowStatisticsAggregator.inMemory();
+        FlowExecutionServiceImpl service = new FlowExecutionServiceImpl(flowRepository, executionLogRepository,
+            FlowBulkheadRegistry.unbounded(), supervisor, new RetryExecutor(null), ExecutionResultCache.disabled(),
+            new SynchronousExecutionLogWriter(executionLogRepository), timingRecorder,
+            ExecutionTraceRecorder.rowsOnly(), statisticsAggregator, ExecutionLogSampler.full(),
+            EngineMetricsPort.noop(), new NodeProfileRecorder(), ExecutionEventPublisher.noop(),
+            FlightRecorder.disabled());
+
+        // 先以不延遲的執行預熱，避免類別載入耗盡期限使工作尚未開始即被取消
+        SlowDecision.delayMillis = 0;
+        SlowDecision.finished = new CountDownLatch(1);
+        assertEquals(ExecutionStatus.SUCCESS, service.execute(slowFlow("WARMUP"), newContext("WARMUP")).getStatus());
+
+        SlowDecision.delayMillis = 600;
+        SlowDecision.finished = new CountDownLatch(1);
+        ExecutionResult result = service.execute(slowFlow(FLOW_ID), newContext(FLOW_ID));
+
+        assertEquals(ExecutionStatus.TIMED_OUT, result.getStatus());
+        assertTrue(SlowDecision.finished.await(5, TimeUnit.SECONDS));
+        // 等待工作執行緒跑完收尾
+        Thread.sleep(200);
+
+        assertEquals(1, timingRecorder.getFlowTiming(FLOW_ID).orElseThrow().getCount());
+        var statistics = statisticsAggregator.query(FLOW_ID, LocalDateTime.now().minusHours(1),
+            LocalDateTime.now().plusHours(1));
+        assertEquals(1, statistics.getTotalExecutions());
+        assertEquals(0, statistics.getSuccessfulExecutions());
+    }
+
+    private static Flow slowFlow(String flowId) {
+        Flow flow = mock(Flow.class);
+        when(flow.getFlowId()).thenReturn(FlowId.of(flowId));
+        when(flow.getStartNode()).thenReturn(Optional.of(
+            DecisionNode.createJavaClassDecision("D1", "緩慢決策", "不理會中斷的決策", SlowDecision.class.getName())));
+        when(flow.getNextNode(anyString(), anyBoolean())).thenReturn(Optional.empty());
+        return flow;
+    }
+
+    private static ExecutionContext newContext(String flowId) {
+        return ExecutionContext.create(flowId, "CUST_001", CustomerData.create("CUST_001", Map.of()));
+    }
+
+    /**
+     * 不理會中斷、執行超過期限的決策
+     */
+    public static class SlowDecision implements DecisionCommand {
+        static volatile long delayMillis;
+        static volatile CountDownLatch finished;
+
+        @Override
+        public boolean canExecute(ExecutionContext context) {
+            return true;
+        }
+
+        @Override
+        public boolean evaluate(ExecutionContext context) {
+            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            finished.countDown();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.banking.benefit.domain.service.impl;
+
+import com.example.banking.benefit.domain.model.common.CustomerData;
+import com.example.banking.benefit.domain.model.common.DefaultExecutionContext;
+import com.example.banking.benefit.domain.model.common.ExecutionContext;
+import com.example.banking.benefit.domain.model.common.VariableLayout;
+import com.example.banking.benefit.domain.model.flow.Flow;
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.flow.Version;
+import com.example.banking.benefit.domain.model.node.DecisionNode;
+import com.example.banking.benefit.domain.model.process.ProcessNode;
+import com.example.banking.benefit.domain.model.relation.NodeRelation;
+import com.example.banking.benefit.domain.model.relation.NodeType;
+import com.example.banking.benefit.domain.model.relation.RelationType;
+import com.example.banking.benefit.domain.model.result.ExecutionResult;
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
+import com.example.banking.benefit.domain.model.result.ProcessResult;
+import com.example.banking.benefit.domain.model.state.ProcessState;
+import com.example.banking.benefit.domain.repository.ExecutionLogRepository;
+import com.example.banking.benefit.domain.repository.FlowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 流程變數配置的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 以流程變數配置建立的上下文將表達式引用的變數存放在槽位
+ * 2. SpEL 決策經由槽位讀取變數並決定路徑
+ * 3. Java 處理節點取得的上下文使用同一配置並帶有目前的變數
+ *
+ * @see Flow#getVariableLayout()
+ * @see FlowExecutionServiceImpl
+ */
+class FlowVariableLayoutTest {
+
+    private static final String FLOW_ID = "FLOW_001";
+
+    private FlowExecutionServiceImpl service;
+    private Flow flow;
+
+    @BeforeEach
+    void setUp() {
+        FlowRepository flowRepository = mock(FlowRepository.class);
+        when(flowRepository.existsById(any(FlowId.class))).thenReturn(true);
+        service = new FlowExecutionServiceImpl(flowRepository, mock(ExecutionLogRepository.class));
+
+        flow = Flow.create(FlowId.of(FLOW_ID), "信用評分流程", "依信用分數決定處理", Version.of("1.0.0"));
+        flow.addDecisionNode(DecisionNode.createSpELDecision("D1", "高分", "信用分數高於 700", "#creditScore > 700"));
+        flow.addProcessNode(processNode("P1", SlotReadingProcess.class));
+        flow.addProcessNode(processNode("P2", SlotReadingProcess.class));
+        flow.addRelation(NodeRelation.create(FLOW_ID, "D1", NodeType.DECISION, "P1", NodeType.PROCESS,
+            RelationType.TRUE));
+        flow.addRelation(NodeRelation.create(FLOW_ID, "D1", NodeType.DECISION, "P2", NodeType.PROCESS,
+            RelationType.FALSE));
+        flow.setStartNode("D1");
+        flow.buildStructure();
+
+        SlotReadingProcess.layout = null;
+        SlotReadingProcess.creditScore = null;
+    }
+
+    @Test
+    void execute_WithFlowLayout_ShouldReadVariablesFromSlots() {
+        DefaultExecutionContext context = newContext();
+        context.addVariable("creditScore", 750);
+
+        ExecutionResult result = service.execute(flow, context);
+
+        assertEquals(ExecutionStatus.SUCCESS, result.getStatus());
+        assertEquals(List.of("D1", "P1"), result.getPath());
+        assertSame(flow.getVariableLayout(), context.getVariableStore().getLayout());
+        assertEquals(0, context.getVariableStore().getLayout().slotOf("creditScore"));
+        assertEquals(750, context.getVariableStore().get(0));
+    }
+
+    @Test
+    void execute_LowScore_ShouldFollowFalseBranch() {
+        DefaultExecutionContext context = newContext();
+        context.addVariable("creditScore", 650);
+
+        ExecutionResult result = service.execute(flow, context);
+
+        assertEquals(List.of("D1", "P2"), result.getPath());
+    }
+
+    @Test
+    void execute_JavaProcess_ShouldReceiveFlowLayoutAndVariables() {
+        DefaultExecutionContext context = newContext();
+        context.addVariable("creditScore", 750);
+
+        service.execute(flow, context);
+
+        assertSame(flow.getVariableLayout(), SlotReadingProcess.layout);
+        assertEquals(750, SlotReadingProcess.creditScore);
+    }
+
+    private DefaultExecutionContext newContext() {
+        return DefaultExecutionContext.builder()
+            .flowId(FLOW_ID)
+            .executionId("exec-1")
+            .customerId("CUST_001")
+            .customerData(CustomerData.create("CUST_001", Map.of()))
+            .variableLayout(flow.getVariableLayout())
+            .build();
+    }
+
+    private static ProcessNode processNode(String nodeId, Class<? extends ProcessState> type) {
+        ProcessNode node = ProcessNode.createJavaClassProcess(FLOW_ID, nodeId, null, type.getName());
+        node.setId(nodeId);
+        return node;
+    }
+
+    /**
+     * 記錄收到的變數配置與以槽位讀取的信用分數
+     */
+    public static class SlotReadingProcess implements ProcessState {
+        static volatile VariableLayout layout;
+        static volatile Object creditScore;
+
+        @Override
+        public String getStateName() {
+            return "SLOT_READING";
+        }
+
+        @Override
+        public boolean canEnter(ExecutionContext context) {
+            return true;
+        }
+
+        @Override
+        public void onEnter(ExecutionContext context) {
+        }
+
+        @Override
+        public ProcessResult execute(ExecutionContext context) {
+            layout = context.getVariableStore().getLayout();
+            creditScore = context.getVariableStore().get(layout.slotOf("creditScore"));
+            return ProcessResult.success();
+        }
+
+        @Override
+        public void onExit(ExecutionContext context) {
+        }
+
+        @Override
+        public ProcessState determineNextState(ExecutionContext context, ProcessResult result) {
+            return null;
+        }
+    }
+}
@@ -14,7 +14,6 @@ import com.example.banking.benefit.domain.repository.FlowRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -34,7 +33,6 @@ class SimpleFlowExecutionServiceImplTest {
     @Mock
     private ExecutionLogRepository executionLogRepository;
 
-    @InjectMocks
     private FlowExecutionServiceImpl flowExecutionService;
 
     private Flow testFlow;
@@ -42,6 +40,8 @@ class SimpleFlowExecutionServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        flowExecutionService = new FlowExecutionServiceImpl(flowRepository, executionLogRepository);
+
         // 準備測試用的流程
         testFlow = mock(Flow.class);
         when(testFlow.getFlowId()).thenReturn(FlowId.of("TEST_FLOW"));
@@ -79,6 +79,21 @@ class SimpleFlowExecutionServiceImplTest {
         verify(executionLogRepository, atLeastOnce()).save(any(ExecutionLog.class));
     }
 
+    @Test
+    void execute_ShouldSkipExecutionLog_WhenSimulation() {
+        // Arrange
+        when(flowRepository.existsById(any(FlowId.class))).thenReturn(true);
+        when(testFlow.getStartNode()).thenReturn(java.util.Optional.empty());
+        ((ExecutionContext) testContext).setSimulation(true);
+
+        // Act
+        ExecutionResult result = flowExecutionService.execute(testFlow, testContext);
+
+        // Assert
+        assertTrue(result.isSimulation());
+        verify(executionLogRepository, never()).save(any(ExecutionLog.class));
+    }
+
     @Test
     void execute_ShouldThrowException_WhenFlowNotFound() {
         // Arrange
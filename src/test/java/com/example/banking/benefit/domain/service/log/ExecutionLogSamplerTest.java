@@ -0,0 +1,139 @@
+package com.example.banking.benefit.domain.service.log;
+
+import com.example.banking.benefit.domain.model.config.FlowConfig;
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import com.example.banking.benefit.domain.model.log.ExecutionResult;
+import com.example.banking.benefit.domain.model.node.NodeType;
+import com.example.banking.benefit.domain.model.statistics.LogSamplingStatistics;
+import com.example.banking.benefit.domain.port.input.ConfigurationUseCase;
+import com.example.banking.benefit.domain.port.output.ExecutionLogWriter;
+import com.example.banking.benefit.domain.service.log.ExecutionLogSampler.LogSession;
+import com.example.banking.benefit.domain.service.log.LogSamplingPolicy.Mode;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 執行日誌取樣器的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 流程配置停用日誌或設定 log.policy 時覆寫預設策略
+ * 2. 抽樣模式下未抽中的成功執行不寫入，失敗執行完整寫入
+ * 3. 尾端取樣保留過慢的執行，捨棄未抽中的一般執行
+ * 4. 同一次執行只決定一次，統計保留與捨棄的執行數
+ *
+ * @see ExecutionLogSampler
+ * @see LogSamplingPolicy
+ */
+class ExecutionLogSamplerTest {
+
+    private static final String FLOW_ID = "FLOW_001";
+
+    private final ConfigurationUseCase configurationUseCase = mock(ConfigurationUseCase.class);
+    private final ExecutionLogWriter writer = mock(ExecutionLogWriter.class);
+
+    @Test
+    void policyFor_LogDisabled_ShouldReturnOff() {
+        FlowConfig config = new FlowConfig("SYNC", 0, 0, false);
+        config.setProperty("log.policy", "FULL");
+        when(configurationUseCase.getFlowConfig(FlowId.of(FLOW_ID))).thenReturn(Optional.of(config));
+        ExecutionLogSampler sampler = sampler(LogSamplingPolicy.full(), 0.5);
+
+        assertEquals(Mode.OFF, sampler.policyFor(FLOW_ID).getMode());
+    }
+
+    @Test
+    void policyFor_FlowProperties_ShouldOverrideDefaults() {
+        FlowConfig config = new FlowConfig("SYNC", 0, 0, true);
+        config.setProperty("log.policy", "tail");
+        config.setProperty("log.sample-rate", "0.05");
+        config.setProperty("log.slow-threshold-millis", "250");
+        when(configurationUseCase.getFlowConfig(FlowId.of(FLOW_ID))).thenReturn(Optional.of(config));
+        ExecutionLogSampler sampler = sampler(LogSamplingPolicy.full(), 0.5);
+
+        LogSamplingPolicy policy = sampler.policyFor(FLOW_ID);
+
+        assertEquals(Mode.TAIL, policy.getMode());
+        assertEquals(0.05, policy.getSampleRate());
+        assertEquals(Duration.ofMillis(250), policy.getSlowThreshold());
+    }
+
+    @Test
+    void complete_SampledOutSuccess_ShouldDropBufferedRows() {
+        when(configurationUseCase.getFlowConfig(any())).thenReturn(Optional.empty());
+        ExecutionLogSampler sampler = sampler(new LogSamplingPolicy(Mode.SAMPLED, 0.1, Duration.ZERO), 0.5);
+
+        LogSession session = sampler.begin(FLOW_ID, writer);
+        session.write(log());
+        session.write(log());
+        boolean kept = session.complete(false, 1_000);
+
+        assertFalse(kept);
+        verify(writer, never()).write(any());
+        assertEquals(2, sampler.getStatistics().getDroppedRows());
+    }
+
+    @Test
+    void complete_SampledOutFailure_ShouldWriteAllRows() {
+        when(configurationUseCase.getFlowConfig(any())).thenReturn(Optional.empty());
+        ExecutionLogSampler sampler = sampler(new LogSamplingPolicy(Mode.SAMPLED, 0.1, Duration.ZERO), 0.5);
+
+        LogSession session = sampler.begin(FLOW_ID, writer);
+        session.write(log());
+        session.write(log());
+        boolean kept = session.complete(true, 1_000);
+        session.write(log());
+
+        assertTrue(kept);
+        verify(writer, times(3)).write(any());
+    }
+
+    @Test
+    void complete_TailSlowExecution_ShouldKeep() {
+        when(configurationUseCase.getFlowConfig(any())).thenReturn(Optional.empty());
+        ExecutionLogSampler sampler = sampler(new LogSamplingPolicy(Mode.TAIL, 0.1, Duration.ofMillis(100)), 0.5);
+
+        LogSession slow = sampler.begin(FLOW_ID, writer);
+        slow.write(log());
+        LogSession fast = sampler.begin(FLOW_ID, writer);
+        fast.write(log());
+
+        assertTrue(slow.complete(false, Duration.ofMillis(150).toNanos()));
+        assertFalse(fast.complete(false, Duration.ofMillis(10).toNanos()));
+        verify(writer, times(1)).write(any());
+    }
+
+    @Test
+    void complete_CalledTwice_ShouldDecideOnce() {
+        when(configurationUseCase.getFlowConfig(any())).thenReturn(Optional.empty());
+        ExecutionLogSampler sampler = sampler(new LogSamplingPolicy(Mode.TAIL, 0.1, Duration.ZERO), 0.5);
+
+        LogSession session = sampler.begin(FLOW_ID, writer);
+        session.write(log());
+        assertFalse(session.complete(false, 1_000));
+        assertFalse(session.complete(true, 1_000));
+
+        LogSamplingStatistics statistics = sampler.getStatistics();
+        assertEquals(0, statistics.getKeptExecutions());
+        assertEquals(1, statistics.getDroppedExecutions());
+        verify(writer, never()).write(any());
+    }
+
+    private ExecutionLogSampler sampler(LogSamplingPolicy defaults, double randomValue) {
+        return new ExecutionLogSampler(configurationUseCase, defaults, () -> randomValue);
+    }
+
+    private ExecutionLog log() {
+        return ExecutionLog.create(FLOW_ID, "C001", "D1", NodeType.DECISION, ExecutionResult.PASS);
+    }
+}
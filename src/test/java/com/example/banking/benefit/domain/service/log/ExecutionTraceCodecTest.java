@@ -0,0 +1,108 @@
+package com.example.banking.benefit.domain.service.log;
+
+import com.example.banking.benefit.domain.model.flow.Flow;
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.flow.Version;
+import com.example.banking.benefit.domain.model.log.NodeTrace;
+import com.example.banking.benefit.domain.model.node.DecisionNode;
+import com.example.banking.benefit.domain.model.node.NodeType;
+import com.example.banking.benefit.domain.model.process.ProcessNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 執行軌跡編解碼器的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 編碼後解碼可還原節點、結果、略過旗標、嘗試次數與執行時間
+ * 2. 編碼結果維持精簡
+ * 3. varint 邊界值
+ * 4. 不屬於流程的節點與未知格式版本會被拒絕
+ *
+ * @see ExecutionTraceCodec
+ */
+class ExecutionTraceCodecTest {
+
+    private Flow flow;
+
+    @BeforeEach
+    void setUp() {
+        flow = Flow.create(FlowId.of("FLOW_001"), "測試流程", "測試用", Version.of("1.0.0"));
+        flow.addDecisionNode(DecisionNode.createSpELDecision("D1", "決策1", "測試決策", "true"));
+        flow.addDecisionNode(DecisionNode.createSpELDecision("D2", "決策2", "測試決策", "false"));
+        ProcessNode process = ProcessNode.createSpELProcess("FLOW_001", "處理1", "測試處理", "'ok'");
+        process.setId("P1");
+        flow.addProcessNode(process);
+    }
+
+    @Test
+    void decode_EncodedSteps_ShouldRestoreSteps() {
+        List<NodeTrace> steps = List.of(
+            new NodeTrace("D1", NodeType.DECISION, true, false, 1, 120),
+            new NodeTrace("P1", NodeType.PROCESS, true, false, 3, 45_000),
+            new NodeTrace("D2", NodeType.DECISION, false, true, 1, 0)
+        );
+
+        List<NodeTrace> decoded = ExecutionTraceCodec.decode(flow, ExecutionTraceCodec.encode(flow, steps));
+
+        assertEquals(3, decoded.size());
+        NodeTrace process = decoded.get(1);
+        assertEquals("P1", process.getNodeId());
+        assertEquals(NodeType.PROCESS, process.getNodeType());
+        assertTrue(process.getResult());
+        assertEquals(3, process.getAttemptCount());
+        assertEquals(45_000, process.getDurationMicros());
+        NodeTrace skipped = decoded.get(2);
+        assertEquals("D2", skipped.getNodeId());
+        assertEquals(NodeType.DECISION, skipped.getNodeType());
+        assertFalse(skipped.getResult());
+        assertTrue(skipped.isSkipped());
+    }
+
+    @Test
+    void encode_TypicalPath_ShouldStayCompact() {
+        List<NodeTrace> steps = List.of(
+            new NodeTrace("D1", NodeType.DECISION, true, false, 1, 300),
+            new NodeTrace("P1", NodeType.PROCESS, true, false, 1, 1_500)
+        );
+
+        byte[] data = ExecutionTraceCodec.encode(flow, steps);
+
+        // 版本 1 + 節點數 1 + (索引 1 + 旗標 1 + 時間 2) * 2
+        assertEquals(10, data.length);
+    }
+
+    @Test
+    void readVarint_BoundaryValues_ShouldRoundTrip() {
+        long[] values = {0, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, Long.MAX_VALUE};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (long value : values) {
+            ExecutionTraceCodec.writeVarint(out, value);
+        }
+
+        byte[] data = out.toByteArray();
+        int[] position = {0};
+        for (long value : values) {
+            assertEquals(value, ExecutionTraceCodec.readVarint(data, position));
+        }
+        assertEquals(data.length, position[0]);
+    }
+
+    @Test
+    void encode_UnknownNode_ShouldThrowException() {
+        List<NodeTrace> steps = List.of(new NodeTrace("X9", NodeType.PROCESS, true, false, 1, 10));
+
+        assertThrows(IllegalArgumentException.class, () -> ExecutionTraceCodec.encode(flow, steps));
+    }
+
+    @Test
+    void decode_UnsupportedVersion_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> ExecutionTraceCodec.decode(flow, new byte[]{9, 0}));
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.banking.benefit.domain.service.statistics;
+
+import com.example.banking.benefit.domain.model.statistics.BucketGranularity;
+import com.example.banking.benefit.domain.model.statistics.FlowStatistics;
+import com.example.banking.benefit.domain.model.statistics.LatencyPercentiles;
+import com.example.banking.benefit.domain.model.statistics.StatisticsBucket;
+import com.example.banking.benefit.domain.repository.StatisticsRollupRepository;
+import com.example.banking.benefit.domain.service.statistics.FlowStatisticsAggregator.Segment;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 流程統計彙總器的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 執行結果累加到區間並合併為統計資訊
+ * 2. 時間範圍拆成日、小時與分鐘區間
+ * 3. 增量寫入彙總表，寫入失敗時於下次重試
+ * 4. 超過記憶體保留期限的範圍改從彙總表查詢
+ * 5. 一次查詢所有流程的統計資訊
+ * 6. 合併各區間的直方圖計算百分位數，包含已壓縮與自彙總表讀出的區間
+ *
+ * @see FlowStatisticsAggregator
+ */
+class FlowStatisticsAggregatorTest {
+
+    private static final String FLOW_ID = "FLOW_001";
+
+    private MutableClock clock;
+    private StatisticsRollupRepository repository;
+    private FlowStatisticsAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(LocalDateTime.of(2026, 10, 20, 3, 0));
+        repository = mock(StatisticsRollupRepository.class);
+        aggregator = new FlowStatisticsAggregator(repository, Duration.ofHours(48), Duration.ofDays(62),
+            Duration.ofDays(400), clock);
+    }
+
+    @Test
+    void query_RecordedExecutions_ShouldMergeBuckets() {
+        aggregator.record(FLOW_ID, true, 2_000_000);        // 2 毫秒
+        clock.advance(Duration.ofMinutes(5));
+        aggregator.record(FLOW_ID, false, 6_000_000);       // 6 毫秒
+        aggregator.record("FLOW_002", true, 1_000_000);
+
+        FlowStatistics statistics = aggregator.query(FLOW_ID,
+            LocalDateTime.of(2026, 10, 19, 0, 0), LocalDateTime.of(2026, 10, 20, 4, 0));
+
+        assertEquals(2, statistics.getTotalExecutions());
+        assertEquals(1, statistics.getSuccessfulExecutions());
+        assertEquals(1, statistics.getFailedExecutions());
+        assertEquals(Duration.ofMillis(4), statistics.getAverageExecutionTime());
+        assertEquals(Duration.ofMillis(2), statistics.getMinExecutionTime());
+        assertEquals(Duration.ofMillis(6), statistics.getMaxExecutionTime());
+    }
+
+    @Test
+    void query_RangeExcludingExecutions_ShouldReturnEmptyStatistics() {
+        aggregator.record(FLOW_ID, true, 2_000_000);
+
+        FlowStatistics statistics = aggregator.query(FLOW_ID,
+            LocalDateTime.of(2026, 10, 19, 0, 0), LocalDateTime.of(2026, 10, 20, 2, 0));
+
+        assertEquals(0, statistics.getTotalExecutions());
+        assertEquals(Duration.ZERO, statistics.getAverageExecutionTime());
+    }
+
+    @Test
+    void decompose_ShouldUseCoarsestAlignedBuckets() {
+        List<Segment> segments = aggregator.decompose(
+            LocalDateTime.of(2026, 10, 18, 10, 30), LocalDateTime.of(2026, 10, 20, 2, 0),
+            LocalDateTime.of(2026, 10, 20, 3, 0));
+
+        // 10:30~10:59 的 30 個分鐘、11~23 時的 13 個小時、10/19 一日、10/20 的 2 個小時
+        assertEquals(46, segments.size());
+        assertEquals(30, count(segments, BucketGranularity.MINUTE));
+        assertEquals(15, count(segments, BucketGranularity.HOUR));
+        assertEquals(1, count(segments, BucketGranularity.DAY));
+    }
+
+    @Test
+    void decompose_BeyondMinuteRetention_ShouldRoundToHours() {
+        List<Segment> segments = aggregator.decompose(
+            LocalDateTime.of(2026, 10, 10, 10, 30), LocalDateTime.of(2026, 10, 10, 12, 15),
+            LocalDateTime.of(2026, 10, 20, 3, 0));
+
+        assertEquals(3, segments.size());
+        assertEquals(LocalDateTime.of(2026, 10, 10, 10, 0), segments.get(0).start);
+        assertEquals(3, count(segments, BucketGranularity.HOUR));
+    }
+
+    @Test
+    void flush_ShouldWriteDeltasOnceAndRetryAfterFailure() {
+        aggregator.record(FLOW_ID, true, 1_000_000);
+        doThrow(new RuntimeException("db down")).when(repository).merge(anyList());
+
+        aggregator.flush();
+        aggregator.record(FLOW_ID, true, 3_000_000);
+        doThrow(new RuntimeException("still down")).doNothing().when(repository).merge(anyList());
+        aggregator.flush();
+        aggregator.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StatisticsBucket>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(3)).merge(captor.capture());
+        List<StatisticsBucket> written = captor.getAllValues().get(2);
+        assertEquals(3, written.size());
+        for (StatisticsBucket bucket : written) {
+            assertEquals(2, bucket.getExecutionCount());
+            assertEquals(4_000, bucket.getDurationSumMicros());
+        }
+    }
+
+    @Test
+    void query_BeyondDayRetention_ShouldReadRollupTable() {
+        LocalDateTime oldDay = LocalDateTime.of(2025, 1, 10, 0, 0);
+        when(repository.findBuckets(eq(FLOW_ID), eq(BucketGranularity.DAY), any(), any())).thenReturn(List.of(
+            new StatisticsBucket(FLOW_ID, BucketGranularity.DAY, oldDay, 10, 9, 50_000, 1_000, 9_000)));
+
+        FlowStatistics statistics = aggregator.query(FLOW_ID, oldDay, oldDay.plusDays(2));
+
+        assertEquals(10, statistics.getTotalExecutions());
+        assertEquals(9, statistics.getSuccessfulExecutions());
+        assertEquals(Duration.ofMillis(5), statistics.getAverageExecutionTime());
+        verify(repository).findBuckets(FLOW_ID, BucketGranularity.DAY, oldDay, oldDay.plusDays(2));
+    }
+
+    @Test
+    void queryAll_ShouldSummarizeEveryFlowInOnePass() {
+        aggregator.record(FLOW_ID, true, 2_000_000);
+        aggregator.record(FLOW_ID, false, 4_000_000);
+        aggregator.record("FLOW_002", true, 1_000_000);
+
+        Map<String, FlowStatistics> statistics = aggregator.queryAll(
+            LocalDateTime.of(2026, 10, 20, 0, 0), LocalDateTime.of(2026, 10, 20, 4, 0));
+
+        assertEquals(List.of(FLOW_ID, "FLOW_002"), List.copyOf(statistics.keySet()));
+        assertEquals(FLOW_ID, statistics.get(FLOW_ID).getFlowId());
+        assertEquals(2, statistics.get(FLOW_ID).getTotalExecutions());
+        assertEquals(50.0, statistics.get(FLOW_ID).getSuccessRate());
+        assertEquals(1, statistics.get("FLOW_002").getTotalExecutions());
+        assertEquals(Duration.ofMillis(1), statistics.get("FLOW_002").getAverageExecutionTime());
+    }
+
+    @Test
+    void query_AcrossClosedAndOpenBuckets_ShouldMergeHistogramsForPercentiles() {
+        for (int millis = 1; millis <= 50; millis++) {
+            aggregator.record(FLOW_ID, true, millis * 1_000_000L);
+        }
+        // 寫出時壓縮已結束的分鐘區間
+        clock.advance(Duration.ofMinutes(2));
+        aggregator.flush();
+        for (int millis = 51; millis <= 100; millis++) {
+            aggregator.record(FLOW_ID, true, millis * 1_000_000L);
+        }
+
+        LatencyPercentiles percentiles = aggregator.query(FLOW_ID,
+            LocalDateTime.of(2026, 10, 20, 3, 0), LocalDateTime.of(2026, 10, 20, 3, 5)).getPercentiles();
+
+        assertWithinOnePercent(50_000, percentiles.getP50());
+        assertWithinOnePercent(90_000, percentiles.getP90());
+        assertWithinOnePercent(95_000, percentiles.getP95());
+        assertWithinOnePercent(99_000, percentiles.getP99());
+        assertEquals(Duration.ofMillis(100), percentiles.getP999());
+    }
+
+    @Test
+    void query_StoredBucketWithHistogram_ShouldRestorePercentiles() {
+        LocalDateTime oldDay = LocalDateTime.of(2025, 1, 10, 0, 0);
+        Histogram histogram = HistogramCodec.newHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.recordValue(2_000);
+        }
+        histogram.recordValue(40_000);
+        byte[] stored = HistogramCodec.encode(histogram);
+        when(repository.findBuckets(eq(FLOW_ID), eq(BucketGranularity.DAY), any(), any())).thenReturn(List.of(
+            new StatisticsBucket(FLOW_ID, BucketGranularity.DAY, oldDay, 100, 100, 238_000, 2_000, 40_000, stored),
+            new StatisticsBucket(FLOW_ID, BucketGranularity.DAY, oldDay.plusDays(1), 1, 1, 500, 500, 500)));
+
+        FlowStatistics statistics = aggregator.query(FLOW_ID, oldDay, oldDay.plusDays(2));
+
+        assertEquals(101, statistics.getTotalExecutions());
+        assertWithinOnePercent(2_000, statistics.getPercentiles().getP50());
+        assertWithinOnePercent(2_000, statistics.getPercentiles().getP99());
+        assertEquals(Duration.ofMillis(40), statistics.getPercentiles().getP999());
+    }
+
+    private void assertWithinOnePercent(long expectedMicros, Duration actual) {
+        assertEquals(expectedMicros, actual.toNanos() / 1_000, expectedMicros * 0.01);
+    }
+
+    private long count(List<Segment> segments, BucketGranularity granularity) {
+        return segments.stream().filter(segment -> segment.granularity == granularity).count();
+    }
+
+    /**
+     * 可手動推進的時鐘
+     */
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDateTime time) {
+            this.instant = time.toInstant(ZoneOffset.UTC);
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.banking.benefit.infrastructure.cache;
+
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
+import com.example.banking.benefit.domain.model.statistics.ExecutionStateStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 記憶體執行狀態儲存的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 執行層的閒置時間淘汰
+ * 2. 暫停層獨立保存
+ * 3. 執行結束後釋放上下文
+ * 4. 統計資訊
+ *
+ * @see InMemoryExecutionStateStore
+ */
+class InMemoryExecutionStateStoreTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private InMemoryExecutionStateStore store;
+
+    @BeforeEach
+    void setUp() {
+        // 使用可控制的時間與同步執行器，讓淘汰結果可預期
+        store = new InMemoryExecutionStateStore(
+            100, Duration.ofMinutes(10),
+            100, Duration.ofHours(24),
+            nanos::get, Runnable::run);
+    }
+
+    @Test
+    void begin_ShouldCreateInProgressStateWithEmptyContext() {
+        Map<String, Object> context = store.begin("exec-1");
+
+        assertTrue(context.isEmpty());
+        assertEquals(Optional.of(ExecutionStatus.IN_PROGRESS), store.getStatus("exec-1"));
+        assertSame(context, store.getContext("exec-1").orElseThrow());
+    }
+
+    @Test
+    void getStatus_WhenActiveTtlExpired_ShouldEvictEntry() {
+        store.begin("exec-1");
+
+        advance(11, TimeUnit.MINUTES);
+        store.cleanUp();
+
+        assertTrue(store.getStatus("exec-1").isEmpty());
+        assertTrue(store.getStatistics().getEvictions() >= 1);
+    }
+
+    @Test
+    void pause_WhenActiveTtlExpired_ShouldKeepPausedExecution() {
+        Map<String, Object> context = store.begin("exec-1");
+        context.put("currentNodeId", "node-1");
+        store.pause("exec-1");
+
+        advance(11, TimeUnit.MINUTES);
+        store.cleanUp();
+
+        assertEquals(Optional.of(ExecutionStatus.PAUSED), store.getStatus("exec-1"));
+        Map<String, Object> resumed = store.resume("exec-1").orElseThrow();
+        assertEquals("node-1", resumed.get("currentNodeId"));
+        assertEquals(Optional.of(ExecutionStatus.IN_PROGRESS), store.getStatus("exec-1"));
+    }
+
+    @Test
+    void resume_WhenPausedTtlExpired_ShouldReturnEmpty() {
+        store.begin("exec-1");
+        store.pause("exec-1");
+
+        advance(25, TimeUnit.HOURS);
+        store.cleanUp();
+
+        assertTrue(store.resume("exec-1").isEmpty());
+    }
+
+    @Test
+    void complete_ShouldReleaseContextAndKeepFinalStatus() {
+        Map<String, Object> context = store.begin("exec-1");
+        context.put("processResult", "ok");
+
+        store.complete("exec-1", ExecutionStatus.SUCCESS);
+
+        assertEquals(Optional.of(ExecutionStatus.SUCCESS), store.getStatus("exec-1"));
+        assertTrue(store.getContext("exec-1").isEmpty());
+    }
+
+    @Test
+    void getStatistics_ShouldReportEntriesAndMemoryEstimate() {
+        store.begin("exec-1").put("key", "value");
+        store.begin("exec-2");
+        store.pause("exec-2");
+        store.cleanUp();
+
+        ExecutionStateStatistics statistics = store.getStatistics();
+
+        assertEquals(1, statistics.getActiveEntries());
+        assertEquals(1, statistics.getPausedEntries());
+        assertEquals(2, statistics.getTotalEntries());
+        assertEquals(2 * InMemoryExecutionStateStore.ENTRY_OVERHEAD_BYTES
+            + InMemoryExecutionStateStore.CONTEXT_ENTRY_BYTES, statistics.getEstimatedMemoryBytes());
+    }
+
+    private void advance(long amount, TimeUnit unit) {
+        nanos.addAndGet(unit.toNanos(amount));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.banking.benefit.infrastructure.config;
+
+import com.example.banking.benefit.domain.model.common.CustomerAttributeDictionary;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 客戶資料配置的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 依白名單登記屬性名稱與型別
+ * 2. 格式或型別不正確時啟動失敗
+ *
+ * @see CustomerDataConfig
+ */
+class CustomerDataConfigTest {
+
+    @Test
+    void register_Whitelist_ShouldRegisterNamesWithTypes() {
+        CustomerAttributeDictionary dictionary = new CustomerAttributeDictionary(16);
+
+        CustomerDataConfig.register(dictionary, " age:Integer, vip:Boolean,since:LocalDate ,");
+
+        assertEquals(3, dictionary.size());
+        assertEquals(Integer.class, dictionary.slotOf("age").getType());
+        assertEquals(Boolean.class, dictionary.slotOf("vip").getType());
+        assertEquals(LocalDate.class, dictionary.slotOf("since").getType());
+    }
+
+    @Test
+    void register_InvalidEntry_ShouldFailStartup() {
+        CustomerAttributeDictionary dictionary = new CustomerAttributeDictionary(16);
+
+        assertThrows(IllegalArgumentException.class, () -> CustomerDataConfig.register(dictionary, "age"));
+        assertThrows(IllegalArgumentException.class, () -> CustomerDataConfig.register(dictionary, "age:Short"));
+        CustomerDataConfig.register(dictionary, "age:Integer");
+        assertThrows(IllegalArgumentException.class, () -> CustomerDataConfig.register(dictionary, "age:String"));
+    }
+}
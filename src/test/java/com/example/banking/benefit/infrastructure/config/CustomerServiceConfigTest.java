@@ -0,0 +1,109 @@
+package com.example.banking.benefit.infrastructure.config;
+
+import com.example.banking.benefit.domain.port.output.CustomerServicePort;
+import com.example.banking.benefit.infrastructure.customer.CachingCustomerServiceAdapter;
+import com.example.banking.benefit.infrastructure.customer.StubCustomerServiceAdapter;
+import com.example.banking.benefit.infrastructure.customer.UnavailableCustomerServiceAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 客戶服務配置的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. test profile 下以快取包裝行程內替身
+ * 2. 未啟用 local 或 test profile 且未註冊實際轉接器時照常啟動，呼叫客戶服務才失敗
+ * 3. 快取包裝以限定名稱註冊的實際轉接器
+ * 4. 停用快取時直接使用所註冊的轉接器，未註冊時使用不可用的轉接器
+ *
+ * @see CustomerServiceConfig
+ */
+class CustomerServiceConfigTest {
+
+    @Test
+    void context_TestProfile_ShouldCacheStubAdapter() {
+        try (AnnotationConfigApplicationContext context = newContext(Map.of(), "test", CustomerServiceConfig.class)) {
+            assertInstanceOf(CachingCustomerServiceAdapter.class, context.getBean(CustomerServicePort.class));
+            assertTrue(context.containsBean("stubCustomerService"));
+        }
+    }
+
+    @Test
+    void context_NoProfileWithoutAdapter_ShouldStartWithoutStub() {
+        try (AnnotationConfigApplicationContext context = newContext(Map.of(), null, CustomerServiceConfig.class)) {
+            CustomerServicePort service = context.getBean(CustomerServicePort.class);
+
+            assertFalse(context.containsBean("stubCustomerService"));
+            assertInstanceOf(CachingCustomerServiceAdapter.class, service);
+            assertThrows(IllegalStateException.class, () -> service.getCustomerStatus("CUST_001"));
+        }
+    }
+
+    @Test
+    void context_CacheDisabledWithoutAdapter_ShouldStartWithUnavailableAdapter() {
+        try (AnnotationConfigApplicationContext context = newContext(
+                 Map.of("benefit.engine.customer-service.cache.enabled", "false"), null, CustomerServiceConfig.class)) {
+            assertInstanceOf(UnavailableCustomerServiceAdapter.class, context.getBean(CustomerServicePort.class));
+        }
+    }
+
+    @Test
+    void context_RealAdapter_ShouldBeWrappedByCache() {
+        try (AnnotationConfigApplicationContext context =
+                 newContext(Map.of(), null, CustomerServiceConfig.class, RealAdapterConfig.class)) {
+            CustomerServicePort service = context.getBean(CustomerServicePort.class);
+
+            assertInstanceOf(CachingCustomerServiceAdapter.class, service);
+            assertFalse(context.containsBean("stubCustomerService"));
+            service.getCustomerProfile("CUST_001");
+            service.getCustomerProfile("CUST_001");
+            assertEquals(1, context.getBean(RealAdapterConfig.class).adapter.getRemoteCalls());
+        }
+    }
+
+    @Test
+    void context_CacheDisabled_ShouldUseRegisteredAdapter() {
+        try (AnnotationConfigApplicationContext context = newContext(
+                 Map.of("benefit.engine.customer-service.cache.enabled", "false"), null,
+                 CustomerServiceConfig.class, RealAdapterConfig.class)) {
+            assertSame(context.getBean(RealAdapterConfig.class).adapter, context.getBean(CustomerServicePort.class));
+        }
+    }
+
+    private static AnnotationConfigApplicationContext newContext(Map<String, Object> properties, String profile,
+                                                                 Class<?>... configs) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getBeanFactory().setConversionService(new ApplicationConversionService());
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+        if (profile != null) {
+            context.getEnvironment().setActiveProfiles(profile);
+        }
+        context.register(configs);
+        context.refresh();
+        return context;
+    }
+
+    /**
+     * 模擬實際客戶服務轉接器的註冊方式
+     */
+    @Configuration
+    static class RealAdapterConfig {
+        final StubCustomerServiceAdapter adapter = new StubCustomerServiceAdapter(Duration.ZERO);
+
+        @Bean
+        @Qualifier(CustomerServiceConfig.ADAPTER)
+        CustomerServicePort remoteCustomerService() {
+            return adapter;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.banking.benefit.infrastructure.config;
+
+import com.example.banking.benefit.infrastructure.persistence.journal.MappedExecutionJournal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 執行日誌區段檔案配置的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 非同步寫入模式下啟用區段檔案時啟動失敗
+ * 2. 同步寫入模式下建立區段檔案
+ *
+ * @see ExecutionJournalConfig
+ */
+class ExecutionJournalConfigTest {
+
+    @TempDir
+    Path directory;
+
+    private final ExecutionJournalConfig config = new ExecutionJournalConfig();
+
+    @Test
+    void executionJournal_AsyncLogMode_ShouldFailStartup() {
+        IllegalStateException e = assertThrows(IllegalStateException.class, () ->
+            config.executionJournal("async", directory.toString(), 1 << 20, Duration.ofMinutes(5), 0.3));
+
+        assertTrue(e.getMessage().contains("execution-log.mode=sync"));
+    }
+
+    @Test
+    void executionJournal_SyncLogMode_ShouldOpenJournal() {
+        MappedExecutionJournal journal =
+            config.executionJournal("sync", directory.toString(), 1 << 20, Duration.ofMinutes(5), 0.3);
+
+        assertEquals(0, journal.count());
+        journal.close();
+    }
+}
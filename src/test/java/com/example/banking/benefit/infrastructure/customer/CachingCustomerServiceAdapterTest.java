@@ -0,0 +1,123 @@
+package com.example.banking.benefit.infrastructure.customer;
+
+import com.example.banking.benefit.domain.model.customer.CustomerContext;
+import com.example.banking.benefit.domain.model.customer.CustomerProfile;
+import com.example.banking.benefit.infrastructure.customer.CachingCustomerServiceAdapter.CachePolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 具快取的客戶服務的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 快取命中時不呼叫實際服務，查無資料的結果同樣快取
+ * 2. 批次查詢只以一次批次呼叫取得未快取的客戶
+ * 3. 超過 refresh 時間回傳舊值並重新載入，超過存活時間後重新查詢
+ * 4. 更新權益使用紀錄後移除上下文快取
+ *
+ * @see CachingCustomerServiceAdapter
+ * @see StubCustomerServiceAdapter
+ */
+class CachingCustomerServiceAdapterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private StubCustomerServiceAdapter stub;
+    private CachingCustomerServiceAdapter service;
+
+    @BeforeEach
+    void setUp() {
+        stub = new StubCustomerServiceAdapter(Duration.ZERO);
+        stub.register(CustomerProfile.create("CUST_001", "VIP"));
+        stub.register(CustomerProfile.create("CUST_002", "NORMAL"));
+        stub.register(CustomerProfile.create("CUST_003", "NORMAL"));
+        // 使用可控制的時間與同步執行器，讓重新載入的結果可預期
+        CachePolicy policy = new CachePolicy(Duration.ofMinutes(10), Duration.ofMinutes(1));
+        service = new CachingCustomerServiceAdapter(stub, 100, policy, policy, policy, policy, nanos::get, Runnable::run);
+    }
+
+    @Test
+    void getCustomerProfile_Repeated_ShouldCallDelegateOnce() {
+        assertEquals("VIP", service.getCustomerProfile("CUST_001").orElseThrow().getCustomerType());
+        assertEquals("VIP", service.getCustomerProfile("CUST_001").orElseThrow().getCustomerType());
+        assertTrue(service.getCustomerProfile("UNKNOWN").isEmpty());
+        assertTrue(service.getCustomerProfile("UNKNOWN").isEmpty());
+
+        assertEquals(2, stub.getRemoteCalls());
+    }
+
+    @Test
+    void getCustomerProfiles_ShouldBatchMissesAndReuseCachedEntries() {
+        service.getCustomerProfile("CUST_001");
+
+        Map<String, CustomerProfile> profiles =
+            service.getCustomerProfiles(List.of("CUST_001", "CUST_002", "CUST_003", "UNKNOWN"));
+
+        assertEquals(Set.of("CUST_001", "CUST_002", "CUST_003"), profiles.keySet());
+        assertEquals(2, stub.getRemoteCalls());
+
+        service.getCustomerProfiles(List.of("CUST_002", "UNKNOWN"));
+        assertEquals(2, stub.getRemoteCalls());
+    }
+
+    @Test
+    void getCustomerStatus_AfterRefreshInterval_ShouldReloadInBackground() {
+        assertEquals("ACTIVE", service.getCustomerStatus("CUST_001"));
+        assertTrue(service.isCustomerActive("CUST_001"));
+        stub.register(suspended("CUST_001"));
+
+        advance(2, TimeUnit.MINUTES);
+        // 觸發重新載入的查詢仍可能取得舊值，之後的查詢取得新值
+        service.getCustomerStatus("CUST_001");
+        service.isCustomerActive("CUST_001");
+        assertEquals("SUSPENDED", service.getCustomerStatus("CUST_001"));
+        assertFalse(service.isCustomerActive("CUST_001"));
+        assertEquals(4, stub.getRemoteCalls());
+    }
+
+    @Test
+    void getCustomerStatuses_AfterExpiry_ShouldQueryDelegateAgain() {
+        CachePolicy noRefresh = new CachePolicy(Duration.ofMinutes(10), Duration.ZERO);
+        service = new CachingCustomerServiceAdapter(stub, 100, noRefresh, noRefresh, noRefresh, noRefresh,
+            nanos::get, Runnable::run);
+
+        service.getCustomerStatuses(List.of("CUST_001", "CUST_002"));
+        stub.register(suspended("CUST_002"));
+        advance(5, TimeUnit.MINUTES);
+        assertEquals("ACTIVE", service.getCustomerStatuses(List.of("CUST_002")).get("CUST_002"));
+
+        advance(6, TimeUnit.MINUTES);
+        assertEquals("SUSPENDED", service.getCustomerStatuses(List.of("CUST_002")).get("CUST_002"));
+        assertEquals(2, stub.getRemoteCalls());
+    }
+
+    @Test
+    void updateBenefitUsage_ShouldInvalidateCachedContext() {
+        CustomerContext before = service.getCustomerContext("CUST_001");
+        assertEquals(0, before.getBenefitUsage("CASHBACK"));
+
+        service.updateBenefitUsage("CUST_001", "CASHBACK", Map.of("amount", 100));
+
+        assertEquals(1, service.getCustomerContext("CUST_001").getBenefitUsage("CASHBACK"));
+        assertEquals(1, service.getBenefitUsageHistory("CUST_001", "CASHBACK").size());
+        assertNull(service.getCustomerContext("UNKNOWN"));
+    }
+
+    private static CustomerProfile suspended(String customerId) {
+        CustomerProfile profile = CustomerProfile.create(customerId, "NORMAL");
+        profile.setStatus("SUSPENDED");
+        return profile;
+    }
+
+    private void advance(long amount, TimeUnit unit) {
+        nanos.addAndGet(unit.toNanos(amount));
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.banking.benefit.infrastructure.diagnostics;
+
+import com.example.banking.benefit.domain.model.flow.Flow;
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.flow.Version;
+import com.example.banking.benefit.domain.model.node.DecisionNode;
+import com.example.banking.benefit.domain.model.node.NodeOutcome;
+import com.example.banking.benefit.domain.port.output.DiagnosticRecordingPort;
+import com.example.banking.benefit.domain.service.diagnostics.CacheLookupEvent;
+import com.example.banking.benefit.domain.service.diagnostics.NodeEvaluationEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JFR 診斷錄製的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 錄製檔包含引擎事件的流程ID、節點ID、版本與結果
+ * 2. 同一時間只允許一個錄製，結束後可再次錄製
+ * 3. 錄製時間超出允許範圍時拒絕
+ * 4. 呼叫端未結束的錄製在寬限時間後自動停止並釋放錄製權
+ *
+ * @see JfrDiagnosticRecorder
+ */
+class JfrDiagnosticRecorderTest {
+
+    private final JfrDiagnosticRecorder recorder = new JfrDiagnosticRecorder(Duration.ofSeconds(5), "default");
+
+    @Test
+    void finishTo_WithEngineEvents_ShouldWriteRecordingContainingThem() throws Exception {
+        Flow flow = Flow.create(FlowId.of("FLOW_001"), "測試流程", "測試用", Version.of("1.0.0"));
+        DecisionNode node = DecisionNode.createSpELDecision("D1", "年齡判斷", "測試決策", "true");
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (DiagnosticRecordingPort.Session session = recorder.start(Duration.ofMillis(200)).orElseThrow()) {
+            NodeEvaluationEvent nodeEvent = new NodeEvaluationEvent();
+            nodeEvent.begin();
+            nodeEvent.complete(flow, node, NodeOutcome.TRUE, 1, false);
+            CacheLookupEvent lookupEvent = new CacheLookupEvent();
+            lookupEvent.begin();
+            lookupEvent.complete(CacheLookupEvent.RESULT_CACHE, flow, null, true);
+            session.finishTo(output);
+        }
+
+        List<RecordedEvent> events = readEngineEvents(output.toByteArray());
+        RecordedEvent nodeEvaluation = find(events, "com.example.banking.benefit.NodeEvaluation").orElseThrow();
+        assertEquals("FLOW_001", nodeEvaluation.getString("flowId"));
+        assertEquals("D1", nodeEvaluation.getString("nodeId"));
+        assertEquals("1.0.0", nodeEvaluation.getString("version"));
+        assertEquals("TRUE", nodeEvaluation.getString("outcome"));
+        assertEquals(1, nodeEvaluation.getInt("attemptCount"));
+
+        RecordedEvent cacheLookup = find(events, "com.example.banking.benefit.CacheLookup").orElseThrow();
+        assertEquals("result", cacheLookup.getString("cache"));
+        assertEquals("HIT", cacheLookup.getString("outcome"));
+        assertNull(cacheLookup.getString("nodeId"));
+    }
+
+    @Test
+    void start_WhileRecording_ShouldRejectUntilClosed() throws Exception {
+        DiagnosticRecordingPort.Session first = recorder.start(Duration.ofSeconds(1)).orElseThrow();
+
+        assertTrue(recorder.start(Duration.ofSeconds(1)).isEmpty());
+
+        first.close();
+        Optional<DiagnosticRecordingPort.Session> second = recorder.start(Duration.ofSeconds(1));
+        assertTrue(second.isPresent());
+        second.get().close();
+    }
+
+    @Test
+    void start_AbandonedSession_ShouldReleaseAfterGrace() throws Exception {
+        JfrDiagnosticRecorder shortGrace = new JfrDiagnosticRecorder(Duration.ofSeconds(5), "default", Duration.ofMillis(100));
+        DiagnosticRecordingPort.Session abandoned = shortGrace.start(Duration.ofMillis(100)).orElseThrow();
+
+        Optional<DiagnosticRecordingPort.Session> next = Optional.empty();
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (next.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            next = shortGrace.start(Duration.ofMillis(100));
+        }
+
+        assertTrue(next.isPresent());
+        assertThrows(IllegalStateException.class, () -> abandoned.finishTo(new ByteArrayOutputStream()));
+        abandoned.close();
+        next.get().close();
+    }
+
+    @Test
+    void start_DurationOutOfRange_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> recorder.start(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> recorder.start(Duration.ofSeconds(6)));
+    }
+
+    private static List<RecordedEvent> readEngineEvents(byte[] recording) throws Exception {
+        Path file = Files.createTempFile("jfr-test-", ".jfr");
+        try {
+            Files.write(file, recording);
+            return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("com.example.banking.benefit."))
+                .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static Optional<RecordedEvent> find(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).findFirst();
+    }
+}
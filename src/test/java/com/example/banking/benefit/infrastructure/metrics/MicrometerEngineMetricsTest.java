@@ -0,0 +1,109 @@
+package com.example.banking.benefit.infrastructure.metrics;
+
+import com.example.banking.benefit.domain.model.node.NodeOutcome;
+import com.example.banking.benefit.domain.model.node.NodeType;
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Micrometer 引擎執行指標的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 流程計時器依流程與結果分別記錄
+ * 2. 節點計時器帶有節點與節點類型標籤
+ * 3. 執行中流程數量測值
+ * 4. 拒絕計數與評估計時器
+ * 5. 流程與節點標籤數上限
+ *
+ * @see MicrometerEngineMetrics
+ */
+class MicrometerEngineMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private MicrometerEngineMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new MicrometerEngineMetrics(registry);
+    }
+
+    @Test
+    void recordFlow_ShouldTagByFlowAndOutcome() {
+        metrics.recordFlow("flow-1", ExecutionStatus.SUCCESS, TimeUnit.MILLISECONDS.toNanos(10));
+        metrics.recordFlow("flow-1", ExecutionStatus.SUCCESS, TimeUnit.MILLISECONDS.toNanos(30));
+        metrics.recordFlow("flow-1", ExecutionStatus.FAILURE, TimeUnit.MILLISECONDS.toNanos(5));
+
+        Timer success = registry.get(MicrometerEngineMetrics.FLOW_EXECUTIONS)
+            .tag("flow", "flow-1").tag("outcome", "SUCCESS").timer();
+        Timer failure = registry.get(MicrometerEngineMetrics.FLOW_EXECUTIONS)
+            .tag("flow", "flow-1").tag("outcome", "FAILURE").timer();
+        assertEquals(2, success.count());
+        assertEquals(40, success.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1, failure.count());
+    }
+
+    @Test
+    void recordNode_ShouldTagByNodeTypeAndOutcome() {
+        metrics.recordNode("flow-1", "D1", NodeType.DECISION, NodeOutcome.TRUE, 1_000);
+        metrics.recordNode("flow-1", "D1", NodeType.DECISION, NodeOutcome.FALSE, 1_000);
+        metrics.recordNode("flow-1", "P1", NodeType.PROCESS, NodeOutcome.SUCCESS, 1_000);
+
+        assertEquals(1, registry.get(MicrometerEngineMetrics.NODE_EXECUTIONS)
+            .tag("node", "D1").tag("node_type", "DECISION").tag("outcome", "TRUE").timer().count());
+        assertEquals(2, registry.get(MicrometerEngineMetrics.NODE_EXECUTIONS)
+            .tag("node_type", "DECISION").timers().size());
+        assertEquals(1, registry.get(MicrometerEngineMetrics.NODE_EXECUTIONS)
+            .tag("node_type", "PROCESS").timer().count());
+    }
+
+    @Test
+    void executionStartedAndEnded_ShouldTrackActiveExecutionsPerFlow() {
+        metrics.executionStarted("flow-1");
+        metrics.executionStarted("flow-1");
+        metrics.executionStarted("flow-2");
+        metrics.executionEnded("flow-1");
+
+        assertEquals(1, registry.get(MicrometerEngineMetrics.FLOW_ACTIVE).tag("flow", "flow-1").gauge().value());
+        assertEquals(1, registry.get(MicrometerEngineMetrics.FLOW_ACTIVE).tag("flow", "flow-2").gauge().value());
+    }
+
+    @Test
+    void recordRejectedAndEvaluation_ShouldCountPerFlow() {
+        metrics.recordRejected("flow-1");
+        metrics.recordRejected("flow-1");
+        metrics.recordEvaluation("flow-1", "spel", true, 500);
+        metrics.recordEvaluation("flow-1", "spel", false, 500);
+        metrics.recordEvaluation("flow-1", "java", true, 500);
+
+        assertEquals(2, registry.get(MicrometerEngineMetrics.FLOW_REJECTED).tag("flow", "flow-1").counter().count());
+        assertEquals(1, registry.get(MicrometerEngineMetrics.EXPRESSION_EVALUATIONS)
+            .tag("evaluator", "spel").tag("outcome", "ERROR").timer().count());
+        assertEquals(3, registry.get(MicrometerEngineMetrics.EXPRESSION_EVALUATIONS).timers().size());
+    }
+
+    @Test
+    void cardinalityFilters_WhenLimitReached_ShouldNotRegisterNewTagValues() {
+        registry.config()
+            .meterFilter(MicrometerEngineMetrics.flowCardinalityFilter(2))
+            .meterFilter(MicrometerEngineMetrics.nodeCardinalityFilter(1));
+
+        metrics.recordFlow("flow-1", ExecutionStatus.SUCCESS, 1_000);
+        metrics.recordFlow("flow-2", ExecutionStatus.SUCCESS, 1_000);
+        metrics.recordFlow("flow-3", ExecutionStatus.SUCCESS, 1_000);
+        metrics.recordNode("flow-1", "N1", NodeType.PROCESS, NodeOutcome.SUCCESS, 1_000);
+        metrics.recordNode("flow-1", "N2", NodeType.PROCESS, NodeOutcome.SUCCESS, 1_000);
+
+        assertNull(registry.find(MicrometerEngineMetrics.FLOW_EXECUTIONS).tag("flow", "flow-3").timer());
+        assertEquals(2, registry.find(MicrometerEngineMetrics.FLOW_EXECUTIONS).timers().size());
+        assertNotNull(registry.find(MicrometerEngineMetrics.NODE_EXECUTIONS).tag("node", "N1").timer());
+        assertNull(registry.find(MicrometerEngineMetrics.NODE_EXECUTIONS).tag("node", "N2").timer());
+    }
+}
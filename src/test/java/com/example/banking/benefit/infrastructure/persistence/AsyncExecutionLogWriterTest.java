@@ -0,0 +1,177 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import com.example.banking.benefit.domain.model.log.ExecutionResult;
+import com.example.banking.benefit.domain.model.node.NodeType;
+import com.example.banking.benefit.domain.model.statistics.ExecutionLogWriterStatistics;
+import com.example.banking.benefit.infrastructure.persistence.AsyncExecutionLogWriter.OverflowPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 非同步批次執行日誌寫入的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 環形緩衝區的容量與先進先出順序
+ * 2. 日誌以批次寫入並可等待寫出
+ * 3. 緩衝區已滿時依溢出策略處理
+ * 4. 關閉時寫出剩餘的日誌
+ * 5. 關閉後與關閉期間的寫入不會遺失
+ *
+ * @see AsyncExecutionLogWriter
+ * @see MpscRingBuffer
+ */
+class AsyncExecutionLogWriterTest {
+
+    @Test
+    void ringBuffer_ShouldRejectWhenFullAndPreserveOrder() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(4, buffer.drainTo(drained, 10));
+        assertEquals(List.of(0, 1, 2, 3), drained);
+        assertNull(buffer.poll());
+        assertTrue(buffer.offer(5));
+    }
+
+    @Test
+    void write_ShouldInsertInBatches() {
+        List<Integer> batchSizes = new ArrayList<>();
+        JdbcExecutionLogBatchWriter batchWriter = mock(JdbcExecutionLogBatchWriter.class);
+        doAnswer(invocation -> {
+            List<?> batch = invocation.getArgument(0);
+            synchronized (batchSizes) {
+                batchSizes.add(batch.size());
+            }
+            return null;
+        }).when(batchWriter).insert(anyList());
+
+        try (AsyncExecutionLogWriter writer = new AsyncExecutionLogWriter(batchWriter, 1024, 8,
+                Duration.ofMillis(5), OverflowPolicy.DROP, Duration.ZERO)) {
+            for (int i = 0; i < 20; i++) {
+                writer.write(log());
+            }
+
+            assertTrue(writer.flush(Duration.ofSeconds(5)));
+            ExecutionLogWriterStatistics statistics = writer.getStatistics();
+            assertEquals(20, statistics.getEnqueued());
+            assertEquals(20, statistics.getWritten());
+            synchronized (batchSizes) {
+                assertTrue(batchSizes.stream().allMatch(size -> size <= 8));
+                assertEquals(20, batchSizes.stream().mapToInt(Integer::intValue).sum());
+            }
+        }
+    }
+
+    @Test
+    void write_WhenBufferFull_ShouldApplyOverflowPolicy() throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        JdbcExecutionLogBatchWriter batchWriter = mock(JdbcExecutionLogBatchWriter.class);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(batchWriter).insert(anyList());
+
+        try (AsyncExecutionLogWriter writer = new AsyncExecutionLogWriter(batchWriter, 2, 1,
+                Duration.ofMillis(1), OverflowPolicy.DROP, Duration.ZERO)) {
+            writer.write(log());
+            assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+            // 寫入執行緒卡在第一批，緩衝區只能再容納兩筆
+            writer.write(log());
+            writer.write(log());
+            writer.write(log());
+
+            assertEquals(1, writer.getStatistics().getDropped());
+            release.countDown();
+            assertTrue(writer.flush(Duration.ofSeconds(5)));
+            assertEquals(3, writer.getStatistics().getWritten());
+        }
+    }
+
+    @Test
+    void close_ShouldWritePendingLogs() {
+        JdbcExecutionLogBatchWriter batchWriter = mock(JdbcExecutionLogBatchWriter.class);
+        AsyncExecutionLogWriter writer = new AsyncExecutionLogWriter(batchWriter, 1024, 256,
+            Duration.ofSeconds(10), OverflowPolicy.CALLER_RUNS, Duration.ZERO);
+        for (int i = 0; i < 5; i++) {
+            writer.write(log());
+        }
+
+        writer.close();
+
+        assertEquals(5, writer.getStatistics().getWritten());
+        assertEquals(0, writer.getStatistics().getPending());
+    }
+
+    @Test
+    void write_AfterClose_ShouldWriteOnCaller() {
+        JdbcExecutionLogBatchWriter batchWriter = mock(JdbcExecutionLogBatchWriter.class);
+        AsyncExecutionLogWriter writer = new AsyncExecutionLogWriter(batchWriter, 1024, 256,
+            Duration.ofSeconds(10), OverflowPolicy.DROP, Duration.ZERO);
+        writer.close();
+
+        writer.write(log());
+
+        ExecutionLogWriterStatistics statistics = writer.getStatistics();
+        assertEquals(1, statistics.getWritten());
+        assertEquals(0, statistics.getDropped());
+        assertEquals(0, statistics.getPending());
+    }
+
+    @Test
+    void close_WhileWriting_ShouldNotLoseLogs() throws Exception {
+        JdbcExecutionLogBatchWriter batchWriter = mock(JdbcExecutionLogBatchWriter.class);
+        AsyncExecutionLogWriter writer = new AsyncExecutionLogWriter(batchWriter, 64, 16,
+            Duration.ofMillis(1), OverflowPolicy.BLOCK, Duration.ofSeconds(1));
+        int producers = 4;
+        int perProducer = 2_000;
+        CountDownLatch started = new CountDownLatch(producers);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            Thread thread = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < perProducer; i++) {
+                    writer.write(log());
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        writer.close();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        ExecutionLogWriterStatistics statistics = writer.getStatistics();
+        assertEquals(0, statistics.getDropped());
+        assertEquals(0, statistics.getPending());
+        assertEquals((long) producers * perProducer, statistics.getWritten());
+    }
+
+    private ExecutionLog log() {
+        ExecutionLog log = ExecutionLog.create("FLOW_001", "C001", "N1", NodeType.PROCESS, ExecutionResult.PASS);
+        log.setExecutionId("E001");
+        return log;
+    }
+}
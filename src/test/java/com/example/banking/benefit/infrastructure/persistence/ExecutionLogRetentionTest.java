@@ -0,0 +1,156 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.port.output.ExecutionLogRetentionPort;
+import com.example.banking.benefit.domain.repository.ExecutionTraceRepository;
+import com.example.banking.benefit.infrastructure.persistence.PartitionedExecutionLogRetention.PartitionInterval;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 執行日誌保留期限的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 只建立尚不存在的日分區與月分區
+ * 2. 只移除整個早於截止時間的分區，並略過預設分區
+ * 3. 只卸離模式不刪除資料表
+ * 4. 分批刪除直到不足一批
+ * 5. 排程同時移除過期日誌與執行軌跡，其中一項失敗不影響另一項
+ *
+ * @see PartitionedExecutionLogRetention
+ * @see BatchDeleteExecutionLogRetention
+ * @see JdbcExecutionTraceRepository
+ * @see ExecutionLogRetentionJob
+ */
+class ExecutionLogRetentionTest {
+
+    private static final Clock CLOCK =
+        Clock.fixed(LocalDateTime.of(2026, 10, 19, 0, 15).atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    void preparePartitions_DailyInterval_ShouldCreateMissingPartitionsOnly() {
+        givenPartitions("execution_log_default", "execution_log_p20261019");
+        PartitionedExecutionLogRetention retention =
+            new PartitionedExecutionLogRetention(jdbcTemplate, PartitionInterval.DAY, false);
+
+        int created = retention.preparePartitions(LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 21));
+
+        assertEquals(2, created);
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS execution_log_p20261020 PARTITION OF execution_log"
+            + " FOR VALUES FROM ('2026-10-20') TO ('2026-10-21')");
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS execution_log_p20261021 PARTITION OF execution_log"
+            + " FOR VALUES FROM ('2026-10-21') TO ('2026-10-22')");
+    }
+
+    @Test
+    void preparePartitions_MonthlyInterval_ShouldAlignToFirstDayOfMonth() {
+        givenPartitions();
+        PartitionedExecutionLogRetention retention =
+            new PartitionedExecutionLogRetention(jdbcTemplate, PartitionInterval.MONTH, false);
+
+        int created = retention.preparePartitions(LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 26));
+
+        assertEquals(1, created);
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS execution_log_p202610 PARTITION OF execution_log"
+            + " FOR VALUES FROM ('2026-10-01') TO ('2026-11-01')");
+    }
+
+    @Test
+    void purgeBefore_ShouldDropOnlyPartitionsEntirelyBeforeCutoff() {
+        givenPartitions("execution_log_default", "execution_log_p20260918", "execution_log_p20260919",
+            "execution_log_p20260920");
+        PartitionedExecutionLogRetention retention =
+            new PartitionedExecutionLogRetention(jdbcTemplate, PartitionInterval.DAY, false);
+
+        long removed = retention.purgeBefore(LocalDateTime.of(2026, 9, 20, 0, 0));
+
+        assertEquals(2, removed);
+        verify(jdbcTemplate).execute("ALTER TABLE execution_log DETACH PARTITION execution_log_p20260918");
+        verify(jdbcTemplate).execute("DROP TABLE execution_log_p20260918");
+        verify(jdbcTemplate).execute("DROP TABLE execution_log_p20260919");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE execution_log DETACH PARTITION execution_log_p20260920");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE execution_log DETACH PARTITION execution_log_default");
+    }
+
+    @Test
+    void purgeBefore_DetachOnly_ShouldKeepDetachedTables() {
+        givenPartitions("execution_log_p20260918");
+        PartitionedExecutionLogRetention retention =
+            new PartitionedExecutionLogRetention(jdbcTemplate, PartitionInterval.DAY, true);
+
+        assertEquals(1, retention.purgeBefore(LocalDateTime.of(2026, 9, 20, 0, 0)));
+
+        verify(jdbcTemplate).execute("ALTER TABLE execution_log DETACH PARTITION execution_log_p20260918");
+        verify(jdbcTemplate, never()).execute("DROP TABLE execution_log_p20260918");
+    }
+
+    @Test
+    void purgeBefore_BatchDelete_ShouldRepeatUntilPartialBatch() {
+        when(jdbcTemplate.update(eq(BatchDeleteExecutionLogRetention.DELETE_BATCH_SQL), any(Object.class), eq(100)))
+            .thenReturn(100, 100, 30);
+        BatchDeleteExecutionLogRetention retention = new BatchDeleteExecutionLogRetention(jdbcTemplate, 100);
+
+        long deleted = retention.purgeBefore(LocalDateTime.of(2026, 9, 20, 0, 0));
+
+        assertEquals(230, deleted);
+        verify(jdbcTemplate, times(3)).update(eq(BatchDeleteExecutionLogRetention.DELETE_BATCH_SQL), any(Object.class), eq(100));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void deleteStartedBefore_ShouldDeleteTracesInBatches() {
+        when(jdbcTemplate.update(eq(JdbcExecutionTraceRepository.DELETE_BATCH_SQL), any(Object.class), eq(100)))
+            .thenReturn(100, 40);
+        JdbcExecutionTraceRepository repository = new JdbcExecutionTraceRepository(jdbcTemplate, 100);
+
+        assertEquals(140, repository.deleteStartedBefore(LocalDateTime.of(2026, 9, 20, 0, 0)));
+        verify(jdbcTemplate, times(2)).update(eq(JdbcExecutionTraceRepository.DELETE_BATCH_SQL), any(Object.class), eq(100));
+    }
+
+    @Test
+    void run_ShouldPurgeLogsAndTracesBeforeCutoff() {
+        ExecutionLogRetentionPort retentionPort = mock(ExecutionLogRetentionPort.class);
+        ExecutionTraceRepository traceRepository = mock(ExecutionTraceRepository.class);
+        ExecutionLogRetentionJob job = new ExecutionLogRetentionJob(retentionPort, traceRepository, 30, 7, CLOCK);
+
+        job.run();
+
+        verify(retentionPort).preparePartitions(LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 26));
+        verify(retentionPort).purgeBefore(LocalDateTime.of(2026, 9, 19, 0, 0));
+        verify(traceRepository).deleteStartedBefore(LocalDateTime.of(2026, 9, 19, 0, 0));
+    }
+
+    @Test
+    void run_WhenLogPurgeFails_ShouldStillPurgeTraces() {
+        ExecutionLogRetentionPort retentionPort = mock(ExecutionLogRetentionPort.class);
+        ExecutionTraceRepository traceRepository = mock(ExecutionTraceRepository.class);
+        when(retentionPort.purgeBefore(any())).thenThrow(new IllegalStateException("locked"));
+        ExecutionLogRetentionJob job = new ExecutionLogRetentionJob(retentionPort, traceRepository, 30, 7, CLOCK);
+
+        assertDoesNotThrow(job::run);
+
+        verify(traceRepository).deleteStartedBefore(LocalDateTime.of(2026, 9, 19, 0, 0));
+    }
+
+    private void givenPartitions(String... partitions) {
+        when(jdbcTemplate.queryForList(PartitionedExecutionLogRetention.LIST_PARTITIONS_SQL, String.class, "execution_log"))
+            .thenReturn(List.of(partitions));
+    }
+}
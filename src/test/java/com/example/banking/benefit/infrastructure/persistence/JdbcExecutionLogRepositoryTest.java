@@ -0,0 +1,113 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import com.example.banking.benefit.domain.model.log.ExecutionLogCursor;
+import com.example.banking.benefit.domain.model.log.ExecutionResult;
+import com.example.banking.benefit.domain.model.node.NodeType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JDBC 執行日誌存取的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 游標分頁跨越相同執行時間的日誌時不重複也不遺漏
+ * 2. 游標分頁依執行結果與時間範圍篩選
+ * 3. 位移分頁回傳總筆數與指定頁的內容
+ *
+ * @see JdbcExecutionLogRepository
+ */
+class JdbcExecutionLogRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcExecutionLogRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new JdbcExecutionLogRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void findPageAfter_EqualTimestamps_ShouldPageByLogId() {
+        // 五筆同一時間，另有一筆較早與一筆較晚
+        repository.save(log("log-e", "flow-1", BASE, ExecutionResult.SUCCESS));
+        repository.save(log("log-c", "flow-1", BASE, ExecutionResult.SUCCESS));
+        repository.save(log("log-a", "flow-1", BASE, ExecutionResult.SUCCESS));
+        repository.save(log("log-d", "flow-1", BASE, ExecutionResult.SUCCESS));
+        repository.save(log("log-b", "flow-1", BASE, ExecutionResult.SUCCESS));
+        repository.save(log("log-z", "flow-1", BASE.minusSeconds(1), ExecutionResult.SUCCESS));
+        repository.save(log("log-0", "flow-1", BASE.plusSeconds(1), ExecutionResult.SUCCESS));
+        repository.save(log("log-x", "flow-2", BASE, ExecutionResult.SUCCESS));
+
+        List<String> seen = new ArrayList<>();
+        ExecutionLogCursor cursor = null;
+        List<ExecutionLog> page;
+        do {
+            page = repository.findPageAfter("flow-1", null, BASE.minusHours(1), BASE.plusHours(1), cursor, 2);
+            page.forEach(log -> seen.add(log.getLogId()));
+            cursor = page.isEmpty() ? null : ExecutionLogCursor.after(page.get(page.size() - 1));
+        } while (page.size() == 2);
+
+        assertEquals(List.of("log-z", "log-a", "log-b", "log-c", "log-d", "log-e", "log-0"), seen);
+    }
+
+    @Test
+    void findPageAfter_WithStatusAndRange_ShouldFilterRows() {
+        repository.save(log("log-1", "flow-1", BASE, ExecutionResult.SUCCESS));
+        repository.save(log("log-2", "flow-1", BASE, ExecutionResult.FAIL));
+        repository.save(log("log-3", "flow-1", BASE.plusMinutes(1), ExecutionResult.SUCCESS));
+        repository.save(log("log-4", "flow-1", BASE.plusHours(2), ExecutionResult.SUCCESS));
+
+        List<ExecutionLog> first = repository.findPageAfter("flow-1", "SUCCESS", BASE, BASE.plusHours(1), null, 10);
+        List<ExecutionLog> next = repository.findPageAfter("flow-1", "SUCCESS", BASE, BASE.plusHours(1),
+            ExecutionLogCursor.of(BASE, "log-1"), 10);
+
+        assertEquals(List.of("log-1", "log-3"), first.stream().map(ExecutionLog::getLogId).toList());
+        assertEquals(List.of("log-3"), next.stream().map(ExecutionLog::getLogId).toList());
+        assertEquals(ExecutionResult.SUCCESS, first.get(0).getExecutionResult());
+        assertEquals(BASE, first.get(0).getExecutionTime());
+    }
+
+    @Test
+    void findByFlowIdAndExecutionResultAndExecutionTimeBetween_ShouldReturnRequestedPage() {
+        for (int i = 0; i < 5; i++) {
+            repository.save(log("log-" + i, "flow-1", BASE.plusSeconds(i), ExecutionResult.SUCCESS));
+        }
+
+        Page<ExecutionLog> page = repository.findByFlowIdAndExecutionResultAndExecutionTimeBetween(
+            "flow-1", "SUCCESS", BASE, BASE.plusHours(1), PageRequest.of(1, 2));
+
+        assertEquals(5, page.getTotalElements());
+        assertEquals(List.of("log-2", "log-3"), page.getContent().stream().map(ExecutionLog::getLogId).toList());
+    }
+
+    private static ExecutionLog log(String logId, String flowId, LocalDateTime time, ExecutionResult result) {
+        return ExecutionLog.restore(logId, "exec-1", flowId, "CUST_001", time, "P1", NodeType.PROCESS, result,
+            null, null, 5, 5_000L, 1);
+    }
+}
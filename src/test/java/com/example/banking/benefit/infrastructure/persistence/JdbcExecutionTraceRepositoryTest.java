@@ -0,0 +1,69 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.model.log.ExecutionTrace;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JDBC 精簡執行軌跡存取的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 以 schema.sql 建立的資料表可保存超長的錯誤訊息
+ * 2. 以 schema.sql 建立的資料表可保存超過 4KB 的路徑資料
+ *
+ * @see JdbcExecutionTraceRepository
+ */
+class JdbcExecutionTraceRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcExecutionTraceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new JdbcExecutionTraceRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void save_OversizedErrorMessage_ShouldKeepFullMessage() {
+        String errorMessage = "java.lang.IllegalStateException: 外部服務逾時\n".repeat(500);
+
+        repository.save(trace("exec-1", errorMessage, new byte[] {1, 2, 3}));
+
+        assertEquals(errorMessage, repository.findById("exec-1").orElseThrow().getErrorMessage());
+    }
+
+    @Test
+    void save_LongPath_ShouldKeepFullPathData() {
+        byte[] pathData = new byte[20_000];
+        Arrays.fill(pathData, (byte) 7);
+
+        repository.save(trace("exec-2", "失敗", pathData));
+
+        assertArrayEquals(pathData, repository.findById("exec-2").orElseThrow().getPathData());
+    }
+
+    private static ExecutionTrace trace(String executionId, String errorMessage, byte[] pathData) {
+        return new ExecutionTrace(executionId, "FLOW_001", "1.0.0", "CUST_001",
+            LocalDateTime.of(2026, 10, 19, 9, 0), 1_500, "FAILED", errorMessage, pathData);
+    }
+}
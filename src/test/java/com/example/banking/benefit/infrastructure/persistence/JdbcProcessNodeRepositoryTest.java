@@ -0,0 +1,191 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.model.common.CustomerData;
+import com.example.banking.benefit.domain.model.common.ExecutionContext;
+import com.example.banking.benefit.domain.model.flow.Flow;
+import com.example.banking.benefit.domain.model.flow.FlowId;
+import com.example.banking.benefit.domain.model.flow.Version;
+import com.example.banking.benefit.domain.model.node.DecisionNode;
+import com.example.banking.benefit.domain.model.process.ProcessNode;
+import com.example.banking.benefit.domain.model.relation.NodeRelation;
+import com.example.banking.benefit.domain.model.relation.NodeType;
+import com.example.banking.benefit.domain.model.relation.RelationType;
+import com.example.banking.benefit.domain.model.result.ExecutionResult;
+import com.example.banking.benefit.domain.model.result.ProcessResult;
+import com.example.banking.benefit.domain.model.state.ProcessState;
+import com.example.banking.benefit.domain.repository.ExecutionLogRepository;
+import com.example.banking.benefit.domain.repository.FlowRepository;
+import com.example.banking.benefit.domain.service.impl.FlowExecutionServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JDBC 處理節點存取的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 儲存後載入的處理節點保留 side_effect_free 與其他欄位
+ * 2. 依流程起始節點查詢處理節點
+ * 3. 由資料庫載入的流程模擬執行時只執行無副作用的處理節點
+ *
+ * @see JdbcProcessNodeRepository
+ */
+class JdbcProcessNodeRepositoryTest {
+
+    private static final String FLOW_ID = "FLOW_001";
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcProcessNodeRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE flow_definition (flow_id VARCHAR(50) NOT NULL PRIMARY KEY, "
+            + "start_node_id VARCHAR(50))");
+        jdbcTemplate.execute("CREATE TABLE process_node (node_id VARCHAR(50) NOT NULL PRIMARY KEY, "
+            + "flow_id VARCHAR(50) NOT NULL, node_name VARCHAR(100) NOT NULL, node_description CLOB, "
+            + "process_type VARCHAR(50) NOT NULL, implementation_class VARCHAR(255), spel_expression CLOB, "
+            + "state_name VARCHAR(50), node_order INT, side_effect_free BOOLEAN DEFAULT FALSE, "
+            + "created_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP, updated_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO flow_definition (flow_id, start_node_id) VALUES (?, ?)", FLOW_ID, "P1");
+        repository = new JdbcProcessNodeRepository(jdbcTemplate);
+
+        CountingProcess.executions.set(0);
+        ChargingProcess.executions.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void findByFlowId_ShouldMapSideEffectFree() {
+        repository.save(processNode("P1", CountingProcess.class, true, 1));
+        repository.save(processNode("P2", ChargingProcess.class, false, 2));
+
+        List<ProcessNode> nodes = repository.findByFlowId(FlowId.of(FLOW_ID));
+
+        assertEquals(List.of("P1", "P2"), nodes.stream().map(ProcessNode::getNodeId).toList());
+        assertTrue(nodes.get(0).isSideEffectFree());
+        assertFalse(nodes.get(1).isSideEffectFree());
+        assertEquals(CountingProcess.class.getName(), nodes.get(0).getImplementationClassName());
+        assertEquals(FLOW_ID, nodes.get(0).getFlowId());
+        assertEquals(1, nodes.get(0).getNodeOrder());
+    }
+
+    @Test
+    void save_ExistingNode_ShouldUpdateSideEffectFree() {
+        ProcessNode node = processNode("P1", CountingProcess.class, false, 1);
+        repository.save(node);
+        node.setSideEffectFree(true);
+
+        repository.save(node);
+
+        assertEquals(1, repository.countByFlowId(FlowId.of(FLOW_ID)));
+        assertTrue(repository.findById("P1").orElseThrow().isSideEffectFree());
+        assertEquals(List.of("P1"),
+            repository.findStartNodesByFlowId(FlowId.of(FLOW_ID)).stream().map(ProcessNode::getNodeId).toList());
+    }
+
+    @Test
+    void simulate_LoadedFlow_ShouldRunOnlySideEffectFreeProcesses() {
+        repository.save(processNode("P1", CountingProcess.class, true, 1));
+        repository.save(processNode("P2", ChargingProcess.class, false, 2));
+
+        Flow flow = Flow.create(FlowId.of(FLOW_ID), "模擬流程", "由資料庫載入處理節點", Version.of("1.0.0"));
+        flow.addDecisionNode(DecisionNode.createSpELDecision("D1", "起始", "一律通過", "true"));
+        repository.findByFlowId(FlowId.of(FLOW_ID)).forEach(flow::addProcessNode);
+        flow.addRelation(NodeRelation.create(FLOW_ID, "D1", NodeType.DECISION, "P1", NodeType.PROCESS,
+            RelationType.TRUE));
+        flow.addRelation(NodeRelation.create(FLOW_ID, "P1", NodeType.PROCESS, "P2", NodeType.PROCESS,
+            RelationType.TRUE));
+        flow.setStartNode("D1");
+        flow.buildStructure();
+
+        FlowRepository flowRepository = mock(FlowRepository.class);
+        when(flowRepository.existsById(any(FlowId.class))).thenReturn(true);
+        FlowExecutionServiceImpl service =
+            new FlowExecutionServiceImpl(flowRepository, mock(ExecutionLogRepository.class));
+        ExecutionContext context = ExecutionContext.create(FLOW_ID, "CUST_001", CustomerData.create("CUST_001", Map.of()));
+        context.setSimulation(true);
+
+        ExecutionResult result = service.execute(flow, context);
+
+        assertTrue(result.isSimulation());
+        assertEquals(List.of("D1", "P1", "P2"), result.getPath());
+        assertEquals(1, CountingProcess.executions.get());
+        assertEquals(0, ChargingProcess.executions.get());
+    }
+
+    private static ProcessNode processNode(String nodeId, Class<? extends ProcessState> type, boolean sideEffectFree,
+                                           int nodeOrder) {
+        ProcessNode node = ProcessNode.createJavaClassProcess(FLOW_ID, nodeId, null, type.getName());
+        node.setId(nodeId);
+        node.setNodeOrder(nodeOrder);
+        node.setSideEffectFree(sideEffectFree);
+        return node;
+    }
+
+    /**
+     * 無副作用的處理，只計算執行次數
+     */
+    public static class CountingProcess implements ProcessState {
+        static final AtomicInteger executions = new AtomicInteger();
+
+        @Override
+        public String getStateName() {
+            return "COUNT";
+        }
+
+        @Override
+        public boolean canEnter(ExecutionContext context) {
+            return true;
+        }
+
+        @Override
+        public void onEnter(ExecutionContext context) {
+        }
+
+        @Override
+        public ProcessResult execute(ExecutionContext context) {
+            executions.incrementAndGet();
+            return ProcessResult.success();
+        }
+
+        @Override
+        public void onExit(ExecutionContext context) {
+        }
+
+        @Override
+        public ProcessState determineNextState(ExecutionContext context, ProcessResult result) {
+            return null;
+        }
+    }
+
+    /**
+     * 有副作用的處理，模擬執行時不應被呼叫
+     */
+    public static class ChargingProcess extends CountingProcess {
+        static final AtomicInteger executions = new AtomicInteger();
+
+        @Override
+        public ProcessResult execute(ExecutionContext context) {
+            executions.incrementAndGet();
+            return ProcessResult.success();
+        }
+    }
+}
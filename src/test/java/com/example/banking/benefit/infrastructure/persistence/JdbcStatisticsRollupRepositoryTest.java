@@ -0,0 +1,84 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.model.statistics.BucketGranularity;
+import com.example.banking.benefit.domain.model.statistics.StatisticsBucket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JDBC 流程統計彙總存取的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 同一區間的增量累加到既有的資料列
+ * 2. 任一區間寫入失敗時整批回復，重試不會重複累加
+ *
+ * @see JdbcStatisticsRollupRepository
+ */
+class JdbcStatisticsRollupRepositoryTest {
+
+    private static final LocalDateTime BUCKET_START = LocalDateTime.of(2026, 10, 19, 9, 0);
+    private static final LocalDateTime FROM = BUCKET_START.minusHours(1);
+    private static final LocalDateTime TO = BUCKET_START.plusHours(1);
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcStatisticsRollupRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE flow_statistics_rollup (flow_id VARCHAR(50) NOT NULL, "
+            + "granularity VARCHAR(10) NOT NULL, bucket_start TIMESTAMP NOT NULL, execution_count BIGINT NOT NULL, "
+            + "success_count BIGINT NOT NULL, duration_sum_us BIGINT NOT NULL, duration_min_us BIGINT NOT NULL, "
+            + "duration_max_us BIGINT NOT NULL, duration_histogram VARBINARY(65536), "
+            + "row_version BIGINT DEFAULT 0 NOT NULL, PRIMARY KEY (flow_id, granularity, bucket_start))");
+        repository = new JdbcStatisticsRollupRepository(jdbcTemplate,
+            new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void merge_ExistingBucket_ShouldAccumulate() {
+        repository.merge(List.of(bucket("FLOW_001", 2, 1)));
+        repository.merge(List.of(bucket("FLOW_001", 3, 3)));
+
+        StatisticsBucket stored = repository.findBuckets("FLOW_001", BucketGranularity.MINUTE, FROM, TO).get(0);
+        assertEquals(5, stored.getExecutionCount());
+        assertEquals(4, stored.getSuccessCount());
+    }
+
+    @Test
+    void merge_WhenLaterBucketFails_ShouldRollBackWholeBatch() {
+        repository.merge(List.of(bucket("FLOW_001", 1, 1)));
+        // 流程ID超過欄位長度，第二個區間寫入失敗
+        List<StatisticsBucket> deltas = List.of(bucket("FLOW_001", 2, 2), bucket("F".repeat(60), 1, 1));
+
+        assertThrows(RuntimeException.class, () -> repository.merge(deltas));
+        assertEquals(1, repository.findBuckets("FLOW_001", BucketGranularity.MINUTE, FROM, TO).get(0).getExecutionCount());
+
+        // 呼叫端放回整批增量重試，不會重複累加已處理過的區間
+        repository.merge(List.of(deltas.get(0)));
+        assertEquals(3, repository.findBuckets("FLOW_001", BucketGranularity.MINUTE, FROM, TO).get(0).getExecutionCount());
+    }
+
+    private static StatisticsBucket bucket(String flowId, long executions, long successes) {
+        return new StatisticsBucket(flowId, BucketGranularity.MINUTE, BUCKET_START, executions, successes,
+            executions * 1000, 1000, 1000);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.banking.benefit.infrastructure.persistence;
+
+import com.example.banking.benefit.domain.model.result.ExecutionStatus;
+import com.example.banking.benefit.infrastructure.cache.InMemoryExecutionStateStore;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 持久化執行狀態儲存的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 暫停的執行在重新開啟檔案後仍可繼續執行
+ * 2. 超過存活時間的暫停執行被淘汰，重新開啟時清除
+ * 3. 超過容量時移除暫停最久的執行
+ * 4. 統計資訊包含檔案中的暫停執行與淘汰次數
+ * 5. 重新暫停時更新暫停順序，沒有順序索引的舊檔案在開啟時重建
+ *
+ * @see PersistentExecutionStateStore
+ */
+class PersistentExecutionStateStoreTest {
+
+    private static final Duration PAUSED_TTL = Duration.ofHours(1);
+
+    @TempDir
+    Path directory;
+
+    private final AtomicLong millis = new AtomicLong(1_000_000L);
+    private String file;
+    private PersistentExecutionStateStore store;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("state.mv.db").toString();
+        store = open(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void resume_AfterReopen_ShouldRestorePausedContext() {
+        store.begin("exec-1").put("amount", 100);
+        store.pause("exec-1");
+        store.close();
+
+        store = open(2);
+
+        assertEquals(Optional.of(ExecutionStatus.PAUSED), store.getStatus("exec-1"));
+        Map<String, Object> context = store.resume("exec-1").orElseThrow();
+        assertEquals(100, context.get("amount"));
+        assertEquals(Optional.of(ExecutionStatus.IN_PROGRESS), store.getStatus("exec-1"));
+        assertEquals(0, store.getStatistics().getPausedEntries());
+    }
+
+    @Test
+    void findPaused_AfterTtl_ShouldEvictEntry() {
+        store.begin("exec-1");
+        store.pause("exec-1");
+        store.close();
+        store = open(2);
+
+        millis.addAndGet(PAUSED_TTL.toMillis() + 1);
+
+        assertTrue(store.getStatus("exec-1").isEmpty());
+        assertTrue(store.resume("exec-1").isEmpty());
+        assertEquals(1, store.getStatistics().getEvictions());
+    }
+
+    @Test
+    void open_WithExpiredEntries_ShouldPurgeThem() {
+        store.begin("exec-1");
+        store.pause("exec-1");
+        millis.addAndGet(PAUSED_TTL.toMillis() / 2);
+        store.begin("exec-2");
+        store.pause("exec-2");
+        store.close();
+
+        millis.addAndGet(PAUSED_TTL.toMillis() / 2 + 1);
+        store = open(2);
+
+        assertEquals(1, store.getStatistics().getPausedEntries());
+        assertEquals(1, store.getStatistics().getEvictions());
+        assertTrue(store.resume("exec-2").isPresent());
+    }
+
+    @Test
+    void pause_OverCapacity_ShouldEvictOldestPausedExecution() {
+        for (int i = 1; i <= 3; i++) {
+            store.begin("exec-" + i);
+            store.pause("exec-" + i);
+            millis.incrementAndGet();
+        }
+        store.close();
+        store = open(2);
+
+        assertEquals(2, store.getStatistics().getPausedEntries());
+        assertTrue(store.resume("exec-1").isEmpty());
+        assertTrue(store.resume("exec-2").isPresent());
+        assertTrue(store.resume("exec-3").isPresent());
+    }
+
+    @Test
+    void complete_ShouldRemovePausedExecutionFromFile() {
+        store.begin("exec-1");
+        store.pause("exec-1");
+        store.complete("exec-1", ExecutionStatus.CANCELLED);
+        store.close();
+
+        store = open(2);
+
+        assertTrue(store.getStatus("exec-1").isEmpty());
+        assertEquals(0, store.getStatistics().getPausedEntries());
+    }
+
+    @Test
+    void pause_RepausedExecution_ShouldMoveToEndOfEvictionOrder() {
+        store.begin("exec-1");
+        store.pause("exec-1");
+        millis.incrementAndGet();
+        store.begin("exec-2");
+        store.pause("exec-2");
+        millis.incrementAndGet();
+        store.pause("exec-1");
+        millis.incrementAndGet();
+        store.begin("exec-3");
+        store.pause("exec-3");
+        store.close();
+        store = open(2);
+
+        assertEquals(2, store.getStatistics().getPausedEntries());
+        assertTrue(store.resume("exec-2").isEmpty());
+        assertTrue(store.resume("exec-1").isPresent());
+        assertTrue(store.resume("exec-3").isPresent());
+    }
+
+    @Test
+    void open_FileWithoutOrderIndex_ShouldRebuildIndexAndEvictOldest() {
+        store.close();
+        try (MVStore legacy = new MVStore.Builder().fileName(file).compress().open()) {
+            MVMap<String, PersistentExecutionStateStore.PausedExecution> paused = legacy.openMap("pausedExecutions");
+            legacy.removeMap("pausedExecutionOrder");
+            paused.put("exec-2", new PersistentExecutionStateStore.PausedExecution(new HashMap<>(), millis.get() + 1));
+            paused.put("exec-1", new PersistentExecutionStateStore.PausedExecution(new HashMap<>(), millis.get()));
+            legacy.commit();
+        }
+        store = open(2);
+        millis.addAndGet(2);
+
+        store.begin("exec-3");
+        store.pause("exec-3");
+
+        assertEquals(2, store.getStatistics().getPausedEntries());
+        assertTrue(store.resume("exec-1").isEmpty());
+        assertTrue(store.resume("exec-2").isPresent());
+    }
+
+    private PersistentExecutionStateStore open(long maxPausedEntries) {
+        InMemoryExecutionStateStore memoryStore =
+            new InMemoryExecutionStateStore(100, Duration.ofMinutes(10), 100, PAUSED_TTL);
+        return new PersistentExecutionStateStore(memoryStore, file, PAUSED_TTL, maxPausedEntries, millis::get);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.banking.benefit.infrastructure.persistence.journal;
+
+import com.example.banking.benefit.domain.model.log.ExecutionLog;
+import com.example.banking.benefit.domain.model.log.ExecutionLogCursor;
+import com.example.banking.benefit.domain.model.log.ExecutionResult;
+import com.example.banking.benefit.domain.model.node.NodeType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 記憶體映射執行日誌的單元測試類
+ *
+ * 本測試類驗證以下功能：
+ * 1. 紀錄的所有欄位在重新開啟後完整還原
+ * 2. 區段寫滿後換到新區段，時間範圍查詢跨區段正確
+ * 3. 刪除紀錄在重新開啟後仍然有效
+ * 4. 保留水位線隱藏過期日誌，壓縮刪除整段過期的區段
+ * 5. 游標分頁依 (執行時間, 日誌ID) 排序且不重複
+ *
+ * @see MappedExecutionJournal
+ */
+class MappedExecutionJournalTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+    @TempDir
+    Path directory;
+
+    private MappedExecutionJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void save_ReopenJournal_ShouldRestoreAllFields() {
+        journal = open(4096);
+        ExecutionLog log = ExecutionLog.restore("log-1", "exec-1", "flow-1", "customer-1", BASE.plusNanos(123_456_000),
+            "node-1", NodeType.PROCESS, ExecutionResult.ERROR, "{\"ok\":false}", "逾時", 12, 12_345L, 3);
+        journal.save(log);
+        journal.close();
+
+        journal = open(4096);
+        ExecutionLog restored = journal.findById("log-1").orElseThrow();
+
+        assertEquals("exec-1", restored.getExecutionId());
+        assertEquals("flow-1", restored.getFlowId());
+        assertEquals("customer-1", restored.getCustomerId());
+        assertEquals(BASE.plusNanos(123_456_000), restored.getExecutionTime());
+        assertEquals("node-1", restored.getNodeId());
+        assertEquals(NodeType.PROCESS, restored.getNodeType());
+        assertEquals(ExecutionResult.ERROR, restored.getExecutionResult());
+        assertEquals("{\"ok\":false}", restored.getResultData());
+        assertEquals("逾時", restored.getErrorMessage());
+        assertEquals(12, restored.getExecutionDurationMs());
+        assertEquals(12_345L, restored.getExecutionDurationMicros());
+        assertEquals(3, restored.getAttemptCount());
+    }
+
+    @Test
+    void save_SegmentFull_ShouldRollAndQueryAcrossSegments() {
+        journal = open(512);
+        for (int i = 0; i < 30; i++) {
+            journal.save(log("log-" + i, "flow-" + (i % 2), BASE.plusMinutes(i), ExecutionResult.SUCCESS));
+        }
+
+        List<ExecutionLog> range = journal.findByFlowIdAndExecutionTimeBetween("flow-0", BASE.plusMinutes(10), BASE.plusMinutes(19));
+
+        assertTrue(journal.segmentCount() > 1);
+        assertEquals(5, range.size());
+        assertTrue(range.stream().allMatch(log -> "flow-0".equals(log.getFlowId())));
+        assertEquals(30, journal.count());
+    }
+
+    @Test
+    void deleteById_ReopenJournal_ShouldStayDeleted() {
+        journal = open(4096);
+        journal.save(log("log-1", "flow-1", BASE, ExecutionResult.SUCCESS));
+        journal.save(log("log-2", "flow-1", BASE, ExecutionResult.SUCCESS));
+        journal.deleteById("log-1");
+        journal.close();
+
+        journal = open(4096);
+
+        assertEquals(Optional.empty(), journal.findById("log-1"));
+        assertTrue(journal.existsById("log-2"));
+        assertEquals(1, journal.count());
+    }
+
+    @Test
+    void deleteByExecutionTimeBefore_ThenCompact_ShouldDropExpiredSegments() {
+        journal = open(512);
+        for (int i = 0; i < 30; i++) {
+            journal.save(log("log-" + i, "flow-1", BASE.plusMinutes(i), ExecutionResult.SUCCESS));
+        }
+        int segmentsBefore = journal.segmentCount();
+
+        journal.deleteByExecutionTimeBefore(BASE.plusMinutes(20));
+        journal.compact();
+
+        assertEquals(10, journal.count());
+        assertTrue(journal.segmentCount() < segmentsBefore);
+        assertTrue(journal.findByExecutionTimeBetween(BASE, BASE.plusMinutes(19)).isEmpty());
+    }
+
+    @Test
+    void findPageAfter_WithCursor_ShouldReturnNextRowsInOrder() {
+        journal = open(4096);
+        journal.save(log("log-b", "flow-1", BASE, ExecutionResult.SUCCESS));
+        journal.save(log("log-a", "flow-1", BASE, ExecutionResult.SUCCESS));
+        journal.save(log("log-c", "flow-1", BASE.plusMinutes(1), ExecutionResult.FAIL));
+        journal.save(log("log-d", "flow-1", BASE.plusMinutes(2), ExecutionResult.SUCCESS));
+
+        List<ExecutionLog> first = journal.findPageAfter("flow-1", null, BASE, BASE.plusHours(1), null, 2);
+        List<ExecutionLog> second = journal.findPageAfter("flow-1", null, BASE, BASE.plusHours(1),
+            ExecutionLogCursor.after(first.get(1)), 2);
+        List<ExecutionLog> successOnly = journal.findPageAfter("flow-1", "SUCCESS", BASE, BASE.plusHours(1),
+            ExecutionLogCursor.after(first.get(1)), 2);
+
+        assertEquals(List.of("log-a", "log-b"), first.stream().map(ExecutionLog::getLogId).toList());
+        assertEquals(List.of("log-c", "log-d"), second.stream().map(ExecutionLog::getLogId).toList());
+        assertEquals(List.of("log-d"), successOnly.stream().map(ExecutionLog::getLogId).toList());
+    }
+
+    private MappedExecutionJournal open(int segmentSize) {
+        return new MappedExecutionJournal(directory, segmentSize, Duration.ZERO, 0.3);
+    }
+
+    private ExecutionLog log(String logId, String flowId, LocalDateTime time, ExecutionResult result) {
+        return ExecutionLog.restore(logId, "exec-" + logId, flowId, "customer-1", time,
+            "node-1", NodeType.DECISION, result, null, null, 1, 1_000L, 1);
+    }
+}